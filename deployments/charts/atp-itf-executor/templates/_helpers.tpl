@@ -134,6 +134,27 @@ HAZELCAST_CACHE_ENABLED: "{{ .Values.HAZELCAST_CACHE_ENABLED }}"
 HAZELCAST_EXPIRATION_CLEANUP_PERCENTAGE: "{{ .Values.HAZELCAST_EXPIRATION_CLEANUP_PERCENTAGE }}"
 HAZELCAST_EXPIRATION_TASK_PERIOD_SECONDS: "{{ .Values.HAZELCAST_EXPIRATION_TASK_PERIOD_SECONDS }}"
 HAZELCAST_PROJECT_SETTINGS_CACHE_REFILL_TIME_SECONDS: "{{ .Values.HAZELCAST_PROJECT_SETTINGS_CACHE_REFILL_TIME_SECONDS}}"
+HAZELCAST_TC_CONTEXTS_NEAR_CACHE_ENABLED: "{{ .Values.HAZELCAST_TC_CONTEXTS_NEAR_CACHE_ENABLED }}"
+HAZELCAST_ITF_SERIALIZERS_ENABLED: "{{ .Values.HAZELCAST_ITF_SERIALIZERS_ENABLED }}"
+HAZELCAST_TC_CONTEXTS_DIRTY_TRACKING_ENABLED: "{{ .Values.HAZELCAST_TC_CONTEXTS_DIRTY_TRACKING_ENABLED }}"
+HAZELCAST_CONTEXT_QUOTA_MAX_SIZE: "{{ .Values.HAZELCAST_CONTEXT_QUOTA_MAX_SIZE }}"
+HAZELCAST_TC_CONTEXTS_MAX_SIZE: "{{ .Values.HAZELCAST_TC_CONTEXTS_MAX_SIZE }}"
+EXECUTOR_PROVIDER_MODE: "{{ .Values.EXECUTOR_PROVIDER_MODE }}"
+INBOUND_EXECUTOR_MAX_CONCURRENCY: "{{ .Values.INBOUND_EXECUTOR_MAX_CONCURRENCY }}"
+INBOUND_ROUTING_CACHE_TTL_SECONDS: "{{ .Values.INBOUND_ROUTING_CACHE_TTL_SECONDS }}"
+INBOUND_ENVIRONMENT_CACHE_TTL_SECONDS: "{{ .Values.INBOUND_ENVIRONMENT_CACHE_TTL_SECONDS }}"
+INBOUND_ENVIRONMENT_CACHE_HAZELCAST_ENABLED: "{{ .Values.INBOUND_ENVIRONMENT_CACHE_HAZELCAST_ENABLED }}"
+STUB_STAGE_SLOW_THRESHOLD_MS: "{{ .Values.STUB_STAGE_SLOW_THRESHOLD_MS }}"
+STUB_STAGE_SLOW_LOG_INTERVAL_MS: "{{ .Values.STUB_STAGE_SLOW_LOG_INTERVAL_MS }}"
+VELOCITY_PARSED_CACHE_MAX_CHARS: "{{ .Values.VELOCITY_PARSED_CACHE_MAX_CHARS }}"
+VELOCITY_PARSED_CACHE_MAX_TEXT_LENGTH: "{{ .Values.VELOCITY_PARSED_CACHE_MAX_TEXT_LENGTH }}"
+VELOCITY_LOAD_PART_CACHE_TTL_SECONDS: "{{ .Values.VELOCITY_LOAD_PART_CACHE_TTL_SECONDS }}"
+VELOCITY_DS_FILE_CACHE_TTL_SECONDS: "{{ .Values.VELOCITY_DS_FILE_CACHE_TTL_SECONDS }}"
+VELOCITY_DS_FILE_CACHE_MEMORY_MAX_FILE_BYTES: "{{ .Values.VELOCITY_DS_FILE_CACHE_MEMORY_MAX_FILE_BYTES }}"
+VELOCITY_DS_FILE_CACHE_MEMORY_MAX_BYTES: "{{ .Values.VELOCITY_DS_FILE_CACHE_MEMORY_MAX_BYTES }}"
+VELOCITY_DS_FILE_CACHE_DISK_MAX_MB: "{{ .Values.VELOCITY_DS_FILE_CACHE_DISK_MAX_MB }}"
+VELOCITY_SET_USERDATA_WRITE_BEHIND_DELAY_MS: "{{ .Values.VELOCITY_SET_USERDATA_WRITE_BEHIND_DELAY_MS }}"
+VELOCITY_SET_USERDATA_WRITE_BEHIND_MAX_PENDING: "{{ .Values.VELOCITY_SET_USERDATA_WRITE_BEHIND_MAX_PENDING }}"
 JAVA_OPTIONS: "{{ if .Values.HEAPDUMP_ENABLED }}-XX:+HeapDumpOnOutOfMemoryError -XX:HeapDumpPath=/tmp/diagnostic{{ end }} -Dcom.sun.management.jmxremote={{ .Values.JMX_ENABLE }} -Dcom.sun.management.jmxremote.port={{ .Values.JMX_PORT }} -Dcom.sun.management.jmxremote.rmi.port={{ .Values.JMX_RMI_PORT }} -Djava.rmi.server.hostname=127.0.0.1 -Dcom.sun.management.jmxremote.authenticate=false -Dcom.sun.management.jmxremote.ssl=false -Dexecutor.thread.pool.size={{ .Values.EXECUTOR_THREAD_POOL_SIZE }} -Dexecutor.thread.pool.core.size={{ .Values.EXECUTOR_THREAD_POOL_CORE_SIZE }} -Dbackground.executor.thread.pool.size={{ .Values.BACKGROUND_EXECUTOR_THREAD_POOL_SIZE }} -Dspring.datasource.hikari.maximum-pool-size={{ .Values.SPRING_DATASOURCE_MAXTOTAL }} -Dspring.datasource.hikari.minimum-idle={{ .Values.SPRING_DATASOURCE_MINIDLE }} -Dserver.undertow.threads.io={{ .Values.SERVER_UNDERTOW_IO_THREADS }} -Dserver.undertow.threads.worker={{ .Values.SERVER_UNDERTOW_WORKER_THREADS }} -Djboss.threads.eqe.statistics={{ .Values.JBOSS_THREADS_EQE_STATISTICS }} -XX:NewRatio={{ .Values.NEWRATIO }}"
 JDBC_URL: "jdbc:postgresql://{{ .Values.PG_DB_ADDR }}:{{ .Values.PG_DB_PORT }}/{{ include "env.default" (dict "ctx" . "val" .Values.ITF_EXECUTOR_DB "def" .Values.SERVICE_NAME ) }}"
 KAFKA_CLIENT_ID: "atp-itf-executor-{{ .Release.Namespace }}"
@@ -177,6 +198,13 @@ REMOTE_DUMP_HOST: "{{ .Values.REMOTE_DUMP_HOST }}"
 REMOTE_DUMP_PORT: "{{ .Values.REMOTE_DUMP_PORT }}"
 REPORTS_MESSAGES_TTL: "{{ .Values.REPORTS_MESSAGES_TTL }}"
 REPORT_MAX_THREAD_POOL_SIZE: "{{ .Values.REPORT_MAX_THREAD_POOL_SIZE }}"
+REPORT_PIPELINE_ENABLED: "{{ .Values.REPORT_PIPELINE_ENABLED }}"
+REPORT_QUEUE_CAPACITY: "{{ .Values.REPORT_QUEUE_CAPACITY }}"
+REPORT_QUEUE_OVERFLOW_POLICY: "{{ .Values.REPORT_QUEUE_OVERFLOW_POLICY }}"
+REPORT_BATCH_MAX_SIZE: "{{ .Values.REPORT_BATCH_MAX_SIZE }}"
+REPORT_BATCH_LINGER_MILLIS: "{{ .Values.REPORT_BATCH_LINGER_MILLIS }}"
+REPORT_COALESCING_WINDOW_MILLIS: "{{ .Values.REPORT_COALESCING_WINDOW_MILLIS }}"
+REPORT_CONTEXT_DELTA_ENABLED: "{{ .Values.REPORT_CONTEXT_DELTA_ENABLED }}"
 REPORT_QUEUE: "{{ include "env.default" (dict "ctx" . "val" .Values.REPORT_QUEUE "def" "ReportExecution") }}"
 REPORT_USE_ASYNC_SEND: "{{ .Values.REPORT_USE_ASYNC_SEND }}"
 REPORT_USE_COMPRESSION: "{{ .Values.REPORT_USE_COMPRESSION }}"
@@ -25,6 +25,7 @@ import java.util.List;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.commons.lang3.exception.ExceptionUtils;
 import org.apache.commons.lang3.tuple.MutablePair;
+import org.qubership.automation.itf.core.instance.chain.InboundRoutingCache;
 import org.qubership.automation.itf.core.model.common.Storable;
 import org.qubership.automation.itf.core.model.communication.EventTriggerBriefInfo;
 import org.qubership.automation.itf.core.model.communication.StubUser;
@@ -129,6 +130,7 @@ public class EventTriggerActivationService {
             }
         }
         response.setErrorMessage(sb.toString());
+        InboundRoutingCache.getInstance().invalidateAll();
         return response;
     }
 
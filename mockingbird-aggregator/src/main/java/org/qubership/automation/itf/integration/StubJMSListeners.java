@@ -25,6 +25,9 @@ import org.json.JSONObject;
 import org.qubership.atp.integration.configuration.annotation.AtpJaegerLog;
 import org.qubership.atp.integration.configuration.mdc.MdcUtils;
 import org.qubership.atp.multitenancy.core.header.CustomHeader;
+import org.qubership.automation.itf.core.instance.chain.InboundRoutingCache;
+import org.qubership.automation.itf.core.metric.StubStageTimer;
+import org.qubership.automation.itf.core.metric.StubStageTimer.Stage;
 import org.qubership.automation.itf.core.model.communication.message.CommonTriggerExecutionMessage;
 import org.qubership.automation.itf.core.model.communication.message.EventTriggerBulkActivationRequest;
 import org.qubership.automation.itf.core.model.communication.message.EventTriggerSingleActivationRequest;
@@ -86,10 +89,13 @@ public class StubJMSListeners {
     public void onExecutorStubsSyncMessage(ActiveMQTextMessage activeMqTextMessage) {
         try {
             final OffsetDateTime started = OffsetDateTime.now();
+            StubStageTimer.begin();
             activeMqTextMessage.acknowledge();
             setThreadName("stub");
+            StubStageTimer.start(Stage.DESERIALIZATION);
             CommonTriggerExecutionMessage message = executorIntegrationObjectMapper.readValue(
                     activeMqTextMessage.getText(), CommonTriggerExecutionMessage.class);
+            StubStageTimer.stop(Stage.DESERIALIZATION);
             MdcUtils.put(MdcField.PROJECT_ID.toString(), message.getTriggerConfigurationDescriptor().getProjectUuid());
             MdcUtils.put(MdcField.SESSION_ID.toString(), message.getSessionId());
             String currentTraceId = activeMqTextMessage.getStringProperty("traceId");
@@ -102,6 +108,7 @@ public class StubJMSListeners {
         } catch (JMSException | JsonProcessingException e) {
             log.error("Error while message processing: {}", e.getMessage());
         } finally {
+            StubStageTimer.finish();
             MDC.clear();
         }
     }
@@ -165,6 +172,8 @@ public class StubJMSListeners {
         SseEmitter emitter = null;
         try {
             setThreadName("event");
+            // Trigger states are changed; the message is received by all replicas
+            InboundRoutingCache.getInstance().invalidateAll();
             String activeMqMessage = activeMqTextMessage.getText();
             sessionId = executorIntegrationObjectMapper.readTree(activeMqMessage).get("sessionId").asText();
             MdcUtils.put(MdcField.SESSION_ID.toString(), sessionId);
@@ -24,7 +24,6 @@ import java.time.OffsetDateTime;
 import java.time.ZoneId;
 import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
@@ -34,11 +33,13 @@ import org.apache.commons.io.FileUtils;
 import org.apache.commons.lang3.StringEscapeUtils;
 import org.apache.commons.lang3.StringUtils;
 import org.qubership.atp.integration.configuration.mdc.MdcUtils;
-import org.qubership.automation.itf.core.execution.ExecutorServiceProviderFactory;
+import org.qubership.automation.itf.core.execution.ContextMailbox;
 import org.qubership.automation.itf.core.hibernate.spring.managers.base.ObjectManager;
 import org.qubership.automation.itf.core.hibernate.spring.managers.custom.EnvironmentManager;
 import org.qubership.automation.itf.core.instance.chain.IncomingHelper;
 import org.qubership.automation.itf.core.message.parser.Parser;
+import org.qubership.automation.itf.core.metric.StubStageTimer;
+import org.qubership.automation.itf.core.metric.StubStageTimer.Stage;
 import org.qubership.automation.itf.core.model.communication.message.CommonTriggerExecutionMessage;
 import org.qubership.automation.itf.core.model.communication.message.DiameterTriggerExecutionMessage;
 import org.qubership.automation.itf.core.model.communication.message.TriggerExecutionMessage;
@@ -69,10 +70,10 @@ import org.qubership.automation.itf.core.util.exception.SituationDefinitionExcep
 import org.qubership.automation.itf.core.util.helper.Comparators;
 import org.qubership.automation.itf.core.util.loader.InterceptorClassLoader;
 import org.qubership.automation.itf.core.util.manager.CoreObjectManager;
-import org.qubership.automation.itf.core.util.manager.MonitorManager;
 import org.qubership.automation.itf.core.util.mdc.MdcField;
 import org.qubership.automation.itf.core.util.transport.service.report.Report;
 import org.qubership.automation.itf.executor.cache.service.CacheServices;
+import org.qubership.automation.itf.executor.cache.service.impl.EnvironmentCacheService.InboundEnvironment;
 import org.qubership.automation.itf.executor.config.jms.ExecutorIntegrationConfig;
 import org.qubership.automation.itf.executor.service.ExecutionServices;
 import org.qubership.automation.itf.executor.service.ExecutorToMessageBrokerSender;
@@ -118,11 +119,17 @@ public class TriggerExecutor implements IDiameterEventProducer {
         try {
             final String threadName = oldThreadName + '/' + triggerExecutionMessage.getSessionId();
             Thread.currentThread().setName(threadName);
+            StubStageTimer.start(Stage.TRANSACTION);
             TxExecutor.executeUnchecked((Callable<Void>) () -> {
+                StubStageTimer.stop(Stage.TRANSACTION);
+                StubStageTimer.start(Stage.TRIGGER_LOOKUP);
                 ObjectManager<TriggerConfiguration> manager = CoreObjectManager.managerFor(TriggerConfiguration.class);
                 TriggerConfiguration triggerConfiguration = manager.getById(
                         triggerExecutionMessage.getTriggerConfigurationDescriptor().getId());
                 TransportConfiguration transport = triggerConfiguration.getParent().getReferencedConfiguration();
+                StubStageTimer.stop(Stage.TRIGGER_LOOKUP);
+                StubStageTimer.tag(triggerExecutionMessage.getTriggerConfigurationDescriptor().getProjectUuid(),
+                        triggerConfiguration.getParent().getTypeName());
                 produceEvent(triggerConfiguration, transport,
                         triggerExecutionMessage.getTriggerConfigurationDescriptor(),
                         triggerExecutionMessage.getMessage(), triggerExecutionMessage.getSessionId(), threadName,
@@ -134,21 +141,25 @@ public class TriggerExecutor implements IDiameterEventProducer {
                 return null;
             }, ExecutorIntegrationConfig.STUB_TRANSACTION_DEFINITION);
         } catch (Throwable t) {
-            log.error("SessionId {}: Error while processing incoming message",
-                    triggerExecutionMessage.getSessionId(), t);
-            String projectUuid = triggerExecutionMessage.getTriggerConfigurationDescriptor()
-                    .getProjectUuid().toString();
-            executorToMessageBrokerSender.sendMessageToExecutorStubsOutgoingResponseQueue(
-                    new TriggerExecutionMessage(
-                            new Message("SessionId %s: Error while processing incoming message: %s".formatted(
-                                    triggerExecutionMessage.getSessionId(), t)),
-                            triggerExecutionMessage.getSessionId(),
-                            triggerExecutionMessage.getBrokerMessageSelectorValue()), projectUuid);
+            sendProcessingError(triggerExecutionMessage.getSessionId(),
+                    triggerExecutionMessage.getBrokerMessageSelectorValue(),
+                    triggerExecutionMessage.getTriggerConfigurationDescriptor().getProjectUuid(), t);
         } finally {
             Thread.currentThread().setName(oldThreadName);
         }
     }
 
+    private void sendProcessingError(String sessionId, String brokerMessageSelectorValue, UUID projectUuid,
+                                     Throwable t) {
+        log.error("SessionId {}: Error while processing incoming message", sessionId, t);
+        executorToMessageBrokerSender.sendMessageToExecutorStubsOutgoingResponseQueue(
+                new TriggerExecutionMessage(
+                        new Message("SessionId %s: Error while processing incoming message: %s".formatted(
+                                sessionId, t)),
+                        sessionId,
+                        brokerMessageSelectorValue), projectUuid.toString());
+    }
+
     private void produceEvent(TriggerConfiguration triggerConfiguration, TransportConfiguration transport,
                               StorableDescriptor triggerDescriptor, Message message, String sessionId,
                               String threadName, String brokerMessageSelectorValue, OffsetDateTime started) {
@@ -157,25 +168,40 @@ public class TriggerExecutor implements IDiameterEventProducer {
         final InstanceContext instanceContext = initInstanceContext(transport, message, triggerDescriptor.getName(),
                 projectId, projectUuid);
         try {
-            boolean isConfiguredSituation = doCallChain(instanceContext, message, triggerConfiguration, transport,
-                    sessionId, brokerMessageSelectorValue, projectId, projectUuid, started);
-            if (!isConfiguredSituation) {
-                throw new SituationDefinitionException("No suitable configured situation is found! Please check"
-                        + " configuration and/or incoming message.");
+            Boolean isConfiguredSituation = doCallChain(instanceContext, message, triggerConfiguration, transport,
+                    triggerDescriptor, sessionId, brokerMessageSelectorValue, projectId, projectUuid, started);
+            if (isConfiguredSituation != null) {
+                checkConfiguredSituation(isConfiguredSituation);
             }
         } catch (final Exception ex) {
-            String triggerTypeName = triggerConfiguration.getTypeName();
-            String errorMessage = createErrorMessage(ex, triggerDescriptor, message, sessionId, triggerTypeName);
-            sendFailedMessageToBroker(sessionId, brokerMessageSelectorValue, errorMessage, projectUuid);
-            Exception exception = prepareException(errorMessage, ex);
-            doCallChainCrash(exception, instanceContext, calculateContextName(message, triggerTypeName),
-                    !(ex instanceof IncomingValidationException || ex instanceof SituationDefinitionException),
-                    projectId, projectUuid);
+            processCallChainException(ex, instanceContext, triggerConfiguration, triggerDescriptor, message,
+                    sessionId, brokerMessageSelectorValue);
         } finally {
             Thread.currentThread().setName(threadName);
         }
     }
 
+    private void checkConfiguredSituation(boolean isConfiguredSituation) throws SituationDefinitionException {
+        if (!isConfiguredSituation) {
+            throw new SituationDefinitionException("No suitable configured situation is found! Please check"
+                    + " configuration and/or incoming message.");
+        }
+    }
+
+    private void processCallChainException(Exception ex, InstanceContext instanceContext,
+                                           TriggerConfiguration triggerConfiguration,
+                                           StorableDescriptor triggerDescriptor, Message message, String sessionId,
+                                           String brokerMessageSelectorValue) {
+        UUID projectUuid = triggerDescriptor.getProjectUuid();
+        String triggerTypeName = triggerConfiguration.getTypeName();
+        String errorMessage = createErrorMessage(ex, triggerDescriptor, message, sessionId, triggerTypeName);
+        sendFailedMessageToBroker(sessionId, brokerMessageSelectorValue, errorMessage, projectUuid);
+        Exception exception = prepareException(errorMessage, ex);
+        doCallChainCrash(exception, instanceContext, calculateContextName(message, triggerTypeName),
+                !(ex instanceof IncomingValidationException || ex instanceof SituationDefinitionException),
+                triggerDescriptor.getProjectId(), projectUuid);
+    }
+
     private void sendFailedMessageToBroker(String sessionId, String brokerMessageSelectorValue, String description,
                                            UUID projectUuid) {
         Message response = new Message();
@@ -194,9 +220,9 @@ public class TriggerExecutor implements IDiameterEventProducer {
      *                         {@link Message} , Object transportId, Object tcContextId, String sessionId.
      */
     public void produceEventDiameter(DiameterTriggerExecutionMessage executionMessage) {
-        ExecutorServiceProviderFactory.get().requestForInboundProcessing().execute(() -> {
+        Object tcContextId = executionMessage.getTcContextId();
+        ContextMailbox.INBOUND.execute(tcContextId, () -> {
             final String threadName = Thread.currentThread().getName();
-            Object tcContextId = executionMessage.getTcContextId();
             Object transportId = executionMessage.getTransportId();
             Message message = executionMessage.getMessage();
             String sessionId = executionMessage.getSessionId();
@@ -269,17 +295,21 @@ public class TriggerExecutor implements IDiameterEventProducer {
         transport = operation.getTransport();
         instanceContext.setTransport(transport); // Contrary to our common behavior, transport from operation is used
         Thread.currentThread().setName(Thread.currentThread().getName() + "/" + tcContext.getID());
-        Object locObject = MonitorManager.getInstance().get("$tcid=" + tcContext.getID());
-        synchronized (locObject) {
-            return prepareAndExecuteSituation(instanceContext, tcContext, instanceContext.getSP(), message, operation,
-                    system, sessionId, null, transport.getName());
-        }
+        return prepareAndExecuteSituation(instanceContext, tcContext, instanceContext.getSP(), message, operation,
+                system, sessionId, null, transport.getName());
     }
 
-    private boolean doCallChain(InstanceContext instanceContext,
+    /*
+     *   Return value:
+     *       - true/false; true means suitable configured situation is found,
+     *       - null means that the context is busy, so the message is queued into the context mailbox;
+     *         it will be processed by the inbound executor after messages received before it.
+     * */
+    private Boolean doCallChain(InstanceContext instanceContext,
                                 Message message,
                                 TriggerConfiguration triggerConfiguration,
                                 TransportConfiguration transport,
+                                StorableDescriptor triggerDescriptor,
                                 String sessionId,
                                 String brokerMessageSelectorValue,
                                 BigInteger projectId,
@@ -301,17 +331,77 @@ public class TriggerExecutor implements IDiameterEventProducer {
         Operation operation = incomingHelper.processIncomingMessage(message, instanceContext, transport, projectId,
                 projectUuid);
         log.info("Detecting context, operation is {}...", operation.getName());
+        StubStageTimer.start(Stage.CONTEXT_KEY);
         String contextKey = incomingHelper.getContextKey(instanceContext, system, operation, false);
+        StubStageTimer.stop(Stage.CONTEXT_KEY);
+        StubStageTimer.start(Stage.CONTEXT_BINDING);
         TcContext tcContext = incomingHelper.findOrCreateTcContextByKeys(contextKey, transport.get("isStub"),
                 projectId, projectUuid);
+        StubStageTimer.stop(Stage.CONTEXT_BINDING);
         fillTcContextParams(instanceContext, message, triggerConfiguration, started, tcContext);
         MdcUtils.put(MdcField.CONTEXT_ID.toString(), tcContext.getID().toString());
         Thread.currentThread().setName(Thread.currentThread().getName() + "/" + tcContext.getID());
-        Object locObject = MonitorManager.getInstance().get("$tcid=" + tcContext.getID());
-        synchronized (locObject) {
+        Object contextId = tcContext.getID();
+        Object operationId = operation.getID();
+        if (!ContextMailbox.INBOUND.tryAcquire(contextId, () -> executeQueued(contextId, instanceContext, tcContext,
+                message, triggerConfiguration.getID(), operationId, triggerDescriptor, sessionId,
+                brokerMessageSelectorValue), rejected -> sendProcessingError(sessionId, brokerMessageSelectorValue,
+                triggerDescriptor.getProjectUuid(), rejected))) {
+            log.info("Context {} is busy, message is queued", contextId);
+            return null;
+        }
+        try {
             prepareEnv(tcContext, system, server);
             return prepareAndExecuteSituation(instanceContext, tcContext, instanceContext.getSP(), message, operation,
                     system, sessionId, brokerMessageSelectorValue, server.getName());
+        } finally {
+            ContextMailbox.INBOUND.release(contextId);
+        }
+    }
+
+    /*
+     *   Processing of a queued message is continued by the inbound executor, as the owner of the context.
+     *   The listener transaction is already completed, so configuration objects are re-read by ids
+     *   in a new transaction.
+     * */
+    private void executeQueued(Object contextId, InstanceContext instanceContext, TcContext tcContext,
+                               Message message, Object triggerConfigurationId, Object operationId,
+                               StorableDescriptor triggerDescriptor, String sessionId,
+                               String brokerMessageSelectorValue) {
+        String oldThreadName = Thread.currentThread().getName();
+        Thread.currentThread().setName(oldThreadName + '/' + sessionId + '/' + contextId);
+        StubStageTimer.begin();
+        try {
+            StubStageTimer.start(Stage.TRANSACTION);
+            TxExecutor.executeUnchecked((Callable<Void>) () -> {
+                StubStageTimer.stop(Stage.TRANSACTION);
+                StubStageTimer.start(Stage.TRIGGER_LOOKUP);
+                TriggerConfiguration triggerConfiguration = CoreObjectManager.managerFor(TriggerConfiguration.class)
+                        .getById(triggerConfigurationId);
+                Operation operation = CoreObjectManager.managerFor(Operation.class).getById(operationId);
+                TransportConfiguration transport = triggerConfiguration.getParent().getReferencedConfiguration();
+                StubStageTimer.stop(Stage.TRIGGER_LOOKUP);
+                StubStageTimer.tag(triggerDescriptor.getProjectUuid(), triggerConfiguration.getParent().getTypeName());
+                Server server = triggerConfiguration.getParent().getParent();
+                System system = transport.getParent();
+                instanceContext.setTransport(transport);
+                try {
+                    prepareEnv(tcContext, system, server);
+                    checkConfiguredSituation(prepareAndExecuteSituation(instanceContext, tcContext,
+                            instanceContext.getSP(), message, operation, system, sessionId,
+                            brokerMessageSelectorValue, server.getName()));
+                } catch (final Exception ex) {
+                    processCallChainException(ex, instanceContext, triggerConfiguration, triggerDescriptor, message,
+                            sessionId, brokerMessageSelectorValue);
+                }
+                return null;
+            }, ExecutorIntegrationConfig.STUB_TRANSACTION_DEFINITION);
+        } catch (Throwable t) {
+            sendProcessingError(sessionId, brokerMessageSelectorValue, triggerDescriptor.getProjectUuid(), t);
+        } finally {
+            ContextMailbox.INBOUND.release(contextId);
+            StubStageTimer.finish();
+            Thread.currentThread().setName(oldThreadName);
         }
     }
 
@@ -413,7 +503,9 @@ public class TriggerExecutor implements IDiameterEventProducer {
         final SpContext spContext = new SpContext();
         context.setSP(spContext);
         try {
+            StubStageTimer.start(Stage.INTERCEPTORS);
             doIntercept(transport, message);
+            StubStageTimer.stop(Stage.INTERCEPTORS);
             context.setProjectId(projectId);
             context.setProjectUuid(projectUuid);
             prepareMessage(message);
@@ -426,7 +518,7 @@ public class TriggerExecutor implements IDiameterEventProducer {
         return context;
     }
 
-    private Map<String, Object> getEnvironmentInfo(System system, Server server) throws Exception {
+    private InboundEnvironment findEnvironment(System system, Server server) throws Exception {
         List<Object[]> environmentInfo = CoreObjectManager.getInstance()
                 .getSpecialManager(Environment.class, EnvironmentManager.class)
                 .getByServerAndSystemIdPair((BigInteger) system.getID(), (BigInteger) server.getID());
@@ -436,17 +528,16 @@ public class TriggerExecutor implements IDiameterEventProducer {
         } else if (environmentInfo.size() > 1) {
             log.warn("More than one environment with inbound system {} and server {} found", system, server);
         }
-        Map<String, Object> map = new HashMap<>();
-        map.put("id", BigInteger.valueOf((Long) environmentInfo.getFirst()[0]));
-        map.put("name", environmentInfo.getFirst()[1]);
-        return map;
+        return new InboundEnvironment(BigInteger.valueOf((Long) environmentInfo.getFirst()[0]),
+                String.valueOf(environmentInfo.getFirst()[1]));
     }
 
     private void prepareEnv(TcContext tcContext, System system, Server server) throws Exception {
         if (tcContext.getEnvironmentId() == null) {
-            Map<String, Object> environmentInfo = getEnvironmentInfo(system, server);
-            tcContext.setEnvironmentId((BigInteger) environmentInfo.get("id"));
-            tcContext.setEnvironmentName(String.valueOf(environmentInfo.get("name")));
+            InboundEnvironment environment = CacheServices.getEnvironmentCacheService().getInboundEnvironment(
+                    (BigInteger) system.getID(), (BigInteger) server.getID(), () -> findEnvironment(system, server));
+            tcContext.setEnvironmentId(environment.getId());
+            tcContext.setEnvironmentName(environment.getName());
         }
     }
 
@@ -513,18 +604,23 @@ public class TriggerExecutor implements IDiameterEventProducer {
         log.info("Detecting situation, operation is {}...", operation.getName());
         incomingHelper.tryToGetRequestMethod(message, context);
         addParamsToSpContext(context, tcContext, message, serverName);
+        StubStageTimer.start(Stage.OPERATION_DETECTION);
         Situation situation = incomingHelper.detectSituationFromOperation(operation, context);
+        StubStageTimer.stop(Stage.OPERATION_DETECTION);
         boolean isDefaultInboundSituation = (situation == operation.getDefaultInboundSituation());
         context.nilsp(); // This cleanup was added by Roman Aksenenko 28/03/2017 (Rev.#3943), without any comments
         if (!situation.getParsingRules().isEmpty()) {
             Parser parser = new Parser();
             log.debug("situationMessageParameters parsing - is started");
+            StubStageTimer.start(Stage.PARSING);
             Map<String, MessageParameter> situationMessageParameters = parser.parse(tcContext.getProjectId(), message,
                     context, situation.getParsingRules());
+            StubStageTimer.stop(Stage.PARSING);
             log.debug("situationMessageParameters parsing - is finished");
             spContext.putMessageParameters(situationMessageParameters.values());
             ExecutionServices.getTCContextService().setMessageParameters(context.tc(), situationMessageParameters);
         }
+        StubStageTimer.start(Stage.SITUATION_EXECUTION);
         SituationInstance instance = ExecutionServices.getSituationExecutorService().prepare(situation, context);
         if (isDefaultInboundSituation) {
             instance.setSituationId((BigInteger) situation.getID());
@@ -555,6 +651,7 @@ public class TriggerExecutor implements IDiameterEventProducer {
             ExecutionServices.getSituationExecutorService().executeInstance(
                     instance, null, spContext, null, situation);
         }
+        StubStageTimer.stop(Stage.SITUATION_EXECUTION);
         return !isDefaultInboundSituation;
     }
 
@@ -18,7 +18,6 @@
 package org.qubership.automation.itf.ui.config;
 
 import org.aspectj.lang.annotation.Pointcut;
-import org.qubership.automation.itf.core.execution.DefaultExecutorServiceProvider;
 import org.qubership.automation.itf.core.execution.ExecutorServiceProvider;
 import org.qubership.automation.itf.core.execution.ExecutorServiceProviderFactory;
 import org.qubership.automation.itf.core.template.velocity.VelocityTemplateEngine;
@@ -46,6 +45,10 @@ public class RootConfiguration {
     private int backgroundExecutorThreadPoolSize;
     @Value("${executor.thread.pool.core.size}")
     private int executorThreadPoolCoreSize;
+    @Value("${executor.provider.mode:platform}")
+    private String executorProviderMode;
+    @Value("${inbound.executor.max.concurrency:0}")
+    private int inboundExecutorMaxConcurrency;
 
     @Bean
     public CounterIdGenerator idGenerator() {
@@ -81,17 +84,20 @@ public class RootConfiguration {
     }
 
     @Bean
-    public DefaultExecutorServiceProvider executionProvider(@Value("${executor.thread.pool.core.size}") int executorThreadPoolCoreSize,
-                                                            @Value("${executor.thread.pool.size}") int executorThreadPoolSize,
-                                                            @Value("${background.executor.thread.pool.size}") int backgroundExecutorThreadPoolSize) {
-        return new DefaultExecutorServiceProvider(executorThreadPoolCoreSize, executorThreadPoolSize,
-                backgroundExecutorThreadPoolSize);
+    public ExecutorServiceProvider executionProvider(
+            @Value("${executor.provider.mode:platform}") String executorProviderMode,
+            @Value("${executor.thread.pool.core.size}") int executorThreadPoolCoreSize,
+            @Value("${executor.thread.pool.size}") int executorThreadPoolSize,
+            @Value("${background.executor.thread.pool.size}") int backgroundExecutorThreadPoolSize,
+            @Value("${inbound.executor.max.concurrency:0}") int inboundExecutorMaxConcurrency) {
+        return ExecutorServiceProviderFactory.create(executorProviderMode, executorThreadPoolCoreSize,
+                executorThreadPoolSize, backgroundExecutorThreadPoolSize, inboundExecutorMaxConcurrency);
     }
 
     @Bean(name = "ExecutorServiceProviderFactory")
     public ExecutorServiceProvider getExecutorServiceProviderFactory() {
-        ExecutorServiceProviderFactory.init(executionProvider(executorThreadPoolCoreSize, executorThreadPoolSize,
-                backgroundExecutorThreadPoolSize));
+        ExecutorServiceProviderFactory.init(executionProvider(executorProviderMode, executorThreadPoolCoreSize,
+                executorThreadPoolSize, backgroundExecutorThreadPoolSize, inboundExecutorMaxConcurrency));
         return ExecutorServiceProviderFactory.get();
     }
 
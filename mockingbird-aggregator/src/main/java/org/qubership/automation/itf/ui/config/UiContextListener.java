@@ -58,6 +58,7 @@ import org.qubership.automation.itf.core.model.jpa.environment.Environment;
 import org.qubership.automation.itf.core.model.jpa.project.StubProject;
 import org.qubership.automation.itf.core.model.jpa.versions.UpgradeHistory;
 import org.qubership.automation.itf.core.report.impl.TemplateBasedLinkCollector;
+import org.qubership.automation.itf.core.template.velocity.UserDataWriteBehindStore;
 import org.qubership.automation.itf.core.util.DiameterConnectionInfoProvider;
 import org.qubership.automation.itf.core.util.config.Config;
 import org.qubership.automation.itf.core.util.eds.ExternalDataManagementService;
@@ -173,6 +174,7 @@ public class UiContextListener {
     public void contextDestroyed() {
         log.info("ITF graceful shutdown is started...");
         ExecutorServiceProviderFactory.get().shutdown();
+        UserDataWriteBehindStore.getInstance().shutdown();
         ReportAdapterStorage.getInstance().terminateAll();
         DaemonThreadPoolFactory.getInstance().shutdown();
         if (hazelcastInstance != null) {
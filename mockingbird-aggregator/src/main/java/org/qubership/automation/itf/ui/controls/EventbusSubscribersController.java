@@ -48,8 +48,10 @@ public class EventbusSubscribersController {
     public UIEventbusSubscribers getEventbusSubscribers(@RequestParam BigInteger projectId)
             throws NoSuchFieldException, IllegalAccessException {
         UIEventbusSubscribers uiEventbusSubscribers = new UIEventbusSubscribers();
-        uiEventbusSubscribers.setNormalPrioritySubscribers(modifyMap(getNormalPrioritySubscribers()));
-        uiEventbusSubscribers.setHighPrioritySubscribers(modifyMap(getHighPrioritySubscribers()));
+        uiEventbusSubscribers.setNormalPrioritySubscribers(addKeyedSubscribers(
+                modifyMap(getNormalPrioritySubscribers()), EventBusProvider.Priority.NORMAL));
+        uiEventbusSubscribers.setHighPrioritySubscribers(addKeyedSubscribers(
+                modifyMap(getHighPrioritySubscribers()), EventBusProvider.Priority.HIGH));
         return uiEventbusSubscribers;
     }
 
@@ -70,6 +72,12 @@ public class EventbusSubscribersController {
         return (Map) subscriberListField.get(subscribers);
     }
 
+    private Map addKeyedSubscribers(Map map, EventBusProvider.Priority priority) {
+        eventBusProvider.getDispatcher(priority).countByType()
+                .forEach((type, count) -> map.put(type, String.valueOf(count)));
+        return map;
+    }
+
     private Map modifyMap(Map map) {
         Map concurrentHashMap = new ConcurrentHashMap();
         for (Object object : map.entrySet()) {
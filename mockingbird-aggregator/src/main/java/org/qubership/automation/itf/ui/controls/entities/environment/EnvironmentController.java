@@ -51,6 +51,7 @@ import org.qubership.automation.itf.core.util.constants.TriggerState;
 import org.qubership.automation.itf.core.util.descriptor.PropertyDescriptor;
 import org.qubership.automation.itf.core.util.manager.CoreObjectManager;
 import org.qubership.automation.itf.core.util.report.ReportLinkCollector;
+import org.qubership.automation.itf.executor.cache.service.CacheServices;
 import org.qubership.automation.itf.ui.controls.common.AbstractController;
 import org.qubership.automation.itf.ui.messages.objects.UIObject;
 import org.qubership.automation.itf.ui.messages.objects.UIResult;
@@ -146,7 +147,9 @@ public class EnvironmentController extends AbstractController<UIEnvironment, Env
     @AuditAction(auditAction = "Update Environment by id {{#uiEnvironment.id}} in the project {{#projectUuid}}")
     public UIEnvironment update(@RequestBody UIEnvironment uiEnvironment,
                                 @RequestParam(value = "projectUuid") UUID projectUuid) {
-        return super.update(uiEnvironment);
+        UIEnvironment updated = super.update(uiEnvironment);
+        CacheServices.getEnvironmentCacheService().invalidateInboundEnvironments();
+        return updated;
     }
 
     /**
@@ -193,6 +196,7 @@ public class EnvironmentController extends AbstractController<UIEnvironment, Env
                 }
             }
         }
+        CacheServices.getEnvironmentCacheService().invalidateInboundEnvironments();
         return new DeleteEntityResultMessage<>(envsWithActiveTriggers, usingEnvs);
     }
 
@@ -46,6 +46,7 @@ import org.qubership.automation.itf.core.model.jpa.system.stub.Situation;
 import org.qubership.automation.itf.core.model.jpa.template.OutboundTemplateTransportConfiguration;
 import org.qubership.automation.itf.core.model.jpa.transport.TransportConfiguration;
 import org.qubership.automation.itf.core.model.usage.UsageInfo;
+import org.qubership.automation.itf.core.template.velocity.TemplatePartCache;
 import org.qubership.automation.itf.core.util.TemplateHelper;
 import org.qubership.automation.itf.core.util.db.TxExecutor;
 import org.qubership.automation.itf.core.util.manager.CoreObjectManager;
@@ -198,7 +199,10 @@ public class TemplateController extends AbstractController<UITemplate, Template>
         } else {
             parent = CoreObjectManager.getInstance().getManager(type).getById(parentId);
         }
-        return new UITemplate(TemplateHelper.getManagerByParent(parent).create(parent));
+        UITemplate uiTemplate = new UITemplate(TemplateHelper.getManagerByParent(parent).create(parent));
+        // New template can be loaded as a part which wasn't found before
+        TemplatePartCache.getInstance().invalidateAll();
+        return uiTemplate;
     }
 
     @Transactional
@@ -213,7 +217,9 @@ public class TemplateController extends AbstractController<UITemplate, Template>
                 objectManager = SystemTemplate.class.getName().equals(uiTemplate.getClassName())
                 ? getManager(SystemTemplate.class)
                 : getManager(OperationTemplate.class);
-        return updateUIObject(objectManager.getById(uiTemplate.getId()), uiTemplate);
+        UITemplate updated = updateUIObject(objectManager.getById(uiTemplate.getId()), uiTemplate);
+        TemplatePartCache.getInstance().invalidateAll();
+        return updated;
     }
 
     /**
@@ -243,6 +249,9 @@ public class TemplateController extends AbstractController<UITemplate, Template>
             delete(template);
             LOGGER.info("Storable {} is deleted", template);
         }
+        if (!deletedUiObjects.isEmpty()) {
+            TemplatePartCache.getInstance().invalidateAll();
+        }
         List<List<UIObject>> allObjects = new ArrayList<>();
         allObjects.add(deletedUiObjects);
         allObjects.add(usedUiObjects);
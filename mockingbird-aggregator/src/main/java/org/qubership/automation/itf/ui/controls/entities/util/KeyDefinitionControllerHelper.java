@@ -17,6 +17,9 @@
 
 package org.qubership.automation.itf.ui.controls.entities.util;
 
+import java.util.Objects;
+
+import org.qubership.automation.itf.core.instance.chain.InboundRoutingCache;
 import org.qubership.automation.itf.core.util.provider.KeyDefinitionProvider;
 import org.qubership.automation.itf.ui.controls.util.ControllerHelper;
 import org.qubership.automation.itf.ui.messages.objects.wrap.UIWrapper;
@@ -26,6 +29,10 @@ public class KeyDefinitionControllerHelper extends ControllerHelper {
     public static void editContextKeyDefinition(KeyDefinitionProvider keyDefinitionProvider,
                                                 UIWrapper<String> incomingContext, UIWrapper<String> outgoingContext) {
         if (incomingContext != null && incomingContext.isLoaded()) {
+            if (!Objects.equals(keyDefinitionProvider.getIncomingContextKeyDefinition(), incomingContext.getData())) {
+                // Incoming context key definitions are compiled into inbound routing
+                InboundRoutingCache.getInstance().invalidateAll();
+            }
             keyDefinitionProvider.setIncomingContextKeyDefinition(incomingContext.getData());
         }
         if (outgoingContext != null && outgoingContext.isLoaded()) {
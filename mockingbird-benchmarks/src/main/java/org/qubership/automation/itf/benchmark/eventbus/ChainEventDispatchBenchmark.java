@@ -0,0 +1,136 @@
+/*
+ * # Copyright 2024-2026 NetCracker Technology Corporation
+ * #
+ * # Licensed under the Apache License, Version 2.0 (the "License");
+ * # you may not use this file except in compliance with the License.
+ * # You may obtain a copy of the License at
+ * #
+ * #      http://www.apache.org/licenses/LICENSE-2.0
+ * #
+ * # Unless required by applicable law or agreed to in writing, software
+ * # distributed under the License is distributed on an "AS IS" BASIS,
+ * # WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * # See the License for the specific language governing permissions and
+ * # limitations under the License.
+ *
+ */
+
+package org.qubership.automation.itf.benchmark.eventbus;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.qubership.automation.itf.core.instance.testcase.execution.subscriber.AbstractChainSubscriber;
+import org.qubership.automation.itf.core.model.event.AbstractEvent;
+import org.qubership.automation.itf.core.model.event.NextCallChainEvent;
+import org.qubership.automation.itf.executor.provider.ChainEventDispatcher;
+
+import com.google.common.eventbus.AllowConcurrentEvents;
+import com.google.common.eventbus.EventBus;
+import com.google.common.eventbus.Subscribe;
+import jakarta.annotation.Nonnull;
+
+/**
+ * Latency of delivering one step event to its call chain subscriber
+ * while N call chains are running (N subscribers are registered):
+ * broadcast Guava EventBus (each subscriber filters by id) vs keyed ChainEventDispatcher.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ChainEventDispatchBenchmark {
+
+    @Param({"10", "1000", "10000"})
+    private int chains;
+
+    private EventBus eventBus;
+    private ChainEventDispatcher dispatcher;
+    private NextCallChainEvent[] events;
+    private int next;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        eventBus = new EventBus("benchmark");
+        dispatcher = new ChainEventDispatcher("benchmark");
+        events = new NextCallChainEvent[chains];
+        for (int i = 0; i < chains; i++) {
+            String id = "chain-" + i;
+            eventBus.register(new CountingSubscriber(id));
+            dispatcher.register(new CountingSubscriber(id));
+            events[i] = new NextCallChainEvent(null, null);
+            events[i].setID(id);
+        }
+    }
+
+    @Benchmark
+    public void broadcast(Blackhole blackhole) {
+        NextCallChainEvent event = nextEvent();
+        eventBus.post(event);
+        blackhole.consume(event);
+    }
+
+    @Benchmark
+    public void keyed(Blackhole blackhole) {
+        NextCallChainEvent event = nextEvent();
+        dispatcher.dispatch(event);
+        blackhole.consume(event);
+    }
+
+    private NextCallChainEvent nextEvent() {
+        next = (next + 1) % chains;
+        return events[next];
+    }
+
+    public static class CountingSubscriber extends AbstractChainSubscriber<NextCallChainEvent> {
+
+        private long handled;
+
+        CountingSubscriber(String id) {
+            super(id, null);
+        }
+
+        @Subscribe
+        @AllowConcurrentEvents
+        public void handle(NextCallChainEvent event) {
+            handleEvent(event);
+        }
+
+        @Override
+        public void deliver(AbstractEvent event) {
+            if (event instanceof NextCallChainEvent chainEvent) {
+                handle(chainEvent);
+            }
+        }
+
+        @Override
+        protected void unregisterIfExpired() {
+            // Real subscribers compare the last context update time with its time to live here
+        }
+
+        @Override
+        protected void onEvent(NextCallChainEvent event) {
+            handled++;
+        }
+
+        @Nonnull
+        @Override
+        protected String getTenantId(NextCallChainEvent event) {
+            return "";
+        }
+    }
+}
@@ -0,0 +1,114 @@
+/*
+ * # Copyright 2024-2026 NetCracker Technology Corporation
+ * #
+ * # Licensed under the Apache License, Version 2.0 (the "License");
+ * # you may not use this file except in compliance with the License.
+ * # You may obtain a copy of the License at
+ * #
+ * #      http://www.apache.org/licenses/LICENSE-2.0
+ * #
+ * # Unless required by applicable law or agreed to in writing, software
+ * # distributed under the License is distributed on an "AS IS" BASIS,
+ * # WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * # See the License for the specific language governing permissions and
+ * # limitations under the License.
+ *
+ */
+
+package org.qubership.automation.itf.benchmark.execution;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.qubership.automation.itf.core.execution.DefaultExecutorServiceProvider;
+import org.qubership.automation.itf.core.execution.ExecutorServiceProvider;
+import org.qubership.automation.itf.core.execution.ExecutorServiceProviderFactory;
+import org.qubership.automation.itf.core.execution.VirtualThreadExecutorServiceProvider;
+
+/**
+ * Load of the inbound executor: a batch of concurrent inbound stubs, each of them is mostly blocked
+ * (on Hazelcast, JDBC, JMS or outbound transport; simulated by parking) and does a bit of CPU work.
+ * 'platform' and 'virtual' executor provider modes are compared.
+ * Run with '-prof gc' to compare memory allocation; thread stacks of platform threads are off-heap,
+ * so also compare RSS of the forked JVM.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(value = 1, jvmArgsAppend = {"-Xss512k"})
+public class InboundExecutorLoadBenchmark {
+
+    @Param({ExecutorServiceProviderFactory.PLATFORM_MODE, ExecutorServiceProviderFactory.VIRTUAL_MODE})
+    private String mode;
+
+    @Param({"5000"})
+    private int stubs;
+
+    @Param({"20"})
+    private int blockedMillis;
+
+    private ExecutorServiceProvider provider;
+    private ExecutorService inbound;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        // Providers are created directly: ExecutorServiceProviderFactory reads pool sizes from the configuration
+        provider = ExecutorServiceProviderFactory.VIRTUAL_MODE.equals(mode)
+                ? new VirtualThreadExecutorServiceProvider(250, 10, 0)
+                : new DefaultExecutorServiceProvider(50, 250, 10);
+        inbound = provider.requestForInboundProcessing();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        provider.shutdown();
+    }
+
+    @Benchmark
+    public long concurrentStubs() throws InterruptedException {
+        CountDownLatch finished = new CountDownLatch(stubs);
+        long[] results = new long[stubs];
+        for (int i = 0; i < stubs; i++) {
+            final int stub = i;
+            inbound.execute(() -> {
+                try {
+                    LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(blockedMillis));
+                    results[stub] = work(stub);
+                } finally {
+                    finished.countDown();
+                }
+            });
+        }
+        finished.await();
+        long sum = 0;
+        for (long result : results) {
+            sum += result;
+        }
+        return sum;
+    }
+
+    private static long work(int seed) {
+        long hash = seed;
+        for (int i = 0; i < 1000; i++) {
+            hash = hash * 31 + i;
+        }
+        return hash;
+    }
+}
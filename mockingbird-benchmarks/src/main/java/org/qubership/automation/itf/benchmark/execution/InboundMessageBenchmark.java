@@ -0,0 +1,126 @@
+/*
+ * # Copyright 2024-2026 NetCracker Technology Corporation
+ * #
+ * # Licensed under the Apache License, Version 2.0 (the "License");
+ * # you may not use this file except in compliance with the License.
+ * # You may obtain a copy of the License at
+ * #
+ * #      http://www.apache.org/licenses/LICENSE-2.0
+ * #
+ * # Unless required by applicable law or agreed to in writing, software
+ * # distributed under the License is distributed on an "AS IS" BASIS,
+ * # WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * # See the License for the specific language governing permissions and
+ * # limitations under the License.
+ *
+ */
+
+package org.qubership.automation.itf.benchmark.execution;
+
+import static org.qubership.automation.itf.benchmark.support.ExecutorStandIns.PROJECT_ID;
+import static org.qubership.automation.itf.benchmark.support.ExecutorStandIns.PROJECT_UUID;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.qubership.automation.itf.benchmark.support.ExecutorStandIns;
+import org.qubership.automation.itf.core.instance.chain.IncomingHelper;
+import org.qubership.automation.itf.core.message.parser.Parser;
+import org.qubership.automation.itf.core.model.jpa.context.InstanceContext;
+import org.qubership.automation.itf.core.model.jpa.context.SpContext;
+import org.qubership.automation.itf.core.model.jpa.context.TcContext;
+import org.qubership.automation.itf.core.model.jpa.message.Message;
+import org.qubership.automation.itf.core.model.jpa.message.parser.MessageParameter;
+import org.qubership.automation.itf.core.model.jpa.message.parser.ParsingRule;
+import org.qubership.automation.itf.core.model.jpa.message.parser.SystemParsingRule;
+import org.qubership.automation.itf.core.model.jpa.system.System;
+import org.qubership.automation.itf.core.util.parser.ParsingRuleType;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+
+/**
+ * Inbound message processing up to the context binding, as IncomingHelper does it for a stub:
+ * parsing by system parsing rules, context key definition and finding (or creating) the context by key.
+ * Operation detection of IncomingHelper#processIncomingMessage is not included: operation event triggers
+ * are read via object managers, so it needs the database.
+ * isStub=Yes creates a new context per message; isStub=No finds the context bound by the 1st message.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class InboundMessageBenchmark {
+
+    private static final String MESSAGE = """
+            <soapenv:Envelope xmlns:soapenv="http://schemas.xmlsoap.org/soap/envelope/">
+                <soapenv:Body>
+                    <createOrder>
+                        <msisdn>79000000001</msisdn>
+                        <orderId>ORD-0001</orderId>
+                        <customer type="B2C">Customer Name</customer>
+                    </createOrder>
+                </soapenv:Body>
+            </soapenv:Envelope>""";
+
+    @Param({"Yes", "No"})
+    private String isStub;
+
+    private AnnotationConfigApplicationContext applicationContext;
+    private IncomingHelper incomingHelper;
+    private Parser parser;
+    private System system;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        applicationContext = ExecutorStandIns.start(Map.of());
+        incomingHelper = applicationContext.getBean(IncomingHelper.class);
+        parser = new Parser();
+        system = new System();
+        system.setName("Order Management");
+        system.setIncomingContextKeyDefinition("$sp.msisdn");
+        system.addParsingRule(rule("msisdn", ParsingRuleType.REGEX, "<msisdn>(.*)</msisdn>"));
+        system.addParsingRule(rule("orderId", ParsingRuleType.XPATH, "//orderId/text()"));
+        system.addParsingRule(rule("operation", ParsingRuleType.REGEX, "<soapenv:Body>\\s*<(\\w+)>"));
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        applicationContext.close();
+    }
+
+    @Benchmark
+    public TcContext processIncomingMessage() throws Exception {
+        InstanceContext context = InstanceContext.from(new TcContext(), new SpContext());
+        context.setProjectId(PROJECT_ID);
+        context.setProjectUuid(PROJECT_UUID);
+        Message message = new Message(MESSAGE);
+        Map<String, MessageParameter> parameters = parser.parse(PROJECT_ID, message, context, system);
+        context.sp().putMessageParameters(parameters.values());
+        String contextKey = incomingHelper.getContextKey(context, system, null, true);
+        return incomingHelper.findOrCreateTcContextByKeys(contextKey, isStub, PROJECT_ID, PROJECT_UUID);
+    }
+
+    private ParsingRule rule(String name, ParsingRuleType type, String expression) {
+        ParsingRule rule = new SystemParsingRule();
+        rule.setMultiple(false);
+        rule.setParsingType(type);
+        rule.setParamName(name);
+        rule.setExpression(expression);
+        rule.setParent(system);
+        return rule;
+    }
+}
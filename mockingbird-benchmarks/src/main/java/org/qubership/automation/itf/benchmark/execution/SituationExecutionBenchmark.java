@@ -0,0 +1,133 @@
+/*
+ * # Copyright 2024-2026 NetCracker Technology Corporation
+ * #
+ * # Licensed under the Apache License, Version 2.0 (the "License");
+ * # you may not use this file except in compliance with the License.
+ * # You may obtain a copy of the License at
+ * #
+ * #      http://www.apache.org/licenses/LICENSE-2.0
+ * #
+ * # Unless required by applicable law or agreed to in writing, software
+ * # distributed under the License is distributed on an "AS IS" BASIS,
+ * # WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * # See the License for the specific language governing permissions and
+ * # limitations under the License.
+ *
+ */
+
+package org.qubership.automation.itf.benchmark.execution;
+
+import static org.qubership.automation.itf.benchmark.support.ExecutorStandIns.PROJECT_ID;
+import static org.qubership.automation.itf.benchmark.support.ExecutorStandIns.PROJECT_UUID;
+
+import java.math.BigInteger;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.mockito.Mockito;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.qubership.automation.itf.benchmark.hazelcast.TcContextSerializationBenchmark;
+import org.qubership.automation.itf.benchmark.support.ExecutorStandIns;
+import org.qubership.automation.itf.core.instance.situation.SituationExecutorService;
+import org.qubership.automation.itf.core.model.jpa.context.InstanceContext;
+import org.qubership.automation.itf.core.model.jpa.context.SpContext;
+import org.qubership.automation.itf.core.model.jpa.context.TcContext;
+import org.qubership.automation.itf.core.model.jpa.instance.SituationInstance;
+import org.qubership.automation.itf.core.model.jpa.message.Message;
+import org.qubership.automation.itf.core.model.jpa.system.System;
+import org.qubership.automation.itf.core.model.jpa.system.operation.Operation;
+import org.qubership.automation.itf.core.model.jpa.system.stub.Situation;
+import org.qubership.automation.itf.core.model.jpa.transport.TransportConfiguration;
+import org.qubership.automation.itf.core.util.constants.Mep;
+import org.qubership.automation.itf.core.util.constants.StartedFrom;
+import org.qubership.automation.itf.executor.service.ExecutionServices;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+
+/**
+ * SituationExecutorService#executeInstance for an inbound synchronous stub situation:
+ * context start, situation name rendering, inbound step creation, events posting,
+ * context diff computation (startedFrom=RAM2) and context info update.
+ * Step executors, JMS and event bus are no-op stand-ins, so only the executor overhead around steps is measured.
+ * Each invocation gets a fresh TcContext, as each incoming message does.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SituationExecutionBenchmark {
+
+    @Param({"ITF_STUB", "RAM2"})
+    private StartedFrom startedFrom;
+
+    @Param({"100", "1000"})
+    private int contextKeys;
+
+    private AnnotationConfigApplicationContext applicationContext;
+    private SituationExecutorService service;
+    private Operation operation;
+    private Situation situation;
+    private InstanceContext context;
+    private long nextId = 9_100_000_000L;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        applicationContext = ExecutorStandIns.start(Map.of());
+        service = ExecutionServices.getSituationExecutorService();
+        System system = new System();
+        system.setID(BigInteger.valueOf(9_000_000_010L));
+        system.setName("Order Management");
+        // Operation MEP and transport are defined by the transport type registry, so they are stubbed
+        operation = Mockito.mock(Operation.class);
+        Mockito.when(operation.getID()).thenReturn(BigInteger.valueOf(9_000_000_011L));
+        Mockito.when(operation.getName()).thenReturn("createOrder");
+        Mockito.when(operation.getParent()).thenReturn(system);
+        Mockito.when(operation.getMep()).thenReturn(Mep.INBOUND_REQUEST_RESPONSE_SYNCHRONOUS);
+        Mockito.when(operation.getTransport())
+                .thenReturn(Mockito.mock(TransportConfiguration.class, Mockito.RETURNS_DEEP_STUBS));
+        situation = new Situation();
+        situation.setID(BigInteger.valueOf(9_000_000_012L));
+        situation.setName("Order $tc.key1 is created");
+        situation.setParent(operation);
+    }
+
+    @Setup(Level.Invocation)
+    public void newMessage() {
+        TcContext tcContext = new TcContext();
+        tcContext.setID(BigInteger.valueOf(nextId++));
+        tcContext.setProjectId(PROJECT_ID);
+        tcContext.setProjectUuid(PROJECT_UUID);
+        tcContext.setStartedFrom(startedFrom);
+        TcContextSerializationBenchmark.fill(tcContext, contextKeys);
+        SpContext spContext = new SpContext();
+        spContext.setIncomingMessage(new Message("<createOrder><orderId>ORD-0001</orderId></createOrder>"));
+        context = InstanceContext.from(tcContext, spContext);
+        context.setProjectId(PROJECT_ID);
+        context.setProjectUuid(PROJECT_UUID);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        applicationContext.close();
+    }
+
+    @Benchmark
+    public SituationInstance executeInstance() throws Exception {
+        SituationInstance instance = service.prepare(situation, context);
+        service.executeInstance(instance, null, context.sp(), null, situation, operation);
+        return instance;
+    }
+}
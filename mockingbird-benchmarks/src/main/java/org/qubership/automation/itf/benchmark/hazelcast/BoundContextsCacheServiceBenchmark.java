@@ -0,0 +1,113 @@
+/*
+ * # Copyright 2024-2026 NetCracker Technology Corporation
+ * #
+ * # Licensed under the Apache License, Version 2.0 (the "License");
+ * # you may not use this file except in compliance with the License.
+ * # You may obtain a copy of the License at
+ * #
+ * #      http://www.apache.org/licenses/LICENSE-2.0
+ * #
+ * # Unless required by applicable law or agreed to in writing, software
+ * # distributed under the License is distributed on an "AS IS" BASIS,
+ * # WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * # See the License for the specific language governing permissions and
+ * # limitations under the License.
+ *
+ */
+
+package org.qubership.automation.itf.benchmark.hazelcast;
+
+import static org.qubership.automation.itf.benchmark.support.ExecutorStandIns.PROJECT_ID;
+import static org.qubership.automation.itf.benchmark.support.ExecutorStandIns.PROJECT_UUID;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.qubership.automation.itf.benchmark.support.ExecutorStandIns;
+import org.qubership.automation.itf.core.model.jpa.context.TcContext;
+import org.qubership.automation.itf.executor.cache.service.CacheServices;
+import org.qubership.automation.itf.executor.cache.service.impl.BoundContextsCacheService;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+
+/**
+ * Lookup of bound contexts by key(s), as it's done for each inbound message which isn't a stub:
+ * key -> context id in ATP_ITF_TC_CONTEXTS_IDS_BOUND_BY_KEY map, then context by id in ATP_ITF_TC_CONTEXTS map.
+ * Embedded Hazelcast member is used, so network round trips are excluded; (de)serialization is included.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class BoundContextsCacheServiceBenchmark {
+
+    @Param({"1000", "10000"})
+    private int contexts;
+
+    @Param({"100", "1000"})
+    private int contextKeys;
+
+    private AnnotationConfigApplicationContext applicationContext;
+    private BoundContextsCacheService service;
+    private int next;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        applicationContext = ExecutorStandIns.start(Map.of());
+        service = CacheServices.getTcBindingCacheService();
+        for (int i = 0; i < contexts; i++) {
+            TcContext tcContext = service.createByKeys(new String[]{msisdn(i), order(i)}, false,
+                    PROJECT_ID, PROJECT_UUID);
+            TcContextSerializationBenchmark.fill(tcContext, contextKeys);
+            CacheServices.getTcContextCacheService().set(tcContext, true);
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        applicationContext.close();
+    }
+
+    @Benchmark
+    public TcContext findByKey() {
+        return service.findByKey(msisdn(nextIndex()), false, PROJECT_ID, PROJECT_UUID);
+    }
+
+    @Benchmark
+    public TcContext findByKeys() {
+        int i = nextIndex();
+        return service.findByKeys(new String[]{order(i), msisdn(i)}, PROJECT_ID, PROJECT_UUID);
+    }
+
+    @Benchmark
+    public TcContext findByKeyMissing() {
+        return service.findByKey("missing-" + nextIndex(), false, PROJECT_ID, PROJECT_UUID);
+    }
+
+    private int nextIndex() {
+        next = (next + 1) % contexts;
+        return next;
+    }
+
+    private static String msisdn(int i) {
+        return "msisdn-" + (79_000_000_000L + i);
+    }
+
+    private static String order(int i) {
+        return "order-" + i;
+    }
+}
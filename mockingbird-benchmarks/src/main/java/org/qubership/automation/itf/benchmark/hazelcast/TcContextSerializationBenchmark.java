@@ -0,0 +1,119 @@
+/*
+ * # Copyright 2024-2026 NetCracker Technology Corporation
+ * #
+ * # Licensed under the Apache License, Version 2.0 (the "License");
+ * # you may not use this file except in compliance with the License.
+ * # You may obtain a copy of the License at
+ * #
+ * #      http://www.apache.org/licenses/LICENSE-2.0
+ * #
+ * # Unless required by applicable law or agreed to in writing, software
+ * # distributed under the License is distributed on an "AS IS" BASIS,
+ * # WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * # See the License for the specific language governing permissions and
+ * # limitations under the License.
+ *
+ */
+
+package org.qubership.automation.itf.benchmark.hazelcast;
+
+import java.math.BigInteger;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.qubership.automation.itf.core.model.jpa.context.TcContext;
+import org.qubership.automation.itf.executor.cache.hazelcast.serialization.ItfSerializationConfigurer;
+
+import com.hazelcast.config.SerializationConfig;
+import com.hazelcast.internal.serialization.Data;
+import com.hazelcast.internal.serialization.SerializationService;
+import com.hazelcast.internal.serialization.impl.DefaultSerializationServiceBuilder;
+
+/**
+ * Generic (Java) Hazelcast serialization of TcContext vs ITF serializer with LZ4 compression.
+ * Serialized sizes are printed at setup, so both size and throughput can be compared.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TcContextSerializationBenchmark {
+
+    @Param({"100", "1000", "10000"})
+    private int contextKeys;
+
+    private SerializationService generic;
+    private SerializationService itf;
+    private TcContext tcContext;
+    private Data genericData;
+    private Data itfData;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        generic = new DefaultSerializationServiceBuilder().build();
+        SerializationConfig serializationConfig = new SerializationConfig();
+        ItfSerializationConfigurer.configure(serializationConfig, 16384);
+        itf = new DefaultSerializationServiceBuilder().setConfig(serializationConfig).build();
+        tcContext = createContext(contextKeys);
+        genericData = generic.toData(tcContext);
+        itfData = itf.toData(tcContext);
+        System.out.printf("%nContext keys: %d, generic size: %d bytes, ITF serializer size: %d bytes%n",
+                contextKeys, genericData.totalSize(), itfData.totalSize());
+    }
+
+    @Benchmark
+    public Data genericWrite() {
+        return generic.toData(tcContext);
+    }
+
+    @Benchmark
+    public Data itfWrite() {
+        return itf.toData(tcContext);
+    }
+
+    @Benchmark
+    public Object genericRead() {
+        return generic.toObject(genericData);
+    }
+
+    @Benchmark
+    public Object itfRead() {
+        return itf.toObject(itfData);
+    }
+
+    public static TcContext createContext(int keys) {
+        TcContext tcContext = new TcContext();
+        tcContext.setID(BigInteger.valueOf(9_000_000_001L));
+        fill(tcContext, keys);
+        return tcContext;
+    }
+
+    static void fill(TcContext tcContext, int keys) {
+        for (int i = 0; i < keys; i++) {
+            if (i % 10 == 0) {
+                Map<String, Object> group = new HashMap<>();
+                group.put("id", "id-" + i);
+                group.put("status", "ACTIVE");
+                group.put("payload", "<customer><name>Customer " + i + "</name><type>B2C</type></customer>");
+                tcContext.put("group" + i, group);
+            } else {
+                tcContext.put("key" + i, "value of the context variable number " + i);
+            }
+        }
+    }
+}
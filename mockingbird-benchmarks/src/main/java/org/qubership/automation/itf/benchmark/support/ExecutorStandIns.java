@@ -0,0 +1,191 @@
+/*
+ * # Copyright 2024-2026 NetCracker Technology Corporation
+ * #
+ * # Licensed under the Apache License, Version 2.0 (the "License");
+ * # you may not use this file except in compliance with the License.
+ * # You may obtain a copy of the License at
+ * #
+ * #      http://www.apache.org/licenses/LICENSE-2.0
+ * #
+ * # Unless required by applicable law or agreed to in writing, software
+ * # distributed under the License is distributed on an "AS IS" BASIS,
+ * # WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * # See the License for the specific language governing permissions and
+ * # limitations under the License.
+ *
+ */
+
+package org.qubership.automation.itf.benchmark.support;
+
+import java.math.BigInteger;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+
+import org.mockito.Mockito;
+import org.qubership.automation.itf.core.instance.chain.IncomingHelper;
+import org.qubership.automation.itf.core.instance.situation.SituationExecutorService;
+import org.qubership.automation.itf.core.instance.step.StepExecutorFactory;
+import org.qubership.automation.itf.core.instance.testcase.chain.CallChainExecutorService;
+import org.qubership.automation.itf.core.instance.testcase.execution.ExecutionProcessManagerService;
+import org.qubership.automation.itf.core.metric.MetricsAggregateService;
+import org.qubership.automation.itf.core.template.velocity.VelocityTemplateEngine;
+import org.qubership.automation.itf.core.util.constants.CacheNames;
+import org.qubership.automation.itf.core.util.constants.ProjectSettingsConstants;
+import org.qubership.automation.itf.core.util.engine.TemplateEngine;
+import org.qubership.automation.itf.core.util.engine.TemplateEngineFactory;
+import org.qubership.automation.itf.core.util.generator.id.CounterIdGenerator;
+import org.qubership.automation.itf.core.util.generator.id.IdGenerator;
+import org.qubership.automation.itf.core.util.generator.id.IdGeneratorInterface;
+import org.qubership.automation.itf.core.util.report.ReportLinkCollector;
+import org.qubership.automation.itf.core.util.services.CoreServices;
+import org.qubership.automation.itf.executor.cache.hazelcast.HazelcastAsyncExecutor;
+import org.qubership.automation.itf.executor.cache.hazelcast.LocalHazelcastConfig;
+import org.qubership.automation.itf.executor.cache.service.CacheServices;
+import org.qubership.automation.itf.executor.cache.service.impl.AwaitingContextsCacheService;
+import org.qubership.automation.itf.executor.cache.service.impl.BoundContextsCacheService;
+import org.qubership.automation.itf.executor.cache.service.impl.CallchainSubscriberCacheService;
+import org.qubership.automation.itf.executor.cache.service.impl.EnvironmentCacheService;
+import org.qubership.automation.itf.executor.cache.service.impl.PendingDataContextsCacheService;
+import org.qubership.automation.itf.executor.cache.service.impl.ResponseCacheService;
+import org.qubership.automation.itf.executor.cache.service.impl.TCContextCacheService;
+import org.qubership.automation.itf.executor.provider.EventBusProvider;
+import org.qubership.automation.itf.executor.service.ExecutionServices;
+import org.qubership.automation.itf.executor.service.ExecutorToMessageBrokerSender;
+import org.qubership.automation.itf.executor.service.ProjectSettingsService;
+import org.qubership.automation.itf.executor.service.TCContextService;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+import org.springframework.core.env.MapPropertySource;
+
+import com.hazelcast.core.HazelcastInstance;
+
+/**
+ * Executor services wired with in-memory stand-ins, so benchmarks run without external services.
+ * <ul>
+ *     <li>Hazelcast - embedded member of {@link LocalHazelcastConfig} (hazelcast.cache.enabled=false mode),
+ *     so TcContext and binding caches are real;</li>
+ *     <li>JMS, event bus, step executors, reporting links and metrics - Mockito mocks (no-op);</li>
+ *     <li>Project settings - real service over the embedded Hazelcast map, prefilled for {@link #PROJECT_ID};</li>
+ *     <li>Database - not used: benchmarks build their configuration objects in memory.</li>
+ * </ul>
+ * The same wiring is used by TCContextServiceTest, except that caches and template engine are real here.
+ */
+@Configuration
+@Import({LocalHazelcastConfig.class,
+        TCContextCacheService.class,
+        BoundContextsCacheService.class,
+        CacheServices.class,
+        TCContextService.class,
+        CallChainExecutorService.class,
+        SituationExecutorService.class,
+        ExecutionProcessManagerService.class,
+        ExecutionServices.class,
+        CoreServices.class,
+        IncomingHelper.class})
+public class ExecutorStandIns {
+
+    public static final BigInteger PROJECT_ID = BigInteger.valueOf(9_000_000_001L);
+    public static final UUID PROJECT_UUID = UUID.fromString("00000000-0000-0000-0000-000000000001");
+
+    /**
+     * Start the context. The caller is responsible for closing it at trial teardown.
+     *
+     * @param properties extra properties, they override the defaults
+     * @return started application context
+     */
+    public static AnnotationConfigApplicationContext start(Map<String, Object> properties) {
+        Map<String, Object> all = new HashMap<>();
+        all.put("hazelcast.cache.enabled", "false");
+        all.put("hazelcast.serialization.itf-serializers.enabled", "true");
+        all.put("hazelcast.project-settings.cache.refill.time.seconds", "3600");
+        all.put("exclude.registry.metrics.tags", "{defaultKey: {'defaultValue1','defaultValue2'}}");
+        all.put("atp.multi-tenancy.enabled", "false");
+        all.putAll(properties);
+        AnnotationConfigApplicationContext context = new AnnotationConfigApplicationContext();
+        context.getEnvironment().getPropertySources().addFirst(new MapPropertySource("benchmark", all));
+        context.register(ExecutorStandIns.class);
+        context.refresh();
+        return context;
+    }
+
+    @Bean
+    public IdGeneratorInterface idGenerator() {
+        IdGenerator.init(new CounterIdGenerator());
+        return IdGenerator.get();
+    }
+
+    @Bean
+    public TemplateEngine templateEngine() {
+        TemplateEngine engine = new VelocityTemplateEngine();
+        TemplateEngineFactory.init(engine);
+        return engine;
+    }
+
+    @Bean
+    public ProjectSettingsService projectSettingsService(@Qualifier("hazelcastClient") HazelcastInstance client) {
+        Map<String, String> settings = new HashMap<>();
+        settings.put(ProjectSettingsConstants.TC_CONTEXT_CLIENT_ADDRESS, "");
+        client.<String, Map<String, String>>getMap(CacheNames.ATP_ITF_PROJECT_SETTINGS)
+                .set(PROJECT_ID.toString(), settings);
+        return new ProjectSettingsService(client);
+    }
+
+    @Bean
+    public PendingDataContextsCacheService pendingDataContextsCacheService() {
+        return Mockito.mock(PendingDataContextsCacheService.class);
+    }
+
+    @Bean
+    public AwaitingContextsCacheService awaitingContextsCacheService() {
+        return Mockito.mock(AwaitingContextsCacheService.class);
+    }
+
+    @Bean
+    public CallchainSubscriberCacheService callchainSubscriberCacheService() {
+        return Mockito.mock(CallchainSubscriberCacheService.class);
+    }
+
+    @Bean
+    public EnvironmentCacheService environmentCacheService() {
+        return Mockito.mock(EnvironmentCacheService.class);
+    }
+
+    @Bean
+    public ResponseCacheService responseCacheService() {
+        return Mockito.mock(ResponseCacheService.class);
+    }
+
+    @Bean
+    public ExecutorToMessageBrokerSender executorToMessageBrokerSender() {
+        return Mockito.mock(ExecutorToMessageBrokerSender.class);
+    }
+
+    @Bean
+    public EventBusProvider eventBusProvider() {
+        return Mockito.mock(EventBusProvider.class);
+    }
+
+    @Bean
+    public HazelcastAsyncExecutor hazelcastAsyncExecutor() {
+        return Mockito.mock(HazelcastAsyncExecutor.class);
+    }
+
+    @Bean
+    public ReportLinkCollector reportLinkCollector() {
+        return Mockito.mock(ReportLinkCollector.class);
+    }
+
+    @Bean
+    public MetricsAggregateService metricsAggregateService() {
+        return Mockito.mock(MetricsAggregateService.class);
+    }
+
+    @Bean
+    public StepExecutorFactory stepExecutorFactory() {
+        return Mockito.mock(StepExecutorFactory.class);
+    }
+}
@@ -0,0 +1,117 @@
+/*
+ * # Copyright 2024-2026 NetCracker Technology Corporation
+ * #
+ * # Licensed under the Apache License, Version 2.0 (the "License");
+ * # you may not use this file except in compliance with the License.
+ * # You may obtain a copy of the License at
+ * #
+ * #      http://www.apache.org/licenses/LICENSE-2.0
+ * #
+ * # Unless required by applicable law or agreed to in writing, software
+ * # distributed under the License is distributed on an "AS IS" BASIS,
+ * # WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * # See the License for the specific language governing permissions and
+ * # limitations under the License.
+ *
+ */
+
+package org.qubership.automation.itf.benchmark.template;
+
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.mockito.Mockito;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.qubership.automation.itf.core.model.jpa.context.InstanceContext;
+import org.qubership.automation.itf.core.model.jpa.context.TcContext;
+import org.qubership.automation.itf.core.model.jpa.server.Server;
+import org.qubership.automation.itf.core.template.velocity.VelocityTemplateEngine;
+
+/**
+ * Rendering by VelocityTemplateEngine of typical texts: situation name without variables,
+ * context key definition with a couple of substitutions, outbound template with a loop and conditions.
+ * Each invocation renders the same text, as it's in production where a few thousand texts are rendered repeatedly.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class VelocityTemplateEngineBenchmark {
+
+    private static final Map<String, String> TEMPLATES = Map.of(
+            "plain", "Create customer order - positive flow",
+            "key", "$tc.customer.id+$tc.orderId",
+            "outbound", """
+                    <order id="$tc.orderId">
+                        <customer type="$tc.customer.type">$tc.customer.name</customer>
+                    #foreach($item in $tc.items)
+                        <item number="$foreach.count">
+                            <offering>$item.offering</offering>
+                    #if($item.quantity > 1)
+                            <quantity>$item.quantity</quantity>
+                    #end
+                        </item>
+                    #end
+                    </order>""");
+
+    @Param({"plain", "key", "outbound"})
+    private String template;
+
+    @Param({"10"})
+    private int items;
+
+    private VelocityTemplateEngine engine;
+    private Server owner;
+    private String text;
+    private InstanceContext context;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        engine = new VelocityTemplateEngine();
+        owner = Mockito.mock(Server.class);
+        text = TEMPLATES.get(template);
+        context = InstanceContext.from(createContext(items), null);
+    }
+
+    @Benchmark
+    public String process() {
+        return engine.process(owner, text, context);
+    }
+
+    static TcContext createContext(int items) {
+        TcContext tcContext = new TcContext();
+        tcContext.setID(BigInteger.valueOf(9_000_000_001L));
+        tcContext.put("orderId", "ORD-0001");
+        Map<String, Object> customer = new HashMap<>();
+        customer.put("id", "CUST-0001");
+        customer.put("type", "B2C");
+        customer.put("name", "Customer Name");
+        tcContext.put("customer", customer);
+        List<Map<String, Object>> list = new ArrayList<>(items);
+        for (int i = 0; i < items; i++) {
+            Map<String, Object> item = new HashMap<>();
+            item.put("offering", "Offering " + i);
+            item.put("quantity", i % 3 + 1);
+            list.add(item);
+        }
+        tcContext.put("items", list);
+        return tcContext;
+    }
+}
@@ -0,0 +1,89 @@
+/*
+ * # Copyright 2024-2026 NetCracker Technology Corporation
+ * #
+ * # Licensed under the Apache License, Version 2.0 (the "License");
+ * # you may not use this file except in compliance with the License.
+ * # You may obtain a copy of the License at
+ * #
+ * #      http://www.apache.org/licenses/LICENSE-2.0
+ * #
+ * # Unless required by applicable law or agreed to in writing, software
+ * # distributed under the License is distributed on an "AS IS" BASIS,
+ * # WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * # See the License for the specific language governing permissions and
+ * # limitations under the License.
+ *
+ */
+
+package org.qubership.automation.itf.core.report.producer;
+
+import java.math.BigInteger;
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.qubership.automation.itf.benchmark.hazelcast.TcContextSerializationBenchmark;
+import org.qubership.automation.itf.core.model.jpa.context.TcContext;
+import org.qubership.automation.itf.core.model.jpa.instance.chain.CallChainInstance;
+import org.qubership.automation.itf.core.util.config.Config;
+import org.qubership.automation.itf.core.util.constants.ProjectSettingsConstants;
+
+/**
+ * Serialization of TcContext (combined with its initiator) into the reporting message payload.
+ * Sending is not measured: the benchmark is placed into ReportWorker package to call package-private
+ * {@link ReportWorker#serialize(org.qubership.automation.itf.core.model.common.Storable, Date, BigInteger, String)}
+ * directly, so JMS broker is not needed.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ReportWorkerSerializationBenchmark {
+
+    private static final BigInteger PROJECT_ID = BigInteger.valueOf(9_000_000_001L);
+
+    @Param({"100", "1000", "10000"})
+    private int contextKeys;
+
+    private ReportWorker reportWorker;
+    private TcContext tcContext;
+    private Date date;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        Config.getConfig().addProperty(ProjectSettingsConstants.REPORT_EXECUTION_ENABLED, "true");
+        // Neither sender nor metrics are used while serializing
+        reportWorker = new ReportWorker(null, null);
+        tcContext = TcContextSerializationBenchmark.createContext(contextKeys);
+        tcContext.setName("Benchmark context");
+        tcContext.setProjectId(PROJECT_ID);
+        CallChainInstance initiator = new CallChainInstance();
+        initiator.setID(BigInteger.valueOf(9_000_000_002L));
+        initiator.setName("Benchmark call chain");
+        tcContext.setInitiator(initiator);
+        date = new Date();
+        ReportPayload payload = reportWorker.serialize(tcContext, date, PROJECT_ID, null);
+        if (payload == null) {
+            throw new IllegalStateException("TcContext is not serialized; see log for details");
+        }
+        System.out.printf("%nContext keys: %d, payload size: %d chars%n", contextKeys, payload.getText().length());
+    }
+
+    @Benchmark
+    public ReportPayload serialize() {
+        return reportWorker.serialize(tcContext, date, PROJECT_ID, null);
+    }
+}
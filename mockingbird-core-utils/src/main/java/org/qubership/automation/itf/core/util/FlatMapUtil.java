@@ -17,12 +17,10 @@
 
 package org.qubership.automation.itf.core.util;
 
-import java.util.AbstractMap;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.stream.IntStream;
-import java.util.stream.Stream;
+import java.util.function.BiConsumer;
 
 public final class FlatMapUtil {
 
@@ -36,26 +34,44 @@ public final class FlatMapUtil {
     }
 
     public static Map<String, Object> flatten(Map<String, Object> map) {
-        return map.entrySet().stream().flatMap(FlatMapUtil::flatten).collect(LinkedHashMap::new,
-                (m, e) -> m.put(leadingChar + e.getKey(), e.getValue()), LinkedHashMap::putAll);
+        Map<String, Object> result = new LinkedHashMap<>();
+        forEachLeaf(map, result::put);
+        return result;
     }
 
-    private static Stream<Map.Entry<String, Object>> flatten(Map.Entry<String, Object> entry) {
-        if (entry == null) {
-            return Stream.empty();
+    /**
+     * Walk the map and pass each leaf value with its flat key (the same keys as {@link #flatten(Map)} produces)
+     * to the consumer. Unlike flatten, no intermediate entries and maps are created.
+     *
+     * @param map      map to walk
+     * @param consumer consumer of flat keys and leaf values
+     */
+    public static void forEachLeaf(Map<String, Object> map, BiConsumer<String, Object> consumer) {
+        StringBuilder path = new StringBuilder(64);
+        for (Map.Entry<String, Object> entry : map.entrySet()) {
+            path.setLength(0);
+            path.append(leadingChar).append(entry.getKey());
+            walk(path, entry.getValue(), consumer);
         }
-        if (entry.getValue() instanceof Map<?, ?>) {
-            return ((Map<?, ?>) entry.getValue()).entrySet()
-                    .stream()
-                    .flatMap(e -> flatten(
-                            new AbstractMap.SimpleEntry<>(entry.getKey() + keyDelimiter + e.getKey(), e.getValue())));
-        }
-        if (entry.getValue() instanceof List<?>) {
-            List<?> list = (List<?>) entry.getValue();
-            return IntStream.range(0, list.size())
-                    .mapToObj(i -> new AbstractMap.SimpleEntry<String, Object>(entry.getKey() + arrayElementLeft + i + arrayElementRight, list.get(i)))
-                    .flatMap(FlatMapUtil::flatten);
+    }
+
+    private static void walk(StringBuilder path, Object value, BiConsumer<String, Object> consumer) {
+        if (value instanceof Map<?, ?> map) {
+            int length = path.length();
+            for (Map.Entry<?, ?> entry : map.entrySet()) {
+                path.append(keyDelimiter).append(entry.getKey());
+                walk(path, entry.getValue(), consumer);
+                path.setLength(length);
+            }
+        } else if (value instanceof List<?> list) {
+            int length = path.length();
+            for (int i = 0; i < list.size(); i++) {
+                path.append(arrayElementLeft).append(i).append(arrayElementRight);
+                walk(path, list.get(i), consumer);
+                path.setLength(length);
+            }
+        } else {
+            consumer.accept(path.toString(), value);
         }
-        return Stream.of(entry);
     }
 }
@@ -0,0 +1,49 @@
+/*
+ * # Copyright 2024-2026 NetCracker Technology Corporation
+ * #
+ * # Licensed under the Apache License, Version 2.0 (the "License");
+ * # you may not use this file except in compliance with the License.
+ * # You may obtain a copy of the License at
+ * #
+ * #      http://www.apache.org/licenses/LICENSE-2.0
+ * #
+ * # Unless required by applicable law or agreed to in writing, software
+ * # distributed under the License is distributed on an "AS IS" BASIS,
+ * # WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * # See the License for the specific language governing permissions and
+ * # limitations under the License.
+ *
+ */
+
+package org.qubership.automation.itf.core.execution;
+
+import java.util.concurrent.locks.ReentrantLock;
+
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheLoader;
+import com.google.common.cache.LoadingCache;
+
+/**
+ * Locks by key (tc context id etc.) used instead of synchronized blocks on MonitorManager objects.
+ * A virtual thread blocked in a synchronized block pins its carrier thread; ReentrantLock doesn't.
+ * Locks are weakly referenced, so a lock lives while it's used.
+ */
+public final class ContextLocks {
+
+    private static final LoadingCache<String, ReentrantLock> LOCKS = CacheBuilder.newBuilder()
+            .weakValues()
+            .build(CacheLoader.from(key -> new ReentrantLock()));
+
+    private ContextLocks() {
+    }
+
+    /**
+     * Get lock by key. The same lock is returned for equal keys while the lock is referenced.
+     *
+     * @param key lock key
+     * @return lock
+     */
+    public static ReentrantLock get(String key) {
+        return LOCKS.getUnchecked(key);
+    }
+}
@@ -0,0 +1,223 @@
+/*
+ * # Copyright 2024-2026 NetCracker Technology Corporation
+ * #
+ * # Licensed under the Apache License, Version 2.0 (the "License");
+ * # you may not use this file except in compliance with the License.
+ * # You may obtain a copy of the License at
+ * #
+ * #      http://www.apache.org/licenses/LICENSE-2.0
+ * #
+ * # Unless required by applicable law or agreed to in writing, software
+ * # distributed under the License is distributed on an "AS IS" BASIS,
+ * # WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * # See the License for the specific language governing permissions and
+ * # limitations under the License.
+ *
+ */
+
+package org.qubership.automation.itf.core.execution;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+import org.slf4j.MDC;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Serializes processing of messages by context (tc context id etc.) without blocking threads.
+ * While a context is busy, messages for it are queued and then processed in arrival order
+ * by a worker of the executor, one by one. The caller never waits for the context to become free.
+ * A context has an entry here only while it's busy, so idle contexts consume no memory.
+ * If the executor rejects a task, the context is released and its queued tasks are dropped,
+ * so the context isn't left busy without an owner. Rejection callbacks of dropped tasks are invoked
+ * (an error is logged for tasks without a callback), so callers can report failed processing.
+ */
+@Slf4j
+public class ContextMailbox {
+
+    /**
+     * Mailbox for inbound messages processing; queued messages are processed by the inbound executor.
+     */
+    public static final ContextMailbox INBOUND = new ContextMailbox(
+            task -> ExecutorServiceProviderFactory.get().requestForInboundProcessing().execute(task));
+
+    private final Map<Object, Queue<QueuedTask>> busyContexts = new ConcurrentHashMap<>();
+    private final AtomicInteger queuedCount = new AtomicInteger();
+    private final Executor executor;
+
+    public ContextMailbox(Executor executor) {
+        this.executor = executor;
+    }
+
+    /**
+     * Try to take the context for processing by the current thread.
+     * If the context is busy, the task is queued. It's executed later by the executor
+     * as the owner of the context, when all previously queued tasks are completed.
+     * An owner must call {@link #release(Object)} when its processing is completed.
+     *
+     * @param contextId context id
+     * @param whenBusy  task to queue if the context is busy
+     * @return true if the current thread becomes the owner of the context, false if the task is queued
+     */
+    public boolean tryAcquire(Object contextId, Runnable whenBusy) {
+        return tryAcquire(contextId, whenBusy, null);
+    }
+
+    /**
+     * Try to take the context for processing by the current thread, see {@link #tryAcquire(Object, Runnable)}.
+     * If the queued task is dropped because the executor rejects it (or a task queued before it),
+     * the rejection callback is invoked instead of the task.
+     *
+     * @param contextId  context id
+     * @param whenBusy   task to queue if the context is busy
+     * @param onRejected callback to invoke if the queued task is dropped; may be null
+     * @return true if the current thread becomes the owner of the context, false if the task is queued
+     */
+    public boolean tryAcquire(Object contextId, Runnable whenBusy,
+                              Consumer<RejectedExecutionException> onRejected) {
+        boolean[] acquired = new boolean[1];
+        busyContexts.compute(contextId, (id, queue) -> {
+            if (queue == null) {
+                acquired[0] = true;
+                return new ArrayDeque<>();
+            }
+            queue.add(new QueuedTask(withCallerMdc(whenBusy), onRejected));
+            queuedCount.incrementAndGet();
+            return queue;
+        });
+        return acquired[0];
+    }
+
+    /**
+     * Complete processing by the owner of the context.
+     * The ownership is passed to the next queued task (if any), which is submitted to the executor.
+     *
+     * @param contextId context id
+     */
+    public void release(Object contextId) {
+        QueuedTask[] next = new QueuedTask[1];
+        busyContexts.computeIfPresent(contextId, (id, queue) -> {
+            next[0] = queue.poll();
+            return next[0] == null ? null : queue;
+        });
+        if (next[0] != null) {
+            queuedCount.decrementAndGet();
+            try {
+                executor.execute(next[0].task);
+            } catch (RejectedExecutionException e) {
+                List<QueuedTask> dropped = drop(contextId);
+                dropped.addFirst(next[0]);
+                reject(contextId, dropped, e);
+            }
+        }
+    }
+
+    /**
+     * Execute the task by the executor after all tasks previously submitted or queued for the context.
+     * The context is released when the task is completed.
+     *
+     * @param contextId context id
+     * @param task      task to execute
+     * @throws RejectedExecutionException if the executor rejects the task; the context is released then
+     */
+    public void execute(Object contextId, Runnable task) {
+        Runnable owned = () -> {
+            try {
+                task.run();
+            } finally {
+                release(contextId);
+            }
+        };
+        if (tryAcquire(contextId, owned)) {
+            try {
+                executor.execute(withCallerMdc(owned));
+            } catch (RejectedExecutionException e) {
+                reject(contextId, drop(contextId), e);
+                throw e;
+            }
+        }
+    }
+
+    /**
+     * Get number of contexts being processed now.
+     *
+     * @return number of busy contexts
+     */
+    public int busyCount() {
+        return busyContexts.size();
+    }
+
+    /**
+     * Get number of tasks waiting for their contexts.
+     *
+     * @return number of queued tasks
+     */
+    public int queuedCount() {
+        return queuedCount.get();
+    }
+
+    /*  Release the context which has no owner and forget its queued tasks.
+     */
+    private List<QueuedTask> drop(Object contextId) {
+        Queue<QueuedTask> queue = busyContexts.remove(contextId);
+        List<QueuedTask> dropped = queue == null ? new ArrayList<>() : new ArrayList<>(queue);
+        queuedCount.addAndGet(-dropped.size());
+        return dropped;
+    }
+
+    /*  Notify callers of dropped tasks; tasks without a callback are only counted in the log.
+     */
+    private static void reject(Object contextId, List<QueuedTask> dropped, RejectedExecutionException e) {
+        int unreported = 0;
+        for (QueuedTask queued : dropped) {
+            if (queued.onRejected == null) {
+                unreported++;
+                continue;
+            }
+            try {
+                queued.onRejected.accept(e);
+            } catch (RuntimeException callbackError) {
+                unreported++;
+                log.error("Rejection callback of a task of context {} is failed", contextId, callbackError);
+            }
+        }
+        if (unreported > 0) {
+            log.error("Task of context {} is rejected by the executor; the context is released, {} tasks are "
+                    + "not executed", contextId, unreported, e);
+        }
+    }
+
+    private static Runnable withCallerMdc(Runnable task) {
+        Map<String, String> mdc = MDC.getCopyOfContextMap();
+        return () -> {
+            if (mdc != null) {
+                MDC.setContextMap(mdc);
+            }
+            try {
+                task.run();
+            } finally {
+                MDC.clear();
+            }
+        };
+    }
+
+    private static class QueuedTask {
+
+        private final Runnable task;
+        private final Consumer<RejectedExecutionException> onRejected;
+
+        private QueuedTask(Runnable task, Consumer<RejectedExecutionException> onRejected) {
+            this.task = task;
+            this.onRejected = onRejected;
+        }
+    }
+}
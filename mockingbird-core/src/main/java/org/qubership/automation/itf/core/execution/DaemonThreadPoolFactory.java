@@ -22,6 +22,7 @@ import java.util.WeakHashMap;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
@@ -55,6 +56,10 @@ public class DaemonThreadPoolFactory {
         return Executors.newSingleThreadExecutor(new DaemonThreadFactory(prefix));
     }
 
+    public static ScheduledExecutorService singleThreadScheduledExecutor(String prefix) {
+        return Executors.newSingleThreadScheduledExecutor(new DaemonThreadFactory(prefix));
+    }
+
     public static ExecutorService cachedThreadPool(int poolSize, String prefix) {
         return getInstance()._cachedThreadPool(poolSize, prefix);
     }
@@ -27,10 +27,14 @@ import jakarta.inject.Named;
 /**
  * Factory with an ability to pass executionProvider thru constructor using DI.
  * If executionProvider is not set before 'get' method invoked, the DEFAULT strategy is used
+ * (executor.provider.mode property: 'platform' thread pools or 'virtual' threads)
  * You can {@link #init(Supplier)} singleton manually
  */
 public class ExecutorServiceProviderFactory {
 
+    public static final String PLATFORM_MODE = "platform";
+    public static final String VIRTUAL_MODE = "virtual";
+
     private static final int EXECUTOR_THREAD_POOL_SIZE = Integer.parseInt(Config.getConfig().getString(
             "executor.thread.pool.size"));
     private static final int EXECUTOR_THREAD_POOL_CORE_SIZE = Integer.parseInt(Config.getConfig().getString(
@@ -38,11 +42,17 @@ public class ExecutorServiceProviderFactory {
     private static final int BACKGROUND_EXECUTOR_THREAD_POOL_SIZE = Integer.parseInt(Config.getConfig().getString(
             "background.executor.thread.pool.size"));
 
+    private static final String EXECUTOR_PROVIDER_MODE = Config.getConfig().getStringOrDefault(
+            "executor.provider.mode", PLATFORM_MODE);
+    private static final int INBOUND_EXECUTOR_MAX_CONCURRENCY = Config.getConfig().getIntOrDefault(
+            "inbound.executor.max.concurrency", 0);
+
     private static final Supplier<ExecutorServiceProvider> DEFAULT =
-            () -> new DefaultExecutorServiceProvider(
+            () -> create(EXECUTOR_PROVIDER_MODE,
                     EXECUTOR_THREAD_POOL_CORE_SIZE,
                     EXECUTOR_THREAD_POOL_SIZE,
-                    BACKGROUND_EXECUTOR_THREAD_POOL_SIZE);
+                    BACKGROUND_EXECUTOR_THREAD_POOL_SIZE,
+                    INBOUND_EXECUTOR_MAX_CONCURRENCY);
 
     private static volatile ExecutorServiceProvider INSTANCE;
 
@@ -56,6 +66,29 @@ public class ExecutorServiceProviderFactory {
         return INSTANCE;
     }
 
+    /**
+     * Create executor service provider of the mode given.
+     *
+     * @param mode                             'virtual' - virtual threads with concurrency limits,
+     *                                         otherwise - pools of platform threads (default)
+     * @param executorThreadPoolCoreSize       core size of the regular pool (platform mode only)
+     * @param executorThreadPoolSize           max size of the regular pool / max concurrency of regular tasks
+     * @param backgroundExecutorThreadPoolSize size of the background pool / max concurrency of background tasks
+     * @param inboundMaxConcurrency            max concurrency of inbound tasks (virtual mode only); 0 - no limit
+     * @return new executor service provider
+     */
+    public static ExecutorServiceProvider create(String mode,
+                                                 int executorThreadPoolCoreSize,
+                                                 int executorThreadPoolSize,
+                                                 int backgroundExecutorThreadPoolSize,
+                                                 int inboundMaxConcurrency) {
+        return VIRTUAL_MODE.equalsIgnoreCase(mode)
+                ? new VirtualThreadExecutorServiceProvider(executorThreadPoolSize, backgroundExecutorThreadPoolSize,
+                inboundMaxConcurrency)
+                : new DefaultExecutorServiceProvider(executorThreadPoolCoreSize, executorThreadPoolSize,
+                backgroundExecutorThreadPoolSize);
+    }
+
     public static void init(Supplier<ExecutorServiceProvider> instance) {
         if (INSTANCE == null) {
             synchronized (ExecutorServiceProviderFactory.class) {
@@ -0,0 +1,134 @@
+/*
+ * # Copyright 2024-2026 NetCracker Technology Corporation
+ * #
+ * # Licensed under the Apache License, Version 2.0 (the "License");
+ * # you may not use this file except in compliance with the License.
+ * # You may obtain a copy of the License at
+ * #
+ * #      http://www.apache.org/licenses/LICENSE-2.0
+ * #
+ * # Unless required by applicable law or agreed to in writing, software
+ * # distributed under the License is distributed on an "AS IS" BASIS,
+ * # WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * # See the License for the specific language governing permissions and
+ * # limitations under the License.
+ *
+ */
+
+package org.qubership.automation.itf.core.execution;
+
+import java.util.List;
+import java.util.concurrent.AbstractExecutorService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Executor which starts a new (virtual) thread per task and limits the number of tasks running concurrently.
+ * A task waits for a permit in its own thread, so submitting never blocks and tasks aren't rejected.
+ */
+public class SemaphoreLimitedExecutorService extends AbstractExecutorService {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(SemaphoreLimitedExecutorService.class);
+
+    private final ExecutorService delegate;
+    private final Semaphore permits;
+    private final int maxConcurrency;
+    private final AtomicInteger activeCount = new AtomicInteger();
+    private final AtomicInteger largestActiveCount = new AtomicInteger();
+
+    /**
+     * Constructor.
+     *
+     * @param threadFactory  factory of threads (one thread per task)
+     * @param maxConcurrency max number of tasks running concurrently; 0 or negative value means no limit
+     */
+    public SemaphoreLimitedExecutorService(ThreadFactory threadFactory, int maxConcurrency) {
+        this.delegate = Executors.newThreadPerTaskExecutor(threadFactory);
+        this.maxConcurrency = maxConcurrency > 0 ? maxConcurrency : Integer.MAX_VALUE;
+        this.permits = maxConcurrency > 0 ? new Semaphore(maxConcurrency, true) : null;
+    }
+
+    @Override
+    public void execute(Runnable command) {
+        final long startTime = System.currentTimeMillis();
+        delegate.execute(() -> {
+            if (permits != null) {
+                try {
+                    permits.acquire();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    LOGGER.warn("Task is not executed: interrupted while waiting for a permit");
+                    return;
+                }
+                warnLongDuration(startTime);
+            }
+            largestActiveCount.accumulateAndGet(activeCount.incrementAndGet(), Math::max);
+            try {
+                command.run();
+            } finally {
+                activeCount.decrementAndGet();
+                if (permits != null) {
+                    permits.release();
+                }
+            }
+        });
+    }
+
+    public int getActiveCount() {
+        return activeCount.get();
+    }
+
+    public int getLargestActiveCount() {
+        return largestActiveCount.get();
+    }
+
+    public int getMaxConcurrency() {
+        return maxConcurrency;
+    }
+
+    /**
+     * Number of tasks waiting for a permit.
+     */
+    public int getWaitingCount() {
+        return permits == null ? 0 : permits.getQueueLength();
+    }
+
+    @Override
+    public void shutdown() {
+        delegate.shutdown();
+    }
+
+    @Override
+    public List<Runnable> shutdownNow() {
+        return delegate.shutdownNow();
+    }
+
+    @Override
+    public boolean isShutdown() {
+        return delegate.isShutdown();
+    }
+
+    @Override
+    public boolean isTerminated() {
+        return delegate.isTerminated();
+    }
+
+    @Override
+    public boolean awaitTermination(long timeout, TimeUnit unit) throws InterruptedException {
+        return delegate.awaitTermination(timeout, unit);
+    }
+
+    private void warnLongDuration(long startTime) {
+        final long waitDuration = System.currentTimeMillis() - startTime;
+        if (waitDuration >= 1000L) {
+            LOGGER.warn("Task awaited for a permit: {} (msecs)", waitDuration);
+        }
+    }
+}
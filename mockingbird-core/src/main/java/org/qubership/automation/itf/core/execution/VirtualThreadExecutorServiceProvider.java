@@ -0,0 +1,82 @@
+/*
+ * # Copyright 2024-2026 NetCracker Technology Corporation
+ * #
+ * # Licensed under the Apache License, Version 2.0 (the "License");
+ * # you may not use this file except in compliance with the License.
+ * # You may obtain a copy of the License at
+ * #
+ * #      http://www.apache.org/licenses/LICENSE-2.0
+ * #
+ * # Unless required by applicable law or agreed to in writing, software
+ * # distributed under the License is distributed on an "AS IS" BASIS,
+ * # WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * # See the License for the specific language governing permissions and
+ * # limitations under the License.
+ *
+ */
+
+package org.qubership.automation.itf.core.execution;
+
+import java.util.concurrent.ExecutorService;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Executor service provider backed by virtual threads.
+ * Tasks are mostly blocked on Hazelcast, JDBC, JMS or outbound transports, so a virtual thread per task
+ * is used instead of pools of platform threads. The number of concurrently running tasks is limited
+ * per pool by semaphores (regular and background pools have the same limits as platform pools by default).
+ */
+public class VirtualThreadExecutorServiceProvider implements ExecutorServiceProvider {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(VirtualThreadExecutorServiceProvider.class);
+    private static final Thread.UncaughtExceptionHandler HANDLER = (t, e) -> LOGGER.error("Uncaught exception in "
+            + "thread {}", t.getName(), e);
+
+    private final SemaphoreLimitedExecutorService backgroundPool;
+    private final SemaphoreLimitedExecutorService regularPool;
+    private final SemaphoreLimitedExecutorService inboundPool;
+
+    /**
+     * Constructor.
+     *
+     * @param regularMaxConcurrency    max number of regular tasks running concurrently
+     * @param backgroundMaxConcurrency max number of background tasks running concurrently
+     * @param inboundMaxConcurrency    max number of inbound tasks running concurrently; 0 means no limit
+     */
+    public VirtualThreadExecutorServiceProvider(int regularMaxConcurrency,
+                                                int backgroundMaxConcurrency,
+                                                int inboundMaxConcurrency) {
+        regularPool = new SemaphoreLimitedExecutorService(
+                Thread.ofVirtual().name("rpt-v-", 0).uncaughtExceptionHandler(HANDLER).factory(),
+                regularMaxConcurrency);
+        backgroundPool = new SemaphoreLimitedExecutorService(
+                Thread.ofVirtual().name("bpt-v-", 0).uncaughtExceptionHandler(HANDLER).factory(),
+                backgroundMaxConcurrency);
+        inboundPool = new SemaphoreLimitedExecutorService(
+                Thread.ofVirtual().name("ipt-v-", 0).uncaughtExceptionHandler(HANDLER).factory(),
+                inboundMaxConcurrency);
+        LOGGER.info("Virtual thread executors are created; max concurrency: regular {}, background {}, inbound {}",
+                regularPool.getMaxConcurrency(), backgroundPool.getMaxConcurrency(), inboundPool.getMaxConcurrency());
+    }
+
+    public ExecutorService requestForBackgroundJob() {
+        return backgroundPool;
+    }
+
+    public ExecutorService requestForRegular() {
+        return regularPool;
+    }
+
+    public ExecutorService requestForInboundProcessing() {
+        return inboundPool;
+    }
+
+    @Override
+    public void shutdown() {
+        backgroundPool.shutdownNow();
+        regularPool.shutdownNow();
+        inboundPool.shutdownNow();
+    }
+}
@@ -0,0 +1,91 @@
+/*
+ * # Copyright 2024-2026 NetCracker Technology Corporation
+ * #
+ * # Licensed under the Apache License, Version 2.0 (the "License");
+ * # you may not use this file except in compliance with the License.
+ * # You may obtain a copy of the License at
+ * #
+ * #      http://www.apache.org/licenses/LICENSE-2.0
+ * #
+ * # Unless required by applicable law or agreed to in writing, software
+ * # distributed under the License is distributed on an "AS IS" BASIS,
+ * # WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * # See the License for the specific language governing permissions and
+ * # limitations under the License.
+ *
+ */
+
+package org.qubership.automation.itf.core.instance.chain;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.qubership.automation.itf.core.model.jpa.system.System;
+import org.qubership.automation.itf.core.model.jpa.system.operation.Operation;
+
+import com.google.common.base.Strings;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Incoming context key definition of an operation, resolved once: the operation's own definition
+ * or, if it's empty, the definition of its system.
+ * Also splits evaluated multi-key values by the key separator without regular expressions.
+ */
+@Getter
+@RequiredArgsConstructor
+public class ContextKeyDefinition {
+
+    /**
+     * Separator of keys in the evaluated value of a multi-key definition.
+     */
+    public static final String KEY_SEPARATOR = "(+key)\n";
+    private static final String[] NO_KEYS = new String[0];
+
+    private final String definition;
+    private final boolean definedOnOperation;
+
+    /**
+     * Resolve incoming context key definition of the operation.
+     *
+     * @param operation operation
+     * @return resolved definition, or null if neither the operation nor its system has a definition
+     */
+    public static ContextKeyDefinition resolve(Operation operation) {
+        String definition = operation.getIncomingContextKeyDefinition();
+        if (!Strings.isNullOrEmpty(definition)) {
+            return new ContextKeyDefinition(definition, true);
+        }
+        System system = operation.getParent();
+        definition = system == null ? null : system.getIncomingContextKeyDefinition();
+        return Strings.isNullOrEmpty(definition) ? null : new ContextKeyDefinition(definition, false);
+    }
+
+    /**
+     * Split evaluated context key into keys.
+     * The result is the same as of contextKey.split("\\(\\+key\\)\\n"): empty keys between separators are kept,
+     * trailing empty keys are removed.
+     *
+     * @param contextKey evaluated context key
+     * @return keys
+     */
+    public static String[] splitKeys(String contextKey) {
+        int separatorIndex = contextKey.indexOf(KEY_SEPARATOR);
+        if (separatorIndex < 0) {
+            return new String[]{contextKey};
+        }
+        List<String> keys = new ArrayList<>();
+        int start = 0;
+        while (separatorIndex >= 0) {
+            keys.add(contextKey.substring(start, separatorIndex));
+            start = separatorIndex + KEY_SEPARATOR.length();
+            separatorIndex = contextKey.indexOf(KEY_SEPARATOR, start);
+        }
+        keys.add(contextKey.substring(start));
+        int size = keys.size();
+        while (size > 0 && keys.get(size - 1).isEmpty()) {
+            size--;
+        }
+        return size == 0 ? NO_KEYS : keys.subList(0, size).toArray(NO_KEYS);
+    }
+}
@@ -0,0 +1,221 @@
+/*
+ * # Copyright 2024-2026 NetCracker Technology Corporation
+ * #
+ * # Licensed under the Apache License, Version 2.0 (the "License");
+ * # you may not use this file except in compliance with the License.
+ * # You may obtain a copy of the License at
+ * #
+ * #      http://www.apache.org/licenses/LICENSE-2.0
+ * #
+ * # Unless required by applicable law or agreed to in writing, software
+ * # distributed under the License is distributed on an "AS IS" BASIS,
+ * # WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * # See the License for the specific language governing permissions and
+ * # limitations under the License.
+ *
+ */
+
+package org.qubership.automation.itf.core.instance.chain;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.qubership.automation.itf.core.hibernate.spring.managers.executor.OperationEventTriggerObjectManager;
+import org.qubership.automation.itf.core.model.condition.parameter.ConditionParameter;
+import org.qubership.automation.itf.core.model.jpa.message.parser.ParsingRule;
+import org.qubership.automation.itf.core.model.jpa.system.operation.Operation;
+import org.qubership.automation.itf.core.model.jpa.system.stub.EventTrigger;
+import org.qubership.automation.itf.core.model.jpa.system.stub.OperationEventTrigger;
+import org.qubership.automation.itf.core.model.jpa.system.stub.Situation;
+import org.qubership.automation.itf.core.util.config.Config;
+import org.qubership.automation.itf.core.util.constants.Condition;
+import org.qubership.automation.itf.core.util.constants.Etc;
+import org.qubership.automation.itf.core.util.manager.CoreObjectManager;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Inbound routing data compiled per operation: operation parsing rules not overridden by situations,
+ * active operation event triggers with their conditions and incoming context key definition.
+ * Without it, each incoming stub message walks all situations of the operation
+ * and reads active event triggers from the database.
+ * Snapshots are immutable and are replaced as a whole. All of them are invalidated
+ * when trigger states or context key definitions are changed; other configuration changes are picked up
+ * after inbound.routing.cache.ttl.seconds. 0 turns the cache off.
+ * Snapshots keep operation parsing rules as ids (rules are taken from the operation of the current session)
+ * and trigger conditions as immutable copies of their values. Triggered situations are kept as ids
+ * and are taken from the current session, so no entity is shared between sessions and threads.
+ */
+@Slf4j
+public class InboundRoutingCache {
+
+    private static final int TTL_SECONDS = Config.getConfig()
+            .getIntOrDefault("inbound.routing.cache.ttl.seconds", 30);
+    private static final InboundRoutingCache INSTANCE = new InboundRoutingCache(TTL_SECONDS,
+            operation -> CoreObjectManager.getInstance()
+                    .getSpecialManager(OperationEventTrigger.class, OperationEventTriggerObjectManager.class)
+                    .getAllActive(operation));
+
+    private final Cache<Object, OperationRouting> routings;
+    private final Function<Operation, List<? extends EventTrigger>> activeTriggersLoader;
+
+    InboundRoutingCache(int ttlSeconds, Function<Operation, List<? extends EventTrigger>> activeTriggersLoader) {
+        this.routings = ttlSeconds > 0
+                ? CacheBuilder.newBuilder().expireAfterWrite(ttlSeconds, TimeUnit.SECONDS).build()
+                : null;
+        this.activeTriggersLoader = activeTriggersLoader;
+    }
+
+    public static InboundRoutingCache getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Get compiled routing of the operation; it's compiled if absent or expired.
+     *
+     * @param operation operation
+     * @return routing snapshot
+     */
+    public OperationRouting get(Operation operation) {
+        if (routings == null) {
+            return compile(operation);
+        }
+        try {
+            return routings.get(operation.getID(), () -> compile(operation));
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Failed to compile inbound routing of operation " + operation.getID(),
+                    e.getCause());
+        }
+    }
+
+    /**
+     * Drop all snapshots; they are compiled again on the next incoming messages.
+     */
+    public void invalidateAll() {
+        if (routings != null) {
+            routings.invalidateAll();
+        }
+    }
+
+    public long size() {
+        return routings == null ? 0 : routings.size();
+    }
+
+    private OperationRouting compile(Operation operation) {
+        log.debug("Compiling inbound routing of operation {}", operation.getName());
+        Set<Object> parsingRuleIds = new HashSet<>();
+        Set<ParsingRule> operationParsingRules = operation.returnParsingRules();
+        if (!operationParsingRules.isEmpty()) {
+            Set<ParsingRule> situationsParsingRules = new HashSet<>();
+            for (Situation situation : operation.getSituations()) {
+                situationsParsingRules.addAll(situation.getParsingRules());
+            }
+            for (ParsingRule operationParsingRule : operationParsingRules) {
+                if (!situationsParsingRules.contains(operationParsingRule)) {
+                    parsingRuleIds.add(operationParsingRule.getID());
+                }
+            }
+        }
+        List<RoutingTrigger> triggers = new ArrayList<>();
+        for (EventTrigger eventTrigger : activeTriggersLoader.apply(operation)) {
+            List<ConditionParameter> conditionParameters = eventTrigger.getConditionParameters();
+            triggers.add(new RoutingTrigger(eventTrigger.getParent().getID(),
+                    conditionParameters == null || conditionParameters.isEmpty()
+                            ? Collections.emptyList()
+                            : conditionParameters.stream().map(RoutingCondition::new).toList()));
+        }
+        return new OperationRouting(Collections.unmodifiableSet(parsingRuleIds),
+                Collections.unmodifiableList(triggers), ContextKeyDefinition.resolve(operation));
+    }
+
+    @Getter
+    @RequiredArgsConstructor
+    public static class OperationRouting {
+
+        private final Set<Object> parsingRuleIds;
+        private final List<RoutingTrigger> triggers;
+        private final ContextKeyDefinition contextKeyDefinition; // null if no definition
+
+        /**
+         * Select operation parsing rules to be applied to incoming messages.
+         *
+         * @param operation the same operation, taken from the current session
+         * @return parsing rules not overridden by situations
+         */
+        public Set<ParsingRule> filterParsingRules(Operation operation) {
+            if (parsingRuleIds.isEmpty()) {
+                return new HashSet<>();
+            }
+            return operation.returnParsingRules().stream()
+                    .filter(parsingRule -> parsingRuleIds.contains(parsingRule.getID()))
+                    .collect(Collectors.toSet());
+        }
+    }
+
+    /**
+     * Active operation event trigger: situation id and trigger conditions (empty means 'always').
+     */
+    @Getter
+    @RequiredArgsConstructor
+    public static class RoutingTrigger {
+
+        private final Object situationId;
+        private final List<RoutingCondition> conditions;
+
+        /**
+         * Build condition parameters to be checked against an incoming message.
+         * New parameters are built on each call, so cached values are never shared with the caller.
+         *
+         * @return condition parameters, empty if the trigger has no conditions
+         */
+        public List<ConditionParameter> getConditionParameters() {
+            List<ConditionParameter> conditionParameters = new ArrayList<>(conditions.size());
+            for (RoutingCondition condition : conditions) {
+                conditionParameters.add(condition.toConditionParameter());
+            }
+            return conditionParameters;
+        }
+    }
+
+    /**
+     * Immutable copy of trigger condition values.
+     */
+    @Getter
+    public static class RoutingCondition {
+
+        private final String name;
+        private final Condition condition;
+        private final String value;
+        private final Etc etc;
+        private final int orderId;
+
+        RoutingCondition(ConditionParameter conditionParameter) {
+            this.name = conditionParameter.getName();
+            this.condition = conditionParameter.getCondition();
+            this.value = conditionParameter.getValue();
+            this.etc = conditionParameter.getEtc();
+            this.orderId = conditionParameter.getOrderId();
+        }
+
+        ConditionParameter toConditionParameter() {
+            ConditionParameter conditionParameter = new ConditionParameter();
+            conditionParameter.setName(name);
+            conditionParameter.setCondition(condition);
+            conditionParameter.setValue(value);
+            conditionParameter.setEtc(etc);
+            conditionParameter.setOrderId(orderId);
+            return conditionParameter;
+        }
+    }
+}
@@ -26,11 +26,12 @@ import java.util.Set;
 import java.util.UUID;
 
 import org.apache.commons.lang3.StringUtils;
-import org.qubership.automation.itf.core.hibernate.spring.managers.executor.OperationEventTriggerObjectManager;
+import org.qubership.automation.itf.core.instance.chain.InboundRoutingCache.RoutingTrigger;
 import org.qubership.automation.itf.core.message.parser.Parser;
+import org.qubership.automation.itf.core.metric.StubStageTimer;
+import org.qubership.automation.itf.core.metric.StubStageTimer.Stage;
 import org.qubership.automation.itf.core.model.common.Storable;
 import org.qubership.automation.itf.core.model.condition.ConditionsHelper;
-import org.qubership.automation.itf.core.model.condition.parameter.ConditionParameter;
 import org.qubership.automation.itf.core.model.event.SituationEvent;
 import org.qubership.automation.itf.core.model.event.StepEvent;
 import org.qubership.automation.itf.core.model.jpa.context.InstanceContext;
@@ -46,8 +47,6 @@ import org.qubership.automation.itf.core.model.jpa.step.IntegrationStep;
 import org.qubership.automation.itf.core.model.jpa.step.Step;
 import org.qubership.automation.itf.core.model.jpa.system.System;
 import org.qubership.automation.itf.core.model.jpa.system.operation.Operation;
-import org.qubership.automation.itf.core.model.jpa.system.stub.EventTrigger;
-import org.qubership.automation.itf.core.model.jpa.system.stub.OperationEventTrigger;
 import org.qubership.automation.itf.core.model.jpa.system.stub.Situation;
 import org.qubership.automation.itf.core.model.jpa.transport.TransportConfiguration;
 import org.qubership.automation.itf.core.util.constants.Mep;
@@ -65,7 +64,6 @@ import org.qubership.automation.itf.executor.service.ExecutionServices;
 import org.springframework.stereotype.Component;
 
 import com.google.common.base.Strings;
-import com.google.common.collect.Sets;
 import jakarta.annotation.Nonnull;
 import jakarta.annotation.Nullable;
 import lombok.RequiredArgsConstructor;
@@ -132,15 +130,17 @@ public class IncomingHelper {
                                 @Nullable Operation operation,
                                 boolean throwKeyDefinitionException) throws KeyDefinitionException {
         log.debug("Define context key");
-        Storable parent = null;
-        String contextDefinition = null;
+        Storable parent = system;
+        String contextDefinition;
         if (operation != null) {
-            contextDefinition = operation.getIncomingContextKeyDefinition();
-            parent = operation;
-        }
-        if (Strings.isNullOrEmpty(contextDefinition)) {
+            ContextKeyDefinition keyDefinition = InboundRoutingCache.getInstance().get(operation)
+                    .getContextKeyDefinition();
+            contextDefinition = keyDefinition == null ? null : keyDefinition.getDefinition();
+            if (keyDefinition != null && keyDefinition.isDefinedOnOperation()) {
+                parent = operation;
+            }
+        } else {
             contextDefinition = system.getIncomingContextKeyDefinition();
-            parent = system;
         }
         if (Strings.isNullOrEmpty(contextDefinition)) {
             if (throwKeyDefinitionException) {
@@ -174,7 +174,7 @@ public class IncomingHelper {
         if (StringUtils.isBlank(contextKey)) {
             return ExecutionServices.getTCContextService().createInMemory(projectId, projectUuid);
         }
-        String[] contextKeys = contextKey.split("\\(\\+key\\)\\n");
+        String[] contextKeys = ContextKeyDefinition.splitKeys(contextKey);
         BoundContextsCacheService boundContextsCacheService = CacheServices.getTcBindingCacheService();
         if (isStub != null && isStub.equals("Yes")) {
             return (contextKeys.length == 1)
@@ -197,17 +197,23 @@ public class IncomingHelper {
         System system = transport.getParent();
         Parser parser = new Parser();
         log.debug("Parse general message parameters to define operation");
+        StubStageTimer.start(Stage.PARSING);
         Map<String, MessageParameter> systemMessageParameters = parser.parse(projectId, message, context, system);
+        StubStageTimer.stop(Stage.PARSING);
         context.sp().putMessageParameters(systemMessageParameters.values());
         log.debug("Define operation using this parsed parameters");
         try {
+            StubStageTimer.start(Stage.OPERATION_DETECTION);
             Operation operation = system.defineOperation(context);
+            StubStageTimer.stop(Stage.OPERATION_DETECTION);
             log.info("Operation is: " + operation.getName());
             Set<ParsingRule> parsingRuleWithoutSituationParsingRules = getParsingRulesWithoutSituationParsingRules(
                     operation);
             log.debug("Parse concrete message parameters for specific operation");
+            StubStageTimer.start(Stage.PARSING);
             Map<String, MessageParameter> operationMessageParameters = parser
                     .parse(projectId, message, context, parsingRuleWithoutSituationParsingRules);
+            StubStageTimer.stop(Stage.PARSING);
             context.sp().putMessageParameters(operationMessageParameters.values());
             return operation;
         } catch (OperationDefinitionException e) {
@@ -297,26 +303,31 @@ public class IncomingHelper {
         eventBusProvider.post(new SituationEvent.Terminate(unexpectedSituation));
     }
 
+    /**
+     * Detect situation by conditions of active operation event triggers (see {@link InboundRoutingCache}).
+     * If no trigger is applicable, default inbound situation of the operation is returned.
+     */
     public Situation detectSituationFromOperation(Operation operation, JsonContext context) {
-        log.debug("getAllActive OperationEventTrigger request to DB - started");
-        List<? extends EventTrigger> operationEventTriggers = CoreObjectManager.getInstance()
-                .getSpecialManager(OperationEventTrigger.class, OperationEventTriggerObjectManager.class)
-                .getAllActive(operation);
-        log.debug("getAllActive OperationEventTrigger request to DB - finished");
-        for (EventTrigger eventTrigger : operationEventTriggers) {
-            List<ConditionParameter> conditionParameters = eventTrigger.getConditionParameters();
-            if (conditionParameters == null || conditionParameters.isEmpty()) {
-                log.info("Situation {}: conditions are empty; situation is to be executed",
-                        eventTrigger.getParent());
-                return (Situation) eventTrigger.getParent(); // this is default situation
+        for (RoutingTrigger trigger : InboundRoutingCache.getInstance().get(operation).getTriggers()) {
+            if (trigger.getConditions().isEmpty()) {
+                Situation situation = getSituation(trigger.getSituationId());
+                log.info("Situation {}: conditions are empty; situation is to be executed", situation);
+                return situation; // this is default situation
             }
-            if (ConditionsHelper.isApplicable(context, conditionParameters)) {
-                return (Situation) eventTrigger.getParent();
+            if (ConditionsHelper.isApplicable(context, trigger.getConditionParameters())) {
+                return getSituation(trigger.getSituationId());
             }
         }
         return operation.getDefaultIfInbound();
     }
 
+    /*  Situation is taken from the current session (a first-level cache hit after the first message),
+        so the caller gets an attached entity with its steps and parsing rules.
+     */
+    private Situation getSituation(Object situationId) {
+        return CoreObjectManager.managerFor(Situation.class).getById(situationId);
+    }
+
     /**
      * TODO Add JavaDoc.
      */
@@ -328,22 +339,10 @@ public class IncomingHelper {
     }
 
     /**
-     * TODO Add JavaDoc.
+     * Get operation parsing rules which are not parsing rules of its situations.
+     * The rules are selected using compiled routing of the operation (see {@link InboundRoutingCache}).
      */
     public Set<ParsingRule> getParsingRulesWithoutSituationParsingRules(Operation operation) {
-        Set<ParsingRule> result = Sets.newHashSet();
-        Set<ParsingRule> operationParsingRules = operation.returnParsingRules();
-        if (!operationParsingRules.isEmpty()) {
-            Set<ParsingRule> situationsParsingRules = Sets.newHashSet();
-            for (Situation situation : operation.getSituations()) {
-                situationsParsingRules.addAll(situation.getParsingRules());
-            }
-            for (ParsingRule operationParsingRule : operationParsingRules) {
-                if (!situationsParsingRules.contains(operationParsingRule)) {
-                    result.add(operationParsingRule);
-                }
-            }
-        }
-        return result;
+        return InboundRoutingCache.getInstance().get(operation).filterParsingRules(operation);
     }
 }
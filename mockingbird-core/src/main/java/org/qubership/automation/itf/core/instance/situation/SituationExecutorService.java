@@ -17,8 +17,6 @@
 
 package org.qubership.automation.itf.core.instance.situation;
 
-import static org.qubership.automation.itf.core.instance.situation.TCContextDiffCache.TC_CONTEXT_DIFF_CACHE;
-
 import java.math.BigInteger;
 import java.util.Date;
 import java.util.HashMap;
@@ -82,8 +80,6 @@ import org.qubership.automation.itf.executor.service.ProjectSettingsService;
 import org.slf4j.MDC;
 import org.springframework.stereotype.Service;
 
-import com.google.common.collect.MapDifference;
-import com.google.common.collect.Maps;
 import jakarta.annotation.Nonnull;
 import jakarta.annotation.Nullable;
 import lombok.RequiredArgsConstructor;
@@ -247,14 +243,14 @@ public class SituationExecutorService {
      *       - due to it, TC-context can be changed by other steps at the moment of the step reporting.
      *   Why flatten TC-contexts are compared instead of TC-contexts themselves?
      *       - Because TC-context groups are copied by reference, so difference is computed wrong.
+     *   The current context is not flattened here: it's walked once and compared with the start snapshot,
+     *       so only changed entries are allocated.
      *   Why a difference is computed in case StartedFrom.RAM2 only?
      *       - Because (currently) we should compute and report a difference only to RAM2
      * */
     private void computeContextDiff(Map<String, Object> leftFlatMap, TcContext currentContext, Object id) {
         if (StartedFrom.RAM2.equals(currentContext.getStartedFrom())) {
-            Map<String, Object> rightFlatMap = FlatMapUtil.flatten(currentContext);
-            MapDifference<String, Object> difference = Maps.difference(leftFlatMap, rightFlatMap);
-            TC_CONTEXT_DIFF_CACHE.put(id.toString(), difference);
+            TCContextDiffCache.put(id.toString(), TcContextDiff.compute(leftFlatMap, currentContext));
         }
     }
 
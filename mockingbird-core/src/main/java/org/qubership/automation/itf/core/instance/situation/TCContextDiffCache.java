@@ -18,13 +18,55 @@
 package org.qubership.automation.itf.core.instance.situation;
 
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.qubership.automation.itf.core.util.config.Config;
 
 import com.google.common.cache.Cache;
 import com.google.common.cache.CacheBuilder;
-import com.google.common.collect.MapDifference;
 
+/**
+ * TC-context differences computed for RAM2 reporting.
+ * The cache is bounded by the estimated memory size of differences (tc.context_diff_cache.max_size_mb),
+ * total estimated size is exposed as a metric.
+ */
 public class TCContextDiffCache {
 
-    public static final Cache<String, MapDifference<String, Object>> TC_CONTEXT_DIFF_CACHE = CacheBuilder.newBuilder()
-            .expireAfterWrite(10, TimeUnit.MINUTES).build();
+    private static final int TIMEOUT_MINUTES = Config.getConfig()
+            .getIntOrDefault("tc.context_diff_cache.timeout_minutes", 10);
+    private static final long MAX_WEIGHT = Config.getConfig()
+            .getIntOrDefault("tc.context_diff_cache.max_size_mb", 256) * 1024L * 1024L;
+    private static final AtomicLong ESTIMATED_SIZE = new AtomicLong();
+
+    private static final Cache<String, TcContextDiff> TC_CONTEXT_DIFF_CACHE = CacheBuilder.newBuilder()
+            .expireAfterWrite(TIMEOUT_MINUTES, TimeUnit.MINUTES)
+            .maximumWeight(MAX_WEIGHT)
+            .<String, TcContextDiff>weigher((key, diff) -> (int) Math.min(Integer.MAX_VALUE, diff.getEstimatedSize()))
+            .removalListener(notification -> ESTIMATED_SIZE.addAndGet(-notification.getValue().getEstimatedSize()))
+            .build();
+
+    public static void put(String id, TcContextDiff diff) {
+        ESTIMATED_SIZE.addAndGet(diff.getEstimatedSize());
+        TC_CONTEXT_DIFF_CACHE.put(id, diff);
+    }
+
+    public static TcContextDiff get(String id) {
+        return TC_CONTEXT_DIFF_CACHE.getIfPresent(id);
+    }
+
+    public static void invalidate(String id) {
+        TC_CONTEXT_DIFF_CACHE.invalidate(id);
+    }
+
+    public static void cleanUp() {
+        TC_CONTEXT_DIFF_CACHE.cleanUp();
+    }
+
+    public static long estimatedSize() {
+        return ESTIMATED_SIZE.get();
+    }
+
+    public static long size() {
+        return TC_CONTEXT_DIFF_CACHE.size();
+    }
 }
@@ -0,0 +1,145 @@
+/*
+ * # Copyright 2024-2026 NetCracker Technology Corporation
+ * #
+ * # Licensed under the Apache License, Version 2.0 (the "License");
+ * # you may not use this file except in compliance with the License.
+ * # You may obtain a copy of the License at
+ * #
+ * #      http://www.apache.org/licenses/LICENSE-2.0
+ * #
+ * # Unless required by applicable law or agreed to in writing, software
+ * # distributed under the License is distributed on an "AS IS" BASIS,
+ * # WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * # See the License for the specific language governing permissions and
+ * # limitations under the License.
+ *
+ */
+
+package org.qubership.automation.itf.core.instance.situation;
+
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+import org.qubership.automation.itf.core.util.FlatMapUtil;
+
+/**
+ * Difference between flattened TC-context at the start of situation and the current TC-context.
+ * It's computed in a single walk through the current context:
+ * only added, removed and changed entries are stored; entries in common are read from the start snapshot.
+ */
+public class TcContextDiff {
+
+    private static final int ENTRY_OVERHEAD = 48;
+    private static final int VALUE_OVERHEAD = 16;
+
+    private final Map<String, Object> left;
+    private final Map<String, Object> onlyOnLeft;
+    private final Map<String, Object> onlyOnRight;
+    private final Map<String, Object[]> differing;
+    private final long estimatedSize;
+
+    private TcContextDiff(Map<String, Object> left, Map<String, Object> onlyOnLeft, Map<String, Object> onlyOnRight,
+                          Map<String, Object[]> differing, long estimatedSize) {
+        this.left = left;
+        this.onlyOnLeft = onlyOnLeft;
+        this.onlyOnRight = onlyOnRight;
+        this.differing = differing;
+        this.estimatedSize = estimatedSize;
+    }
+
+    /**
+     * Compute the difference.
+     *
+     * @param left    flattened context at the start of situation; it's retained by the diff, so must not be changed
+     * @param current current context
+     * @return difference
+     */
+    public static TcContextDiff compute(Map<String, Object> left, Map<String, Object> current) {
+        Map<String, Object> onlyOnRight = new LinkedHashMap<>();
+        Map<String, Object[]> differing = new LinkedHashMap<>();
+        int[] matched = new int[1];
+        long[] size = new long[1];
+        FlatMapUtil.forEachLeaf(current, (key, value) -> {
+            size[0] += estimateSize(key, value);
+            Object leftValue = left.get(key);
+            if (leftValue == null && !left.containsKey(key)) {
+                onlyOnRight.put(key, value);
+                return;
+            }
+            matched[0]++;
+            if (!Objects.equals(leftValue, value)) {
+                differing.put(key, new Object[]{leftValue, value});
+            }
+        });
+        Map<String, Object> onlyOnLeft = Collections.emptyMap();
+        if (matched[0] < left.size()) {
+            // Some keys are removed; it's rare, so the second walk is acceptable here
+            Set<String> currentKeys = new HashSet<>();
+            FlatMapUtil.forEachLeaf(current, (key, value) -> currentKeys.add(key));
+            onlyOnLeft = new LinkedHashMap<>();
+            for (Map.Entry<String, Object> entry : left.entrySet()) {
+                if (!currentKeys.contains(entry.getKey())) {
+                    onlyOnLeft.put(entry.getKey(), entry.getValue());
+                    size[0] += estimateSize(entry.getKey(), entry.getValue());
+                }
+            }
+        }
+        return new TcContextDiff(left, onlyOnLeft, onlyOnRight,
+                differing.isEmpty() ? Collections.emptyMap() : differing, size[0]);
+    }
+
+    /**
+     * Pass entries to the consumer in the order: removed, added, changed, not changed.
+     *
+     * @param consumer consumer of flat keys and old/new values (null for removed/added entries)
+     */
+    public void forEach(EntryConsumer consumer) {
+        onlyOnLeft.forEach((key, value) -> consumer.accept(key, value, null));
+        onlyOnRight.forEach((key, value) -> consumer.accept(key, null, value));
+        differing.forEach((key, values) -> consumer.accept(key, values[0], values[1]));
+        for (Map.Entry<String, Object> entry : left.entrySet()) {
+            if (!differing.containsKey(entry.getKey()) && !onlyOnLeft.containsKey(entry.getKey())) {
+                consumer.accept(entry.getKey(), entry.getValue(), entry.getValue());
+            }
+        }
+    }
+
+    public boolean areEqual() {
+        return onlyOnLeft.isEmpty() && onlyOnRight.isEmpty() && differing.isEmpty();
+    }
+
+    public Map<String, Object> entriesOnlyOnLeft() {
+        return Collections.unmodifiableMap(onlyOnLeft);
+    }
+
+    public Map<String, Object> entriesOnlyOnRight() {
+        return Collections.unmodifiableMap(onlyOnRight);
+    }
+
+    /**
+     * Approximate memory retained by the diff (including the start snapshot), in bytes.
+     */
+    public long getEstimatedSize() {
+        return estimatedSize;
+    }
+
+    private static long estimateSize(String key, Object value) {
+        long size = ENTRY_OVERHEAD + 2L * key.length();
+        if (value instanceof CharSequence charSequence) {
+            size += VALUE_OVERHEAD + 2L * charSequence.length();
+        } else if (value != null) {
+            size += VALUE_OVERHEAD;
+        }
+        return size;
+    }
+
+    @FunctionalInterface
+    public interface EntryConsumer {
+
+        void accept(String key, Object oldValue, Object newValue);
+    }
+}
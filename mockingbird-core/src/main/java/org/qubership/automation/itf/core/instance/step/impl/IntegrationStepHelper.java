@@ -40,6 +40,8 @@ import org.qubership.automation.itf.core.instance.chain.IncomingHelper;
 import org.qubership.automation.itf.core.instance.step.impl.chain.TemplateProcessor;
 import org.qubership.automation.itf.core.message.parser.ProducerMessageHelper;
 import org.qubership.automation.itf.core.metric.MetricsAggregateService;
+import org.qubership.automation.itf.core.metric.StubStageTimer;
+import org.qubership.automation.itf.core.metric.StubStageTimer.Stage;
 import org.qubership.automation.itf.core.model.common.Storable;
 import org.qubership.automation.itf.core.model.communication.message.TriggerExecutionMessage;
 import org.qubership.automation.itf.core.model.interceptor.Interceptor;
@@ -192,8 +194,10 @@ public class IntegrationStepHelper {
         TimeLogger.LOGGER.debug("Start for method: IntegrationStepHelper.sendSyncResponse");
         IntegrationStep integrationStep = (IntegrationStep) stepInstance.getStep();
         Operation operation = getAndCheckOperation(stepInstance, integrationStep);
+        StubStageTimer.start(Stage.TEMPLATE_RENDERING);
         Message message = ProducerMessageHelper.getInstance()
                 .produceMessage(integrationStep.returnStepTemplate(), stepInstance.getContext(), operation);
+        StubStageTimer.stop(Stage.TEMPLATE_RENDERING);
         message.setFailedMessage(stepInstance.getErrorMessage());
         if (stepInstance.getContext().getConnectionProperties() != null) {
             message.fillConnectionProperties(stepInstance.getContext().getConnectionProperties());
@@ -201,11 +205,13 @@ public class IntegrationStepHelper {
         message.fillHeaders(message.getConnectionProperties(), "headers");
         stepInstance.setOutgoingMessage(message);
         String projectUuid = stepInstance.getContext().getProjectUuid().toString();
+        StubStageTimer.start(Stage.RESPONSE_SEND);
         executorToMessageBrokerSender.sendMessageToExecutorStubsOutgoingResponseQueue(
                 new TriggerExecutionMessage(message,
                         (String) (stepInstance.getParent().getContext().getSessionId()),
                         (String) (stepInstance.getParent().getContext().getMessageBrokerSelectorValue())), projectUuid
         );
+        StubStageTimer.stop(Stage.RESPONSE_SEND);
         collectDurationMetric(stepInstance.getContext().getTC(), stepInstance.getContext().getProjectUuid());
         TimeLogger.LOGGER.debug("End for method: IntegrationStepHelper.sendSyncResponse");
     }
@@ -25,11 +25,13 @@ import java.util.Map;
 import java.util.Set;
 import java.util.UUID;
 import java.util.concurrent.Callable;
+import java.util.concurrent.TimeUnit;
 
 import org.apache.commons.lang3.StringUtils;
 import org.qubership.atp.integration.configuration.mdc.MdcUtils;
 import org.qubership.atp.multitenancy.core.context.TenantContext;
 import org.qubership.automation.itf.core.execution.ExecutorServiceProviderFactory;
+import org.qubership.automation.itf.core.instance.testcase.execution.holders.ContextCompletions;
 import org.qubership.automation.itf.core.instance.testcase.execution.subscriber.NextCallChainSubscriber;
 import org.qubership.automation.itf.core.metric.MetricsAggregateService;
 import org.qubership.automation.itf.core.model.dataset.IDataSet;
@@ -323,7 +325,7 @@ public class CallChainExecutorService {
                     t);
         } finally {
             if (!tcContext.isNotified()) {
-                ExecutionServices.getTCContextService().notifyATP(tcContext);
+                ExecutionServices.getTCContextService().notifyCompletion(tcContext);
             }
             Thread.currentThread().setName(oldThreadName);
             Duration durationBetween = Duration.between(started, OffsetDateTime.now());
@@ -356,15 +358,29 @@ public class CallChainExecutorService {
     }
 
     private void waitStatusNotInProgress(CallChainInstance instance) {
+        // Maximum wait is 50 seconds. This method is invoked for SVT only.
+        long deadline = System.currentTimeMillis() + 50000L;
+        long backoff = 10L;
         Status status = instance.getStatus();
-        int i = 0; // Maximum wait is 50 seconds. This method is invoked for SVT only.
-        while ((Status.IN_PROGRESS.equals(status) || Status.NOT_STARTED.equals(status)) && i < 50) {
+        while (Status.IN_PROGRESS.equals(status) || Status.NOT_STARTED.equals(status)) {
+            long remaining = deadline - System.currentTimeMillis();
+            if (remaining <= 0) {
+                return;
+            }
             try {
-                Thread.sleep(1000);
+                // Instance status is re-checked at least every second in case the completion is not signalled.
+                Status contextStatus = ContextCompletions.getInstance().await(instance.getContext().tc(),
+                        Math.min(remaining, 1000L), TimeUnit.MILLISECONDS);
+                if (contextStatus != null) {
+                    // The context is finished, but the instance status isn't set yet: await returns at once now
+                    Thread.sleep(Math.min(backoff, Math.max(1L, deadline - System.currentTimeMillis())));
+                    backoff = Math.min(backoff * 2, 1000L);
+                }
             } catch (InterruptedException e) {
                 log.error("Callchain startup waiting is interrupted", e);
+                Thread.currentThread().interrupt();
+                return;
             }
-            i++;
             status = instance.getStatus();
         }
     }
@@ -0,0 +1,109 @@
+/*
+ * # Copyright 2024-2026 NetCracker Technology Corporation
+ * #
+ * # Licensed under the Apache License, Version 2.0 (the "License");
+ * # you may not use this file except in compliance with the License.
+ * # You may obtain a copy of the License at
+ * #
+ * #      http://www.apache.org/licenses/LICENSE-2.0
+ * #
+ * # Unless required by applicable law or agreed to in writing, software
+ * # distributed under the License is distributed on an "AS IS" BASIS,
+ * # WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * # See the License for the specific language governing permissions and
+ * # limitations under the License.
+ *
+ */
+
+package org.qubership.automation.itf.core.instance.testcase.execution.holders;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import org.qubership.automation.itf.core.model.jpa.context.TcContext;
+import org.qubership.automation.itf.core.util.config.Config;
+import org.qubership.automation.itf.core.util.constants.Status;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+
+/**
+ * Completion futures of TC contexts, keyed by tc context id.
+ * A future is completed with the final status of the context when it's finished, failed or stopped
+ * (see TCContextService.notifyCompletion), so waiters neither poll the context status nor block on monitors.
+ * Contexts completed on another pod are completed here via tc-context operations topic.
+ * Futures which are never completed (context is lost) are removed after tc.context.completions.ttl.minutes.
+ */
+public class ContextCompletions {
+
+    private static final int TTL_MINUTES = Config.getConfig()
+            .getIntOrDefault("tc.context.completions.ttl.minutes", 25);
+    private static final ContextCompletions INSTANCE = new ContextCompletions(TTL_MINUTES);
+
+    private final Cache<Object, CompletableFuture<Status>> futures;
+
+    ContextCompletions(int ttlMinutes) {
+        futures = CacheBuilder.newBuilder()
+                .expireAfterAccess(ttlMinutes, TimeUnit.MINUTES)
+                .build();
+    }
+
+    public static ContextCompletions getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Get completion future of the context; it's created if absent.
+     *
+     * @param tcId tc context id
+     * @return future completed with the final status of the context
+     */
+    public CompletableFuture<Status> get(Object tcId) {
+        return futures.asMap().computeIfAbsent(tcId, id -> new CompletableFuture<>());
+    }
+
+    /**
+     * Complete waiting for the context.
+     *
+     * @param tcId   tc context id
+     * @param status final status of the context
+     */
+    public void complete(Object tcId, Status status) {
+        CompletableFuture<Status> future = futures.asMap().remove(tcId);
+        if (future != null) {
+            future.complete(status);
+        }
+    }
+
+    /**
+     * Wait for completion of the context.
+     *
+     * @param tcContext tc context
+     * @param timeout   max time to wait
+     * @param unit      time unit of the timeout
+     * @return final status of the context, or null if the context isn't completed in time
+     * @throws InterruptedException if the current thread is interrupted while waiting
+     */
+    public Status await(TcContext tcContext, long timeout, TimeUnit unit) throws InterruptedException {
+        CompletableFuture<Status> future = get(tcContext.getID());
+        if (tcContext.isFinished()) {
+            // Completed before the future is registered
+            complete(tcContext.getID(), tcContext.getStatus());
+            return tcContext.getStatus();
+        }
+        try {
+            return future.get(timeout, unit);
+        } catch (TimeoutException e) {
+            return null;
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Waiting for completion of context " + tcContext.getID() + " failed",
+                    e.getCause());
+        }
+    }
+
+    public long size() {
+        return futures.size();
+    }
+}
@@ -0,0 +1,190 @@
+/*
+ * # Copyright 2024-2026 NetCracker Technology Corporation
+ * #
+ * # Licensed under the Apache License, Version 2.0 (the "License");
+ * # you may not use this file except in compliance with the License.
+ * # You may obtain a copy of the License at
+ * #
+ * #      http://www.apache.org/licenses/LICENSE-2.0
+ * #
+ * # Unless required by applicable law or agreed to in writing, software
+ * # distributed under the License is distributed on an "AS IS" BASIS,
+ * # WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * # See the License for the specific language governing permissions and
+ * # limitations under the License.
+ *
+ */
+
+package org.qubership.automation.itf.core.instance.testcase.execution.holders;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+import org.qubership.automation.itf.core.instance.testcase.execution.subscriber.NextCallChainSubscriber;
+import org.qubership.automation.itf.core.model.jpa.instance.SituationInstance;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Runtime state of TC contexts running on this pod (subscriber data, deferred situation instance,
+ * call chain subscribers), keyed by tc context id.
+ * State is removed when the context is finished or expired (see TCContextEntryExpiredListener);
+ * there is neither size nor access time limit, so state of a running context is never evicted.
+ * As a safety net, {@link #cleanUp(Predicate)} removes state of contexts which don't exist anymore
+ * (i.e. expired according to their time to live) and aren't running on this pod.
+ */
+@Slf4j
+public class ContextRuntimeRegistry {
+
+    /* State may be created a bit before the context is stored into the cluster */
+    private static final long ORPHAN_GRACE_MILLIS = TimeUnit.MINUTES.toMillis(5);
+    private static final ContextRuntimeRegistry INSTANCE = new ContextRuntimeRegistry(ORPHAN_GRACE_MILLIS);
+
+    private final AtomicLong leakedCount = new AtomicLong();
+    private final Map<Object, ContextRuntime> runtimes = new ConcurrentHashMap<>();
+    private final long orphanGraceMillis;
+
+    ContextRuntimeRegistry(long orphanGraceMillis) {
+        this.orphanGraceMillis = orphanGraceMillis;
+    }
+
+    public static ContextRuntimeRegistry getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Get a value from runtime state of the context.
+     *
+     * @return value or null if there is no state for the context
+     */
+    public <T> T get(Object tcId, Function<ContextRuntime, T> getter) {
+        ContextRuntime runtime = runtimes.get(tcId);
+        return runtime == null ? null : getter.apply(runtime);
+    }
+
+    /**
+     * Change runtime state of the context; the state is created if absent.
+     */
+    public void update(Object tcId, Consumer<ContextRuntime> updater) {
+        runtimes.compute(tcId, (id, runtime) -> {
+            ContextRuntime result = runtime == null ? new ContextRuntime() : runtime;
+            updater.accept(result);
+            result.lastUpdateTime = System.currentTimeMillis();
+            return result;
+        });
+    }
+
+    /**
+     * Change runtime state of the context if present; the state is removed if it becomes empty.
+     */
+    public void clear(Object tcId, Consumer<ContextRuntime> updater) {
+        runtimes.computeIfPresent(tcId, (id, runtime) -> {
+            updater.accept(runtime);
+            return runtime.isEmpty() ? null : runtime;
+        });
+    }
+
+    /**
+     * Remove all runtime state of the context.
+     */
+    public void remove(Object tcId) {
+        runtimes.remove(tcId);
+    }
+
+    /**
+     * Remove state of contexts which weren't finished or expired via this pod, but don't exist anymore.
+     *
+     * @param contextExists check if the context exists in the cluster or is running on this pod
+     */
+    public void cleanUp(Predicate<Object> contextExists) {
+        long orphanedBefore = System.currentTimeMillis() - orphanGraceMillis;
+        for (Map.Entry<Object, ContextRuntime> entry : runtimes.entrySet()) {
+            ContextRuntime runtime = entry.getValue();
+            if (runtime.lastUpdateTime < orphanedBefore && !contextExists.test(entry.getKey())
+                    && runtimes.remove(entry.getKey(), runtime)) {
+                leakedCount.incrementAndGet();
+                log.warn("Runtime state of tc context {} is removed without context finish, "
+                        + "the context doesn't exist anymore: {}", entry.getKey(), runtime);
+            }
+        }
+    }
+
+    public long size() {
+        return runtimes.size();
+    }
+
+    /**
+     * Count call chain subscribers of all contexts.
+     */
+    public long subscribersCount() {
+        return runtimes.values().stream().mapToLong(runtime -> runtime.subscribers.size()).sum();
+    }
+
+    /**
+     * Count of entries removed by clean up, i.e. without context finish or expiration processing.
+     */
+    public long leakedCount() {
+        return leakedCount.get();
+    }
+
+    /**
+     * Runtime state of one context. Changed only inside ContextRuntimeRegistry update/clear methods.
+     */
+    public static class ContextRuntime {
+
+        private volatile SubscriberData subscriberData;
+        private volatile SituationInstance deferredSituationInstance;
+        private final List<NextCallChainSubscriber> subscribers = new CopyOnWriteArrayList<>();
+        private volatile long lastUpdateTime = System.currentTimeMillis();
+
+        public SubscriberData getSubscriberData() {
+            return subscriberData;
+        }
+
+        public void setSubscriberData(SubscriberData subscriberData) {
+            this.subscriberData = subscriberData;
+        }
+
+        public SituationInstance getDeferredSituationInstance() {
+            return deferredSituationInstance;
+        }
+
+        public void setDeferredSituationInstance(SituationInstance deferredSituationInstance) {
+            this.deferredSituationInstance = deferredSituationInstance;
+        }
+
+        public List<NextCallChainSubscriber> getSubscribers() {
+            return subscribers;
+        }
+
+        /**
+         * Remove all subscribers.
+         *
+         * @return removed subscribers
+         */
+        public List<NextCallChainSubscriber> drainSubscribers() {
+            List<NextCallChainSubscriber> drained = new ArrayList<>(subscribers);
+            subscribers.clear();
+            return drained;
+        }
+
+        boolean isEmpty() {
+            return subscriberData == null && deferredSituationInstance == null && subscribers.isEmpty();
+        }
+
+        @Override
+        public String toString() {
+            return "ContextRuntime{subscriberData=" + (subscriberData == null ? null : subscriberData.getSubscriberId())
+                    + ", deferredSituationInstance=" + (deferredSituationInstance != null)
+                    + ", subscribers=" + subscribers.size() + "}";
+        }
+    }
+}
@@ -1,5 +1,5 @@
 /*
- * # Copyright 2024-2025 NetCracker Technology Corporation
+ * # Copyright 2024-2026 NetCracker Technology Corporation
  * #
  * # Licensed under the Apache License, Version 2.0 (the "License");
  * # you may not use this file except in compliance with the License.
@@ -17,16 +17,12 @@
 
 package org.qubership.automation.itf.core.instance.testcase.execution.holders;
 
-import java.util.Map;
-
 import org.qubership.automation.itf.core.model.jpa.instance.SituationInstance;
 
-import com.google.common.collect.Maps;
-
 public class DefferedSituationInstanceHolder {
 
     private static DefferedSituationInstanceHolder instance = new DefferedSituationInstanceHolder();
-    private Map<Object, SituationInstance> defferedSituationInstances = Maps.newHashMap();
+    private final ContextRuntimeRegistry registry = ContextRuntimeRegistry.getInstance();
 
     private DefferedSituationInstanceHolder() {
     }
@@ -36,14 +32,14 @@ public class DefferedSituationInstanceHolder {
     }
 
     public void add(Object id, SituationInstance situationInstance) {
-        defferedSituationInstances.put(id, situationInstance);
+        registry.update(id, runtime -> runtime.setDeferredSituationInstance(situationInstance));
     }
 
     public SituationInstance get(Object id) {
-        return defferedSituationInstances.get(id);
+        return registry.get(id, ContextRuntimeRegistry.ContextRuntime::getDeferredSituationInstance);
     }
 
     public void remove(Object id) {
-        defferedSituationInstances.remove(id);
+        registry.clear(id, runtime -> runtime.setDeferredSituationInstance(null));
     }
 }
@@ -1,5 +1,5 @@
 /*
- * # Copyright 2024-2025 NetCracker Technology Corporation
+ * # Copyright 2024-2026 NetCracker Technology Corporation
  * #
  * # Licensed under the Apache License, Version 2.0 (the "License");
  * # you may not use this file except in compliance with the License.
@@ -17,14 +17,10 @@
 
 package org.qubership.automation.itf.core.instance.testcase.execution.holders;
 
-import java.util.Map;
-
-import com.google.common.collect.Maps;
-
 public class NextCallChainEventSubscriberHolder {
 
     private static NextCallChainEventSubscriberHolder instance = new NextCallChainEventSubscriberHolder();
-    private Map<Object, SubscriberData> contextSubscriberHolder = Maps.newHashMap();
+    private final ContextRuntimeRegistry registry = ContextRuntimeRegistry.getInstance();
 
     private NextCallChainEventSubscriberHolder() {
     }
@@ -35,14 +31,14 @@ public class NextCallChainEventSubscriberHolder {
 
     public void add(Object tcId, String subscriberId, String parentSubscriberId, Boolean needToContinue) {
         SubscriberData data = new SubscriberData(subscriberId, parentSubscriberId, needToContinue);
-        contextSubscriberHolder.put(tcId, data);
+        registry.update(tcId, runtime -> runtime.setSubscriberData(data));
     }
 
     public void remove(Object tcId) {
-        contextSubscriberHolder.remove(tcId);
+        registry.clear(tcId, runtime -> runtime.setSubscriberData(null));
     }
 
     public SubscriberData getSubscriberData(Object tcId) {
-        return contextSubscriberHolder.get(tcId);
+        return registry.get(tcId, ContextRuntimeRegistry.ContextRuntime::getSubscriberData);
     }
 }
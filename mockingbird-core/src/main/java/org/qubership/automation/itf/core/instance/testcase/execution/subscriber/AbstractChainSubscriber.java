@@ -50,6 +50,26 @@ public abstract class AbstractChainSubscriber<T extends AbstractEvent> {
         }
     }
 
+    /**
+     * Deliver the event addressed to this subscriber (event id equals to the subscriber id).
+     * Events of types which aren't handled by the subscriber are ignored.
+     *
+     * @param event event to deliver
+     */
+    public abstract void deliver(AbstractEvent event);
+
+    /**
+     * Unregister the subscriber if it's expired.
+     * Used by keyed dispatch, where subscribers don't receive events addressed to other subscribers.
+     */
+    public void checkExpiration() {
+        try {
+            unregisterIfExpired();
+        } catch (Exception e) {
+            LoggerFactory.getLogger(getClass()).error("Failed checking expiration of subscriber {}", id, e);
+        }
+    }
+
     void sendFailEventToTheSubscriber(String subscriberId, Exception exception) {
         EventBusServiceProvider.getStaticReference().post(new NextCallChainEvent.Fail(subscriberId, exception));
     }
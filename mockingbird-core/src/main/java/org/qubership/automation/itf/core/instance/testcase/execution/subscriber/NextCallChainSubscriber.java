@@ -32,6 +32,7 @@ import org.qubership.automation.itf.core.instance.testcase.execution.holders.Def
 import org.qubership.automation.itf.core.instance.testcase.execution.holders.NextCallChainEventSubscriberHolder;
 import org.qubership.automation.itf.core.model.condition.ConditionsHelper;
 import org.qubership.automation.itf.core.model.condition.parameter.ConditionParameter;
+import org.qubership.automation.itf.core.model.event.AbstractEvent;
 import org.qubership.automation.itf.core.model.event.CallChainEvent;
 import org.qubership.automation.itf.core.model.event.NextCallChainEvent;
 import org.qubership.automation.itf.core.model.event.NextEmbeddedStepEvent;
@@ -87,6 +88,27 @@ public class NextCallChainSubscriber extends AbstractChainSubscriber<NextCallCha
         iterator = stepIterator;
     }
 
+    /*  The same handlers as Guava EventBus invokes for the event:
+        pause/resume for Pause/Resume events, and then handle() or exception().
+     */
+    @Override
+    public void deliver(AbstractEvent event) {
+        if (!(event instanceof NextCallChainEvent chainEvent)) {
+            return;
+        }
+        if (chainEvent instanceof NextCallChainEvent.Pause pauseEvent) {
+            pause(pauseEvent);
+        }
+        if (chainEvent instanceof NextCallChainEvent.Resume resumeEvent) {
+            resume(resumeEvent);
+        }
+        if (chainEvent instanceof NextCallChainEvent.Exception exceptionEvent) {
+            exception(exceptionEvent);
+        } else {
+            handle(chainEvent);
+        }
+    }
+
     @Subscribe
     @AllowConcurrentEvents
     public void handle(NextCallChainEvent event) {
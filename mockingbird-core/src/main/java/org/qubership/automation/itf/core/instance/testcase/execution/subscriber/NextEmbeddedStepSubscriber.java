@@ -20,6 +20,7 @@ package org.qubership.automation.itf.core.instance.testcase.execution.subscriber
 import java.util.Date;
 
 import org.qubership.atp.multitenancy.core.context.TenantContext;
+import org.qubership.automation.itf.core.model.event.AbstractEvent;
 import org.qubership.automation.itf.core.model.event.CallChainEvent;
 import org.qubership.automation.itf.core.model.event.NextCallChainEvent;
 import org.qubership.automation.itf.core.model.event.NextEmbeddedStepEvent;
@@ -52,6 +53,13 @@ public class NextEmbeddedStepSubscriber extends AbstractChainSubscriber<NextEmbe
         //NextEmbeddedStepSubscriber is destroyed in onEvent() method
     }
 
+    @Override
+    public void deliver(AbstractEvent event) {
+        if (event instanceof NextEmbeddedStepEvent stepEvent) {
+            handle(stepEvent);
+        }
+    }
+
     @Subscribe
     @AllowConcurrentEvents
     public void handle(NextEmbeddedStepEvent event) {
@@ -33,4 +33,13 @@ public class TcContextOperationMessage implements Serializable {
 
     private String status;
     private BigInteger id;
+    /*
+     * true means that the context is already completed with the status on another pod;
+     * waiters for the context completion are to be released.
+     */
+    private boolean completed;
+
+    public TcContextOperationMessage(String status, BigInteger id) {
+        this(status, id, false);
+    }
 }
@@ -27,6 +27,7 @@ public enum Metric {
     ATP_ITF_EXECUTOR_CALLCHAIN_COUNT_BY_PROJECT("atp_itf_executor_callchain_count_by_project"),
     ATP_ITF_EXECUTOR_CALLCHAIN_SECONDS_BY_PROJECT("atp_itf_executor_callchain_seconds_by_project"),
     ATP_ITF_EXECUTOR_STUB_REQUEST_SECONDS_BY_PROJECT("atp_itf_executor_stub_request_processing_by_project"),
+    ATP_ITF_EXECUTOR_STUB_STAGE_SECONDS("atp_itf_executor_stub_stage_seconds"),
     ATP_ITF_EXECUTOR_CONTEXT_SIZE_BY_PROJECT("atp_itf_executor_context_size_by_project"),
     ATP_ITF_EXECUTOR_HAZELCAST_CONTEXT_SIZE_BY_PROJECT("atp_itf_executor_hazelcast_context_size_by_project"),
     ATP_ITF_EXECUTOR_JMS_LISTENER_THREAD_POOL_MAX_SIZE("atp_itf_executor_jms_listener_thread_pool_max_size"),
@@ -34,7 +35,29 @@ public enum Metric {
     ATP_ITF_EXECUTOR_REGULAR_POOL_MAX_SIZE("atp_itf_executor_regular_pool_max_size"),
     ATP_ITF_EXECUTOR_REGULAR_POOL_ACTIVE_SIZE("atp_itf_executor_regular_pool_active_size"),
     ATP_ITF_EXECUTOR_INBOUND_POOL_MAX_SIZE("atp_itf_executor_inbound_pool_max_size"),
-    ATP_ITF_EXECUTOR_INBOUND_POOL_ACTIVE_SIZE("atp_itf_executor_inbound_pool_active_size");
+    ATP_ITF_EXECUTOR_INBOUND_POOL_ACTIVE_SIZE("atp_itf_executor_inbound_pool_active_size"),
+    ATP_ITF_EXECUTOR_REPORT_QUEUE_SIZE("atp_itf_executor_report_queue_size"),
+    ATP_ITF_EXECUTOR_REPORT_SPILLED_SIZE("atp_itf_executor_report_spilled_size"),
+    ATP_ITF_EXECUTOR_REPORT_BATCH_SIZE("atp_itf_executor_report_batch_size"),
+    ATP_ITF_EXECUTOR_REPORT_SEND_SECONDS("atp_itf_executor_report_send_seconds"),
+    ATP_ITF_EXECUTOR_REPORT_DROPPED_COUNT("atp_itf_executor_report_dropped_count"),
+    ATP_ITF_EXECUTOR_TC_CONTEXT_DIFF_CACHE_SIZE("atp_itf_executor_tc_context_diff_cache_size"),
+    ATP_ITF_EXECUTOR_TC_CONTEXT_DIFF_CACHE_BYTES("atp_itf_executor_tc_context_diff_cache_bytes"),
+    ATP_ITF_EXECUTOR_HAZELCAST_CONTEXTS_SIZE_BY_PROJECT("atp_itf_executor_hazelcast_contexts_size_by_project"),
+    ATP_ITF_EXECUTOR_HAZELCAST_CONTEXT_REJECTED_COUNT("atp_itf_executor_hazelcast_context_rejected_count"),
+    ATP_ITF_EXECUTOR_CONTEXT_RUNTIME_SIZE("atp_itf_executor_context_runtime_size"),
+    ATP_ITF_EXECUTOR_CONTEXT_RUNTIME_SUBSCRIBERS("atp_itf_executor_context_runtime_subscribers"),
+    ATP_ITF_EXECUTOR_CONTEXT_RUNTIME_LEAKED_COUNT("atp_itf_executor_context_runtime_leaked_count"),
+    ATP_ITF_EXECUTOR_CONTEXT_MAILBOX_BUSY("atp_itf_executor_context_mailbox_busy"),
+    ATP_ITF_EXECUTOR_CONTEXT_MAILBOX_QUEUED("atp_itf_executor_context_mailbox_queued"),
+    ATP_ITF_EXECUTOR_INBOUND_ENVIRONMENT_CACHE_HITS("atp_itf_executor_inbound_environment_cache_hits"),
+    ATP_ITF_EXECUTOR_INBOUND_ENVIRONMENT_CACHE_MISSES("atp_itf_executor_inbound_environment_cache_misses"),
+    ATP_ITF_EXECUTOR_VELOCITY_PARSED_CACHE_HITS("atp_itf_executor_velocity_parsed_cache_hits"),
+    ATP_ITF_EXECUTOR_VELOCITY_PARSED_CACHE_MISSES("atp_itf_executor_velocity_parsed_cache_misses"),
+    ATP_ITF_EXECUTOR_VELOCITY_PARSED_CACHE_SIZE("atp_itf_executor_velocity_parsed_cache_size"),
+    ATP_ITF_EXECUTOR_VELOCITY_PARSE_SECONDS("atp_itf_executor_velocity_parse_seconds"),
+    ATP_ITF_EXECUTOR_VELOCITY_USERDATA_PENDING("atp_itf_executor_velocity_userdata_pending"),
+    ATP_ITF_EXECUTOR_VELOCITY_USERDATA_FAILED("atp_itf_executor_velocity_userdata_failed");
     private final String value;
 
 }
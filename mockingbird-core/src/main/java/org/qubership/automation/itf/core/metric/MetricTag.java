@@ -27,7 +27,9 @@ public enum MetricTag {
     PROJECT("project_id"),
     ENDPOINT("endpoint"),
     CALLCHAIN_NAME("callchain_name"),
-    CONTEXT_ID("context_id");
+    CONTEXT_ID("context_id"),
+    TRANSPORT_TYPE("transport_type"),
+    STAGE("stage");
     private final String value;
 
 }
@@ -24,13 +24,22 @@ import java.time.Duration;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
 import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.Supplier;
+import java.util.function.ToDoubleFunction;
 
 import org.apache.commons.lang3.StringUtils;
+import org.qubership.automation.itf.core.execution.ContextMailbox;
 import org.qubership.automation.itf.core.execution.ExecutorServiceProviderFactory;
-import org.qubership.automation.itf.core.execution.WaitTimeMonitoringThreadPoolExecutor;
+import org.qubership.automation.itf.core.execution.SemaphoreLimitedExecutorService;
+import org.qubership.automation.itf.core.instance.situation.TCContextDiffCache;
+import org.qubership.automation.itf.core.instance.testcase.execution.holders.ContextRuntimeRegistry;
+import org.qubership.automation.itf.executor.cache.service.CacheServices;
+import org.qubership.automation.itf.executor.cache.service.impl.EnvironmentCacheService;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.ApplicationContext;
@@ -43,10 +52,12 @@ import org.springframework.stereotype.Service;
 
 import io.micrometer.core.instrument.Counter;
 import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.FunctionCounter;
 import io.micrometer.core.instrument.Gauge;
 import io.micrometer.core.instrument.Meter;
 import io.micrometer.core.instrument.MeterRegistry;
 import io.micrometer.core.instrument.Tag;
+import io.micrometer.core.instrument.Timer;
 import io.micrometer.core.instrument.config.MeterFilter;
 import lombok.NonNull;
 
@@ -56,6 +67,7 @@ public class MetricsAggregateService {
     private static MeterRegistry itfMeterRegistry;
     private final Counter.Builder executorCallChainCounter;
     private static DistributionSummary.Builder hazelcastContextSize;
+    private static final Map<UUID, AtomicLong> hazelcastContextsSizeByProject = new ConcurrentHashMap<>();
     private final Counter.Builder executorContextSizeCounter;
     @Value("#{${exclude.registry.metrics.tags}}")
     private Map<String, List<String>> excludeRegistryMetricsTags;
@@ -106,6 +118,10 @@ public class MetricsAggregateService {
             contextInitialized();
             fillJmsListenerStatsMetric();
             fillExecutorPoolStatsMetric();
+            fillTcContextDiffCacheMetric();
+            fillContextRuntimeMetric();
+            fillContextMailboxMetric();
+            fillInboundEnvironmentCacheMetric();
         }
     }
 
@@ -155,6 +171,29 @@ public class MetricsAggregateService {
                 .forEach(itfMeterRegistry::remove);
     }
 
+    /**
+     * Add the delta to the total serialized size of project contexts stored in Hazelcast by this pod.
+     *
+     * @param projectUuid project uuid
+     * @param delta       size delta in bytes, negative when context is removed or became smaller
+     */
+    public static void addHazelcastContextsSizeToProject(@NonNull UUID projectUuid, long delta) {
+        hazelcastContextsSizeByProject.computeIfAbsent(projectUuid, uuid -> {
+            AtomicLong size = new AtomicLong();
+            Gauge.builder(Metric.ATP_ITF_EXECUTOR_HAZELCAST_CONTEXTS_SIZE_BY_PROJECT.getValue(), size, AtomicLong::get)
+                    .description("total size of testcase contexts stored in Hazelcast by this pod")
+                    .baseUnit("bytes")
+                    .tag(MetricTag.PROJECT.getValue(), uuid.toString())
+                    .register(itfMeterRegistry);
+            return size;
+        }).addAndGet(delta);
+    }
+
+    public static void incrementHazelcastContextRejectedCount(@NonNull UUID projectUuid) {
+        itfMeterRegistry.counter(Metric.ATP_ITF_EXECUTOR_HAZELCAST_CONTEXT_REJECTED_COUNT.getValue(),
+                MetricTag.PROJECT.getValue(), projectUuid.toString()).increment();
+    }
+
     public void recordExecuteCallchainDuration(@NonNull UUID projectUuid, @NonNull String callChainName,
                                                @NonNull Duration duration) {
         itfMeterRegistry.timer(Metric.ATP_ITF_EXECUTOR_CALLCHAIN_SECONDS_BY_PROJECT.getValue(),
@@ -171,6 +210,104 @@ public class MetricsAggregateService {
                 .record(duration);
     }
 
+    /**
+     * Get timer of the inbound stub pipeline stage.
+     *
+     * @param projectUuid   project of the stub
+     * @param transportType type name of the inbound transport
+     * @param stage         pipeline stage
+     * @return timer, or null if the meter registry isn't initialized yet
+     */
+    public static Timer getStubStageTimer(@NonNull UUID projectUuid, @NonNull String transportType,
+                                          @NonNull String stage) {
+        if (itfMeterRegistry == null) {
+            return null;
+        }
+        return itfMeterRegistry.timer(Metric.ATP_ITF_EXECUTOR_STUB_STAGE_SECONDS.getValue(),
+                MetricTag.PROJECT.getValue(), projectUuid.toString(),
+                MetricTag.TRANSPORT_TYPE.getValue(), transportType,
+                MetricTag.STAGE.getValue(), stage);
+    }
+
+    /**
+     * Register meters of the Velocity parsed templates cache: hits and misses counters and size gauge.
+     * The cache lives in the template engine module, which is built without the meter registry,
+     * so the engine registers meters itself once the registry is initialized.
+     *
+     * @param hits   supplier of the number of renderings with already parsed template
+     * @param misses supplier of the number of texts parsed
+     * @param size   supplier of the number of parsed templates cached
+     * @return true if meters are registered, false if the meter registry isn't initialized yet
+     */
+    public static boolean registerVelocityParsedCacheMeters(@NonNull Supplier<Number> hits,
+                                                            @NonNull Supplier<Number> misses,
+                                                            @NonNull Supplier<Number> size) {
+        if (itfMeterRegistry == null) {
+            return false;
+        }
+        FunctionCounter.builder(Metric.ATP_ITF_EXECUTOR_VELOCITY_PARSED_CACHE_HITS.getValue(), hits,
+                value -> value.get().doubleValue()).register(itfMeterRegistry);
+        FunctionCounter.builder(Metric.ATP_ITF_EXECUTOR_VELOCITY_PARSED_CACHE_MISSES.getValue(), misses,
+                value -> value.get().doubleValue()).register(itfMeterRegistry);
+        Gauge.builder(Metric.ATP_ITF_EXECUTOR_VELOCITY_PARSED_CACHE_SIZE.getValue(), size).register(itfMeterRegistry);
+        return true;
+    }
+
+    /**
+     * Register meters of #set_userdata write-behind store (template engine module, see
+     * {@link #registerVelocityParsedCacheMeters}).
+     *
+     * @param pending supplier of the number of queued mutations
+     * @param failed  supplier of the number of mutations dropped after failed attempts
+     * @return true if meters are registered, false if the meter registry isn't initialized yet
+     */
+    public static boolean registerUserDataWriteBehindMeters(@NonNull Supplier<Number> pending,
+                                                            @NonNull Supplier<Number> failed) {
+        if (itfMeterRegistry == null) {
+            return false;
+        }
+        Gauge.builder(Metric.ATP_ITF_EXECUTOR_VELOCITY_USERDATA_PENDING.getValue(), pending)
+                .register(itfMeterRegistry);
+        FunctionCounter.builder(Metric.ATP_ITF_EXECUTOR_VELOCITY_USERDATA_FAILED.getValue(), failed,
+                value -> value.get().doubleValue()).register(itfMeterRegistry);
+        return true;
+    }
+
+    /**
+     * Get timer of Velocity template text parsing.
+     *
+     * @return timer, or null if the meter registry isn't initialized yet
+     */
+    public static Timer getVelocityParseTimer() {
+        if (itfMeterRegistry == null) {
+            return null;
+        }
+        return itfMeterRegistry.timer(Metric.ATP_ITF_EXECUTOR_VELOCITY_PARSE_SECONDS.getValue());
+    }
+
+    /**
+     * Register gauges of reporting pipeline backlog.
+     *
+     * @param queueSize supplier of the number of objects waiting in the reporting queue
+     * @param spilledSize supplier of the number of messages spilled to disk and not sent yet
+     */
+    public void registerReportQueueGauges(@NonNull Supplier<Number> queueSize, @NonNull Supplier<Number> spilledSize) {
+        initializeGauges(Metric.ATP_ITF_EXECUTOR_REPORT_QUEUE_SIZE, queueSize);
+        initializeGauges(Metric.ATP_ITF_EXECUTOR_REPORT_SPILLED_SIZE, spilledSize);
+    }
+
+    public void recordReportBatch(int batchSize, @NonNull Duration sendDuration) {
+        DistributionSummary.builder(Metric.ATP_ITF_EXECUTOR_REPORT_BATCH_SIZE.getValue())
+                .description("number of messages sent to the reporting queue in one batch")
+                .register(itfMeterRegistry)
+                .record(batchSize);
+        itfMeterRegistry.timer(Metric.ATP_ITF_EXECUTOR_REPORT_SEND_SECONDS.getValue()).record(sendDuration);
+    }
+
+    public void incrementReportDroppedCount() {
+        itfMeterRegistry.counter(Metric.ATP_ITF_EXECUTOR_REPORT_DROPPED_COUNT.getValue()).increment();
+    }
+
     private void contextInitialized() {
         for (MessageListenerContainer messageListenerContainer : jmsListenerEndpointRegistry.getListenerContainers()) {
             if (destinationQueueName.equals(((DefaultMessageListenerContainer) messageListenerContainer).getDestinationName())) {
@@ -187,21 +324,71 @@ public class MetricsAggregateService {
                 () -> defaultMessageListenerContainer.getMaxConcurrentConsumers());
     }
 
+    /*  Pools are ThreadPoolExecutors in 'platform' executor provider mode,
+        and SemaphoreLimitedExecutorServices in 'virtual' mode.
+     */
     private void fillExecutorPoolStatsMetric() {
         initializeGauges(Metric.ATP_ITF_EXECUTOR_REGULAR_POOL_ACTIVE_SIZE,
-                () -> ((WaitTimeMonitoringThreadPoolExecutor) ExecutorServiceProviderFactory.get().requestForRegular()).getActiveCount());
+                () -> getActiveCount(ExecutorServiceProviderFactory.get().requestForRegular()));
         initializeGauges(Metric.ATP_ITF_EXECUTOR_REGULAR_POOL_MAX_SIZE,
-                () -> ((WaitTimeMonitoringThreadPoolExecutor) ExecutorServiceProviderFactory.get().requestForRegular()).getMaximumPoolSize());
+                () -> getMaximumSize(ExecutorServiceProviderFactory.get().requestForRegular()));
         initializeGauges(Metric.ATP_ITF_EXECUTOR_INBOUND_POOL_ACTIVE_SIZE,
-                () -> ((ThreadPoolExecutor) ExecutorServiceProviderFactory.get().requestForInboundProcessing()).getActiveCount());
+                () -> getActiveCount(ExecutorServiceProviderFactory.get().requestForInboundProcessing()));
         initializeGauges(Metric.ATP_ITF_EXECUTOR_INBOUND_POOL_MAX_SIZE,
-                () -> ((ThreadPoolExecutor) ExecutorServiceProviderFactory.get().requestForInboundProcessing()).getLargestPoolSize());
+                () -> getLargestSize(ExecutorServiceProviderFactory.get().requestForInboundProcessing()));
+    }
+
+    private static int getActiveCount(ExecutorService executorService) {
+        return executorService instanceof SemaphoreLimitedExecutorService limited
+                ? limited.getActiveCount()
+                : ((ThreadPoolExecutor) executorService).getActiveCount();
+    }
+
+    private static int getMaximumSize(ExecutorService executorService) {
+        return executorService instanceof SemaphoreLimitedExecutorService limited
+                ? limited.getMaxConcurrency()
+                : ((ThreadPoolExecutor) executorService).getMaximumPoolSize();
+    }
+
+    private static int getLargestSize(ExecutorService executorService) {
+        return executorService instanceof SemaphoreLimitedExecutorService limited
+                ? limited.getLargestActiveCount()
+                : ((ThreadPoolExecutor) executorService).getLargestPoolSize();
+    }
+
+    private void fillTcContextDiffCacheMetric() {
+        initializeGauges(Metric.ATP_ITF_EXECUTOR_TC_CONTEXT_DIFF_CACHE_SIZE, TCContextDiffCache::size);
+        initializeGauges(Metric.ATP_ITF_EXECUTOR_TC_CONTEXT_DIFF_CACHE_BYTES, TCContextDiffCache::estimatedSize);
+    }
+
+    private void fillContextRuntimeMetric() {
+        ContextRuntimeRegistry registry = ContextRuntimeRegistry.getInstance();
+        initializeGauges(Metric.ATP_ITF_EXECUTOR_CONTEXT_RUNTIME_SIZE, registry::size);
+        initializeGauges(Metric.ATP_ITF_EXECUTOR_CONTEXT_RUNTIME_SUBSCRIBERS, registry::subscribersCount);
+        initializeGauges(Metric.ATP_ITF_EXECUTOR_CONTEXT_RUNTIME_LEAKED_COUNT, registry::leakedCount);
+    }
+
+    private void fillContextMailboxMetric() {
+        initializeGauges(Metric.ATP_ITF_EXECUTOR_CONTEXT_MAILBOX_BUSY, ContextMailbox.INBOUND::busyCount);
+        initializeGauges(Metric.ATP_ITF_EXECUTOR_CONTEXT_MAILBOX_QUEUED, ContextMailbox.INBOUND::queuedCount);
+    }
+
+    private void fillInboundEnvironmentCacheMetric() {
+        EnvironmentCacheService environmentCacheService = CacheServices.getEnvironmentCacheService();
+        initializeCounter(Metric.ATP_ITF_EXECUTOR_INBOUND_ENVIRONMENT_CACHE_HITS,
+                environmentCacheService, EnvironmentCacheService::getInboundHits);
+        initializeCounter(Metric.ATP_ITF_EXECUTOR_INBOUND_ENVIRONMENT_CACHE_MISSES,
+                environmentCacheService, EnvironmentCacheService::getInboundMisses);
     }
 
     private void initializeGauges(Metric metric, Supplier<Number> function) {
         Gauge.builder(metric.getValue(), function).register(itfMeterRegistry);
     }
 
+    private <T> void initializeCounter(Metric metric, T object, ToDoubleFunction<T> function) {
+        FunctionCounter.builder(metric.getValue(), object, function).register(itfMeterRegistry);
+    }
+
     private void initializeGauges(UUID projectUuid, Metric metric, Map<UUID, AtomicInteger> metricsMap) {
         if (!metricsMap.containsKey(projectUuid)) {
             metricsMap.put(projectUuid, new AtomicInteger());
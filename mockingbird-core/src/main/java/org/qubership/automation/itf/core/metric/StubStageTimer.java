@@ -0,0 +1,219 @@
+/*
+ * # Copyright 2024-2026 NetCracker Technology Corporation
+ * #
+ * # Licensed under the Apache License, Version 2.0 (the "License");
+ * # you may not use this file except in compliance with the License.
+ * # You may obtain a copy of the License at
+ * #
+ * #      http://www.apache.org/licenses/LICENSE-2.0
+ * #
+ * # Unless required by applicable law or agreed to in writing, software
+ * # distributed under the License is distributed on an "AS IS" BASIS,
+ * # WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * # See the License for the specific language governing permissions and
+ * # limitations under the License.
+ *
+ */
+
+package org.qubership.automation.itf.core.metric;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.qubership.automation.itf.core.util.config.Config;
+
+import io.micrometer.core.instrument.Timer;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Per-thread timer of the inbound stub pipeline stages.
+ * The listener thread begins the timer when a stub message is received and finishes it when processing is completed;
+ * pipeline parts in between mark their stages via start/stop. Stages are inclusive: situation execution includes
+ * template rendering and response sending.
+ * Stage durations are recorded into atp_itf_executor_stub_stage_seconds timers tagged by project, transport type
+ * and stage. Requests slower than stub.stage.slow.threshold.ms are logged with the stage breakdown,
+ * at most once per stub.stage.slow.log.interval.ms.
+ * The timer is reused by the thread, so measuring doesn't allocate; calls on a thread without begun timer are no-op.
+ */
+@Slf4j
+public final class StubStageTimer {
+
+    private static final long SLOW_THRESHOLD_NANOS = TimeUnit.MILLISECONDS.toNanos(Config.getConfig()
+            .getIntOrDefault("stub.stage.slow.threshold.ms", 0));
+    private static final long SLOW_LOG_INTERVAL_NANOS = TimeUnit.MILLISECONDS.toNanos(Config.getConfig()
+            .getIntOrDefault("stub.stage.slow.log.interval.ms", 10000));
+    private static final Stage[] STAGES = Stage.values();
+    private static final ThreadLocal<StubStageTimer> TIMERS = ThreadLocal.withInitial(StubStageTimer::new);
+    private static final Map<UUID, Map<String, Timer[]>> METERS = new ConcurrentHashMap<>();
+    private static final AtomicLong LAST_SLOW_LOG = new AtomicLong(System.nanoTime() - SLOW_LOG_INTERVAL_NANOS);
+
+    private final long[] elapsed = new long[STAGES.length];
+    private final long[] startedAt = new long[STAGES.length];
+    private int touched;
+    private boolean active;
+    private long begunAt;
+    private UUID projectUuid;
+    private String transportType;
+
+    StubStageTimer() {
+    }
+
+    /**
+     * Begin measuring of a stub request on the current thread.
+     */
+    public static void begin() {
+        TIMERS.get().reset(System.nanoTime());
+    }
+
+    /**
+     * Set tags of the request measured on the current thread.
+     *
+     * @param projectUuid   project of the stub
+     * @param transportType type name of the inbound transport
+     */
+    public static void tag(UUID projectUuid, String transportType) {
+        StubStageTimer timer = TIMERS.get();
+        if (timer.active) {
+            timer.projectUuid = projectUuid;
+            timer.transportType = transportType;
+        }
+    }
+
+    public static void start(Stage stage) {
+        StubStageTimer timer = TIMERS.get();
+        if (timer.active) {
+            timer.startedAt(stage, System.nanoTime());
+        }
+    }
+
+    /**
+     * Stop the stage and add its duration to the request. A stage may be started and stopped several times.
+     *
+     * @param stage stage to stop
+     */
+    public static void stop(Stage stage) {
+        StubStageTimer timer = TIMERS.get();
+        if (timer.active) {
+            timer.stop(stage, System.nanoTime());
+        }
+    }
+
+    /**
+     * Finish measuring on the current thread: record stage timers and log the breakdown if the request is slow.
+     */
+    public static void finish() {
+        StubStageTimer timer = TIMERS.get();
+        if (timer.active) {
+            timer.active = false;
+            timer.record(System.nanoTime());
+        }
+    }
+
+    void reset(long now) {
+        Arrays.fill(elapsed, 0L);
+        Arrays.fill(startedAt, 0L);
+        touched = 0;
+        projectUuid = null;
+        transportType = null;
+        begunAt = now;
+        active = true;
+    }
+
+    void startedAt(Stage stage, long now) {
+        startedAt[stage.ordinal()] = now;
+    }
+
+    void stop(Stage stage, long now) {
+        int index = stage.ordinal();
+        if (startedAt[index] != 0L) {
+            elapsed[index] += now - startedAt[index];
+            startedAt[index] = 0L;
+            touched |= 1 << index;
+        }
+    }
+
+    long elapsedNanos(Stage stage) {
+        return elapsed[stage.ordinal()];
+    }
+
+    boolean isTouched(Stage stage) {
+        return (touched & (1 << stage.ordinal())) != 0;
+    }
+
+    String describe(long total) {
+        StringBuilder builder = new StringBuilder("total=").append(TimeUnit.NANOSECONDS.toMillis(total)).append("ms");
+        for (Stage stage : STAGES) {
+            if (isTouched(stage)) {
+                builder.append(", ").append(stage.getValue()).append('=')
+                        .append(TimeUnit.NANOSECONDS.toMicros(elapsed[stage.ordinal()]) / 1000.0).append("ms");
+            }
+        }
+        return builder.toString();
+    }
+
+    private void record(long now) {
+        if (projectUuid == null || touched == 0) {
+            return;
+        }
+        Timer[] timers = getTimers(projectUuid, transportType == null ? "n/a" : transportType);
+        if (timers != null) {
+            for (Stage stage : STAGES) {
+                if (isTouched(stage)) {
+                    timers[stage.ordinal()].record(elapsed[stage.ordinal()], TimeUnit.NANOSECONDS);
+                }
+            }
+        }
+        long total = now - begunAt;
+        if (SLOW_THRESHOLD_NANOS > 0 && total >= SLOW_THRESHOLD_NANOS) {
+            long lastLog = LAST_SLOW_LOG.get();
+            if (now - lastLog >= SLOW_LOG_INTERVAL_NANOS && LAST_SLOW_LOG.compareAndSet(lastLog, now)) {
+                log.warn("Slow stub request, project {}, transport {}: {}", projectUuid, transportType,
+                        describe(total));
+            }
+        }
+    }
+
+    private static Timer[] getTimers(UUID projectUuid, String transportType) {
+        Map<String, Timer[]> byTransport = METERS.get(projectUuid);
+        if (byTransport == null) {
+            byTransport = METERS.computeIfAbsent(projectUuid, uuid -> new ConcurrentHashMap<>());
+        }
+        Timer[] timers = byTransport.get(transportType);
+        if (timers == null) {
+            timers = new Timer[STAGES.length];
+            for (Stage stage : STAGES) {
+                timers[stage.ordinal()] = MetricsAggregateService.getStubStageTimer(projectUuid, transportType,
+                        stage.getValue());
+                if (timers[stage.ordinal()] == null) {
+                    return null; // Meter registry isn't initialized yet
+                }
+            }
+            byTransport.put(transportType, timers);
+        }
+        return timers;
+    }
+
+    @Getter
+    @RequiredArgsConstructor
+    public enum Stage {
+
+        DESERIALIZATION("deserialization"),
+        TRANSACTION("transaction"),
+        TRIGGER_LOOKUP("trigger_lookup"),
+        INTERCEPTORS("interceptors"),
+        PARSING("parsing"),
+        OPERATION_DETECTION("operation_detection"),
+        CONTEXT_KEY("context_key"),
+        CONTEXT_BINDING("context_binding"),
+        SITUATION_EXECUTION("situation_execution"),
+        TEMPLATE_RENDERING("template_rendering"),
+        RESPONSE_SEND("response_send");
+        private final String value;
+    }
+}
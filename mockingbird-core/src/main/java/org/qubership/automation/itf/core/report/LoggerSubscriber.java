@@ -110,7 +110,7 @@ public class LoggerSubscriber {
             TenantContext.setTenantInfo(projectUuid);
         }
         if (event.getContext().isNeedToReportToItf()) {
-            worker.submit(event.getContext(), event.getDate(), event.getContext().getProjectId(), projectUuid);
+            worker.submitCoalesced(event.getContext(), event.getDate(), event.getContext().getProjectId(), projectUuid);
         }
     }
 
@@ -152,7 +152,7 @@ public class LoggerSubscriber {
             TenantContext.setTenantInfo(projectUuid);
         }
         if (event.getContext().isNeedToReportToItf()) {
-            worker.submit(event.getContext(), event.getDate(), event.getContext().getProjectId(), projectUuid);
+            worker.submitCoalesced(event.getContext(), event.getDate(), event.getContext().getProjectId(), projectUuid);
         }
     }
 
@@ -307,7 +307,7 @@ public class LoggerSubscriber {
             LOGGER.error("Context {} is {}; then inner reporting error is thrown: {}",
                     tcContext.getID(), status.toString(), ex.getMessage());
         }
-        ExecutionServices.getTCContextService().notifyATP(tcContext);
+        ExecutionServices.getTCContextService().notifyCompletion(tcContext);
         if (tcContext.isNeedToReportToAtp()) {
             LOGGER.debug("Context is {}: {}", status.toString(), event.getContext());
             Report.stopRun(InstanceContext.from(tcContext, new SpContext()), status);
@@ -0,0 +1,206 @@
+/*
+ * # Copyright 2024-2026 NetCracker Technology Corporation
+ * #
+ * # Licensed under the Apache License, Version 2.0 (the "License");
+ * # you may not use this file except in compliance with the License.
+ * # You may obtain a copy of the License at
+ * #
+ * #      http://www.apache.org/licenses/LICENSE-2.0
+ * #
+ * # Unless required by applicable law or agreed to in writing, software
+ * # distributed under the License is distributed on an "AS IS" BASIS,
+ * # WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * # See the License for the specific language governing permissions and
+ * # limitations under the License.
+ *
+ */
+
+package org.qubership.automation.itf.core.report.producer;
+
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+
+import org.qubership.automation.itf.core.model.jpa.context.TcContext;
+import org.qubership.automation.itf.core.util.FlatMapUtil;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+
+/**
+ * Keeps the last successfully reported (flattened) state of each running TcContext and decides
+ * whether the next report of the context is a full snapshot or a patch against the previous report.
+ * Sequence numbers are reserved in the {@link SequenceStore} shared by all replicas, so reports of a context
+ * made by different replicas never get the same number. The reported state becomes the base of the next patch
+ * only after the report is sent ({@link #committed(Delta)}).
+ * Full snapshot is reported:
+ *  - when this replica has no sent state of the context or its state isn't the previous report of the context
+ *    (the first report, the context is reported by another replica in between, a report is rejected,
+ *    dropped or failed to send - so the receiver resyncs after any gap),
+ *  - every checkpointInterval reports,
+ *  - when the context is finished,
+ *  - when the patch isn't smaller than a half of the context.
+ * Patches are applied by the receiver to the report with baseSeq number.
+ */
+class ContextDeltaTracker {
+
+    private final Cache<BigInteger, State> states;
+    private final int checkpointInterval;
+    private final SequenceStore sequences;
+
+    /**
+     * Constructor.
+     *
+     * @param checkpointInterval full snapshot is reported after this number of patches
+     * @param maxStatesBytes     max estimated memory of kept states; least recently used states are evicted
+     * @param sequences          sequence numbers store
+     */
+    ContextDeltaTracker(int checkpointInterval, long maxStatesBytes, SequenceStore sequences) {
+        this.checkpointInterval = Math.max(1, checkpointInterval);
+        this.sequences = sequences;
+        this.states = CacheBuilder.newBuilder()
+                .maximumWeight(maxStatesBytes)
+                .<BigInteger, State>weigher((id, state) -> state.weight)
+                .expireAfterAccess(30, TimeUnit.MINUTES)
+                .build();
+    }
+
+    /**
+     * Reserve the next sequence number of the context and compute its report.
+     * The tracker isn't changed until the report is committed.
+     */
+    Delta next(TcContext tcContext) {
+        BigInteger id = tcContext.getID();
+        long seq = sequences.next(id);
+        if (tcContext.isFinished()) {
+            states.invalidate(id);
+            return new Delta(id, seq, null, null);
+        }
+        State base = states.getIfPresent(id);
+        if (base == null || base.seq != seq - 1 || base.sinceCheckpoint + 1 >= checkpointInterval) {
+            return new Delta(id, seq, null, new State(FlatMapUtil.flatten(tcContext), seq, 0));
+        }
+        Map<String, Object> current = new HashMap<>(base.flatContext.size() + 16);
+        List<Operation> operations = new ArrayList<>();
+        int[] matched = new int[1];
+        FlatMapUtil.forEachLeaf(tcContext, (path, value) -> {
+            current.put(path, value);
+            Object baseValue = base.flatContext.get(path);
+            if (baseValue == null && !base.flatContext.containsKey(path)) {
+                operations.add(new Operation("add", path, value));
+                return;
+            }
+            matched[0]++;
+            if (!Objects.equals(baseValue, value)) {
+                operations.add(new Operation("replace", path, value));
+            }
+        });
+        if (matched[0] < base.flatContext.size()) {
+            base.flatContext.keySet().stream().filter(path -> !current.containsKey(path))
+                    .forEach(path -> operations.add(new Operation("remove", path, null)));
+        }
+        if (operations.size() * 2 >= current.size()) {
+            return new Delta(id, seq, null, new State(current, seq, 0));
+        }
+        return new Delta(id, seq, operations, new State(current, seq, base.sinceCheckpoint + 1));
+    }
+
+    /**
+     * The report is sent: its state becomes the base of the next patch.
+     */
+    void committed(Delta delta) {
+        if (delta.state != null) {
+            states.asMap().merge(delta.contextId, delta.state,
+                    (previous, reported) -> reported.seq > previous.seq ? reported : previous);
+        }
+    }
+
+    /**
+     * The report isn't sent (rejected, dropped or failed): the next report of the context is a full snapshot.
+     */
+    void discarded(Delta delta) {
+        states.invalidate(delta.contextId);
+    }
+
+    /**
+     * Sequence numbers of context reports, shared by all replicas.
+     */
+    @FunctionalInterface
+    interface SequenceStore {
+
+        long next(BigInteger contextId);
+    }
+
+    static class Delta {
+
+        final BigInteger contextId;
+        final long seq;
+        /**
+         * Null means that full snapshot should be reported.
+         */
+        final List<Operation> operations;
+        private final State state;
+
+        private Delta(BigInteger contextId, long seq, List<Operation> operations, State state) {
+            this.contextId = contextId;
+            this.seq = seq;
+            this.operations = operations;
+            this.state = state;
+        }
+
+        boolean isSnapshot() {
+            return operations == null;
+        }
+    }
+
+    static class Operation {
+
+        final String op;
+        final String path;
+        final Object value;
+
+        private Operation(String op, String path, Object value) {
+            this.op = op;
+            this.path = path;
+            this.value = value;
+        }
+    }
+
+    private static class State {
+
+        /*  Estimated memory of a flat map entry with its key string (chars aside),
+            and of a value without its chars.
+         */
+        private static final int ENTRY_OVERHEAD = 72;
+        private static final int VALUE_OVERHEAD = 24;
+
+        private final Map<String, Object> flatContext;
+        private final long seq;
+        private final int sinceCheckpoint;
+        private final int weight;
+
+        private State(Map<String, Object> flatContext, long seq, int sinceCheckpoint) {
+            this.flatContext = flatContext;
+            this.seq = seq;
+            this.sinceCheckpoint = sinceCheckpoint;
+            this.weight = weigh(flatContext);
+        }
+
+        /*  Strings are counted as 2 bytes per char (an upper estimate for compact Latin-1 strings).
+         */
+        private static int weigh(Map<String, Object> flatContext) {
+            long weight = 0;
+            for (Map.Entry<String, Object> entry : flatContext.entrySet()) {
+                weight += ENTRY_OVERHEAD + VALUE_OVERHEAD + 2L * entry.getKey().length();
+                if (entry.getValue() instanceof CharSequence value) {
+                    weight += 2L * value.length();
+                }
+            }
+            return (int) Math.min(Integer.MAX_VALUE, weight);
+        }
+    }
+}
@@ -0,0 +1,88 @@
+/*
+ * # Copyright 2024-2026 NetCracker Technology Corporation
+ * #
+ * # Licensed under the Apache License, Version 2.0 (the "License");
+ * # you may not use this file except in compliance with the License.
+ * # You may obtain a copy of the License at
+ * #
+ * #      http://www.apache.org/licenses/LICENSE-2.0
+ * #
+ * # Unless required by applicable law or agreed to in writing, software
+ * # distributed under the License is distributed on an "AS IS" BASIS,
+ * # WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * # See the License for the specific language governing permissions and
+ * # limitations under the License.
+ *
+ */
+
+package org.qubership.automation.itf.core.report.producer;
+
+import java.math.BigInteger;
+import java.util.Map;
+
+import com.hazelcast.core.HazelcastInstance;
+import com.hazelcast.map.EntryProcessor;
+import com.hazelcast.map.IMap;
+import com.hazelcast.nio.serialization.HazelcastSerializationException;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Sequence numbers of TcContext reports in the Hazelcast map shared by all replicas.
+ * Numbers are incremented on the partition owner by {@link Increment} entry processor
+ * (one round trip, atomic), so each report of a context gets a unique number whichever replica reports it.
+ * Entries of idle contexts are expired by the map config.
+ * The processor class depends on JDK and Hazelcast only; if it can't be loaded by the members
+ * (it isn't on their classpath), numbers are incremented via compare-and-set from this replica.
+ */
+@Slf4j
+public class HazelcastContextSequences implements ContextDeltaTracker.SequenceStore {
+
+    public static final String ATP_ITF_TC_CONTEXT_REPORT_SEQS = "ATP_ITF_TC_CONTEXT_REPORT_SEQS";
+    private static final Increment INCREMENT = new Increment();
+
+    private final HazelcastInstance hazelcastClient;
+    private volatile boolean entryProcessorSupported = true;
+
+    HazelcastContextSequences(HazelcastInstance hazelcastClient) {
+        this.hazelcastClient = hazelcastClient;
+    }
+
+    @Override
+    public long next(BigInteger contextId) {
+        IMap<BigInteger, Long> sequences = hazelcastClient.getMap(ATP_ITF_TC_CONTEXT_REPORT_SEQS);
+        if (entryProcessorSupported) {
+            try {
+                return sequences.executeOnKey(contextId, INCREMENT);
+            } catch (HazelcastSerializationException e) {
+                entryProcessorSupported = false;
+                log.warn("Sequence increment processor can't be executed by Hazelcast members,"
+                        + " compare-and-set is used for {} map", ATP_ITF_TC_CONTEXT_REPORT_SEQS, e);
+            }
+        }
+        while (true) {
+            Long last = sequences.get(contextId);
+            if (last == null) {
+                if (sequences.putIfAbsent(contextId, 1L) == null) {
+                    return 1L;
+                }
+            } else if (sequences.replace(contextId, last, last + 1)) {
+                return last + 1;
+            }
+        }
+    }
+
+    /**
+     * Increment the sequence number of the context and return the new value (1 for a new context).
+     */
+    public static class Increment implements EntryProcessor<BigInteger, Long, Long> {
+
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        public Long process(Map.Entry<BigInteger, Long> entry) {
+            long next = entry.getValue() == null ? 1L : entry.getValue() + 1;
+            entry.setValue(next);
+            return next;
+        }
+    }
+}
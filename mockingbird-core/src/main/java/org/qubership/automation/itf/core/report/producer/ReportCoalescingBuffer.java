@@ -0,0 +1,158 @@
+/*
+ * # Copyright 2024-2026 NetCracker Technology Corporation
+ * #
+ * # Licensed under the Apache License, Version 2.0 (the "License");
+ * # you may not use this file except in compliance with the License.
+ * # You may obtain a copy of the License at
+ * #
+ * #      http://www.apache.org/licenses/LICENSE-2.0
+ * #
+ * # Unless required by applicable law or agreed to in writing, software
+ * # distributed under the License is distributed on an "AS IS" BASIS,
+ * # WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * # See the License for the specific language governing permissions and
+ * # limitations under the License.
+ *
+ */
+
+package org.qubership.automation.itf.core.report.producer;
+
+import java.math.BigInteger;
+import java.util.Date;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Lock;
+
+import org.qubership.automation.itf.core.execution.DaemonThreadPoolFactory;
+import org.qubership.automation.itf.core.model.common.Storable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.google.common.util.concurrent.Striped;
+
+/**
+ * Last-writer-wins buffer of reporting objects.
+ * Objects are keyed by type and ID; within the window only the newest submitted state of each object is
+ * passed downstream. The window is counted from the first buffered submission, so frequently updated
+ * objects are still reported at least once per window.
+ * The object itself is buffered (it's serialized once, when it's flushed), so the state reported on flush is
+ * the newest state of the object. Buffering, flushing and sending of the object bypassing the buffer are done
+ * under the same per-object lock, so buffered state is never reported after the state sent bypassing the buffer.
+ */
+public class ReportCoalescingBuffer {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ReportCoalescingBuffer.class);
+
+    private final Map<String, Pending> pending = new ConcurrentHashMap<>();
+    private final Striped<Lock> locks = Striped.lock(64);
+    private final long windowMillis;
+    private final Downstream downstream;
+    private final ScheduledExecutorService flusher;
+
+    ReportCoalescingBuffer(long windowMillis, Downstream downstream) {
+        this.windowMillis = windowMillis;
+        this.downstream = downstream;
+        this.flusher = DaemonThreadPoolFactory.singleThreadScheduledExecutor("ReportCoalescing - ");
+    }
+
+    void start() {
+        long period = Math.max(1L, windowMillis / 2);
+        flusher.scheduleWithFixedDelay(this::flushExpired, period, period, TimeUnit.MILLISECONDS);
+    }
+
+    void shutdown() {
+        flusher.shutdownNow();
+        pending.keySet().forEach(this::flush);
+    }
+
+    /**
+     * Buffer object state, replacing previously buffered state of the same object.
+     */
+    void put(Storable object, Date date, BigInteger projectId, String tenantId) {
+        String key = key(object);
+        long now = System.currentTimeMillis();
+        Lock lock = locks.get(key);
+        lock.lock();
+        try {
+            pending.compute(key, (id, existing) -> new Pending(object, date, projectId, tenantId,
+                    existing == null ? now : existing.since));
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Forget buffered state of the object and send its newer state immediately.
+     *
+     * @param object object to be sent
+     * @param send   sending of the object
+     */
+    void sendNow(Storable object, Runnable send) {
+        String key = key(object);
+        Lock lock = locks.get(key);
+        lock.lock();
+        try {
+            pending.remove(key);
+            send.run();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    int size() {
+        return pending.size();
+    }
+
+    private void flushExpired() {
+        long threshold = System.currentTimeMillis() - windowMillis;
+        for (Map.Entry<String, Pending> entry : pending.entrySet()) {
+            if (entry.getValue().since <= threshold) {
+                flush(entry.getKey());
+            }
+        }
+    }
+
+    private void flush(String key) {
+        Lock lock = locks.get(key);
+        lock.lock();
+        try {
+            Pending entry = pending.remove(key);
+            if (entry != null) {
+                downstream.submit(entry.object, entry.date, entry.projectId, entry.tenantId);
+            }
+        } catch (Throwable t) {
+            LOGGER.error("Error while flushing coalesced reporting object {}", key, t);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private static String key(Storable object) {
+        return object.getClass().getSimpleName() + ":" + object.getID();
+    }
+
+    @FunctionalInterface
+    interface Downstream {
+
+        void submit(Storable object, Date date, BigInteger projectId, String tenantId);
+    }
+
+    private static class Pending {
+
+        private final Storable object;
+        private final Date date;
+        private final BigInteger projectId;
+        private final String tenantId;
+        private final long since;
+
+        private Pending(Storable object, Date date, BigInteger projectId, String tenantId, long since) {
+            this.object = object;
+            this.date = date;
+            this.projectId = projectId;
+            this.tenantId = tenantId;
+            this.since = since;
+        }
+    }
+}
@@ -0,0 +1,39 @@
+/*
+ * # Copyright 2024-2026 NetCracker Technology Corporation
+ * #
+ * # Licensed under the Apache License, Version 2.0 (the "License");
+ * # you may not use this file except in compliance with the License.
+ * # You may obtain a copy of the License at
+ * #
+ * #      http://www.apache.org/licenses/LICENSE-2.0
+ * #
+ * # Unless required by applicable law or agreed to in writing, software
+ * # distributed under the License is distributed on an "AS IS" BASIS,
+ * # WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * # See the License for the specific language governing permissions and
+ * # limitations under the License.
+ *
+ */
+
+package org.qubership.automation.itf.core.report.producer;
+
+/**
+ * What to do with a new reporting object when the reporting queue is full.
+ */
+public enum ReportOverflowPolicy {
+
+    /**
+     * Wait (limited by report.producer.queue.blockTimeoutMillis) until there is free space in the queue.
+     */
+    BLOCK,
+
+    /**
+     * Remove the oldest queued object to make free space.
+     */
+    DROP_OLDEST,
+
+    /**
+     * Serialize the object in the caller thread and store it to the spill folder; it will be sent later.
+     */
+    SPILL_TO_DISK
+}
@@ -0,0 +1,78 @@
+/*
+ * # Copyright 2024-2026 NetCracker Technology Corporation
+ * #
+ * # Licensed under the Apache License, Version 2.0 (the "License");
+ * # you may not use this file except in compliance with the License.
+ * # You may obtain a copy of the License at
+ * #
+ * #      http://www.apache.org/licenses/LICENSE-2.0
+ * #
+ * # Unless required by applicable law or agreed to in writing, software
+ * # distributed under the License is distributed on an "AS IS" BASIS,
+ * # WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * # See the License for the specific language governing permissions and
+ * # limitations under the License.
+ *
+ */
+
+package org.qubership.automation.itf.core.report.producer;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+
+/**
+ * Serialized reporting object together with the properties of JMS message to be sent.
+ */
+@Getter
+public class ReportPayload {
+
+    /**
+     * Value of contextSeq when the payload isn't a TcContext snapshot/delta.
+     */
+    public static final long NO_CONTEXT_SEQ = -1L;
+
+    private final String text;
+    private final long time;
+    private final String id;
+    private final String type;
+    private final String tenantId;
+    private final int partNum;
+    private final long contextSeq;
+    /**
+     * TcContext report which is committed to the delta tracker once the payload is sent; null if not tracked.
+     */
+    @Getter(AccessLevel.NONE)
+    private final ContextDeltaTracker.Delta contextDelta;
+
+    public ReportPayload(String text, long time, String id, String type, String tenantId, int partNum) {
+        this(text, time, id, type, tenantId, partNum, NO_CONTEXT_SEQ);
+    }
+
+    public ReportPayload(String text, long time, String id, String type, String tenantId, int partNum,
+                         long contextSeq) {
+        this.text = text;
+        this.time = time;
+        this.id = id;
+        this.type = type;
+        this.tenantId = tenantId;
+        this.partNum = partNum;
+        this.contextSeq = contextSeq;
+        this.contextDelta = null;
+    }
+
+    ReportPayload(String text, long time, String id, String type, String tenantId, int partNum,
+                  ContextDeltaTracker.Delta contextDelta) {
+        this.text = text;
+        this.time = time;
+        this.id = id;
+        this.type = type;
+        this.tenantId = tenantId;
+        this.partNum = partNum;
+        this.contextSeq = contextDelta == null ? NO_CONTEXT_SEQ : contextDelta.seq;
+        this.contextDelta = contextDelta;
+    }
+
+    ContextDeltaTracker.Delta contextDelta() {
+        return contextDelta;
+    }
+}
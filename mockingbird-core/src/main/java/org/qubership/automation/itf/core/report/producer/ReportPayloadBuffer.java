@@ -0,0 +1,128 @@
+/*
+ * # Copyright 2024-2026 NetCracker Technology Corporation
+ * #
+ * # Licensed under the Apache License, Version 2.0 (the "License");
+ * # you may not use this file except in compliance with the License.
+ * # You may obtain a copy of the License at
+ * #
+ * #      http://www.apache.org/licenses/LICENSE-2.0
+ * #
+ * # Unless required by applicable law or agreed to in writing, software
+ * # distributed under the License is distributed on an "AS IS" BASIS,
+ * # WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * # See the License for the specific language governing permissions and
+ * # limitations under the License.
+ *
+ */
+
+package org.qubership.automation.itf.core.report.producer;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+
+import org.qubership.automation.itf.core.util.config.Config;
+
+/**
+ * Reusable output buffer for report payloads.
+ * Serialized JSON is streamed here directly by JsonGenerator; writing is aborted
+ * as soon as the payload exceeds the size limit, so too big objects are never fully materialized.
+ * Buffers are taken from a small bounded pool and returned back after the message is sent.
+ */
+public class ReportPayloadBuffer extends OutputStream {
+
+    private static final int POOL_SIZE = Config.getConfig()
+            .getIntOrDefault("report.producer.buffer.pool.size", 32);
+    private static final int INITIAL_CAPACITY = Config.getConfig()
+            .getIntOrDefault("report.producer.buffer.initialCapacity", 16384);
+    private static final int RETAINED_CAPACITY = Config.getConfig()
+            .getIntOrDefault("report.producer.buffer.retainedCapacity", 1048576);
+    private static final BlockingQueue<ReportPayloadBuffer> POOL = new ArrayBlockingQueue<>(Math.max(1, POOL_SIZE));
+
+    private byte[] buf;
+    private int count;
+    private int maxSize;
+
+    private ReportPayloadBuffer() {
+        this.buf = new byte[INITIAL_CAPACITY];
+    }
+
+    /**
+     * Get a buffer from the pool (or create new one if the pool is empty).
+     *
+     * @param maxSize payload size limit in bytes; 0 or negative value means no limit
+     * @return empty buffer
+     */
+    public static ReportPayloadBuffer acquire(int maxSize) {
+        ReportPayloadBuffer buffer = POOL.poll();
+        if (buffer == null) {
+            buffer = new ReportPayloadBuffer();
+        }
+        buffer.count = 0;
+        buffer.maxSize = maxSize;
+        return buffer;
+    }
+
+    /**
+     * Return the buffer to the pool. Too big backing arrays are not retained.
+     */
+    public void release() {
+        if (buf.length > RETAINED_CAPACITY) {
+            buf = new byte[INITIAL_CAPACITY];
+        }
+        count = 0;
+        POOL.offer(this);
+    }
+
+    @Override
+    public void write(int b) throws IOException {
+        ensureCapacity(count + 1);
+        buf[count++] = (byte) b;
+    }
+
+    @Override
+    public void write(byte[] b, int off, int len) throws IOException {
+        ensureCapacity(count + len);
+        System.arraycopy(b, off, buf, count, len);
+        count += len;
+    }
+
+    public int size() {
+        return count;
+    }
+
+    /**
+     * Decode buffer contents. It's the only full copy of the payload made while reporting.
+     *
+     * @return payload as a String
+     */
+    public String toUtf8String() {
+        return new String(buf, 0, count, StandardCharsets.UTF_8);
+    }
+
+    private void ensureCapacity(int required) throws SizeLimitExceededException {
+        if (maxSize > 0 && required > maxSize) {
+            throw new SizeLimitExceededException(maxSize);
+        }
+        if (required > buf.length) {
+            int newCapacity = Math.max(required, buf.length << 1);
+            if (maxSize > 0) {
+                newCapacity = Math.min(newCapacity, maxSize);
+            }
+            buf = Arrays.copyOf(buf, newCapacity);
+        }
+    }
+
+    /**
+     * Thrown while writing when the payload becomes bigger than the limit.
+     */
+    public static class SizeLimitExceededException extends IOException {
+
+        public SizeLimitExceededException(int maxSize) {
+            super("Report payload exceeds the size limit of " + maxSize + " bytes");
+        }
+    }
+}
@@ -19,6 +19,8 @@ package org.qubership.automation.itf.core.report.producer;
 
 import java.io.IOException;
 import java.math.BigInteger;
+import java.nio.file.Paths;
+import java.util.ArrayList;
 import java.util.ConcurrentModificationException;
 import java.util.Date;
 import java.util.List;
@@ -26,12 +28,14 @@ import java.util.Objects;
 import java.util.Set;
 import java.util.UUID;
 import java.util.concurrent.ExecutorService;
+import java.util.function.Supplier;
 
 import org.apache.activemq.command.ActiveMQTextMessage;
 import org.apache.commons.lang3.BooleanUtils;
 import org.qubership.atp.integration.configuration.annotation.AtpJaegerLog;
 import org.qubership.atp.integration.configuration.annotation.AtpSpanTag;
 import org.qubership.atp.integration.configuration.mdc.MdcUtils;
+import org.qubership.atp.multitenancy.core.context.TenantContext;
 import org.qubership.atp.multitenancy.core.header.CustomHeader;
 import org.qubership.automation.itf.core.execution.DaemonThreadPoolFactory;
 import org.qubership.automation.itf.core.instance.step.impl.IntegrationStepHelper;
@@ -55,6 +59,8 @@ import org.qubership.automation.itf.executor.service.ExecutorToMessageBrokerSend
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.slf4j.MDC;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
@@ -67,6 +73,9 @@ import com.fasterxml.jackson.databind.module.SimpleModule;
 import com.fasterxml.jackson.databind.ser.PropertyWriter;
 import com.fasterxml.jackson.databind.ser.impl.SimpleBeanPropertyFilter;
 import com.fasterxml.jackson.databind.ser.impl.SimpleFilterProvider;
+import com.hazelcast.core.HazelcastInstance;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
 import jakarta.jms.JMSException;
 import jakarta.jms.TextMessage;
 
@@ -83,9 +92,16 @@ public class ReportWorker {
             .getIntOrDefault("report.producer.serialization.field.message.text.maxSize", 1000000);
     private static final int SERIALIZATION_CONTEXT_JSONSTRING_MAX_SIZE = Config.getConfig()
             .getIntOrDefault("report.producer.serialization.field.context.jsonString.maxSize", 3000000);
+    /*
+     * It's set while TcContext is written into a delta message: jsonString is replaced with the patch there.
+     */
+    private static final ThreadLocal<Boolean> OMIT_CONTEXT_JSON_STRING = ThreadLocal.withInitial(() -> false);
     private static final String MESSAGE_SKIPPED_TEMPLATE = "Skip reporting of %s due to big object size - %s. "
             + "Please contact administrator for details.";
 
+    @Value("${atp.multi-tenancy.enabled:false}")
+    private boolean multiTenancyEnabled;
+
     @Value("${report.producer.useGroupingMessages}")
     private boolean useGroupingMessages;
 
@@ -98,6 +114,44 @@ public class ReportWorker {
     @Value("${management.metrics.context.size.collect.threshold}")
     private int metricsContextSizeCollectThreshold;
 
+    @Value("${report.producer.pipeline.enabled:false}")
+    private boolean pipelineEnabled;
+
+    @Value("${report.producer.queue.capacity:10000}")
+    private int pipelineQueueCapacity;
+
+    @Value("${report.producer.queue.overflowPolicy:BLOCK}")
+    private ReportOverflowPolicy pipelineOverflowPolicy;
+
+    @Value("${report.producer.queue.blockTimeoutMillis:30000}")
+    private long pipelineBlockTimeoutMillis;
+
+    @Value("${report.producer.queue.spillFolder:data/report-spill}")
+    private String pipelineSpillFolder;
+
+    @Value("${report.producer.batch.maxSize:50}")
+    private int pipelineMaxBatchSize;
+
+    @Value("${report.producer.batch.lingerMillis:20}")
+    private long pipelineLingerMillis;
+
+    @Value("${report.producer.coalescing.windowMillis:0}")
+    private long coalescingWindowMillis;
+
+    @Value("${report.producer.context.delta.enabled:false}")
+    private boolean contextDeltaEnabled;
+
+    @Value("${report.producer.context.delta.checkpointInterval:20}")
+    private int contextDeltaCheckpointInterval;
+
+    @Value("${report.producer.context.delta.maxStatesMb:128}")
+    private long contextDeltaMaxStatesMb;
+
+    private ReportingPipeline pipeline;
+    private ContextDeltaTracker contextDeltaTracker;
+    private ReportCoalescingBuffer coalescingBuffer;
+    private HazelcastInstance hazelcastClient;
+
     private final ExecutorToMessageBrokerSender executorToMessageBrokerSender;
     private final MetricsAggregateService metricsAggregateService;
 
@@ -107,7 +161,47 @@ public class ReportWorker {
         this.metricsAggregateService = metricsAggregateService;
     }
 
-    private static String objectDescription(Storable object) {
+    @Autowired
+    public void setHazelcastClient(@Qualifier("hazelcastClient") HazelcastInstance hazelcastClient) {
+        this.hazelcastClient = hazelcastClient;
+    }
+
+    @PostConstruct
+    public void init() {
+        if (contextDeltaEnabled) {
+            contextDeltaTracker = new ContextDeltaTracker(contextDeltaCheckpointInterval,
+                    contextDeltaMaxStatesMb * 1024 * 1024, new HazelcastContextSequences(hazelcastClient));
+        }
+        if (pipelineEnabled) {
+            pipeline = new ReportingPipeline(this, metricsAggregateService,
+                    pipelineQueueCapacity,
+                    pipelineMaxBatchSize,
+                    pipelineLingerMillis,
+                    pipelineOverflowPolicy,
+                    pipelineBlockTimeoutMillis,
+                    Paths.get(pipelineSpillFolder),
+                    getReportExecutionSenderThreadPoolSize(null));
+            pipeline.start();
+        }
+        if (coalescingWindowMillis > 0) {
+            coalescingBuffer = new ReportCoalescingBuffer(coalescingWindowMillis,
+                    (object, date, projectId, tenantId) ->
+                            runInTenant(tenantId, () -> dispatch(object, date, projectId, tenantId)));
+            coalescingBuffer.start();
+        }
+    }
+
+    @PreDestroy
+    public void destroy() {
+        if (coalescingBuffer != null) {
+            coalescingBuffer.shutdown();
+        }
+        if (pipeline != null) {
+            pipeline.shutdown();
+        }
+    }
+
+    static String objectDescription(Storable object) {
         if (object instanceof AbstractInstance instance) {
             return object.getClass().getSimpleName() + " id=" + object.getID()
                     + ", name '" + object.getName() + "'"
@@ -211,6 +305,9 @@ public class ReportWorker {
             public void serializeAsField(Object pojo, JsonGenerator jgen, SerializerProvider provider,
                                          PropertyWriter writer) throws Exception {
                 if ("jsonString".equals(writer.getName()) && Objects.nonNull(pojo)) {
+                    if (OMIT_CONTEXT_JSON_STRING.get()) {
+                        return;
+                    }
                     String jsonString = ((TcContext)pojo).getJsonString();
                     if (jsonString != null && writeOriginalOrTruncatedField(jsonString, jsonString.length(),
                             SERIALIZATION_CONTEXT_JSONSTRING_MAX_SIZE,
@@ -286,108 +383,186 @@ public class ReportWorker {
                       BigInteger projectId,
                       String tenantId) {
         if (reportExecutionEnabled) {
-            ObjectMapper mapper = getMapper(projectId);
+            ReportPayload payload = serialize(object, date, projectId, tenantId);
+            if (payload == null) {
+                return;
+            }
             try {
-                serializeAndSend(object, date, projectId, mapper, tenantId);
+                long startTime = System.currentTimeMillis();
+                send(payload);
+                reportSent(payload);
+                long duration = System.currentTimeMillis() - startTime;
+                if (duration > 100L) {
+                    LOGGER.info("ReportWorker: too long send - {} ms, {}", duration, objectDescription(object));
+                }
             } catch (Throwable e) {
-                Throwable cause = e.getCause();
+                reportDiscarded(payload);
                 LOGGER.warn("Error executing reporting task: {} {}\nObject: {}",
                         e.getMessage(),
-                        (cause != null) ? "\nCaused by: " + cause : "",
+                        (e.getCause() != null) ? "\nCaused by: " + e.getCause() : "",
                         objectDescription(object));
-                if (cause instanceof ConcurrentModificationException) {
-                    // Retry once... It's rood WA, but...
-                    try {
-                        LOGGER.info("Retrying once after ConcurrentModificationException (sleep 100 ms before)...");
-                        Thread.sleep(100L);
-                        serializeAndSend(object, date, projectId, mapper, tenantId);
-                    } catch (InterruptedException ex) {
-                        // It never happens
-                    } catch (Throwable ex) {
-                        LOGGER.error("Error executing reporting task: {} {}\nObject: {}",
-                                ex.getMessage(),
-                                (ex.getCause() != null) ? "\nCaused by: " + ex.getCause() : "",
-                                objectDescription(object));
-                    }
+            }
+        }
+    }
+
+    /**
+     * Serialize object to be reported. Errors are logged, not thrown.
+     *
+     * @return payload ready to send, or null if the object is skipped or can't be serialized.
+     */
+    ReportPayload serialize(Storable object, Date date, BigInteger projectId, String tenantId) {
+        ObjectMapper mapper = getMapper(projectId);
+        try {
+            return serialize(object, date, projectId, mapper, tenantId);
+        } catch (Throwable e) {
+            Throwable cause = e.getCause();
+            LOGGER.warn("Error executing reporting task: {} {}\nObject: {}",
+                    e.getMessage(),
+                    (cause != null) ? "\nCaused by: " + cause : "",
+                    objectDescription(object));
+            if (cause instanceof ConcurrentModificationException) {
+                // Retry once... It's rood WA, but...
+                try {
+                    LOGGER.info("Retrying once after ConcurrentModificationException (sleep 100 ms before)...");
+                    Thread.sleep(100L);
+                    return serialize(object, date, projectId, mapper, tenantId);
+                } catch (InterruptedException ex) {
+                    // It never happens
+                } catch (Throwable ex) {
+                    LOGGER.error("Error executing reporting task: {} {}\nObject: {}",
+                            ex.getMessage(),
+                            (ex.getCause() != null) ? "\nCaused by: " + ex.getCause() : "",
+                            objectDescription(object));
                 }
             }
+            return null;
         }
     }
 
-    private void send(String text, long time, String id, String type, String tenantId, int partNum) throws Throwable {
+    private void send(ReportPayload payload) throws Throwable {
         try {
-            executorToMessageBrokerSender.sendMessageToReportingQueue(createTextMessage(text, time, id, type,
-                    tenantId, partNum));
-            LOGGER.debug("Message is sent: id - {}, type - {}", id, type);
+            executorToMessageBrokerSender.sendMessageToReportingQueue(createTextMessage(payload));
+            LOGGER.debug("Message is sent: id - {}, type - {}", payload.getId(), payload.getType());
         } catch (JMSException e) {
-            throw new Throwable("Error while sending message: id - %s, type - %s".formatted(id, type), e);
+            throw new Throwable("Error while sending message: id - %s, type - %s".formatted(payload.getId(),
+                    payload.getType()), e);
+        }
+    }
+
+    /**
+     * Send several payloads to the reporting queue via one JMS session.
+     */
+    void sendBatch(List<ReportPayload> payloads) throws JMSException {
+        List<TextMessage> messages = new ArrayList<>(payloads.size());
+        for (ReportPayload payload : payloads) {
+            messages.add(createTextMessage(payload));
+        }
+        try {
+            executorToMessageBrokerSender.sendMessagesToReportingQueue(messages);
+        } catch (JMSException | RuntimeException e) {
+            payloads.forEach(this::reportDiscarded);
+            throw e;
+        }
+        payloads.forEach(this::reportSent);
+        LOGGER.debug("Batch of {} messages is sent", messages.size());
+    }
+
+    /**
+     * Run reporting action in a reporting thread (sender, flusher) with the tenant of the reported object set;
+     * the default tenant is set back after the action, since reporting threads have no tenant of their own.
+     */
+    <T> T inTenant(String tenantId, Supplier<T> action) {
+        if (!multiTenancyEnabled || tenantId == null) {
+            return action.get();
+        }
+        TenantContext.setTenantInfo(tenantId);
+        try {
+            return action.get();
+        } finally {
+            TenantContext.setDefaultTenantInfo();
+        }
+    }
+
+    void runInTenant(String tenantId, Runnable action) {
+        inTenant(tenantId, () -> {
+            action.run();
+            return null;
+        });
+    }
+
+    /**
+     * The payload is sent: the reported TcContext state becomes the base of its next patch.
+     */
+    void reportSent(ReportPayload payload) {
+        if (payload.contextDelta() != null) {
+            contextDeltaTracker.committed(payload.contextDelta());
         }
     }
 
-    private void serializeAndSend(Storable object,
-                                  Date date,
-                                  BigInteger projectId,
-                                  ObjectMapper mapper,
-                                  String tenantId) throws Throwable {
+    /**
+     * The payload isn't sent (failed, spilled to disk): the next report of the TcContext is a full snapshot.
+     */
+    void reportDiscarded(ReportPayload payload) {
+        if (payload.contextDelta() != null) {
+            contextDeltaTracker.discarded(payload.contextDelta());
+        }
+    }
+
+    private ReportPayload serialize(Storable object,
+                                    Date date,
+                                    BigInteger projectId,
+                                    ObjectMapper mapper,
+                                    String tenantId) throws Throwable {
         if (object instanceof CallChainInstance instance) {
             TcContext tc = instance.getContext().getTC();
             if (tc != null && tc.getInitiator() == object) {
                 LOGGER.debug("CallChainInstance {} is Initiator of TcContext {}, sending is skipped",
                         object.getID(), tc.getID());
-                return;
+                return null;
             }
         } else if (object instanceof StepInstance) {
-            return; // We will send SituationInstance with child StepInstances instead
+            return null; // We will send SituationInstance with child StepInstances instead
+        }
+        ContextDeltaTracker.Delta delta = (contextDeltaTracker != null && object instanceof TcContext tcContext)
+                ? contextDeltaTracker.next(tcContext)
+                : null;
+        boolean serialized = false;
+        try {
+            ReportPayload result = serialize(object, date, projectId, mapper, tenantId, delta);
+            serialized = result != null;
+            return result;
+        } finally {
+            if (delta != null && !serialized) {
+                // The reserved sequence number is never sent, so the next report is a full snapshot
+                contextDeltaTracker.discarded(delta);
+            }
         }
-        String jsonString = mapper.writeValueAsString(object);
+    }
+
+    private ReportPayload serialize(Storable object,
+                                    Date date,
+                                    BigInteger projectId,
+                                    ObjectMapper mapper,
+                                    String tenantId,
+                                    ContextDeltaTracker.Delta delta) throws Throwable {
         String type;
         int partNum;
-        if (object instanceof TcContext tcContext && tcContext.getInitiator() != null) {
-            AbstractContainerInstance initiator = tcContext.getInitiator();
-            if (initiator.getName() == null) {
-                /*
-                 It's the only real case when tcContext and initiator objects are got from
-                 Hazelcast distributed cache, when tcContext is found by key.
-                 It means that tcContext and initiator objects were already reported, and
-                 that it's incorrect to report initiator object now!
-                */
-                type = "TcContext";
-            } else {
-                // Combined message is composed to send initiator info together
-                String jsonStringInitiator = mapper.writeValueAsString(initiator);
-                jsonString = "{\"TcContext\":" + jsonString + ",\"Initiator\":" + jsonStringInitiator + "}";
-                type = "Combined_TcContext_Initiator";
-            }
+        if (delta != null && !delta.isSnapshot()) {
+            type = "TcContextDelta";
+            partNum = ((TcContext) object).getPartNum();
+        } else if (object instanceof TcContext tcContext && tcContext.getInitiator() != null) {
+            /*
+             Initiator name is null in the only real case when tcContext and initiator objects are got from
+             Hazelcast distributed cache, when tcContext is found by key.
+             It means that tcContext and initiator objects were already reported, and
+             that it's incorrect to report initiator object now!
+             Otherwise, combined message is composed to send initiator info together.
+            */
+            type = tcContext.getInitiator().getName() == null ? "TcContext" : "Combined_TcContext_Initiator";
             partNum = tcContext.getPartNum();
-            collectContextSizeMetric(tcContext, initiator, jsonString.length());
         } else if (object instanceof SituationInstance situationInstance) {
-            String logMessage =
-                    "Report SituationInstance: [" + situationInstance.getID() + "] " + situationInstance.getName();
-            jsonString = "{\"SituationInstance\":"
-                    + jsonString
-                    + (situationInstance.getID().equals(situationInstance.getContext().tc().getInitiator().getID())
-                    ? ",\"isInitiator\" : true" : ",\"isInitiator\" : false")
-                    + ",\"StepInstances\": [";
-            if (situationInstance.getStepInstances() != null) {
-                boolean notFirst = false;
-                List<StepInstance> stepInstances = situationInstance.getStepInstances();
-                for (int i = 0, stepInstancesSize = stepInstances.size(); i < stepInstancesSize; i++) {
-                    StepInstance stepInstance = stepInstances.get(i);
-                    if ((i < stepInstancesSize - 1)
-                            && IntegrationStepHelper.notLastValidationAttempt(stepInstance, stepInstances.get(i + 1))) {
-                        continue;
-                    }
-                    fillReportingObjectsIds(stepInstance);
-                    String jsonStringStepInstance = mapper.writeValueAsString(stepInstance);
-                    jsonString = jsonString + (notFirst ? "," : "") + jsonStringStepInstance;
-                    logMessage += ", StepInstance: [" + stepInstance.getID() + "] " + stepInstance.getName();
-                    notFirst = true;
-                }
-            }
-            jsonString = jsonString + "]}";
             type = "Combined_SituationInstance_StepInstances";
             partNum = situationInstance.getContext().tc().getPartNum();
-            LOGGER.debug(logMessage);
         } else {
             type = object.getClass().getSimpleName();
             LOGGER.debug("Message of type {} is sent", type);
@@ -398,25 +573,113 @@ public class ReportWorker {
                 LOGGER.warn("Object type {}: Cannot determine partNum; 1 is set", type);
             }
         }
-        if (WARN_ABOUT_SIZE > 0 || MAX_SIZE > 0) {
-            int length = jsonString.length();
-            if (MAX_SIZE > 0 && length > MAX_SIZE) {
-                LOGGER.error("Attempt to send too big object: projectId {}, object: {}, message size: {} - REJECTED",
-                        projectId, objectDescription(object), length);
-                return;
-            } else if (WARN_ABOUT_SIZE > 0 && length >= WARN_ABOUT_SIZE) {
+        ReportPayloadBuffer payload = ReportPayloadBuffer.acquire(MAX_SIZE);
+        try {
+            try (JsonGenerator generator = mapper.getFactory().createGenerator(payload)) {
+                if (delta != null && !delta.isSnapshot()) {
+                    writeTcContextDelta((TcContext) object, delta, mapper, generator);
+                } else if (object instanceof TcContext tcContext && "Combined_TcContext_Initiator".equals(type)) {
+                    writeTcContextWithInitiator(tcContext, mapper, generator);
+                } else if (object instanceof SituationInstance situationInstance) {
+                    writeSituationInstanceWithSteps(situationInstance, mapper, generator);
+                } else {
+                    mapper.writeValue(generator, object);
+                }
+            } catch (ReportPayloadBuffer.SizeLimitExceededException e) {
+                LOGGER.error("Attempt to send too big object: projectId {}, object: {}, message size: more than {}"
+                        + " - REJECTED", projectId, objectDescription(object), MAX_SIZE);
+                return null;
+            }
+            int length = payload.size();
+            if (object instanceof TcContext tcContext && tcContext.getInitiator() != null) {
+                collectContextSizeMetric(tcContext, tcContext.getInitiator(), length);
+            }
+            if (WARN_ABOUT_SIZE > 0 && length >= WARN_ABOUT_SIZE) {
                 LOGGER.warn("Attempt to send too big object: projectId {}, object: {}, message size: {}",
                         projectId, objectDescription(object), length);
             }
+            return new ReportPayload(payload.toUtf8String(),
+                    date.getTime(),
+                    !Objects.isNull(object.getID()) ? object.getID().toString() : UUID.randomUUID().toString(),
+                    type, tenantId, partNum, delta);
+        } finally {
+            payload.release();
+        }
+    }
+
+    private void writeTcContextWithInitiator(TcContext tcContext,
+                                             ObjectMapper mapper,
+                                             JsonGenerator generator) throws IOException {
+        generator.writeStartObject();
+        generator.writeFieldName("TcContext");
+        mapper.writeValue(generator, tcContext);
+        generator.writeFieldName("Initiator");
+        mapper.writeValue(generator, tcContext.getInitiator());
+        generator.writeEndObject();
+    }
+
+    private void writeTcContextDelta(TcContext tcContext,
+                                     ContextDeltaTracker.Delta delta,
+                                     ObjectMapper mapper,
+                                     JsonGenerator generator) throws IOException {
+        generator.writeStartObject();
+        generator.writeFieldName("TcContext");
+        OMIT_CONTEXT_JSON_STRING.set(true);
+        try {
+            mapper.writeValue(generator, tcContext);
+        } finally {
+            OMIT_CONTEXT_JSON_STRING.set(false);
         }
-        long startTime = System.currentTimeMillis();
-        send(jsonString,
-                date.getTime(),
-                !Objects.isNull(object.getID()) ? object.getID().toString() : UUID.randomUUID().toString(),
-                type, tenantId, partNum);
-        long duration = System.currentTimeMillis() - startTime;
-        if (duration > 100L) {
-            LOGGER.info("ReportWorker: too long send - {} ms, {}", duration, objectDescription(object));
+        generator.writeNumberField("seq", delta.seq);
+        generator.writeNumberField("baseSeq", delta.seq - 1);
+        generator.writeArrayFieldStart("patch");
+        for (ContextDeltaTracker.Operation operation : delta.operations) {
+            generator.writeStartObject();
+            generator.writeStringField("op", operation.op);
+            generator.writeStringField("path", operation.path);
+            if (!"remove".equals(operation.op)) {
+                generator.writeFieldName("value");
+                mapper.writeValue(generator, operation.value);
+            }
+            generator.writeEndObject();
+        }
+        generator.writeEndArray();
+        generator.writeEndObject();
+    }
+
+    private void writeSituationInstanceWithSteps(SituationInstance situationInstance,
+                                                 ObjectMapper mapper,
+                                                 JsonGenerator generator) throws IOException {
+        StringBuilder logMessage = LOGGER.isDebugEnabled()
+                ? new StringBuilder("Report SituationInstance: [").append(situationInstance.getID()).append("] ")
+                .append(situationInstance.getName())
+                : null;
+        generator.writeStartObject();
+        generator.writeFieldName("SituationInstance");
+        mapper.writeValue(generator, situationInstance);
+        generator.writeBooleanField("isInitiator",
+                situationInstance.getID().equals(situationInstance.getContext().tc().getInitiator().getID()));
+        generator.writeArrayFieldStart("StepInstances");
+        List<StepInstance> stepInstances = situationInstance.getStepInstances();
+        if (stepInstances != null) {
+            for (int i = 0, stepInstancesSize = stepInstances.size(); i < stepInstancesSize; i++) {
+                StepInstance stepInstance = stepInstances.get(i);
+                if ((i < stepInstancesSize - 1)
+                        && IntegrationStepHelper.notLastValidationAttempt(stepInstance, stepInstances.get(i + 1))) {
+                    continue;
+                }
+                fillReportingObjectsIds(stepInstance);
+                mapper.writeValue(generator, stepInstance);
+                if (logMessage != null) {
+                    logMessage.append(", StepInstance: [").append(stepInstance.getID()).append("] ")
+                            .append(stepInstance.getName());
+                }
+            }
+        }
+        generator.writeEndArray();
+        generator.writeEndObject();
+        if (logMessage != null) {
+            LOGGER.debug(logMessage.toString());
         }
     }
 
@@ -457,18 +720,20 @@ public class ReportWorker {
         }
     }
 
-    private TextMessage createTextMessage(String text, long time, String id, String type, String tenantId, int partNum)
-            throws JMSException {
+    private TextMessage createTextMessage(ReportPayload payload) throws JMSException {
         ActiveMQTextMessage message = new ActiveMQTextMessage();
-        message.setText(text);
-        message.setLongProperty("Time", time);
-        message.setStringProperty("ObjectID", id);
-        message.setStringProperty("ObjectType", type);
+        message.setText(payload.getText());
+        message.setLongProperty("Time", payload.getTime());
+        message.setStringProperty("ObjectID", payload.getId());
+        message.setStringProperty("ObjectType", payload.getType());
         if (useGroupingMessages) {
-            message.setStringProperty("JMSXGroupID", id);
+            message.setStringProperty("JMSXGroupID", payload.getId());
+        }
+        message.setStringProperty(CustomHeader.X_PROJECT_ID, payload.getTenantId());
+        message.setIntProperty("partNum", payload.getPartNum());
+        if (payload.getContextSeq() != ReportPayload.NO_CONTEXT_SEQ) {
+            message.setLongProperty("ContextSeq", payload.getContextSeq());
         }
-        message.setStringProperty(CustomHeader.X_PROJECT_ID, tenantId);
-        message.setIntProperty("partNum", partNum);
         return message;
     }
 
@@ -490,17 +755,40 @@ public class ReportWorker {
     @AtpJaegerLog(spanTags = @AtpSpanTag(key = "submit.object.name", value = "#object.name"))
     public void submit(Storable object, Date date, BigInteger projectId, String tenantId) {
         MdcUtils.put(MdcField.TRACE_ID.toString(), MDC.get(MdcField.STUB_TRACE_ID.toString()));
-        boolean reportExecutionEnabled = isReportExecutionEnabled(projectId);
-        if (reportExecutionEnabled) {
-            if (isReportInDifferentThread(projectId)) {
-                Objects.requireNonNull(getExecutorService(projectId)).submit(
-                        new Worker(object, date, reportExecutionEnabled, projectId, tenantId));
+        if (isReportExecutionEnabled(projectId)) {
+            if (coalescingBuffer != null) {
+                // The object is sent right now, so its earlier buffered state is outdated
+                coalescingBuffer.sendNow(object, () -> dispatch(object, date, projectId, tenantId));
             } else {
-                send(object, date, reportExecutionEnabled, projectId, tenantId);
+                dispatch(object, date, projectId, tenantId);
             }
         }
     }
 
+    /**
+     * Submit intermediate state of the object. In case coalescing is turned on
+     * (report.producer.coalescing.windowMillis > 0), the object is buffered, and only its newest state
+     * is reported after the window elapses. Finished test case contexts are never buffered.
+     */
+    public void submitCoalesced(Storable object, Date date, BigInteger projectId, String tenantId) {
+        if (coalescingBuffer == null || (object instanceof TcContext tcContext && tcContext.isFinished())) {
+            submit(object, date, projectId, tenantId);
+        } else if (isReportExecutionEnabled(projectId)) {
+            coalescingBuffer.put(object, date, projectId, tenantId);
+        }
+    }
+
+    private void dispatch(Storable object, Date date, BigInteger projectId, String tenantId) {
+        if (pipeline != null) {
+            pipeline.submit(object, date, projectId, tenantId);
+        } else if (isReportInDifferentThread(projectId)) {
+            Objects.requireNonNull(getExecutorService(projectId)).submit(
+                    new Worker(object, date, true, projectId, tenantId));
+        } else {
+            send(object, date, true, projectId, tenantId);
+        }
+    }
+
     private boolean isReportInDifferentThread(BigInteger projectId) {
         // Temporarily (?) changed to global property
         return BooleanUtils.toBoolean(Config.getConfig().getStringOrDefault(
@@ -534,7 +822,7 @@ public class ReportWorker {
 
         @Override
         public void run() {
-            send(object, date, reportExecutionEnabled, projectId, projectUuid);
+            runInTenant(projectUuid, () -> send(object, date, reportExecutionEnabled, projectId, projectUuid));
         }
     }
 }
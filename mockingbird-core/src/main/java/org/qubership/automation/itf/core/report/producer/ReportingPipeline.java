@@ -0,0 +1,565 @@
+/*
+ * # Copyright 2024-2026 NetCracker Technology Corporation
+ * #
+ * # Licensed under the Apache License, Version 2.0 (the "License");
+ * # you may not use this file except in compliance with the License.
+ * # You may obtain a copy of the License at
+ * #
+ * #      http://www.apache.org/licenses/LICENSE-2.0
+ * #
+ * # Unless required by applicable law or agreed to in writing, software
+ * # distributed under the License is distributed on an "AS IS" BASIS,
+ * # WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * # See the License for the specific language governing permissions and
+ * # limitations under the License.
+ *
+ */
+
+package org.qubership.automation.itf.core.report.producer;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+import org.qubership.automation.itf.core.execution.DaemonThreadPoolFactory;
+import org.qubership.automation.itf.core.metric.MetricsAggregateService;
+import org.qubership.automation.itf.core.model.common.Storable;
+import org.qubership.automation.itf.core.model.jpa.instance.AbstractInstance;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Bounded reporting queues served by a fixed number of sender threads, a partition (queue) per thread.
+ * Objects are partitioned by test case context id, so reports of a context are sent
+ * by one thread in the submission order.
+ * Sender threads take objects from their queue in batches (up to maxBatchSize objects,
+ * waiting no more than linger time for the batch to fill), serialize them and send
+ * messages of the same project/partNum via one JMS session.
+ * When the queue is full, the configured {@link ReportOverflowPolicy} is applied.
+ * In SPILL_TO_DISK mode, objects which don't fit the queue (and messages which failed to send) are spilled
+ * to the partition's backlog on disk, and the partition is parked: newer objects are spilled behind the backlog
+ * by the sender thread, and the backlog is sent in the spill order before the partition takes the queue again.
+ * Objects are serialized by sender threads only; a submitting thread waits for free space in the overflow
+ * of the partition no more than the block timeout.
+ */
+public class ReportingPipeline {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ReportingPipeline.class);
+    private static final String SPILL_FILE_EXTENSION = ".report";
+    private static final long DROPPED_LOG_INTERVAL = 1000L;
+    private static final long SPILL_RETRY_DELAY_MILLIS = 200L;
+    private static final Pattern SPILL_FILE_NAME = Pattern.compile("p\\d{3}-(\\d{20}-\\d{19}-([0-9a-f]{8})-.+)");
+
+    private final ReportWorker reportWorker;
+    private final MetricsAggregateService metricsAggregateService;
+    private final List<Partition> partitions;
+    private final int queueCapacity;
+    private final int maxBatchSize;
+    private final long lingerNanos;
+    private final ReportOverflowPolicy overflowPolicy;
+    private final long blockTimeoutMillis;
+    private final Path spillFolder;
+    private final int senderThreads;
+    private final ExecutorService senders;
+    private final AtomicLong spillSequence = new AtomicLong();
+    private final AtomicLong droppedCount = new AtomicLong();
+    private volatile boolean running = true;
+
+    ReportingPipeline(ReportWorker reportWorker,
+                      MetricsAggregateService metricsAggregateService,
+                      int queueCapacity,
+                      int maxBatchSize,
+                      long lingerMillis,
+                      ReportOverflowPolicy overflowPolicy,
+                      long blockTimeoutMillis,
+                      Path spillFolder,
+                      int senderThreads) {
+        this.reportWorker = reportWorker;
+        this.metricsAggregateService = metricsAggregateService;
+        this.senderThreads = Math.max(1, senderThreads);
+        this.queueCapacity = queueCapacity;
+        this.partitions = new ArrayList<>(this.senderThreads);
+        for (int i = 0; i < this.senderThreads; i++) {
+            partitions.add(new Partition(i, Math.max(1, queueCapacity / this.senderThreads),
+                    overflowPolicy == ReportOverflowPolicy.SPILL_TO_DISK));
+        }
+        this.maxBatchSize = Math.max(1, maxBatchSize);
+        this.lingerNanos = TimeUnit.MILLISECONDS.toNanos(lingerMillis);
+        this.overflowPolicy = overflowPolicy;
+        this.blockTimeoutMillis = blockTimeoutMillis;
+        this.spillFolder = spillFolder;
+        this.senders = DaemonThreadPoolFactory.fixedThreadPool(this.senderThreads, "ReportPipeline - ");
+    }
+
+    void start() {
+        if (overflowPolicy == ReportOverflowPolicy.SPILL_TO_DISK) {
+            try {
+                Files.createDirectories(spillFolder);
+                int spilled = restoreSpilled();
+                if (spilled > 0) {
+                    LOGGER.info("Reporting pipeline: {} messages spilled to disk before restart will be sent",
+                            spilled);
+                }
+            } catch (IOException e) {
+                LOGGER.error("Reporting pipeline: cannot prepare spill folder {}", spillFolder, e);
+            }
+        }
+        metricsAggregateService.registerReportQueueGauges(this::queuedCount, this::spilledCount);
+        for (Partition partition : partitions) {
+            senders.submit(() -> drain(partition));
+        }
+        LOGGER.info("Reporting pipeline is started: queue capacity {}, batch size {}, linger {} ms, "
+                        + "overflow policy {}, sender threads {}", queueCapacity, maxBatchSize,
+                TimeUnit.NANOSECONDS.toMillis(lingerNanos), overflowPolicy, senderThreads);
+    }
+
+    /**
+     * Stop the pipeline. Sender threads send (or spill behind the backlog) objects queued so far
+     * within 5 seconds. Objects which are still queued after that are spilled to disk in SPILL_TO_DISK mode,
+     * and aren't reported otherwise.
+     */
+    void shutdown() {
+        running = false;
+        senders.shutdown();
+        try {
+            if (!senders.awaitTermination(5, TimeUnit.SECONDS)) {
+                senders.shutdownNow();
+                senders.awaitTermination(1, TimeUnit.SECONDS);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        int notReported = 0;
+        for (Partition partition : partitions) {
+            List<ReportTask> rest = partition.drainQueued();
+            if (overflowPolicy == ReportOverflowPolicy.SPILL_TO_DISK) {
+                rest.forEach(task -> spill(partition, task));
+            } else {
+                notReported += rest.size();
+            }
+        }
+        if (notReported > 0) {
+            LOGGER.warn("Reporting pipeline is stopped; {} queued objects are not reported", notReported);
+        }
+    }
+
+    void submit(Storable object, Date date, BigInteger projectId, String tenantId) {
+        ReportTask task = new ReportTask(object, date, projectId, tenantId);
+        Partition partition = partitions.get(Math.floorMod(task.contextHash, partitions.size()));
+        if (!partition.parked && partition.queue.offer(task)) {
+            return;
+        }
+        switch (overflowPolicy) {
+            case BLOCK -> {
+                try {
+                    if (!partition.queue.offer(task, blockTimeoutMillis, TimeUnit.MILLISECONDS)) {
+                        drop(task);
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    drop(task);
+                }
+            }
+            case DROP_OLDEST -> {
+                while (!partition.queue.offer(task)) {
+                    ReportTask oldest = partition.queue.poll();
+                    if (oldest != null) {
+                        drop(oldest);
+                    }
+                }
+            }
+            case SPILL_TO_DISK -> park(partition, task);
+            default -> drop(task);
+        }
+    }
+
+    /*  The task is put to the overflow under the partition lock, so the partition can't be unparked
+        (and newer tasks can't be queued) while an older task is being put to the overflow.
+     */
+    private void park(Partition partition, ReportTask task) {
+        partition.lock.lock();
+        try {
+            if (!partition.parked && partition.queue.offer(task)) {
+                return;
+            }
+            partition.parked = true;
+            if (!partition.overflow.offer(task, blockTimeoutMillis, TimeUnit.MILLISECONDS)) {
+                drop(task);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            drop(task);
+        } finally {
+            partition.lock.unlock();
+        }
+    }
+
+    /*  Instances are reported to the same queue as their test case context; the context itself is partitioned
+        by its own id.
+     */
+    private static Object contextId(Storable object) {
+        if (object instanceof AbstractInstance instance && instance.getContext() != null
+                && instance.getContext().tc() != null) {
+            return instance.getContext().tc().getID();
+        }
+        return object.getID();
+    }
+
+    private int queuedCount() {
+        return partitions.stream().mapToInt(partition -> partition.queue.size() + partition.overflow.size()).sum();
+    }
+
+    private int spilledCount() {
+        return partitions.stream().mapToInt(partition -> partition.spilled.get()).sum();
+    }
+
+    private void drain(Partition partition) {
+        List<ReportTask> batch = new ArrayList<>(maxBatchSize);
+        while (running || partition.hasQueued()) {
+            try {
+                if (partition.parked) {
+                    drainBacklog(partition);
+                    continue;
+                }
+                ReportTask first = partition.queue.poll(running ? 1000 : 0, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                partition.queue.drainTo(batch, maxBatchSize - 1);
+                long deadline = System.nanoTime() + lingerNanos;
+                while (batch.size() < maxBatchSize && running) {
+                    long remaining = deadline - System.nanoTime();
+                    ReportTask next = remaining > 0 ? partition.queue.poll(remaining, TimeUnit.NANOSECONDS) : null;
+                    if (next == null) {
+                        break;
+                    }
+                    batch.add(next);
+                    partition.queue.drainTo(batch, maxBatchSize - batch.size());
+                }
+                process(partition, batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (Throwable t) {
+                LOGGER.error("Reporting pipeline: error while processing batch", t);
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    /*  Queued and overflowed objects are newer than the backlog: they're spilled behind it,
+        then the oldest spilled messages are sent. The partition is unparked once the backlog is sent
+        and nothing is overflowed; it's checked under the partition lock, see park().
+     */
+    private void drainBacklog(Partition partition) throws InterruptedException {
+        partition.drainQueued().forEach(task -> spill(partition, task));
+        if (!sendSpilled(partition)) {
+            // When the pipeline is stopping, the backlog is left to be sent after restart
+            if (running) {
+                TimeUnit.MILLISECONDS.sleep(SPILL_RETRY_DELAY_MILLIS);
+            }
+            return;
+        }
+        if (partition.spilled.get() == 0 && partition.lock.tryLock()) {
+            try {
+                if (partition.overflow.isEmpty()) {
+                    partition.parked = false;
+                }
+            } finally {
+                partition.lock.unlock();
+            }
+        }
+    }
+
+    private void process(Partition partition, List<ReportTask> batch) {
+        Map<String, List<ReportPayload>> groups = new LinkedHashMap<>();
+        Map<String, List<ReportTask>> groupTasks = new LinkedHashMap<>();
+        for (ReportTask task : batch) {
+            ReportPayload payload = reportWorker.inTenant(task.tenantId,
+                    () -> reportWorker.serialize(task.object, task.date, task.projectId, task.tenantId));
+            if (payload != null) {
+                String key = task.projectId + "/" + payload.getPartNum();
+                groups.computeIfAbsent(key, k -> new ArrayList<>()).add(payload);
+                groupTasks.computeIfAbsent(key, k -> new ArrayList<>()).add(task);
+            }
+        }
+        for (Map.Entry<String, List<ReportPayload>> group : groups.entrySet()) {
+            List<ReportPayload> payloads = group.getValue();
+            if (!reportWorker.inTenant(payloads.get(0).getTenantId(), () -> send(payloads))
+                    && overflowPolicy == ReportOverflowPolicy.SPILL_TO_DISK) {
+                partition.parked = true;
+                List<ReportTask> tasks = groupTasks.get(group.getKey());
+                for (int i = 0; i < payloads.size(); i++) {
+                    spill(partition, payloads.get(i), tasks.get(i));
+                }
+            }
+        }
+    }
+
+    private boolean send(List<ReportPayload> payloads) {
+        long startTime = System.nanoTime();
+        try {
+            reportWorker.sendBatch(payloads);
+            return true;
+        } catch (Throwable e) {
+            LOGGER.error("Reporting pipeline: error while sending batch of {} messages: {}",
+                    payloads.size(), e.getMessage());
+            return false;
+        } finally {
+            metricsAggregateService.recordReportBatch(payloads.size(),
+                    Duration.ofNanos(System.nanoTime() - startTime));
+        }
+    }
+
+    private void drop(ReportTask task) {
+        metricsAggregateService.incrementReportDroppedCount();
+        long dropped = droppedCount.incrementAndGet();
+        LOGGER.debug("Reporting queue is full, object is not reported: {}",
+                ReportWorker.objectDescription(task.object));
+        if (dropped % DROPPED_LOG_INTERVAL == 1) {
+            LOGGER.warn("Reporting queue is full (capacity {}, policy {}); {} objects are not reported so far",
+                    queueCapacity, overflowPolicy, dropped);
+        }
+    }
+
+    private void spill(Partition partition, ReportTask task) {
+        ReportPayload payload = reportWorker.inTenant(task.tenantId,
+                () -> reportWorker.serialize(task.object, task.date, task.projectId, task.tenantId));
+        if (payload != null) {
+            spill(partition, payload, task);
+        }
+    }
+
+    private void spill(Partition partition, ReportPayload payload, ReportTask task) {
+        // Spilled message isn't sent now, so it can't be a base of the next patch
+        reportWorker.reportDiscarded(payload);
+        /*  Partition-, time- and sequence-prefixed names keep spilled messages of the partition in spill order;
+            the context hash is kept to find the partition of the message after restart.
+         */
+        String name = "%s%020d-%019d-%08x-%s".formatted(partition.filePrefix, System.currentTimeMillis(),
+                spillSequence.incrementAndGet(), task.contextHash, UUID.randomUUID());
+        Path tmpFile = spillFolder.resolve(name + ".tmp");
+        try {
+            try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(
+                    Files.newOutputStream(tmpFile)))) {
+                out.writeLong(payload.getTime());
+                out.writeUTF(payload.getId());
+                out.writeUTF(payload.getType());
+                writeNullableUtf(out, payload.getTenantId());
+                writeNullableUtf(out, task.projectId == null ? null : task.projectId.toString());
+                out.writeInt(payload.getPartNum());
+                out.writeLong(payload.getContextSeq());
+                byte[] text = payload.getText().getBytes(StandardCharsets.UTF_8);
+                out.writeInt(text.length);
+                out.write(text);
+            }
+            Files.move(tmpFile, spillFolder.resolve(name + SPILL_FILE_EXTENSION), StandardCopyOption.ATOMIC_MOVE);
+            partition.spilled.incrementAndGet();
+        } catch (IOException e) {
+            LOGGER.error("Reporting pipeline: cannot spill message id - {}, type - {} to {}",
+                    payload.getId(), payload.getType(), spillFolder, e);
+            metricsAggregateService.incrementReportDroppedCount();
+        }
+    }
+
+    /*  Send the oldest batch of the partition's spilled messages, grouped by project/partNum.
+        Returns false if nothing is sent: the backlog is empty or sending is failed.
+     */
+    private boolean sendSpilled(Partition partition) {
+        if (partition.spilled.get() == 0) {
+            return true;
+        }
+        List<Path> files;
+        try (Stream<Path> stream = Files.list(spillFolder)) {
+            files = stream.filter(path -> isSpillFile(path)
+                            && path.getFileName().toString().startsWith(partition.filePrefix))
+                    .sorted().limit(maxBatchSize).toList();
+        } catch (IOException e) {
+            LOGGER.error("Reporting pipeline: error while reading spill folder {}", spillFolder, e);
+            return false;
+        }
+        if (files.isEmpty()) {
+            partition.spilled.set(0);
+            return true;
+        }
+        Map<String, List<ReportPayload>> groups = new LinkedHashMap<>();
+        Map<String, List<Path>> groupFiles = new LinkedHashMap<>();
+        for (Path file : files) {
+            SpilledPayload spilled;
+            try {
+                spilled = readSpilled(file);
+            } catch (IOException e) {
+                LOGGER.error("Reporting pipeline: spilled message {} is corrupted and will be deleted", file, e);
+                deleteSpilled(partition, file);
+                continue;
+            }
+            String key = spilled.projectId + "/" + spilled.payload.getPartNum();
+            groups.computeIfAbsent(key, k -> new ArrayList<>()).add(spilled.payload);
+            groupFiles.computeIfAbsent(key, k -> new ArrayList<>()).add(file);
+        }
+        for (Map.Entry<String, List<ReportPayload>> group : groups.entrySet()) {
+            if (!reportWorker.inTenant(group.getValue().get(0).getTenantId(), () -> send(group.getValue()))) {
+                return false;
+            }
+            groupFiles.get(group.getKey()).forEach(file -> deleteSpilled(partition, file));
+        }
+        return true;
+    }
+
+    private void deleteSpilled(Partition partition, Path file) {
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            LOGGER.error("Reporting pipeline: cannot delete spilled message {}", file, e);
+        }
+        partition.spilled.decrementAndGet();
+    }
+
+    /*  Messages spilled before restart are assigned to partitions of their contexts
+        (the number of sender threads may be changed), keeping their time-ordered names.
+        Partitions with spilled messages are parked.
+     */
+    private int restoreSpilled() throws IOException {
+        List<Path> files;
+        try (Stream<Path> stream = Files.list(spillFolder)) {
+            files = stream.filter(ReportingPipeline::isSpillFile).toList();
+        }
+        int restored = 0;
+        for (Path file : files) {
+            Matcher matcher = SPILL_FILE_NAME.matcher(file.getFileName().toString());
+            if (!matcher.matches()) {
+                LOGGER.warn("Reporting pipeline: file {} isn't a spilled message and is ignored", file);
+                continue;
+            }
+            Partition partition = partitions.get(Math.floorMod(Integer.parseUnsignedInt(matcher.group(2), 16),
+                    partitions.size()));
+            if (!file.getFileName().toString().startsWith(partition.filePrefix)) {
+                Files.move(file, spillFolder.resolve(partition.filePrefix + matcher.group(1)),
+                        StandardCopyOption.ATOMIC_MOVE);
+            }
+            partition.spilled.incrementAndGet();
+            partition.parked = true;
+            restored++;
+        }
+        return restored;
+    }
+
+    private static SpilledPayload readSpilled(Path file) throws IOException {
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(file)))) {
+            long time = in.readLong();
+            String id = in.readUTF();
+            String type = in.readUTF();
+            String tenantId = readNullableUtf(in);
+            String projectId = readNullableUtf(in);
+            int partNum = in.readInt();
+            long contextSeq = in.readLong();
+            byte[] text = new byte[in.readInt()];
+            in.readFully(text);
+            return new SpilledPayload(new ReportPayload(new String(text, StandardCharsets.UTF_8), time, id, type,
+                    tenantId, partNum, contextSeq), projectId);
+        }
+    }
+
+    private static void writeNullableUtf(DataOutputStream out, String value) throws IOException {
+        out.writeBoolean(value != null);
+        if (value != null) {
+            out.writeUTF(value);
+        }
+    }
+
+    private static String readNullableUtf(DataInputStream in) throws IOException {
+        return in.readBoolean() ? in.readUTF() : null;
+    }
+
+    private static boolean isSpillFile(Path path) {
+        return path.getFileName().toString().endsWith(SPILL_FILE_EXTENSION);
+    }
+
+    /**
+     * Queue of a sender thread with its overflow and spilled backlog.
+     * While the partition is parked, submitted objects are put to the overflow, not to the queue.
+     */
+    private static class Partition {
+
+        private final String filePrefix;
+        private final BlockingQueue<ReportTask> queue;
+        private final BlockingQueue<ReportTask> overflow;
+        private final AtomicInteger spilled = new AtomicInteger();
+        private final ReentrantLock lock = new ReentrantLock();
+        private volatile boolean parked;
+
+        private Partition(int number, int capacity, boolean spillable) {
+            this.filePrefix = "p%03d-".formatted(number);
+            this.queue = new ArrayBlockingQueue<>(capacity);
+            this.overflow = new ArrayBlockingQueue<>(spillable ? capacity : 1);
+        }
+
+        private boolean hasQueued() {
+            return !queue.isEmpty() || !overflow.isEmpty();
+        }
+
+        /*  Queued objects are older than overflowed ones.
+         */
+        private List<ReportTask> drainQueued() {
+            List<ReportTask> tasks = new ArrayList<>(queue.size() + overflow.size());
+            queue.drainTo(tasks);
+            overflow.drainTo(tasks);
+            return tasks;
+        }
+    }
+
+    private static class SpilledPayload {
+
+        private final ReportPayload payload;
+        private final String projectId;
+
+        private SpilledPayload(ReportPayload payload, String projectId) {
+            this.payload = payload;
+            this.projectId = projectId;
+        }
+    }
+
+    private static class ReportTask {
+
+        private final Storable object;
+        private final Date date;
+        private final BigInteger projectId;
+        private final String tenantId;
+        private final int contextHash;
+
+        private ReportTask(Storable object, Date date, BigInteger projectId, String tenantId) {
+            this.object = object;
+            this.date = date;
+            this.projectId = projectId;
+            this.tenantId = tenantId;
+            this.contextHash = Objects.hashCode(contextId(object));
+        }
+    }
+}
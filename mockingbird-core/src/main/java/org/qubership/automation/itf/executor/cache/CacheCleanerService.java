@@ -48,7 +48,7 @@ public class CacheCleanerService {
         LOGGER.info("Cache Cleaner Service is started.");
         service.scheduleWithFixedDelay(() -> {
             try {
-                TCContextDiffCache.TC_CONTEXT_DIFF_CACHE.cleanUp();
+                TCContextDiffCache.cleanUp();
                 CacheServices.getCallchainSubscriberCacheService().cleanUp();
                 TCContextService.localRunningContextsCacheCleanUp();
                 SessionHandler.INSTANCE.cleanupCache();
@@ -21,12 +21,16 @@ import static org.qubership.automation.itf.core.util.config.Config.getConfig;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 
+import org.qubership.automation.itf.core.report.producer.HazelcastContextSequences;
 import org.qubership.automation.itf.core.util.constants.CacheNames;
 import org.qubership.automation.itf.executor.cache.hazelcast.listener.DiameterConnectionInfoEvictedListener;
 import org.qubership.automation.itf.executor.cache.hazelcast.listener.ResponseEntryExpiredListener;
 import org.qubership.automation.itf.executor.cache.hazelcast.listener.TCContextEntryExpiredListener;
 import org.qubership.automation.itf.executor.cache.hazelcast.listener.TCContextEntryListener;
+import org.qubership.automation.itf.executor.cache.hazelcast.serialization.TcContextSerializer;
+import org.qubership.automation.itf.executor.cache.service.impl.EnvironmentCacheService;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.cache.Cache;
 import org.springframework.cache.CacheManager;
@@ -37,7 +41,13 @@ import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
 import com.hazelcast.config.Config;
+import com.hazelcast.config.EvictionConfig;
+import com.hazelcast.config.EvictionPolicy;
+import com.hazelcast.config.InMemoryFormat;
+import com.hazelcast.config.IndexConfig;
+import com.hazelcast.config.IndexType;
 import com.hazelcast.config.MapConfig;
+import com.hazelcast.config.MaxSizePolicy;
 import com.hazelcast.core.HazelcastInstance;
 import com.hazelcast.map.IMap;
 import lombok.extern.slf4j.Slf4j;
@@ -47,16 +57,41 @@ import lombok.extern.slf4j.Slf4j;
 @Configuration
 public class CommonHazelcastConfig {
 
-    protected static void tryToCreateMapConfigsIfNotExist(HazelcastInstance hazelcastInstance, boolean remoteInstance) {
+    /*  Maps with big values, which memory settings can be configured via properties:
+            <prefix>.in-memory-format - BINARY (default) or OBJECT,
+            <prefix>.eviction.max-size-policy - PER_NODE, USED_HEAP_PERCENTAGE, USED_HEAP_SIZE etc.,
+            <prefix>.eviction.size - max size according to the policy; 0 means no limit (default),
+            <prefix>.eviction.policy - LRU (default if size is set), LFU, RANDOM.
+     */
+    private static final Map<String, String> MEMORY_SETTINGS_PREFIXES = Map.of(
+            CacheNames.ATP_ITF_TC_CONTEXTS, "hazelcast.map.tc-contexts",
+            CacheNames.ATP_ITF_PENDING_DATA_CONTEXTS, "hazelcast.map.pending-data-contexts",
+            CacheNames.ATP_ITF_RESPONSE_MESSAGES, "hazelcast.map.response-messages");
+
+    /*  Contexts are indexed only if they're written by ITF Compact serializer: members index the queryable
+        Compact fields (podName, projectId, status) without deserializing contexts.
+        Indexes on contexts written by Java serialization would deserialize the whole context on each write.
+     */
+    protected static void tryToCreateMapConfigsIfNotExist(HazelcastInstance hazelcastInstance, boolean remoteInstance,
+                                                          boolean itfSerializersEnabled) {
         Config config = hazelcastInstance.getConfig();
-        configCache(config, CacheNames.ATP_ITF_TC_CONTEXTS, true);
+        if (itfSerializersEnabled) {
+            configCache(config, CacheNames.ATP_ITF_TC_CONTEXTS, true,
+                    new IndexConfig(IndexType.HASH, TcContextSerializer.POD_NAME),
+                    new IndexConfig(IndexType.HASH, TcContextSerializer.PROJECT_ID),
+                    new IndexConfig(IndexType.HASH, TcContextSerializer.STATUS));
+        } else {
+            configCache(config, CacheNames.ATP_ITF_TC_CONTEXTS, true);
+        }
         configCache(config, CacheNames.ATP_ITF_TC_CONTEXTS_IDS_BOUND_BY_KEY, 7200);
+        configCache(config, HazelcastContextSequences.ATP_ITF_TC_CONTEXT_REPORT_SEQS, 7200);
         configCache(config, CacheNames.ATP_ITF_PENDING_DATA_CONTEXTS, 900);
         configCache(config, CacheNames.ATP_ITF_RUNNING_SCHEDULED_TASKS);
         configCache(config, CacheNames.ATP_ITF_AWAITING_CONTEXTS);
         configCache(config, CacheNames.ATP_ITF_DIAMETER_CONNECTION_INFO,
                 getConfig().getIntOrDefault("diameter.cacheLifetime", 12) * 3600);
         configCache(config, CacheNames.ATP_ITF_ENVIRONMENT_INFO);
+        configCache(config, EnvironmentCacheService.ATP_ITF_INBOUND_ENVIRONMENTS);
         if (!remoteInstance) {
             configCache(config, CacheNames.ATP_ITF_PROJECT_SETTINGS, true);
         }
@@ -67,13 +102,15 @@ public class CommonHazelcastConfig {
         configCache(config, cacheName, false);
     }
 
-    private static void configCache(Config config, String cacheName, boolean perEntryStatsEnabled) {
+    private static void configCache(Config config, String cacheName, boolean perEntryStatsEnabled,
+                                    IndexConfig... indexConfigs) {
         try {
             logTryToCreateInfo(cacheName);
-            config.addMapConfig(new MapConfig()
+            config.addMapConfig(applyMemorySettings(new MapConfig()
                     .setName(cacheName)
                     .setPerEntryStatsEnabled(perEntryStatsEnabled)
-            );
+                    .setIndexConfigs(new ArrayList<>(List.of(indexConfigs)))
+            ));
             logConfigCreatedOrExist(cacheName);
         } catch (Exception exception) {
             log.warn("Map {} already created on Hazelcast cluster side. It's not possible to change existing map "
@@ -84,7 +121,8 @@ public class CommonHazelcastConfig {
     private static void configCache(Config config, String cacheName, int maxIdleSeconds) {
         try {
             logTryToCreateInfo(cacheName);
-            config.addMapConfig(new MapConfig().setName(cacheName).setMaxIdleSeconds(maxIdleSeconds));
+            config.addMapConfig(applyMemorySettings(new MapConfig().setName(cacheName)
+                    .setMaxIdleSeconds(maxIdleSeconds)));
             logConfigCreatedOrExist(cacheName);
         } catch (Exception exception) {
             log.warn("Map {} already created on Hazelcast cluster side. It's not possible to change existing map "
@@ -92,6 +130,34 @@ public class CommonHazelcastConfig {
         }
     }
 
+    private static MapConfig applyMemorySettings(MapConfig mapConfig) {
+        String prefix = MEMORY_SETTINGS_PREFIXES.get(mapConfig.getName());
+        if (prefix == null) {
+            return mapConfig;
+        }
+        mapConfig.setInMemoryFormat(enumSetting(prefix + ".in-memory-format", InMemoryFormat.BINARY));
+        int size = getConfig().getIntOrDefault(prefix + ".eviction.size", 0);
+        if (size > 0) {
+            mapConfig.setEvictionConfig(new EvictionConfig()
+                    .setMaxSizePolicy(enumSetting(prefix + ".eviction.max-size-policy", MaxSizePolicy.PER_NODE))
+                    .setSize(size)
+                    .setEvictionPolicy(enumSetting(prefix + ".eviction.policy", EvictionPolicy.LRU)));
+        }
+        log.info("Hazelcast {} map memory settings: in-memory format {}, eviction {}", mapConfig.getName(),
+                mapConfig.getInMemoryFormat(), mapConfig.getEvictionConfig());
+        return mapConfig;
+    }
+
+    private static <E extends Enum<E>> E enumSetting(String name, E defaultValue) {
+        String value = getConfig().getStringOrDefault(name, defaultValue.name());
+        try {
+            return Enum.valueOf(defaultValue.getDeclaringClass(), value);
+        } catch (IllegalArgumentException e) {
+            log.error("Invalid value '{}' of {} property; default value {} is used", value, name, defaultValue, e);
+            return defaultValue;
+        }
+    }
+
     private static void logTryToCreateInfo(String cacheName) {
         log.info("Try to create config for hazelcast {} map.", cacheName);
     }
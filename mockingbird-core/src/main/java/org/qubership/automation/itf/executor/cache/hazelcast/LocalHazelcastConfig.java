@@ -17,6 +17,8 @@
 
 package org.qubership.automation.itf.executor.cache.hazelcast;
 
+import org.qubership.automation.itf.executor.cache.hazelcast.serialization.ItfSerializationConfigurer;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -33,6 +35,11 @@ import lombok.extern.slf4j.Slf4j;
 @ConditionalOnProperty(value = "hazelcast.cache.enabled", havingValue = "false")
 public class LocalHazelcastConfig {
 
+    @Value("${hazelcast.serialization.itf-serializers.enabled:false}")
+    private boolean itfSerializersEnabled;
+    @Value("${hazelcast.serialization.compression.threshold:16384}")
+    private int compressionThreshold;
+
     /**
      * Create {@link HazelcastInstance} bean.
      *
@@ -44,8 +51,11 @@ public class LocalHazelcastConfig {
         Config config = new Config();
         config.setClusterName("local-itf-hazelcast-cluster");
         config.setInstanceName("local-itf-hc-cache-instance");
+        if (itfSerializersEnabled) {
+            ItfSerializationConfigurer.configure(config.getSerializationConfig(), compressionThreshold);
+        }
         HazelcastInstance hazelcastInstance = Hazelcast.newHazelcastInstance(config);
-        CommonHazelcastConfig.tryToCreateMapConfigsIfNotExist(hazelcastInstance, false);
+        CommonHazelcastConfig.tryToCreateMapConfigsIfNotExist(hazelcastInstance, false, itfSerializersEnabled);
         log.info("LocalHazelcastConfig#hazelcastClient: Configuring is completed");
         return hazelcastInstance;
     }
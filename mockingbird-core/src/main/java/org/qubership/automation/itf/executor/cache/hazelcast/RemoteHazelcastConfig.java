@@ -18,8 +18,12 @@
 package org.qubership.automation.itf.executor.cache.hazelcast;
 
 import static org.qubership.automation.itf.core.util.constants.CacheNames.ATP_ITF_PROJECT_SETTINGS;
+import static org.qubership.automation.itf.core.util.constants.CacheNames.ATP_ITF_TC_CONTEXTS;
+import static org.qubership.automation.itf.core.util.constants.CacheNames.ATP_ITF_TC_CONTEXTS_IDS_BOUND_BY_KEY;
 
+import org.qubership.automation.itf.executor.cache.hazelcast.serialization.ItfSerializationConfigurer;
 import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -27,7 +31,10 @@ import org.springframework.context.annotation.Import;
 
 import com.hazelcast.client.HazelcastClient;
 import com.hazelcast.client.config.ClientConfig;
+import com.hazelcast.config.EvictionConfig;
+import com.hazelcast.config.EvictionPolicy;
 import com.hazelcast.config.InMemoryFormat;
+import com.hazelcast.config.MaxSizePolicy;
 import com.hazelcast.config.NearCacheConfig;
 import com.hazelcast.core.HazelcastInstance;
 import lombok.extern.slf4j.Slf4j;
@@ -38,6 +45,17 @@ import lombok.extern.slf4j.Slf4j;
 @Slf4j
 public class RemoteHazelcastConfig {
 
+    @Value("${hazelcast.serialization.itf-serializers.enabled:false}")
+    private boolean itfSerializersEnabled;
+    @Value("${hazelcast.serialization.compression.threshold:16384}")
+    private int compressionThreshold;
+    @Value("${hazelcast.tc-contexts.near-cache.enabled:false}")
+    private boolean tcContextsNearCacheEnabled;
+    @Value("${hazelcast.tc-contexts.near-cache.max-size:1000}")
+    private int tcContextsNearCacheMaxSize;
+    @Value("${hazelcast.tc-contexts.near-cache.max-idle-seconds:60}")
+    private int tcContextsNearCacheMaxIdleSeconds;
+
     /**
      * Create {@link HazelcastInstance} bean.
      *
@@ -46,8 +64,15 @@ public class RemoteHazelcastConfig {
     @Bean(name = "hazelcastClient")
     public HazelcastInstance hazelcastClient(@Qualifier("clientConfig") ClientConfig clientConfig) {
         log.info("RemoteHazelcastConfig#hazelcastClient: Configuring is started");
+        if (itfSerializersEnabled) {
+            ItfSerializationConfigurer.configure(clientConfig.getSerializationConfig(), compressionThreshold);
+        }
+        if (tcContextsNearCacheEnabled) {
+            addTcContextsNearCacheConfig(clientConfig, ATP_ITF_TC_CONTEXTS);
+            addTcContextsNearCacheConfig(clientConfig, ATP_ITF_TC_CONTEXTS_IDS_BOUND_BY_KEY);
+        }
         HazelcastInstance hazelcastClient = HazelcastClient.getOrCreateHazelcastClient(clientConfig);
-        CommonHazelcastConfig.tryToCreateMapConfigsIfNotExist(hazelcastClient, true);
+        CommonHazelcastConfig.tryToCreateMapConfigsIfNotExist(hazelcastClient, true, itfSerializersEnabled);
         addProjectSettingsNearCacheConfig(clientConfig);
         log.info("RemoteHazelcastConfig#hazelcastClient: Configuring is completed");
         return hazelcastClient;
@@ -62,4 +87,23 @@ public class RemoteHazelcastConfig {
         }
         clientConfig.addNearCacheConfig(projectSettingsNearCacheConfig);
     }
+
+    /*  Near cache for hot contexts and their binding keys.
+     *  Entries are invalidated on change on any replica. BINARY format is used, so each get still
+     *  returns a new copy of the object: local changes of the returned context never leak into the near cache.
+     */
+    private void addTcContextsNearCacheConfig(ClientConfig clientConfig, String mapName) {
+        if (clientConfig.getNearCacheConfig(mapName) != null) {
+            return;
+        }
+        clientConfig.addNearCacheConfig(new NearCacheConfig(mapName)
+                .setInMemoryFormat(InMemoryFormat.BINARY)
+                .setInvalidateOnChange(true)
+                .setMaxIdleSeconds(tcContextsNearCacheMaxIdleSeconds)
+                .setEvictionConfig(new EvictionConfig()
+                        .setEvictionPolicy(EvictionPolicy.LRU)
+                        .setMaxSizePolicy(MaxSizePolicy.ENTRY_COUNT)
+                        .setSize(tcContextsNearCacheMaxSize)));
+        log.info("Hazelcast Near Cache config {} is created", mapName);
+    }
 }
@@ -22,6 +22,7 @@ import java.util.concurrent.CompletableFuture;
 
 import org.qubership.atp.integration.configuration.mdc.MdcUtils;
 import org.qubership.atp.multitenancy.core.context.TenantContext;
+import org.qubership.automation.itf.core.instance.testcase.execution.holders.ContextRuntimeRegistry;
 import org.qubership.automation.itf.core.model.jpa.context.TcContext;
 import org.qubership.automation.itf.core.model.jpa.instance.SituationInstance;
 import org.qubership.automation.itf.core.util.config.ApplicationConfig;
@@ -62,8 +63,11 @@ public class TCContextEntryExpiredListener implements EntryExpiredListener<Objec
             TcContext tcContext = ExecutionServices.getTCContextService().getLocalRunningContext(id);
             if (tcContext == null) {
                 log.info("Context initiated on another pod. TerminateByTimeout process is skipped on this pod.");
+                // Context could be bound and continued on this pod, so its runtime state is removed here too.
+                ContextRuntimeRegistry.getInstance().remove(id);
                 return;
             }
+            CacheServices.getTcContextCacheService().forgetSize(id);
 
             // Submit task for async processing, in order to quickly make listener available for other events
             CompletableFuture.runAsync(() ->
@@ -98,6 +102,8 @@ public class TCContextEntryExpiredListener implements EntryExpiredListener<Objec
             }
             log.info("{} {} is started", LOG_MESSAGE_TEMPLATE, tcContext.getID());
             ExecutionServices.getTCContextService().terminateByTimeout(tcContext);
+            // Failed contexts keep their runtime state till now; it's not needed after termination.
+            ContextRuntimeRegistry.getInstance().remove(tcContext.getID());
             log.info("{} {} is finished", LOG_MESSAGE_TEMPLATE, tcContext.getID());
         } catch (Exception e) {
             log.error("Error while trying to terminate tc context by timeout", e);
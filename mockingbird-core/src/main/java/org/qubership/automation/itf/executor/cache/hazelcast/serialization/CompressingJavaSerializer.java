@@ -0,0 +1,236 @@
+/*
+ * # Copyright 2024-2026 NetCracker Technology Corporation
+ * #
+ * # Licensed under the Apache License, Version 2.0 (the "License");
+ * # you may not use this file except in compliance with the License.
+ * # You may obtain a copy of the License at
+ * #
+ * #      http://www.apache.org/licenses/LICENSE-2.0
+ * #
+ * # Unless required by applicable law or agreed to in writing, software
+ * # distributed under the License is distributed on an "AS IS" BASIS,
+ * # WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * # See the License for the specific language governing permissions and
+ * # limitations under the License.
+ *
+ */
+
+package org.qubership.automation.itf.executor.cache.hazelcast.serialization;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.ObjectStreamClass;
+import java.nio.ByteBuffer;
+
+import com.hazelcast.nio.serialization.HazelcastSerializationException;
+import com.hazelcast.nio.serialization.compact.CompactReader;
+import com.hazelcast.nio.serialization.compact.CompactSerializer;
+import com.hazelcast.nio.serialization.compact.CompactWriter;
+import net.jpountz.lz4.LZ4Compressor;
+import net.jpountz.lz4.LZ4Factory;
+import net.jpountz.lz4.LZ4FastDecompressor;
+
+/**
+ * Hazelcast Compact serializer for ITF model objects stored in the cluster.
+ * Model classes come from atp-itf-core library and aren't on the classpath of Hazelcast members,
+ * so the object graph is written via Java serialization into the opaque "data" field,
+ * and fields which members may query are written as separate Compact fields by subclasses.
+ * Members read Compact fields by schema, without ITF classes.
+ * "data" format: version byte, format byte, raw length, then compressed bytes (LZ4) or raw bytes.
+ *
+ * @param <T> type of serialized objects
+ */
+public abstract class CompressingJavaSerializer<T> implements CompactSerializer<T> {
+
+    static final byte VERSION = 1;
+    static final byte FORMAT_RAW = 0;
+    static final byte FORMAT_LZ4 = 1;
+
+    private static final String DATA = "data";
+    private static final int HEADER_SIZE = 6;
+    private static final int RETAINED_BUFFER_SIZE = 1048576;
+    private static final LZ4Compressor COMPRESSOR = LZ4Factory.fastestInstance().fastCompressor();
+    private static final LZ4FastDecompressor DECOMPRESSOR = LZ4Factory.fastestInstance().fastDecompressor();
+    private static final ThreadLocal<ExposedByteArrayOutputStream> BUFFER =
+            ThreadLocal.withInitial(() -> new ExposedByteArrayOutputStream(16384));
+    private static final ThreadLocal<Prepared> PREPARED = new ThreadLocal<>();
+
+    private final Class<T> type;
+    private final int compressionThreshold;
+
+    /**
+     * Constructor.
+     *
+     * @param type                 type of serialized objects
+     * @param compressionThreshold payloads of this size (bytes) and bigger are compressed; 0 or negative - never
+     */
+    protected CompressingJavaSerializer(Class<T> type, int compressionThreshold) {
+        this.type = type;
+        this.compressionThreshold = compressionThreshold;
+    }
+
+    @Override
+    public Class<T> getCompactClass() {
+        return type;
+    }
+
+    @Override
+    public void write(CompactWriter writer, T object) {
+        writeQueryableFields(writer, object);
+        Prepared prepared = PREPARED.get();
+        writer.writeArrayOfInt8(DATA, prepared != null && prepared.object == object
+                ? prepared.data
+                : toBytes(object));
+    }
+
+    @Override
+    public T read(CompactReader reader) {
+        return fromBytes(reader.readArrayOfInt8(DATA));
+    }
+
+    /**
+     * Write fields which can be queried (and indexed) on Hazelcast members.
+     * The same fields must be written for each object, null values are allowed.
+     *
+     * @param writer Compact writer
+     * @param object serialized object
+     */
+    protected abstract void writeQueryableFields(CompactWriter writer, T object);
+
+    /**
+     * Get "data" bytes of the object as they're stored (compressed if the object is big).
+     *
+     * @param object serialized object
+     * @return "data" bytes
+     */
+    public byte[] serialize(T object) {
+        return toBytes(object);
+    }
+
+    /**
+     * Serialize the object in advance: the next map operation of the current thread writing the same object
+     * (by any serializer of the type) stores these bytes instead of serializing the object again.
+     * The object must not be changed until the operation. Call {@link #clearPrepared()} after it.
+     *
+     * @param object serialized object
+     * @return "data" bytes
+     */
+    public byte[] prepare(T object) {
+        byte[] data = toBytes(object);
+        PREPARED.set(new Prepared(object, data));
+        return data;
+    }
+
+    /**
+     * Forget bytes prepared by the current thread.
+     */
+    public static void clearPrepared() {
+        PREPARED.remove();
+    }
+
+    private byte[] toBytes(T object) {
+        ExposedByteArrayOutputStream buffer = BUFFER.get();
+        buffer.reset();
+        try {
+            try (ObjectOutputStream objectOutputStream = new ObjectOutputStream(buffer)) {
+                objectOutputStream.writeObject(object);
+            }
+            int length = buffer.size();
+            if (compressionThreshold > 0 && length >= compressionThreshold) {
+                byte[] compressed = new byte[HEADER_SIZE + COMPRESSOR.maxCompressedLength(length)];
+                int compressedLength = COMPRESSOR.compress(buffer.buffer(), 0, length, compressed, HEADER_SIZE,
+                        compressed.length - HEADER_SIZE);
+                ByteBuffer.wrap(compressed).put(VERSION).put(FORMAT_LZ4).putInt(length);
+                byte[] bytes = new byte[HEADER_SIZE + compressedLength];
+                System.arraycopy(compressed, 0, bytes, 0, bytes.length);
+                return bytes;
+            }
+            byte[] bytes = new byte[HEADER_SIZE + length];
+            ByteBuffer.wrap(bytes).put(VERSION).put(FORMAT_RAW).putInt(length).put(buffer.buffer(), 0, length);
+            return bytes;
+        } catch (IOException e) {
+            throw new HazelcastSerializationException("Can't serialize " + type.getSimpleName(), e);
+        } finally {
+            if (buffer.capacity() > RETAINED_BUFFER_SIZE) {
+                BUFFER.remove();
+            }
+        }
+    }
+
+    private T fromBytes(byte[] data) {
+        ByteBuffer header = ByteBuffer.wrap(data);
+        byte version = header.get();
+        if (version != VERSION) {
+            throw new HazelcastSerializationException("Unsupported serialization version " + version + " of "
+                    + type.getSimpleName());
+        }
+        byte format = header.get();
+        int length = header.getInt();
+        byte[] bytes;
+        if (format == FORMAT_LZ4) {
+            bytes = new byte[length];
+            DECOMPRESSOR.decompress(data, HEADER_SIZE, bytes, 0, length);
+        } else if (format == FORMAT_RAW) {
+            bytes = data;
+        } else {
+            throw new HazelcastSerializationException("Unsupported serialization format " + format + " of "
+                    + type.getSimpleName());
+        }
+        int offset = format == FORMAT_RAW ? HEADER_SIZE : 0;
+        try (ObjectInputStream objectInputStream = new ClassLoaderAwareObjectInputStream(
+                new ByteArrayInputStream(bytes, offset, length), type.getClassLoader())) {
+            return type.cast(objectInputStream.readObject());
+        } catch (IOException | ClassNotFoundException e) {
+            throw new HazelcastSerializationException("Can't deserialize " + type.getSimpleName(), e);
+        }
+    }
+
+    private static class ExposedByteArrayOutputStream extends ByteArrayOutputStream {
+
+        ExposedByteArrayOutputStream(int size) {
+            super(size);
+        }
+
+        byte[] buffer() {
+            return buf;
+        }
+
+        int capacity() {
+            return buf.length;
+        }
+    }
+
+    private static class Prepared {
+
+        private final Object object;
+        private final byte[] data;
+
+        Prepared(Object object, byte[] data) {
+            this.object = object;
+            this.data = data;
+        }
+    }
+
+    private static class ClassLoaderAwareObjectInputStream extends ObjectInputStream {
+
+        private final ClassLoader classLoader;
+
+        ClassLoaderAwareObjectInputStream(InputStream in, ClassLoader classLoader) throws IOException {
+            super(in);
+            this.classLoader = classLoader;
+        }
+
+        @Override
+        protected Class<?> resolveClass(ObjectStreamClass desc) throws IOException, ClassNotFoundException {
+            try {
+                return Class.forName(desc.getName(), false, classLoader);
+            } catch (ClassNotFoundException e) {
+                return super.resolveClass(desc);
+            }
+        }
+    }
+}
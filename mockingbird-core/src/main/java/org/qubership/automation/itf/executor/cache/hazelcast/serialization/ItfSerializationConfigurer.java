@@ -0,0 +1,49 @@
+/*
+ * # Copyright 2024-2026 NetCracker Technology Corporation
+ * #
+ * # Licensed under the Apache License, Version 2.0 (the "License");
+ * # you may not use this file except in compliance with the License.
+ * # You may obtain a copy of the License at
+ * #
+ * #      http://www.apache.org/licenses/LICENSE-2.0
+ * #
+ * # Unless required by applicable law or agreed to in writing, software
+ * # distributed under the License is distributed on an "AS IS" BASIS,
+ * # WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * # See the License for the specific language governing permissions and
+ * # limitations under the License.
+ *
+ */
+
+package org.qubership.automation.itf.executor.cache.hazelcast.serialization;
+
+import com.hazelcast.config.CompactSerializationConfig;
+import com.hazelcast.config.SerializationConfig;
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+public final class ItfSerializationConfigurer {
+
+    private ItfSerializationConfigurer() {
+    }
+
+    /**
+     * Register ITF Compact serializers for TcContext and Message.
+     * Pending data contexts are maps of TcContext, so their values are written by TcContextSerializer too.
+     * Compact schemas are replicated to the cluster by Hazelcast, so members read the queryable fields
+     * of TcContext (podName, projectId, status) without ITF classes on their classpath:
+     * ATP_ITF_TC_CONTEXTS map is indexed and queried by these fields.
+     * All replicas working with the same cluster must use the same setting,
+     * because entries written by these serializers can't be read by the generic serializer and vice versa.
+     *
+     * @param serializationConfig  client or member serialization config
+     * @param compressionThreshold payloads of this size (bytes) and bigger are compressed
+     */
+    public static void configure(SerializationConfig serializationConfig, int compressionThreshold) {
+        CompactSerializationConfig compactSerializationConfig = serializationConfig.getCompactSerializationConfig();
+        compactSerializationConfig.addSerializer(new TcContextSerializer(compressionThreshold));
+        compactSerializationConfig.addSerializer(new MessageSerializer(compressionThreshold));
+        log.info("ITF serializers for TcContext and Message are registered, compression threshold is {} bytes",
+                compressionThreshold);
+    }
+}
@@ -0,0 +1,40 @@
+/*
+ * # Copyright 2024-2026 NetCracker Technology Corporation
+ * #
+ * # Licensed under the Apache License, Version 2.0 (the "License");
+ * # you may not use this file except in compliance with the License.
+ * # You may obtain a copy of the License at
+ * #
+ * #      http://www.apache.org/licenses/LICENSE-2.0
+ * #
+ * # Unless required by applicable law or agreed to in writing, software
+ * # distributed under the License is distributed on an "AS IS" BASIS,
+ * # WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * # See the License for the specific language governing permissions and
+ * # limitations under the License.
+ *
+ */
+
+package org.qubership.automation.itf.executor.cache.hazelcast.serialization;
+
+import org.qubership.automation.itf.core.model.jpa.message.Message;
+
+import com.hazelcast.nio.serialization.compact.CompactWriter;
+
+public class MessageSerializer extends CompressingJavaSerializer<Message> {
+
+    public static final String TYPE_NAME = "itf.Message";
+
+    public MessageSerializer(int compressionThreshold) {
+        super(Message.class, compressionThreshold);
+    }
+
+    @Override
+    public String getTypeName() {
+        return TYPE_NAME;
+    }
+
+    @Override
+    protected void writeQueryableFields(CompactWriter writer, Message message) {
+    }
+}
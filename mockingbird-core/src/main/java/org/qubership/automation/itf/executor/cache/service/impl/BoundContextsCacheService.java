@@ -21,8 +21,15 @@ import static org.qubership.automation.itf.core.util.constants.CacheNames.ATP_IT
 import static org.qubership.automation.itf.core.util.constants.CacheNames.ATP_ITF_TC_CONTEXTS_IDS_BOUND_BY_KEY;
 
 import java.math.BigInteger;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
 import java.util.UUID;
 
 import org.apache.commons.lang3.StringUtils;
@@ -58,9 +65,7 @@ public class BoundContextsCacheService {
      * @param tcContext - TcContext
      */
     public void bind(TcContext tcContext) {
-        for (String key : tcContext.getBindingKeys()) {
-            boundContextsCacheService.set(key, tcContext);
-        }
+        boundContextsCacheService.setAll(tcContext.getBindingKeys(), tcContext);
     }
 
     /**
@@ -138,8 +143,9 @@ public class BoundContextsCacheService {
     }
 
     /**
-     * Find TcContext by keys (get context id from ATP_ITF_TC_CONTEXTS_IDS_BOUND_BY_KEY cache
+     * Find TcContext by keys (get context ids from ATP_ITF_TC_CONTEXTS_IDS_BOUND_BY_KEY cache in one getAll call
      * and get context object from ATP_ITF_TC_CONTEXTS).
+     * Keys are checked in sorted order; the 1st key having an existing context wins.
      * If no context found in cache, it will be created via createByKeys(String, boolean, boolean),
      * bind to ATP_ITF_TC_CONTEXTS_IDS_BOUND_BY_KEY and put (set) to ATP_ITF_TC_CONTEXTS cache for each key.
      *
@@ -151,12 +157,24 @@ public class BoundContextsCacheService {
     public TcContext findByKeys(String[] keys, BigInteger projectId, UUID projectUuid) {
         TcContext context;
         Arrays.sort(keys);
+        String keyPrefix = projectUuid.toString() + '/';
+        Set<Object> prefixedKeys = new HashSet<>(keys.length * 2);
         for (String key : keys) {
-            context = boundContextsCacheService.findByKey(key, false, projectId, projectUuid);
+            prefixedKeys.add(keyPrefix + key);
+        }
+        Map<Object, Object> contextIds = boundContextsCacheService.getBoundContextsCache().getAll(prefixedKeys);
+        for (String key : keys) {
+            Object tcContextId = contextIds.get(keyPrefix + key);
+            if (Objects.isNull(tcContextId)) {
+                continue;
+            }
+            context = CacheServices.getTcContextCacheService().getById(tcContextId);
             if (context != null) {
                 log.debug("Context is found by key {}", key);
                 return context;
             }
+            log.debug("Context not found by contextId {} in {} cache for project {}", tcContextId,
+                    ATP_ITF_TC_CONTEXTS, projectUuid);
         }
         log.info("No context by keys {} found, will be created...", Arrays.toString(keys));
         context = boundContextsCacheService.createByKeys(keys, false, projectId, projectUuid);
@@ -172,8 +190,15 @@ public class BoundContextsCacheService {
 
     public TcContext createByKeys(String[] keys, boolean isStub, BigInteger projectId, UUID projectUuid) {
         TcContext context = ExecutionServices.getTCContextService().createInMemory(projectId, projectUuid);
+        List<String> addedKeys = new ArrayList<>(keys.length);
         for (String key : keys) {
-            boundContextsCacheService.addIfNotBlank(context, key, isStub);
+            if (!StringUtils.isBlank(key)) {
+                context.getBindingKeys().add(key);
+                addedKeys.add(key);
+            }
+        }
+        if (!isStub) {
+            boundContextsCacheService.setAll(addedKeys, context);
         }
         log.info("A new context {} is created with keys {}", context.getID(), Arrays.toString(keys));
         return context;
@@ -183,7 +208,41 @@ public class BoundContextsCacheService {
         String keyPrefix = getPrefix(context, "set");
         boundContextsCacheService.getBoundContextsCache().set(keyPrefix + key, context.getID());
         log.debug("Key {} was set to {} cache", keyPrefix + key, ATP_ITF_TC_CONTEXTS_IDS_BOUND_BY_KEY);
-        CacheServices.getTcContextCacheService().set(context, false);
+        if (!CacheServices.getTcContextCacheService().set(context, false)) {
+            rollback(List.of(key), keyPrefix, context);
+        }
+    }
+
+    /*  All keys are set in one setAll call (one round trip per partition owner instead of one per key),
+     *  and the context is putIfAbsent only once.
+     */
+    private void setAll(Collection<String> keys, TcContext context) {
+        if (keys.isEmpty()) {
+            return;
+        }
+        String keyPrefix = getPrefix(context, "set");
+        Map<Object, Object> entries = new HashMap<>(keys.size() * 2);
+        for (String key : keys) {
+            entries.put(keyPrefix + key, context.getID());
+        }
+        boundContextsCacheService.getBoundContextsCache().setAll(entries);
+        log.debug("Keys {} were set to {} cache", entries.keySet(), ATP_ITF_TC_CONTEXTS_IDS_BOUND_BY_KEY);
+        if (!CacheServices.getTcContextCacheService().set(context, false)) {
+            rollback(keys, keyPrefix, context);
+        }
+    }
+
+    /*  The context isn't written to ATP_ITF_TC_CONTEXTS cache (e.g. it exceeds the size quota),
+     *  so keys just bound to it would point to nothing; they are unbound.
+     */
+    private void rollback(Collection<String> keys, String keyPrefix, TcContext context) {
+        List<String> unboundKeys = List.copyOf(keys);
+        for (String key : unboundKeys) {
+            boundContextsCacheService.getBoundContextsCache().remove(keyPrefix + key, context.getID());
+            context.getBindingKeys().remove(key);
+        }
+        log.warn("TcContext {} isn't written to {} cache, keys {} are unbound from it", context.getID(),
+                ATP_ITF_TC_CONTEXTS, unboundKeys);
     }
 
     private void evict(String key) {
@@ -17,68 +17,71 @@
 
 package org.qubership.automation.itf.executor.cache.service.impl;
 
+import java.math.BigInteger;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.concurrent.ExecutionException;
 
+import org.qubership.automation.itf.core.instance.testcase.execution.holders.ContextRuntimeRegistry;
 import org.qubership.automation.itf.core.instance.testcase.execution.subscriber.NextCallChainSubscriber;
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
+import org.qubership.automation.itf.core.model.jpa.context.TcContext;
+import org.qubership.automation.itf.executor.cache.service.CacheServices;
+import org.qubership.automation.itf.executor.service.ExecutionServices;
 import org.springframework.stereotype.Service;
 
-import com.google.common.cache.CacheBuilder;
-import com.google.common.cache.CacheLoader;
-import com.google.common.cache.LoadingCache;
-import jakarta.annotation.Nonnull;
+import lombok.extern.slf4j.Slf4j;
 
+/**
+ * Call chain subscribers of running TC contexts. Subscribers are kept in ContextRuntimeRegistry,
+ * together with other runtime state of the context.
+ */
+@Slf4j
 @Service
 public class CallchainSubscriberCacheService {
-    private static final Logger LOGGER = LoggerFactory.getLogger(CallchainSubscriberCacheService.class);
-    private static final LoadingCache<Object, List<NextCallChainSubscriber>> TC_CONTEXT_SUBSCRIBERS_CACHE
-            = CacheBuilder.newBuilder().build(new CacheLoader<>() {
-        @Override
-        public List<NextCallChainSubscriber> load(@Nonnull Object id) {
-            return new ArrayList<>();
-        }
-    });
+
+    private final ContextRuntimeRegistry registry = ContextRuntimeRegistry.getInstance();
 
     public void cleanUp() {
-        TC_CONTEXT_SUBSCRIBERS_CACHE.cleanUp();
+        registry.cleanUp(CallchainSubscriberCacheService::contextExists);
+    }
+
+    /*  Runtime state is kept while the context is running on this pod or is stored in the cluster,
+        i.e. till its time to live elapses. In case of doubt the context is considered existing.
+     */
+    private static boolean contextExists(Object tcId) {
+        try {
+            TcContext tcContext = tcId instanceof BigInteger id
+                    ? ExecutionServices.getTCContextService().getLocalRunningContext(id)
+                    : null;
+            return (tcContext != null && !tcContext.isFinished())
+                    || CacheServices.getTcContextCacheService().contains(tcId);
+        } catch (RuntimeException e) {
+            log.warn("Can't check if tc context {} exists; its runtime state is kept", tcId, e);
+            return true;
+        }
     }
 
     public void registerSubscriber(Object subscriber) {
         if (subscriber instanceof NextCallChainSubscriber chainSubscriber) {
             Object tcId = chainSubscriber.getInstance().getContext().tc().getID();
-            synchronized (tcId) {
-                try {
-                    TC_CONTEXT_SUBSCRIBERS_CACHE.get(tcId).add(chainSubscriber);
-                } catch (ExecutionException e) {
-                    LOGGER.error("Exception adding {} for tcId {}: {}", subscriber, tcId, e.getMessage());
-                }
-            }
+            registry.update(tcId, runtime -> runtime.getSubscribers().add(chainSubscriber));
         }
     }
 
     public void unregisterSubscriber(Object subscriber) {
         if (subscriber instanceof NextCallChainSubscriber chainSubscriber) {
             Object tcId = chainSubscriber.getInstance().getContext().tc().getID();
-            synchronized (tcId) {
-                List<NextCallChainSubscriber> list = TC_CONTEXT_SUBSCRIBERS_CACHE.getIfPresent(tcId);
-                if (list != null) {
-                    list.remove(chainSubscriber);
-                    if (list.isEmpty()) {
-                        TC_CONTEXT_SUBSCRIBERS_CACHE.invalidate(tcId);
-                    }
-                }
-            }
+            registry.clear(tcId, runtime -> runtime.getSubscribers().remove(chainSubscriber));
         }
     }
 
+    /**
+     * Remove all subscribers of the context.
+     *
+     * @return removed subscribers or null if there are no subscribers
+     */
     public List<NextCallChainSubscriber> unregisterAllSubscribers(Object tcId) {
-        synchronized (tcId) {
-            List<NextCallChainSubscriber> list = TC_CONTEXT_SUBSCRIBERS_CACHE.getIfPresent(tcId);
-            TC_CONTEXT_SUBSCRIBERS_CACHE.invalidate(tcId);
-            return list;
-        }
+        List<NextCallChainSubscriber> list = new ArrayList<>();
+        registry.clear(tcId, runtime -> list.addAll(runtime.drainSubscribers()));
+        return list.isEmpty() ? null : list;
     }
 }
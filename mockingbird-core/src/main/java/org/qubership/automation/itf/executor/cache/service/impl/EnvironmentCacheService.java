@@ -19,25 +19,59 @@ package org.qubership.automation.itf.executor.cache.service.impl;
 
 import static org.qubership.automation.itf.core.util.constants.CacheNames.ATP_ITF_ENVIRONMENT_INFO;
 
+import java.io.Serializable;
+import java.math.BigInteger;
 import java.util.UUID;
+import java.util.concurrent.Callable;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
 import com.hazelcast.core.HazelcastInstance;
 import com.hazelcast.map.IMap;
+import jakarta.annotation.PostConstruct;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
 
 @Service
 public class EnvironmentCacheService {
 
+    /*  Inbound system/server pair ("systemId/serverId") -> environment. The map holds nothing else,
+        so it's cleared as a whole when environments are changed.
+     */
+    public static final String ATP_ITF_INBOUND_ENVIRONMENTS = "ATP_ITF_INBOUND_ENVIRONMENTS";
+
     private HazelcastInstance hazelcastClient;
+    @Value("${inbound.environment.cache.ttl.seconds:60}")
+    private int inboundTtlSeconds;
+    @Value("${inbound.environment.cache.hazelcast.enabled:false}")
+    private boolean inboundHazelcastEnabled;
+    private Cache<String, InboundEnvironment> inboundEnvironments;
+    private final AtomicLong inboundHits = new AtomicLong();
+    private final AtomicLong inboundMisses = new AtomicLong();
 
     @Autowired
     public void setHazelcastClient(@Qualifier("hazelcastClient") HazelcastInstance hazelcastClient) {
         this.hazelcastClient = hazelcastClient;
     }
 
+    @PostConstruct
+    public void init() {
+        if (inboundTtlSeconds > 0 && !inboundHazelcastEnabled) {
+            inboundEnvironments = CacheBuilder.newBuilder()
+                    .expireAfterWrite(inboundTtlSeconds, TimeUnit.SECONDS)
+                    .build();
+        }
+    }
+
     public Object get(Object id) {
         return getEnvironmentCache().get(id);
     }
@@ -50,7 +84,78 @@ public class EnvironmentCacheService {
         getEnvironmentCache().delete(id);
     }
 
+    /**
+     * Get environment of inbound system/server pair.
+     * Environments are cached in memory of the pod or, if inbound.environment.cache.hazelcast.enabled=true,
+     * in {@value #ATP_ITF_INBOUND_ENVIRONMENTS} Hazelcast map shared by all pods.
+     * Failed lookups aren't cached, so a just configured pair is found at once.
+     *
+     * @param systemId inbound system id
+     * @param serverId inbound server id
+     * @param loader   environment lookup in the database
+     * @return environment
+     * @throws Exception if loader fails
+     */
+    public InboundEnvironment getInboundEnvironment(BigInteger systemId, BigInteger serverId,
+                                                    Callable<InboundEnvironment> loader) throws Exception {
+        if (inboundTtlSeconds <= 0) {
+            return loader.call();
+        }
+        String key = systemId + "/" + serverId;
+        InboundEnvironment environment = inboundHazelcastEnabled
+                ? getInboundEnvironmentCache().get(key)
+                : inboundEnvironments.getIfPresent(key);
+        if (environment != null) {
+            inboundHits.incrementAndGet();
+            return environment;
+        }
+        inboundMisses.incrementAndGet();
+        environment = loader.call();
+        if (inboundHazelcastEnabled) {
+            getInboundEnvironmentCache().set(key, environment, inboundTtlSeconds, TimeUnit.SECONDS);
+        } else {
+            inboundEnvironments.put(key, environment);
+        }
+        return environment;
+    }
+
+    /**
+     * Drop cached environments of inbound system/server pairs; it's called when environments are changed.
+     */
+    public void invalidateInboundEnvironments() {
+        if (inboundTtlSeconds <= 0) {
+            return;
+        }
+        if (inboundHazelcastEnabled) {
+            getInboundEnvironmentCache().clear();
+        } else {
+            inboundEnvironments.invalidateAll();
+        }
+    }
+
+    public long getInboundHits() {
+        return inboundHits.get();
+    }
+
+    public long getInboundMisses() {
+        return inboundMisses.get();
+    }
+
     private IMap<Object, Object> getEnvironmentCache() {
         return hazelcastClient.getMap(ATP_ITF_ENVIRONMENT_INFO);
     }
+
+    private IMap<String, InboundEnvironment> getInboundEnvironmentCache() {
+        return hazelcastClient.getMap(ATP_ITF_INBOUND_ENVIRONMENTS);
+    }
+
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class InboundEnvironment implements Serializable {
+
+        private BigInteger id;
+        private String name;
+    }
 }
@@ -22,9 +22,10 @@ import static org.qubership.automation.itf.core.util.constants.CacheNames.ATP_IT
 import java.util.HashMap;
 import java.util.Map;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
 
+import org.qubership.automation.itf.core.execution.ContextLocks;
 import org.qubership.automation.itf.core.model.jpa.context.TcContext;
-import org.qubership.automation.itf.core.util.manager.MonitorManager;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.stereotype.Service;
@@ -48,11 +49,14 @@ public class PendingDataContextsCacheService {
 
     public void addContext(TcContext tcContext, String key) {
         Object contextId = tcContext.getID();
-        Object locObject = MonitorManager.getInstance().get("$id=" + contextId);
-        synchronized (locObject) {
+        ReentrantLock lock = ContextLocks.get("$id=" + contextId);
+        lock.lock();
+        try {
             Map<Object, TcContext> pendingContext = pendingDataContextsCacheService.getContextById(contextId);
             pendingContext.put(key, tcContext);
             pendingDataContextsCacheService.set(contextId, pendingContext);
+        } finally {
+            lock.unlock();
         }
     }
 
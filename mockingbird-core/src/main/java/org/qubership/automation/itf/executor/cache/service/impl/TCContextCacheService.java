@@ -20,28 +20,93 @@ package org.qubership.automation.itf.executor.cache.service.impl;
 import static org.qubership.automation.itf.core.util.constants.CacheNames.ATP_ITF_TC_CONTEXTS;
 import static org.qubership.automation.itf.core.util.converter.IdConverter.toBigInt;
 
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.UUID;
 import java.util.concurrent.TimeUnit;
 
+import org.apache.commons.lang3.SerializationException;
+import org.apache.commons.lang3.SerializationUtils;
+import org.qubership.automation.itf.core.metric.MetricsAggregateService;
 import org.qubership.automation.itf.core.model.jpa.context.TcContext;
+import org.qubership.automation.itf.core.util.config.Config;
+import org.qubership.automation.itf.core.util.constants.Status;
+import org.qubership.automation.itf.executor.cache.hazelcast.serialization.CompressingJavaSerializer;
+import org.qubership.automation.itf.executor.cache.hazelcast.serialization.TcContextSerializer;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.RemovalCause;
 import com.hazelcast.core.EntryView;
+import com.hazelcast.core.HazelcastException;
 import com.hazelcast.core.HazelcastInstance;
 import com.hazelcast.map.IMap;
 import com.hazelcast.nio.serialization.HazelcastSerializationException;
+import com.hazelcast.projection.Projections;
+import com.hazelcast.query.Predicate;
+import com.hazelcast.query.Predicates;
+import jakarta.annotation.PostConstruct;
 import lombok.extern.slf4j.Slf4j;
 
 @Service
 @Slf4j
 public class TCContextCacheService {
 
+    private static final String KEY = "__key";
+
+    private Cache<Object, TcContextSnapshot> writtenSnapshots;
     private HazelcastInstance hazelcastClient;
+    private volatile boolean queriesSupported = true;
+    @Value("${hazelcast.tc-contexts.dirty-tracking.enabled:false}")
+    private boolean dirtyTrackingEnabled;
+    @Value("${hazelcast.tc-contexts.dirty-tracking.max-snapshots-mb:64}")
+    private long maxSnapshotsMb;
+    @Value("${hazelcast.serialization.itf-serializers.enabled:false}")
+    private boolean itfSerializersEnabled;
+    @Value("${hazelcast.serialization.compression.threshold:16384}")
+    private int compressionThreshold;
+    /*  The same serializer as registered in Hazelcast config (if ITF serializers are enabled),
+        to get the context bytes as they're stored and let the store operation reuse them.
+     */
+    private TcContextSerializer serializer;
+    @Value("${hazelcast.context.quota.maxSize:0}")
+    private int maxContextSize;
+    @Value("${hazelcast.context.size.accounting.enabled:false}")
+    private boolean sizeAccountingEnabled;
+    /*  Removed entries (replaced, evicted or expired) are subtracted from the project total.
+        Expiration here is a safety net only, the entries are normally removed on context eviction or expiration.
+     */
+    private final Cache<Object, AccountedSize> accountedSizes = CacheBuilder.newBuilder()
+            .expireAfterAccess(24, TimeUnit.HOURS)
+            .<Object, AccountedSize>removalListener(notification -> {
+                if (notification.wasEvicted() || notification.getCause() == RemovalCause.EXPLICIT) {
+                    MetricsAggregateService.addHazelcastContextsSizeToProject(
+                            notification.getValue().projectUuid, -notification.getValue().size);
+                }
+            })
+            .build();
+
+    @PostConstruct
+    void init() {
+        writtenSnapshots = CacheBuilder.newBuilder()
+                .maximumWeight(maxSnapshotsMb * 1024 * 1024)
+                .<Object, TcContextSnapshot>weigher((key, snapshot) -> TcContextSnapshot.WEIGHT)
+                .expireAfterAccess(2, TimeUnit.HOURS)
+                .build();
+        if (itfSerializersEnabled) {
+            serializer = new TcContextSerializer(compressionThreshold);
+        }
+    }
 
     @Autowired
     public void setHazelcastClient(@Qualifier("hazelcastClient") HazelcastInstance hazelcastClient) {
@@ -73,49 +138,251 @@ public class TCContextCacheService {
         return getTCContextCache().get(toBigInt(contextId));
     }
 
+    /**
+     * Check if the context is stored in the cluster, i.e. it isn't evicted and its time to live hasn't elapsed.
+     * The context isn't transferred and deserialized.
+     */
+    public boolean contains(Object contextId) {
+        return getTCContextCache().containsKey(toBigInt(contextId));
+    }
+
+    /**
+     * Get contexts running on the pod.
+     * If ITF serializers are enabled, contexts are filtered on Hazelcast side by the indexed podName Compact field,
+     * so only matching contexts are transferred and deserialized, and members don't deserialize contexts.
+     *
+     * @param podName pod name
+     * @return list of contexts
+     */
     public List<TcContext> getAllTcContexts(String podName) {
+        if (queriesSupported) {
+            try {
+                return new ArrayList<>(getTCContextCache().values(
+                        Predicates.equal(TcContextSerializer.POD_NAME, podName)));
+            } catch (HazelcastException e) {
+                disableQueries(e);
+            }
+        }
         List<TcContext> contexts = new LinkedList<>();
         for (Map.Entry<Object, TcContext> contextEntry : getTCContextCache()) {
-            if (contextEntry.getValue().getPodName().equals(podName)) {
+            if (podName.equals(contextEntry.getValue().getPodName())) {
                 contexts.add(contextEntry.getValue());
             }
         }
         return contexts;
     }
 
+    /**
+     * Get id, status, project and pod of contexts matching the filter, without transferring contexts themselves.
+     * Contexts are filtered and projected on Hazelcast side by indexed Compact fields if ITF serializers are enabled.
+     *
+     * @param podName   pod name, or null - any pod
+     * @param projectId project id, or null - any project
+     * @param status    context status, or null - any status
+     * @return list of context summaries
+     */
+    public List<TcContextSummary> getContextSummaries(String podName, BigInteger projectId, Status status) {
+        List<TcContextSummary> summaries = new ArrayList<>();
+        if (queriesSupported) {
+            List<Predicate<Object, TcContext>> predicates = new ArrayList<>(3);
+            if (podName != null) {
+                predicates.add(Predicates.equal(TcContextSerializer.POD_NAME, podName));
+            }
+            if (projectId != null) {
+                predicates.add(Predicates.equal(TcContextSerializer.PROJECT_ID,
+                        itfSerializersEnabled ? new BigDecimal(projectId) : projectId));
+            }
+            if (status != null) {
+                predicates.add(Predicates.equal(TcContextSerializer.STATUS,
+                        itfSerializersEnabled ? status.name() : status));
+            }
+            try {
+                Collection<Object[]> rows = getTCContextCache().project(
+                        Projections.multiAttribute(KEY, TcContextSerializer.STATUS, TcContextSerializer.PROJECT_ID,
+                                TcContextSerializer.POD_NAME),
+                        predicates.isEmpty() ? Predicates.alwaysTrue() : Predicates.and(predicates.toArray(
+                                new Predicate[0])));
+                for (Object[] row : rows) {
+                    summaries.add(new TcContextSummary(toBigInt(row[0]), toStatus(row[1]), toProjectId(row[2]),
+                            (String) row[3]));
+                }
+                return summaries;
+            } catch (HazelcastException e) {
+                disableQueries(e);
+            }
+        }
+        for (TcContext tcContext : getTCContextCache().values()) {
+            if ((podName == null || podName.equals(tcContext.getPodName()))
+                    && (projectId == null || projectId.equals(tcContext.getProjectId()))
+                    && (status == null || status == tcContext.getStatus())) {
+                summaries.add(new TcContextSummary(toBigInt(tcContext.getID()), tcContext.getStatus(),
+                        tcContext.getProjectId(), tcContext.getPodName()));
+            }
+        }
+        return summaries;
+    }
+
+    /*  Queries are evaluated on Hazelcast members. If the cluster can't evaluate them (contexts are written
+        by Java serialization and there are no ITF model classes on members' classpath),
+        we switch to the client-side filtering once and for all.
+     */
+    private void disableQueries(HazelcastException e) {
+        queriesSupported = false;
+        log.warn("Queries on {} map can't be evaluated on Hazelcast side; client-side filtering will be used",
+                ATP_ITF_TC_CONTEXTS, e);
+    }
+
+    /*  Compact fields are projected as String and BigDecimal, attributes of Java-serialized contexts as is.
+     */
+    private static Status toStatus(Object status) {
+        return status == null || status instanceof Status ? (Status) status : Status.valueOf((String) status);
+    }
+
+    private static BigInteger toProjectId(Object projectId) {
+        return projectId instanceof BigDecimal decimal ? decimal.toBigIntegerExact() : (BigInteger) projectId;
+    }
+
     /**
      * Set\putIfAbsent to ATP_ITF_TC_CONTEXTS cache.
      *
      * @param tcContext TcContext object.
      * @param forced    if value is true - this method will use set() without returning old value and serialization,
      *                  if it is false - putIfAbsent() method will be used.
+     * @return false if the context isn't written: it exceeds the size quota or can't be serialized.
      */
-    public void set(TcContext tcContext, boolean forced) {
+    public boolean set(TcContext tcContext, boolean forced) {
         long ttl = tcContext.getTimeToLive();
         try {
+            /*  The context is serialized in advance only if its size is checked or accounted, or its hash is kept;
+                the map operation below reuses the bytes, so the context is serialized once.
+                The size is the stored size (compressed if ITF serializers are enabled).
+             */
+            byte[] bytes = maxContextSize > 0 || sizeAccountingEnabled || forced && dirtyTrackingEnabled
+                    ? storedBytes(tcContext, true)
+                    : null;
+            if (maxContextSize > 0 || sizeAccountingEnabled) {
+                if (!checkQuota(tcContext, bytes.length)) {
+                    return false;
+                }
+                accountSize(tcContext, bytes.length);
+            }
             if (forced) {
                 getTCContextCache().set(tcContext.getID(), tcContext, ttl, TimeUnit.MILLISECONDS);
+                if (dirtyTrackingEnabled) {
+                    writtenSnapshots.put(tcContext.getID(), TcContextSnapshot.of(tcContext, bytes));
+                }
                 log.debug("TcContext {} was set to {} cache. forced=true", tcContext.getID(), ATP_ITF_TC_CONTEXTS);
             } else {
-                TcContext oldTcContext = getTCContextCache().putIfAbsent(tcContext.getID(), tcContext, ttl,
+                Object oldTcContext = getTCContextCache().putIfAbsent(tcContext.getID(), tcContext, ttl,
                         TimeUnit.MILLISECONDS);
                 log.debug(Objects.isNull(oldTcContext)
                                 ? "TcContext {} was put to {} cache. forced=false"
                                 : "TcContext {} wasn't put to {} cache. Already in cache and forced=false.",
                         tcContext.getID(), ATP_ITF_TC_CONTEXTS);
             }
-        } catch (HazelcastSerializationException ex) {
+        } catch (HazelcastSerializationException | SerializationException ex) {
             log.error("Can't serialize TcContext to put/set into ATP_ITF_TC_CONTEXTS.", ex);
+            return false;
         } catch (Exception e) {
             log.error("Something went wrong while set/putIfAbsent TcContext to {} cache", ATP_ITF_TC_CONTEXTS);
+        } finally {
+            CompressingJavaSerializer.clearPrepared();
         }
+        return true;
+    }
+
+    /**
+     * Refresh TTL of the context in ATP_ITF_TC_CONTEXTS cache.
+     * If dirty tracking is enabled and the context isn't changed since the last forced set from this replica
+     * (the context is serialized and its bytes are compared with the hash of the written ones),
+     * only TTL of the entry is updated (the context isn't sent). Otherwise, the context is set.
+     *
+     * @param tcContext TcContext object.
+     */
+    public void touch(TcContext tcContext) {
+        if (dirtyTrackingEnabled) {
+            TcContextSnapshot snapshot = writtenSnapshots.getIfPresent(tcContext.getID());
+            if (snapshot != null && snapshot.matches(tcContext, context -> storedBytes(context, false))) {
+                try {
+                    if (getTCContextCache().setTtl(tcContext.getID(), tcContext.getTimeToLive(),
+                            TimeUnit.MILLISECONDS)) {
+                        log.debug("TcContext {} isn't changed, TTL is refreshed in {} cache", tcContext.getID(),
+                                ATP_ITF_TC_CONTEXTS);
+                        return;
+                    }
+                } catch (Exception e) {
+                    log.warn("Can't refresh TTL of TcContext {} in {} cache, it will be set", tcContext.getID(),
+                            ATP_ITF_TC_CONTEXTS, e);
+                }
+            }
+        }
+        set(tcContext, true);
     }
 
     public void evict(TcContext tcContext) {
         getTCContextCache().evict(tcContext.getID());
+        writtenSnapshots.invalidate(tcContext.getID());
+        accountedSizes.invalidate(tcContext.getID());
+    }
+
+    /**
+     * Forget accounted size of the context which is expired in ATP_ITF_TC_CONTEXTS cache.
+     *
+     * @param contextId context id
+     */
+    public void forgetSize(Object contextId) {
+        accountedSizes.invalidate(contextId);
+    }
+
+    /*  Bytes of the context as they're stored: "data" field of TcContextSerializer if ITF serializers are enabled,
+        Java serialization (used by the generic Hazelcast serializer for TcContext) otherwise.
+        Prepared bytes are reused by the next store operation of the thread if ITF serializers are enabled.
+     */
+    private byte[] storedBytes(TcContext tcContext, boolean prepare) {
+        if (serializer == null) {
+            return SerializationUtils.serialize(tcContext);
+        }
+        return prepare ? serializer.prepare(tcContext) : serializer.serialize(tcContext);
+    }
+
+    private boolean checkQuota(TcContext tcContext, long size) {
+        if (maxContextSize <= 0 || size <= maxContextSize) {
+            return true;
+        }
+        log.error("TcContext {} (project {}) is not written to {} cache: its size {} bytes exceeds the limit {} bytes"
+                        + " (hazelcast.context.quota.maxSize). Other replicas will not see its changes.",
+                tcContext.getID(), tcContext.getProjectUuid(), ATP_ITF_TC_CONTEXTS, size, maxContextSize);
+        if (sizeAccountingEnabled && tcContext.getProjectUuid() != null) {
+            MetricsAggregateService.incrementHazelcastContextRejectedCount(tcContext.getProjectUuid());
+        }
+        return false;
+    }
+
+    /*  Only contexts started on this pod are accounted, so each context is accounted by one pod only.
+     */
+    private void accountSize(TcContext tcContext, long size) {
+        if (!sizeAccountingEnabled || tcContext.getProjectUuid() == null
+                || !Config.getConfig().getRunningHostname().equals(tcContext.getPodName())) {
+            return;
+        }
+        AccountedSize previous = accountedSizes.asMap().put(tcContext.getID(),
+                new AccountedSize(tcContext.getProjectUuid(), size));
+        MetricsAggregateService.addHazelcastContextsSizeToProject(tcContext.getProjectUuid(),
+                previous == null ? size : size - previous.size);
     }
 
     private IMap<Object, TcContext> getTCContextCache() {
         return hazelcastClient.getMap(ATP_ITF_TC_CONTEXTS);
     }
+
+    private static class AccountedSize {
+
+        private final UUID projectUuid;
+        private final long size;
+
+        AccountedSize(UUID projectUuid, long size) {
+            this.projectUuid = projectUuid;
+            this.size = size;
+        }
+    }
 }
@@ -0,0 +1,89 @@
+/*
+ * # Copyright 2024-2026 NetCracker Technology Corporation
+ * #
+ * # Licensed under the Apache License, Version 2.0 (the "License");
+ * # you may not use this file except in compliance with the License.
+ * # You may obtain a copy of the License at
+ * #
+ * #      http://www.apache.org/licenses/LICENSE-2.0
+ * #
+ * # Unless required by applicable law or agreed to in writing, software
+ * # distributed under the License is distributed on an "AS IS" BASIS,
+ * # WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * # See the License for the specific language governing permissions and
+ * # limitations under the License.
+ *
+ */
+
+package org.qubership.automation.itf.executor.cache.service.impl;
+
+import java.util.function.Function;
+
+import org.qubership.automation.itf.core.model.jpa.context.TcContext;
+
+import com.google.common.hash.HashCode;
+import com.google.common.hash.HashFunction;
+import com.google.common.hash.Hashing;
+
+/**
+ * Fingerprint of the TcContext state last written to the cluster by this replica:
+ * length and hash of the written bytes, and lastUpdateTime of the written state. A copy of the context isn't kept.
+ * The current state is serialized the same way and its bytes are compared with the fingerprint,
+ * so a change of any serialized field or variable is detected, even if its values have no value-based equals
+ * (e.g. initiator instance).
+ */
+final class TcContextSnapshot {
+
+    /*  Approximate memory footprint of a snapshot with its cache entry, in bytes.
+     */
+    static final int WEIGHT = 128;
+    private static final HashFunction HASH_FUNCTION = Hashing.murmur3_128();
+
+    private final long lastUpdateTime;
+    private final int length;
+    private final HashCode hash;
+
+    private TcContextSnapshot(long lastUpdateTime, int length, HashCode hash) {
+        this.lastUpdateTime = lastUpdateTime;
+        this.length = length;
+        this.hash = hash;
+    }
+
+    /**
+     * Create a snapshot of the written context.
+     *
+     * @param tcContext written context
+     * @param bytes     bytes written for the context
+     * @return snapshot
+     */
+    static TcContextSnapshot of(TcContext tcContext, byte[] bytes) {
+        return new TcContextSnapshot(tcContext.getLastUpdateTime(), bytes.length, HASH_FUNCTION.hashBytes(bytes));
+    }
+
+    /**
+     * Check if the context isn't changed since the snapshot.
+     * lastUpdateTime is set after each situation, so it's compared with a tolerance:
+     * the written value may lag behind the current one by less than 1/10 of the context time to live.
+     * Within the tolerance, the context is serialized with the written lastUpdateTime,
+     * which is set back to the current value after that.
+     *
+     * @param tcContext  current state of the context
+     * @param serializer serializer producing the same bytes as written ones for the same state
+     * @return true if the context is serialized to the written bytes
+     */
+    boolean matches(TcContext tcContext, Function<TcContext, byte[]> serializer) {
+        long currentLastUpdateTime = tcContext.getLastUpdateTime();
+        long lastUpdateLag = currentLastUpdateTime - lastUpdateTime;
+        if (lastUpdateLag != 0 && lastUpdateLag >= tcContext.getTimeToLive() / 10) {
+            return false;
+        }
+        byte[] bytes;
+        tcContext.setLastUpdateTime(lastUpdateTime);
+        try {
+            bytes = serializer.apply(tcContext);
+        } finally {
+            tcContext.setLastUpdateTime(currentLastUpdateTime);
+        }
+        return bytes.length == length && HASH_FUNCTION.hashBytes(bytes).equals(hash);
+    }
+}
@@ -0,0 +1,45 @@
+/*
+ * # Copyright 2024-2026 NetCracker Technology Corporation
+ * #
+ * # Licensed under the Apache License, Version 2.0 (the "License");
+ * # you may not use this file except in compliance with the License.
+ * # You may obtain a copy of the License at
+ * #
+ * #      http://www.apache.org/licenses/LICENSE-2.0
+ * #
+ * # Unless required by applicable law or agreed to in writing, software
+ * # distributed under the License is distributed on an "AS IS" BASIS,
+ * # WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * # See the License for the specific language governing permissions and
+ * # limitations under the License.
+ *
+ */
+
+package org.qubership.automation.itf.executor.cache.service.impl;
+
+import java.math.BigInteger;
+
+import org.qubership.automation.itf.core.util.constants.Status;
+
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * Lightweight view of running TcContext, returned by projection queries without full context deserialization.
+ */
+@Getter
+@ToString
+public class TcContextSummary {
+
+    private final BigInteger id;
+    private final Status status;
+    private final BigInteger projectId;
+    private final String podName;
+
+    public TcContextSummary(BigInteger id, Status status, BigInteger projectId, String podName) {
+        this.id = id;
+        this.status = status;
+        this.projectId = projectId;
+        this.podName = podName;
+    }
+}
@@ -26,6 +26,7 @@ import org.qubership.atp.integration.configuration.mdc.MdcUtils;
 import org.qubership.automation.diameter.config.ConfigReader;
 import org.qubership.automation.diameter.dictionary.DictionaryConfig;
 import org.qubership.automation.itf.core.execution.ExecutorServiceProviderFactory;
+import org.qubership.automation.itf.core.instance.testcase.execution.holders.ContextCompletions;
 import org.qubership.automation.itf.core.message.DictionaryReloadMessage;
 import org.qubership.automation.itf.core.message.TcContextOperationMessage;
 import org.qubership.automation.itf.core.model.jpa.context.TcContext;
@@ -92,6 +93,10 @@ public class MultiReplicaJMSListeners {
                         "Context ID=%s: Parameter 'state' (Context state) value is incorrect: '%s'".formatted(
                                 contextId, newState));
             }
+            if (message.isCompleted()) {
+                ContextCompletions.getInstance().complete(contextId, Status.valueOf(newState));
+                return;
+            }
             TcContext tcContext = CacheServices.getTcContextCacheService().getById(contextId);
             if (Objects.isNull(tcContext)) {
                 throw new IllegalArgumentException(
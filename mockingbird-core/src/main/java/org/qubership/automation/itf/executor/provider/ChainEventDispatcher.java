@@ -0,0 +1,135 @@
+/*
+ * # Copyright 2024-2026 NetCracker Technology Corporation
+ * #
+ * # Licensed under the Apache License, Version 2.0 (the "License");
+ * # you may not use this file except in compliance with the License.
+ * # You may obtain a copy of the License at
+ * #
+ * #      http://www.apache.org/licenses/LICENSE-2.0
+ * #
+ * # Unless required by applicable law or agreed to in writing, software
+ * # distributed under the License is distributed on an "AS IS" BASIS,
+ * # WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * # See the License for the specific language governing permissions and
+ * # limitations under the License.
+ *
+ */
+
+package org.qubership.automation.itf.executor.provider;
+
+import java.util.ArrayDeque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import org.qubership.automation.itf.core.instance.testcase.execution.subscriber.AbstractChainSubscriber;
+import org.qubership.automation.itf.core.model.event.AbstractEvent;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Dispatcher of events addressed to call chain subscribers by id.
+ * Unlike broadcast EventBus, an event is delivered only to subscribers registered under the event id,
+ * so dispatch cost doesn't depend on the number of concurrently running chains.
+ * Events posted while dispatching (from a subscriber) are queued and delivered after the current event,
+ * in the same way as Guava EventBus does.
+ */
+@Slf4j
+public class ChainEventDispatcher {
+
+    private final String name;
+    private final Map<String, List<AbstractChainSubscriber<?>>> subscribers = new ConcurrentHashMap<>();
+    private final ThreadLocal<Queue<AbstractEvent>> queue = ThreadLocal.withInitial(ArrayDeque::new);
+    private final ThreadLocal<Boolean> dispatching = ThreadLocal.withInitial(() -> false);
+
+    public ChainEventDispatcher(String name) {
+        this.name = name;
+    }
+
+    public void register(AbstractChainSubscriber<?> subscriber) {
+        subscribers.computeIfAbsent(subscriber.getId(), id -> new CopyOnWriteArrayList<>()).add(subscriber);
+    }
+
+    /**
+     * Unregister subscriber.
+     *
+     * @return true if the subscriber was registered in this dispatcher
+     */
+    public boolean unregister(AbstractChainSubscriber<?> subscriber) {
+        boolean[] removed = new boolean[1];
+        subscribers.computeIfPresent(subscriber.getId(), (id, list) -> {
+            removed[0] = list.remove(subscriber);
+            return list.isEmpty() ? null : list;
+        });
+        return removed[0];
+    }
+
+    /**
+     * Deliver the event to subscribers registered under its id.
+     */
+    public void dispatch(AbstractEvent event) {
+        if (event.getID() == null || subscribers.isEmpty()) {
+            return;
+        }
+        Queue<AbstractEvent> events = queue.get();
+        events.offer(event);
+        if (dispatching.get()) {
+            return;
+        }
+        dispatching.set(true);
+        try {
+            AbstractEvent next;
+            while ((next = events.poll()) != null) {
+                deliver(next);
+            }
+        } finally {
+            dispatching.remove();
+            queue.remove();
+        }
+    }
+
+    /**
+     * Check expiration of all subscribers. Expired subscribers unregister themselves.
+     */
+    public void unregisterExpired() {
+        for (List<AbstractChainSubscriber<?>> list : subscribers.values()) {
+            for (AbstractChainSubscriber<?> subscriber : list) {
+                subscriber.checkExpiration();
+            }
+        }
+    }
+
+    public int size() {
+        return subscribers.values().stream().mapToInt(List::size).sum();
+    }
+
+    /**
+     * Count subscribers by class name.
+     */
+    public Map<String, Integer> countByType() {
+        Map<String, Integer> counts = new HashMap<>();
+        for (List<AbstractChainSubscriber<?>> list : subscribers.values()) {
+            for (AbstractChainSubscriber<?> subscriber : list) {
+                counts.merge(subscriber.getClass().getName(), 1, Integer::sum);
+            }
+        }
+        return counts;
+    }
+
+    private void deliver(AbstractEvent event) {
+        List<AbstractChainSubscriber<?>> addressed = subscribers.get(event.getID());
+        if (addressed == null) {
+            return;
+        }
+        for (AbstractChainSubscriber<?> subscriber : addressed) {
+            try {
+                subscriber.deliver(event);
+            } catch (RuntimeException e) {
+                log.error("Could not dispatch event {} to {} at dispatcher {}", event, subscriber, name, e);
+            }
+        }
+    }
+}
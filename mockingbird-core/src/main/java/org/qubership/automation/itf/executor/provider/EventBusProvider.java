@@ -19,10 +19,14 @@ package org.qubership.automation.itf.executor.provider;
 
 import org.apache.commons.lang3.StringUtils;
 import org.apache.commons.lang3.exception.ExceptionUtils;
+import org.qubership.automation.itf.core.instance.testcase.execution.subscriber.AbstractChainSubscriber;
+import org.qubership.automation.itf.core.model.event.AbstractEvent;
 import org.qubership.automation.itf.core.model.event.Event;
 import org.qubership.automation.itf.executor.cache.service.impl.CallchainSubscriberCacheService;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 
 import com.google.common.eventbus.EventBus;
@@ -37,15 +41,33 @@ public class EventBusProvider {
             new EventBus(new LoggingSubscriberExceptionHandler("Normal priority bus"));
     private final EventBus highPriorityEventBus =
             new EventBus(new LoggingSubscriberExceptionHandler("High priority bus"));
+    /*  Call chain subscribers handle only events addressed to them by id,
+        so they are registered in keyed dispatchers instead of broadcast buses.
+     */
+    private final ChainEventDispatcher normalPriorityDispatcher = new ChainEventDispatcher("Normal priority bus");
+    private final ChainEventDispatcher highPriorityDispatcher = new ChainEventDispatcher("High priority bus");
     private final CallchainSubscriberCacheService callchainSubscriberCacheService;
+    @Value("${eventbus.keyed-dispatch.enabled:true}")
+    private boolean keyedDispatchEnabled = true;
 
     public EventBusProvider(CallchainSubscriberCacheService callchainSubscriberCacheService) {
         this.callchainSubscriberCacheService = callchainSubscriberCacheService;
     }
 
+    /**
+     * Post the event. Priority order is kept: high priority subscribers (keyed, then broadcast)
+     * receive the event before normal priority ones.
+     */
     public void post(Event event) {
-        highPriorityEventBus.post(event);
-        normalPriorityEventBus.post(event);
+        if (event instanceof AbstractEvent addressedEvent) {
+            highPriorityDispatcher.dispatch(addressedEvent);
+            highPriorityEventBus.post(event);
+            normalPriorityDispatcher.dispatch(addressedEvent);
+            normalPriorityEventBus.post(event);
+        } else {
+            highPriorityEventBus.post(event);
+            normalPriorityEventBus.post(event);
+        }
     }
 
     public void register(Object subscriber) {
@@ -56,7 +78,9 @@ public class EventBusProvider {
      * Register subscriber in High or Normal Priority Bus, and in the cache.
      */
     public void register(Object subscriber, Priority priority) {
-        if (Priority.HIGH.equals(priority)) {
+        if (keyedDispatchEnabled && subscriber instanceof AbstractChainSubscriber<?> chainSubscriber) {
+            getDispatcher(priority).register(chainSubscriber);
+        } else if (Priority.HIGH.equals(priority)) {
             highPriorityEventBus.register(subscriber);
         } else {
             normalPriorityEventBus.register(subscriber);
@@ -69,6 +93,13 @@ public class EventBusProvider {
      */
     public void unregister(Object subscriber) {
         callchainSubscriberCacheService.unregisterSubscriber(subscriber);
+        if (subscriber instanceof AbstractChainSubscriber<?> chainSubscriber) {
+            boolean removed = highPriorityDispatcher.unregister(chainSubscriber);
+            removed |= normalPriorityDispatcher.unregister(chainSubscriber);
+            if (removed) {
+                return;
+            }
+        }
         try {
             highPriorityEventBus.unregister(subscriber);
         } catch (Exception e) { /*its ok*/ }
@@ -82,6 +113,10 @@ public class EventBusProvider {
      */
     public void unregisterNormal(Object subscriber) {
         callchainSubscriberCacheService.unregisterSubscriber(subscriber);
+        if (subscriber instanceof AbstractChainSubscriber<?> chainSubscriber
+                && normalPriorityDispatcher.unregister(chainSubscriber)) {
+            return;
+        }
         try {
             normalPriorityEventBus.unregister(subscriber);
         } catch (Exception e) {
@@ -105,6 +140,25 @@ public class EventBusProvider {
                 ? highPriorityEventBus : normalPriorityEventBus;
     }
 
+    /**
+     * Get keyed dispatcher of priority given.
+     */
+    public ChainEventDispatcher getDispatcher(Priority priority) {
+        return (EventBusProvider.Priority.HIGH.equals(priority))
+                ? highPriorityDispatcher : normalPriorityDispatcher;
+    }
+
+    /**
+     * Unregister expired call chain subscribers.
+     * Broadcast buses do it as a side effect of delivering events addressed to other subscribers;
+     * keyed dispatchers don't deliver such events, so expiration is checked periodically.
+     */
+    @Scheduled(fixedDelayString = "${eventbus.keyed-dispatch.expiration.check.ms:60000}")
+    public void unregisterExpiredSubscribers() {
+        highPriorityDispatcher.unregisterExpired();
+        normalPriorityDispatcher.unregisterExpired();
+    }
+
     public enum Priority {
         NORMAL, HIGH
     }
@@ -19,6 +19,7 @@ package org.qubership.automation.itf.executor.service;
 
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 import org.apache.activemq.ConfigurationException;
@@ -30,12 +31,16 @@ import org.qubership.atp.multitenancy.interceptor.jms.AtpJmsTemplate;
 import org.qubership.automation.itf.core.model.communication.message.EventTriggerStateResponse;
 import org.qubership.automation.itf.core.model.communication.message.TriggerExecutionMessage;
 import org.qubership.automation.itf.core.util.mdc.MdcField;
+import org.qubership.automation.itf.executor.objects.jms.DefaultJmsTemplate;
 import org.slf4j.MDC;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.core.env.Environment;
+import org.springframework.jms.support.JmsUtils;
 import org.springframework.stereotype.Component;
 
 import jakarta.annotation.PostConstruct;
+import jakarta.jms.Message;
+import jakarta.jms.MessageProducer;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
@@ -133,6 +138,41 @@ public class ExecutorToMessageBrokerSender {
         reportsQueueJmsTemplate.convertAndSend(reportsIntegrationQueue, message);
     }
 
+    /**
+     * Send messages to the reporting queue using one session and one producer for all of them.
+     * Multi-tenant template routes each message to the broker of the current tenant,
+     * so in multi-tenancy mode messages are sent one by one via the template API.
+     *
+     * @param messages messages to send.
+     */
+    public void sendMessagesToReportingQueue(List<? extends Message> messages) {
+        if (!(reportsQueueJmsTemplate instanceof DefaultJmsTemplate jmsTemplate)) {
+            for (Message message : messages) {
+                reportsQueueJmsTemplate.convertAndSend(reportsIntegrationQueue, message);
+            }
+            return;
+        }
+        jmsTemplate.execute(session -> {
+            MessageProducer producer = session.createProducer(
+                    jmsTemplate.getDestinationResolver().resolveDestinationName(session, reportsIntegrationQueue,
+                            false));
+            try {
+                for (Message message : messages) {
+                    if (jmsTemplate.isExplicitQosEnabled()) {
+                        producer.send(message, jmsTemplate.getDeliveryMode(), jmsTemplate.getPriority(),
+                                jmsTemplate.getTimeToLive());
+                    } else {
+                        producer.send(message);
+                    }
+                }
+                JmsUtils.commitIfNecessary(session);
+            } finally {
+                JmsUtils.closeMessageProducer(producer);
+            }
+            return null;
+        }, false);
+    }
+
     public void sendMessage(Object message, String queueNameParameterName, String queueType,
                             String tenantId) throws Exception {
         String queueName = env.getProperty(queueNameParameterName);
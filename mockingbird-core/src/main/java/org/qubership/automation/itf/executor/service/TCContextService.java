@@ -28,6 +28,8 @@ import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.TimeUnit;
 
 import org.apache.commons.lang3.StringUtils;
+import org.qubership.automation.itf.core.instance.testcase.execution.holders.ContextCompletions;
+import org.qubership.automation.itf.core.instance.testcase.execution.holders.ContextRuntimeRegistry;
 import org.qubership.automation.itf.core.instance.testcase.execution.holders.DefferedSituationInstanceHolder;
 import org.qubership.automation.itf.core.instance.testcase.execution.holders.NextCallChainEventSubscriberHolder;
 import org.qubership.automation.itf.core.instance.testcase.execution.holders.SubscriberData;
@@ -48,7 +50,6 @@ import org.qubership.automation.itf.core.util.constants.Status;
 import org.qubership.automation.itf.core.util.exception.TcContextTimeoutException;
 import org.qubership.automation.itf.core.util.generator.id.UniqueIdGenerator;
 import org.qubership.automation.itf.core.util.manager.ExtensionManager;
-import org.qubership.automation.itf.core.util.manager.MonitorManager;
 import org.qubership.automation.itf.core.util.pcap.PcapHelper;
 import org.qubership.automation.itf.executor.cache.hazelcast.HazelcastAsyncExecutor;
 import org.qubership.automation.itf.executor.cache.service.CacheServices;
@@ -340,14 +341,24 @@ public class TCContextService {
 
     /**
      * This notification is invoked during TcContext events processing in the LoggerSubscriber
-     * Events are TcContextEvent.Fail, TcContextEvent.Finish, TcContextEvent.Stop
+     * Events are TcContextEvent.Fail, TcContextEvent.Finish, TcContextEvent.Stop.
+     * Waiters for the context completion (ATP runs, synchronous callchain runs) are released.
+     * If the context is started on another pod, its waiters are released via tc-context operations topic.
      */
-    public void notifyATP(TcContext tcContext) {
-        if (tcContext.getStartedByAtp()) {
-            Object object = MonitorManager.getInstance().get(tcContext.getID().toString());
-            synchronized (object) {
-                object.notify();
-            }
+    public void notifyCompletion(TcContext tcContext) {
+        if (!tcContext.isFinished()) {
+            return;
+        }
+        ContextCompletions.getInstance().complete(tcContext.getID(), tcContext.getStatus());
+        if (tcContext.getInitiator() instanceof SituationInstance) {
+            // Contexts started by stubs have no waiters, only call chain runs are waited for
+            return;
+        }
+        String podName = tcContext.getPodName();
+        if (podName != null && !podName.equals(Config.getConfig().getRunningHostname())) {
+            executorToMessageBrokerSender.sendMessageToTcContextOperationsTopic(
+                    new TcContextOperationMessage(tcContext.getStatus().name(), (BigInteger) tcContext.getID(), true),
+                    getTenantId(tcContext));
         }
     }
 
@@ -399,17 +410,12 @@ public class TCContextService {
                 eventBusProvider.unregister(subscriber);
             }
         }
+        ContextRuntimeRegistry.getInstance().remove(tcContext.getID());
     }
 
     public void updateLastAccess(TcContext tcContext) {
-        CacheServices.getTcContextCacheService().set(tcContext, true);
+        CacheServices.getTcContextCacheService().touch(tcContext);
         tcContext.setLastUpdateTime(System.currentTimeMillis());
-        /*
-            Get the object from MonitorManager cache in order to restart expiration control (set via expireAfterAccess)
-        */
-        if (tcContext.getStartedByAtp()) {
-            MonitorManager.getInstance().get(tcContext.getID().toString());
-        }
     }
 
     public TcContext createInMemory(BigInteger projectId, UUID projectUuid) {
@@ -0,0 +1,127 @@
+/*
+ * # Copyright 2024-2026 NetCracker Technology Corporation
+ * #
+ * # Licensed under the Apache License, Version 2.0 (the "License");
+ * # you may not use this file except in compliance with the License.
+ * # You may obtain a copy of the License at
+ * #
+ * #      http://www.apache.org/licenses/LICENSE-2.0
+ * #
+ * # Unless required by applicable law or agreed to in writing, software
+ * # distributed under the License is distributed on an "AS IS" BASIS,
+ * # WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * # See the License for the specific language governing permissions and
+ * # limitations under the License.
+ *
+ */
+
+package org.qubership.automation.itf.core.execution;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+
+public class ContextMailboxTest {
+
+    @Test
+    public void tasksOfContextAreExecutedOneByOneInArrivalOrder() throws InterruptedException {
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        ContextMailbox mailbox = new ContextMailbox(executor);
+        List<Integer> processed = new CopyOnWriteArrayList<>();
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger maxRunning = new AtomicInteger();
+        CountDownLatch finished = new CountDownLatch(100);
+        for (int i = 0; i < 100; i++) {
+            int number = i;
+            mailbox.execute("ctx", () -> {
+                maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+                processed.add(number);
+                running.decrementAndGet();
+                finished.countDown();
+            });
+        }
+        assertTrue(finished.await(10, TimeUnit.SECONDS));
+        assertEquals(1, maxRunning.get());
+        assertEquals(IntStream.range(0, 100).boxed().toList(), processed);
+        executor.shutdown();
+    }
+
+    @Test
+    public void queuedTaskBecomesOwnerWhenContextIsReleased() {
+        List<Runnable> submitted = new CopyOnWriteArrayList<>();
+        ContextMailbox mailbox = new ContextMailbox(submitted::add);
+        List<String> processed = new CopyOnWriteArrayList<>();
+        assertTrue(mailbox.tryAcquire("ctx", () -> processed.add("unexpected")));
+        assertFalse(mailbox.tryAcquire("ctx", () -> processed.add("second")));
+        assertFalse(mailbox.tryAcquire("ctx", () -> processed.add("third")));
+        assertTrue(mailbox.tryAcquire("other", () -> processed.add("unexpected")));
+        assertEquals(2, mailbox.queuedCount());
+        assertEquals(2, mailbox.busyCount());
+
+        mailbox.release("ctx");
+        assertEquals(1, submitted.size());
+        submitted.getFirst().run();
+        assertEquals(List.of("second"), processed);
+        assertEquals(1, mailbox.queuedCount());
+
+        mailbox.release("ctx");
+        mailbox.release("ctx");
+        mailbox.release("other");
+        assertEquals(0, mailbox.busyCount());
+        assertEquals(0, mailbox.queuedCount());
+    }
+
+    @Test
+    public void contextIsReleasedWhenExecutorRejectsQueuedTask() {
+        ContextMailbox mailbox = new ContextMailbox(task -> {
+            throw new RejectedExecutionException("saturated");
+        });
+        assertTrue(mailbox.tryAcquire("ctx", () -> { }));
+        assertFalse(mailbox.tryAcquire("ctx", () -> { }));
+        assertFalse(mailbox.tryAcquire("ctx", () -> { }));
+
+        mailbox.release("ctx");
+        assertEquals(0, mailbox.busyCount());
+        assertEquals(0, mailbox.queuedCount());
+        assertTrue(mailbox.tryAcquire("ctx", () -> { }));
+    }
+
+    @Test
+    public void rejectionCallbacksAreInvokedForDroppedTasks() {
+        ContextMailbox mailbox = new ContextMailbox(task -> {
+            throw new RejectedExecutionException("saturated");
+        });
+        List<String> rejected = new CopyOnWriteArrayList<>();
+        assertTrue(mailbox.tryAcquire("ctx", () -> { }));
+        assertFalse(mailbox.tryAcquire("ctx", () -> { }, e -> rejected.add("second: " + e.getMessage())));
+        assertFalse(mailbox.tryAcquire("ctx", () -> { }));
+        assertFalse(mailbox.tryAcquire("ctx", () -> { }, e -> rejected.add("fourth: " + e.getMessage())));
+
+        mailbox.release("ctx");
+        assertEquals(List.of("second: saturated", "fourth: saturated"), rejected);
+        assertEquals(0, mailbox.busyCount());
+        assertEquals(0, mailbox.queuedCount());
+    }
+
+    @Test
+    public void contextIsReleasedWhenExecutorRejectsFirstTask() {
+        ContextMailbox mailbox = new ContextMailbox(task -> {
+            throw new RejectedExecutionException("shut down");
+        });
+        assertThrows(RejectedExecutionException.class, () -> mailbox.execute("ctx", () -> { }));
+        assertEquals(0, mailbox.busyCount());
+    }
+}
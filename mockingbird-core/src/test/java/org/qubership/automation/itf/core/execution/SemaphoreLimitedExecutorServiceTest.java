@@ -0,0 +1,65 @@
+/*
+ * # Copyright 2024-2026 NetCracker Technology Corporation
+ * #
+ * # Licensed under the Apache License, Version 2.0 (the "License");
+ * # you may not use this file except in compliance with the License.
+ * # You may obtain a copy of the License at
+ * #
+ * #      http://www.apache.org/licenses/LICENSE-2.0
+ * #
+ * # Unless required by applicable law or agreed to in writing, software
+ * # distributed under the License is distributed on an "AS IS" BASIS,
+ * # WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * # See the License for the specific language governing permissions and
+ * # limitations under the License.
+ *
+ */
+
+package org.qubership.automation.itf.core.execution;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+public class SemaphoreLimitedExecutorServiceTest {
+
+    @Test
+    public void concurrencyIsLimited() throws InterruptedException {
+        SemaphoreLimitedExecutorService executor = new SemaphoreLimitedExecutorService(
+                Thread.ofVirtual().factory(), 3);
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger maxRunning = new AtomicInteger();
+        CountDownLatch finished = new CountDownLatch(50);
+        for (int i = 0; i < 50; i++) {
+            executor.execute(() -> {
+                maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+                try {
+                    Thread.sleep(5);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } finally {
+                    running.decrementAndGet();
+                    finished.countDown();
+                }
+            });
+        }
+        assertTrue(finished.await(10, TimeUnit.SECONDS));
+        assertEquals(3, maxRunning.get());
+        assertEquals(3, executor.getLargestActiveCount());
+        executor.shutdown();
+    }
+
+    @Test
+    public void noLimitIfMaxConcurrencyIsZero() {
+        SemaphoreLimitedExecutorService executor = new SemaphoreLimitedExecutorService(
+                Thread.ofVirtual().factory(), 0);
+        assertEquals(Integer.MAX_VALUE, executor.getMaxConcurrency());
+        assertEquals(0, executor.getWaitingCount());
+        executor.shutdown();
+    }
+}
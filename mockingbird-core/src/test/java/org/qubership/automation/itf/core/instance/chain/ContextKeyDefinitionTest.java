@@ -0,0 +1,74 @@
+/*
+ * # Copyright 2024-2026 NetCracker Technology Corporation
+ * #
+ * # Licensed under the Apache License, Version 2.0 (the "License");
+ * # you may not use this file except in compliance with the License.
+ * # You may obtain a copy of the License at
+ * #
+ * #      http://www.apache.org/licenses/LICENSE-2.0
+ * #
+ * # Unless required by applicable law or agreed to in writing, software
+ * # distributed under the License is distributed on an "AS IS" BASIS,
+ * # WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * # See the License for the specific language governing permissions and
+ * # limitations under the License.
+ *
+ */
+
+package org.qubership.automation.itf.core.instance.chain;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import org.junit.jupiter.api.Test;
+import org.qubership.automation.itf.core.model.jpa.system.System;
+import org.qubership.automation.itf.core.model.jpa.system.operation.Operation;
+
+public class ContextKeyDefinitionTest {
+
+    private static final String REGEX = "\\(\\+key\\)\\n";
+
+    @Test
+    public void splitIsTheSameAsRegexSplit() {
+        String[] values = {
+                "single",
+                "a(+key)\nb",
+                "a(+key)\n(+key)\nb",
+                "(+key)\na",
+                "a(+key)\n",
+                "a(+key)\nb(+key)\n(+key)\n",
+                "(+key)\n",
+                "a(+key)b",
+                "a(+key)\r\nb"
+        };
+        for (String value : values) {
+            assertArrayEquals(value.split(REGEX), ContextKeyDefinition.splitKeys(value), value);
+        }
+    }
+
+    @Test
+    public void operationDefinitionHasPriority() {
+        System system = mock(System.class);
+        when(system.getIncomingContextKeyDefinition()).thenReturn("$tc.systemKey");
+        Operation operation = mock(Operation.class);
+        when(operation.getParent()).thenReturn(system);
+        when(operation.getIncomingContextKeyDefinition()).thenReturn("$tc.operationKey");
+
+        ContextKeyDefinition definition = ContextKeyDefinition.resolve(operation);
+        assertEquals("$tc.operationKey", definition.getDefinition());
+        assertTrue(definition.isDefinedOnOperation());
+
+        when(operation.getIncomingContextKeyDefinition()).thenReturn("");
+        definition = ContextKeyDefinition.resolve(operation);
+        assertEquals("$tc.systemKey", definition.getDefinition());
+        assertFalse(definition.isDefinedOnOperation());
+
+        when(system.getIncomingContextKeyDefinition()).thenReturn(null);
+        assertNull(ContextKeyDefinition.resolve(operation));
+    }
+}
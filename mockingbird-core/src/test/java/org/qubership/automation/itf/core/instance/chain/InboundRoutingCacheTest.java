@@ -0,0 +1,105 @@
+/*
+ * # Copyright 2024-2026 NetCracker Technology Corporation
+ * #
+ * # Licensed under the Apache License, Version 2.0 (the "License");
+ * # you may not use this file except in compliance with the License.
+ * # You may obtain a copy of the License at
+ * #
+ * #      http://www.apache.org/licenses/LICENSE-2.0
+ * #
+ * # Unless required by applicable law or agreed to in writing, software
+ * # distributed under the License is distributed on an "AS IS" BASIS,
+ * # WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * # See the License for the specific language governing permissions and
+ * # limitations under the License.
+ *
+ */
+
+package org.qubership.automation.itf.core.instance.chain;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.math.BigInteger;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+import org.qubership.automation.itf.core.model.condition.parameter.ConditionParameter;
+import org.qubership.automation.itf.core.model.jpa.message.parser.ParsingRule;
+import org.qubership.automation.itf.core.model.jpa.system.operation.Operation;
+import org.qubership.automation.itf.core.model.jpa.system.stub.EventTrigger;
+import org.qubership.automation.itf.core.model.jpa.system.stub.Situation;
+
+public class InboundRoutingCacheTest {
+
+    @Test
+    public void routingIsCompiledOncePerOperation() {
+        ParsingRule operationRule = parsingRule(1);
+        ParsingRule overriddenRule = parsingRule(2);
+        Situation situation = mock(Situation.class);
+        when(situation.getID()).thenReturn(BigInteger.TEN);
+        when(situation.getParsingRules()).thenReturn(Set.of(overriddenRule));
+        Operation operation = mock(Operation.class);
+        when(operation.getID()).thenReturn(BigInteger.ONE);
+        when(operation.returnParsingRules()).thenReturn(Set.of(operationRule, overriddenRule));
+        when(operation.getSituations()).thenReturn(Set.of(situation));
+        EventTrigger trigger = mock(EventTrigger.class);
+        when(trigger.getParent()).thenReturn(situation);
+        ConditionParameter condition = new ConditionParameter();
+        condition.setName("name");
+        condition.setValue("value");
+        when(trigger.getConditionParameters()).thenReturn(List.of(condition));
+        AtomicInteger loads = new AtomicInteger();
+        InboundRoutingCache cache = new InboundRoutingCache(30, op -> {
+            loads.incrementAndGet();
+            return List.of(trigger);
+        });
+
+        InboundRoutingCache.OperationRouting routing = cache.get(operation);
+        assertEquals(Set.of(operationRule), routing.filterParsingRules(operation));
+        assertEquals(1, routing.getTriggers().size());
+        InboundRoutingCache.RoutingTrigger routingTrigger = routing.getTriggers().getFirst();
+        assertEquals(BigInteger.TEN, routingTrigger.getSituationId());
+
+        condition.setValue("changed");
+        ConditionParameter cachedCondition = routingTrigger.getConditionParameters().getFirst();
+        assertNotSame(condition, cachedCondition);
+        assertEquals("name", cachedCondition.getName());
+        assertEquals("value", cachedCondition.getValue());
+
+        cache.get(operation);
+        assertEquals(1, loads.get());
+
+        cache.invalidateAll();
+        cache.get(operation);
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    public void routingIsCompiledEveryTimeIfCacheIsOff() {
+        Operation operation = mock(Operation.class);
+        when(operation.getID()).thenReturn(BigInteger.ONE);
+        when(operation.returnParsingRules()).thenReturn(Set.of());
+        AtomicInteger loads = new AtomicInteger();
+        InboundRoutingCache cache = new InboundRoutingCache(0, op -> {
+            loads.incrementAndGet();
+            return List.of();
+        });
+
+        assertTrue(cache.get(operation).getTriggers().isEmpty());
+        cache.get(operation);
+        assertEquals(2, loads.get());
+        assertEquals(0, cache.size());
+    }
+
+    private static ParsingRule parsingRule(long id) {
+        ParsingRule rule = mock(ParsingRule.class);
+        when(rule.getID()).thenReturn(BigInteger.valueOf(id));
+        return rule;
+    }
+}
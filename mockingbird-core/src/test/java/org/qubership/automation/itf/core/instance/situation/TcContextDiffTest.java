@@ -0,0 +1,85 @@
+/*
+ * # Copyright 2024-2026 NetCracker Technology Corporation
+ * #
+ * # Licensed under the Apache License, Version 2.0 (the "License");
+ * # you may not use this file except in compliance with the License.
+ * # You may obtain a copy of the License at
+ * #
+ * #      http://www.apache.org/licenses/LICENSE-2.0
+ * #
+ * # Unless required by applicable law or agreed to in writing, software
+ * # distributed under the License is distributed on an "AS IS" BASIS,
+ * # WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * # See the License for the specific language governing permissions and
+ * # limitations under the License.
+ *
+ */
+
+package org.qubership.automation.itf.core.instance.situation;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.qubership.automation.itf.core.util.FlatMapUtil;
+
+import com.google.common.collect.MapDifference;
+import com.google.common.collect.Maps;
+
+public class TcContextDiffTest {
+
+    @Test
+    public void testDiffIsTheSameAsFlattenAndCompare() {
+        Map<String, Object> context = createContext();
+        Map<String, Object> left = FlatMapUtil.flatten(context);
+        context.put("added", "a");
+        context.remove("removed");
+        ((Map<String, Object>) context.get("group")).put("inner", "changed");
+        ((List<Object>) context.get("list")).add("third");
+
+        TcContextDiff diff = TcContextDiff.compute(left, context);
+        MapDifference<String, Object> expected = Maps.difference(left, FlatMapUtil.flatten(context));
+
+        Assertions.assertEquals(expected.entriesOnlyOnLeft(), diff.entriesOnlyOnLeft());
+        Assertions.assertEquals(expected.entriesOnlyOnRight(), diff.entriesOnlyOnRight());
+        Map<String, Object[]> entries = new HashMap<>();
+        diff.forEach((key, oldValue, newValue) -> entries.put(key, new Object[]{oldValue, newValue}));
+        Assertions.assertEquals(expected.entriesOnlyOnLeft().size() + expected.entriesOnlyOnRight().size()
+                + expected.entriesDiffering().size() + expected.entriesInCommon().size(), entries.size());
+        expected.entriesDiffering().forEach((key, values) -> {
+            Assertions.assertEquals(values.leftValue(), entries.get(key)[0]);
+            Assertions.assertEquals(values.rightValue(), entries.get(key)[1]);
+        });
+        expected.entriesInCommon().forEach((key, value) -> {
+            Assertions.assertEquals(value, entries.get(key)[0]);
+            Assertions.assertEquals(value, entries.get(key)[1]);
+        });
+        Assertions.assertTrue(diff.getEstimatedSize() > 0);
+    }
+
+    @Test
+    public void testNotChangedContext() {
+        Map<String, Object> context = createContext();
+        TcContextDiff diff = TcContextDiff.compute(FlatMapUtil.flatten(context), context);
+        Assertions.assertTrue(diff.areEqual());
+    }
+
+    private Map<String, Object> createContext() {
+        Map<String, Object> group = new LinkedHashMap<>();
+        group.put("inner", "value");
+        group.put("empty", null);
+        List<Object> list = new ArrayList<>();
+        list.add("first");
+        list.add("second");
+        Map<String, Object> context = new LinkedHashMap<>();
+        context.put("key", "value");
+        context.put("removed", "value");
+        context.put("group", group);
+        context.put("list", list);
+        return context;
+    }
+}
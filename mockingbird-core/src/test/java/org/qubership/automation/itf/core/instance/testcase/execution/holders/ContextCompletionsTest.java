@@ -0,0 +1,71 @@
+/*
+ * # Copyright 2024-2026 NetCracker Technology Corporation
+ * #
+ * # Licensed under the Apache License, Version 2.0 (the "License");
+ * # you may not use this file except in compliance with the License.
+ * # You may obtain a copy of the License at
+ * #
+ * #      http://www.apache.org/licenses/LICENSE-2.0
+ * #
+ * # Unless required by applicable law or agreed to in writing, software
+ * # distributed under the License is distributed on an "AS IS" BASIS,
+ * # WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * # See the License for the specific language governing permissions and
+ * # limitations under the License.
+ *
+ */
+
+package org.qubership.automation.itf.core.instance.testcase.execution.holders;
+
+import java.math.BigInteger;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.qubership.automation.itf.core.model.jpa.context.TcContext;
+import org.qubership.automation.itf.core.util.constants.Status;
+
+public class ContextCompletionsTest {
+
+    @Test
+    public void testCompleteReleasesWaiter() throws Exception {
+        ContextCompletions completions = new ContextCompletions(1);
+        TcContext tcContext = createContext(BigInteger.ONE, Status.IN_PROGRESS);
+        CompletableFuture<Status> waiter = CompletableFuture.supplyAsync(() -> {
+            try {
+                return completions.await(tcContext, 10, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                throw new IllegalStateException(e);
+            }
+        });
+        while (completions.size() == 0) {
+            Thread.sleep(10);
+        }
+        completions.complete(BigInteger.ONE, Status.PASSED);
+        Assertions.assertEquals(Status.PASSED, waiter.get(5, TimeUnit.SECONDS));
+        Assertions.assertEquals(0, completions.size());
+    }
+
+    @Test
+    public void testAwaitReturnsNullOnTimeout() throws Exception {
+        ContextCompletions completions = new ContextCompletions(1);
+        TcContext tcContext = createContext(BigInteger.TWO, Status.IN_PROGRESS);
+        Assertions.assertNull(completions.await(tcContext, 50, TimeUnit.MILLISECONDS));
+    }
+
+    @Test
+    public void testAwaitReturnsStatusOfAlreadyFinishedContext() throws Exception {
+        ContextCompletions completions = new ContextCompletions(1);
+        TcContext tcContext = createContext(BigInteger.TEN, Status.FAILED);
+        Assertions.assertEquals(Status.FAILED, completions.await(tcContext, 10, TimeUnit.SECONDS));
+        Assertions.assertEquals(0, completions.size());
+    }
+
+    private TcContext createContext(BigInteger id, Status status) {
+        TcContext tcContext = new TcContext();
+        tcContext.setID(id);
+        tcContext.setStatus(status);
+        return tcContext;
+    }
+}
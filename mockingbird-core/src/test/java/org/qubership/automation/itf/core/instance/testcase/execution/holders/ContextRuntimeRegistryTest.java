@@ -0,0 +1,80 @@
+/*
+ * # Copyright 2024-2026 NetCracker Technology Corporation
+ * #
+ * # Licensed under the Apache License, Version 2.0 (the "License");
+ * # you may not use this file except in compliance with the License.
+ * # You may obtain a copy of the License at
+ * #
+ * #      http://www.apache.org/licenses/LICENSE-2.0
+ * #
+ * # Unless required by applicable law or agreed to in writing, software
+ * # distributed under the License is distributed on an "AS IS" BASIS,
+ * # WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * # See the License for the specific language governing permissions and
+ * # limitations under the License.
+ *
+ */
+
+package org.qubership.automation.itf.core.instance.testcase.execution.holders;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.math.BigInteger;
+
+import org.junit.jupiter.api.Test;
+
+public class ContextRuntimeRegistryTest {
+
+    private static final BigInteger TC_ID = BigInteger.valueOf(1);
+
+    @Test
+    public void stateIsRemovedWhenItBecomesEmpty() {
+        ContextRuntimeRegistry registry = new ContextRuntimeRegistry(0);
+        SubscriberData data = new SubscriberData("subscriber", "parent", true);
+
+        registry.update(TC_ID, runtime -> runtime.setSubscriberData(data));
+        assertEquals("subscriber",
+                registry.get(TC_ID, ContextRuntimeRegistry.ContextRuntime::getSubscriberData).getSubscriberId());
+
+        registry.clear(TC_ID, runtime -> runtime.setSubscriberData(null));
+        assertEquals(0, registry.size());
+        assertNull(registry.get(TC_ID, ContextRuntimeRegistry.ContextRuntime::getSubscriberData));
+    }
+
+    @Test
+    public void stateOfNotExistingContextIsRemovedAsLeaked() {
+        ContextRuntimeRegistry registry = new ContextRuntimeRegistry(0);
+
+        registry.update(TC_ID, runtime -> runtime.setSubscriberData(new SubscriberData("1", null, true)));
+        registry.update(BigInteger.valueOf(2), runtime -> runtime.setSubscriberData(new SubscriberData("2", null, true)));
+        registry.cleanUp(TC_ID::equals);
+
+        assertEquals(1, registry.size());
+        assertEquals("1", registry.get(TC_ID, ContextRuntimeRegistry.ContextRuntime::getSubscriberData)
+                .getSubscriberId());
+        assertEquals(1, registry.leakedCount());
+    }
+
+    @Test
+    public void recentlyUpdatedStateIsNotRemoved() {
+        ContextRuntimeRegistry registry = new ContextRuntimeRegistry(60000);
+
+        registry.update(TC_ID, runtime -> runtime.setSubscriberData(new SubscriberData("1", null, true)));
+        registry.cleanUp(tcId -> false);
+
+        assertEquals(1, registry.size());
+        assertEquals(0, registry.leakedCount());
+    }
+
+    @Test
+    public void removedStateIsNotCountedAsLeaked() {
+        ContextRuntimeRegistry registry = new ContextRuntimeRegistry(0);
+
+        registry.update(TC_ID, runtime -> runtime.setSubscriberData(new SubscriberData("1", null, true)));
+        registry.remove(TC_ID);
+
+        assertEquals(0, registry.size());
+        assertEquals(0, registry.leakedCount());
+    }
+}
@@ -0,0 +1,76 @@
+/*
+ * # Copyright 2024-2026 NetCracker Technology Corporation
+ * #
+ * # Licensed under the Apache License, Version 2.0 (the "License");
+ * # you may not use this file except in compliance with the License.
+ * # You may obtain a copy of the License at
+ * #
+ * #      http://www.apache.org/licenses/LICENSE-2.0
+ * #
+ * # Unless required by applicable law or agreed to in writing, software
+ * # distributed under the License is distributed on an "AS IS" BASIS,
+ * # WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * # See the License for the specific language governing permissions and
+ * # limitations under the License.
+ *
+ */
+
+package org.qubership.automation.itf.core.metric;
+
+import java.util.UUID;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.qubership.automation.itf.core.metric.StubStageTimer.Stage;
+
+public class StubStageTimerTest {
+
+    @Test
+    public void testStageDurationsAreAccumulated() {
+        StubStageTimer timer = new StubStageTimer();
+        timer.reset(0L);
+        timer.startedAt(Stage.PARSING, 100L);
+        timer.stop(Stage.PARSING, 300L);
+        timer.startedAt(Stage.PARSING, 1000L);
+        timer.stop(Stage.PARSING, 1500L);
+        Assertions.assertEquals(700L, timer.elapsedNanos(Stage.PARSING));
+        Assertions.assertTrue(timer.isTouched(Stage.PARSING));
+        Assertions.assertFalse(timer.isTouched(Stage.RESPONSE_SEND));
+    }
+
+    @Test
+    public void testNotStartedStageIsNotTouched() {
+        StubStageTimer timer = new StubStageTimer();
+        timer.reset(0L);
+        timer.stop(Stage.TEMPLATE_RENDERING, 500L);
+        Assertions.assertFalse(timer.isTouched(Stage.TEMPLATE_RENDERING));
+        Assertions.assertEquals(0L, timer.elapsedNanos(Stage.TEMPLATE_RENDERING));
+    }
+
+    @Test
+    public void testDescribeContainsTouchedStagesOnly() {
+        StubStageTimer timer = new StubStageTimer();
+        timer.reset(0L);
+        timer.startedAt(Stage.SITUATION_EXECUTION, 1L);
+        timer.stop(Stage.SITUATION_EXECUTION, 2_000_001L);
+        String description = timer.describe(5_000_000L);
+        Assertions.assertEquals("total=5ms, situation_execution=2.0ms", description);
+    }
+
+    @Test
+    public void testStaticCallsWithoutBeginAreIgnored() {
+        StubStageTimer.start(Stage.PARSING);
+        StubStageTimer.stop(Stage.PARSING);
+        StubStageTimer.tag(UUID.randomUUID(), "type");
+        Assertions.assertDoesNotThrow(StubStageTimer::finish);
+    }
+
+    @Test
+    public void testFinishWithoutMeterRegistryDoesNotFail() {
+        StubStageTimer.begin();
+        StubStageTimer.tag(UUID.randomUUID(), "type");
+        StubStageTimer.start(Stage.DESERIALIZATION);
+        StubStageTimer.stop(Stage.DESERIALIZATION);
+        Assertions.assertDoesNotThrow(StubStageTimer::finish);
+    }
+}
@@ -0,0 +1,144 @@
+/*
+ * # Copyright 2024-2026 NetCracker Technology Corporation
+ * #
+ * # Licensed under the Apache License, Version 2.0 (the "License");
+ * # you may not use this file except in compliance with the License.
+ * # You may obtain a copy of the License at
+ * #
+ * #      http://www.apache.org/licenses/LICENSE-2.0
+ * #
+ * # Unless required by applicable law or agreed to in writing, software
+ * # distributed under the License is distributed on an "AS IS" BASIS,
+ * # WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * # See the License for the specific language governing permissions and
+ * # limitations under the License.
+ *
+ */
+
+package org.qubership.automation.itf.core.report.producer;
+
+import java.math.BigInteger;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.qubership.automation.itf.core.model.jpa.context.TcContext;
+
+public class ContextDeltaTrackerTest {
+
+    private final Map<BigInteger, Long> sequences = new ConcurrentHashMap<>();
+
+    @Test
+    public void testFirstReportIsSnapshotAndNextIsPatch() {
+        ContextDeltaTracker tracker = createTracker(20);
+        TcContext tcContext = createContext();
+        ContextDeltaTracker.Delta first = tracker.next(tcContext);
+        Assertions.assertTrue(first.isSnapshot());
+        Assertions.assertEquals(1L, first.seq);
+        tracker.committed(first);
+
+        tcContext.put("key3", "changed");
+        tcContext.put("newKey", "added");
+        ContextDeltaTracker.Delta second = tracker.next(tcContext);
+        Assertions.assertFalse(second.isSnapshot());
+        Assertions.assertEquals(2L, second.seq);
+        Assertions.assertEquals(2, second.operations.size());
+    }
+
+    @Test
+    public void testCheckpointIsReportedPeriodically() {
+        ContextDeltaTracker tracker = createTracker(3);
+        TcContext tcContext = createContext();
+        Assertions.assertTrue(nextCommitted(tracker, tcContext).isSnapshot());
+        tcContext.put("key1", "v1");
+        Assertions.assertFalse(nextCommitted(tracker, tcContext).isSnapshot());
+        tcContext.put("key1", "v2");
+        Assertions.assertFalse(nextCommitted(tracker, tcContext).isSnapshot());
+        tcContext.put("key1", "v3");
+        ContextDeltaTracker.Delta checkpoint = nextCommitted(tracker, tcContext);
+        Assertions.assertTrue(checkpoint.isSnapshot());
+        Assertions.assertEquals(4L, checkpoint.seq);
+    }
+
+    @Test
+    public void testBigChangeIsReportedAsSnapshot() {
+        ContextDeltaTracker tracker = createTracker(20);
+        TcContext tcContext = createContext();
+        nextCommitted(tracker, tcContext);
+        for (int i = 0; i < 10; i++) {
+            tcContext.put("key" + i, "changed" + i);
+        }
+        Assertions.assertTrue(tracker.next(tcContext).isSnapshot());
+    }
+
+    @Test
+    public void testSnapshotIsReportedAfterNotSentReport() {
+        ContextDeltaTracker tracker = createTracker(20);
+        TcContext tcContext = createContext();
+        nextCommitted(tracker, tcContext);
+        tcContext.put("key1", "v1");
+        ContextDeltaTracker.Delta notCommitted = tracker.next(tcContext);
+        Assertions.assertFalse(notCommitted.isSnapshot());
+
+        tcContext.put("key1", "v2");
+        ContextDeltaTracker.Delta afterGap = nextCommitted(tracker, tcContext);
+        Assertions.assertTrue(afterGap.isSnapshot());
+        Assertions.assertEquals(3L, afterGap.seq);
+
+        tcContext.put("key1", "v3");
+        ContextDeltaTracker.Delta discarded = tracker.next(tcContext);
+        tracker.discarded(discarded);
+        Assertions.assertTrue(tracker.next(tcContext).isSnapshot());
+    }
+
+    @Test
+    public void testSnapshotIsReportedWhenContextIsReportedByAnotherReplica() {
+        ContextDeltaTracker tracker = createTracker(20);
+        ContextDeltaTracker anotherReplica = createTracker(20);
+        TcContext tcContext = createContext();
+        nextCommitted(tracker, tcContext);
+        tcContext.put("key1", "v1");
+        ContextDeltaTracker.Delta another = nextCommitted(anotherReplica, tcContext);
+        Assertions.assertTrue(another.isSnapshot());
+        Assertions.assertEquals(2L, another.seq);
+
+        tcContext.put("key1", "v2");
+        ContextDeltaTracker.Delta back = nextCommitted(tracker, tcContext);
+        Assertions.assertTrue(back.isSnapshot());
+        Assertions.assertEquals(3L, back.seq);
+    }
+
+    @Test
+    public void testStatesAreBoundedByMemory() {
+        ContextDeltaTracker tracker = new ContextDeltaTracker(20, 65536, id -> sequences.merge(id, 1L, Long::sum));
+        TcContext tcContext = createContext();
+        nextCommitted(tracker, tcContext);
+        tcContext.put("key1", "v1");
+        Assertions.assertFalse(nextCommitted(tracker, tcContext).isSnapshot());
+
+        tcContext.put("big", "x".repeat(65536));
+        nextCommitted(tracker, tcContext);
+        tcContext.put("key1", "v2");
+        Assertions.assertTrue(tracker.next(tcContext).isSnapshot());
+    }
+
+    private ContextDeltaTracker createTracker(int checkpointInterval) {
+        return new ContextDeltaTracker(checkpointInterval, 1024 * 1024, id -> sequences.merge(id, 1L, Long::sum));
+    }
+
+    private static ContextDeltaTracker.Delta nextCommitted(ContextDeltaTracker tracker, TcContext tcContext) {
+        ContextDeltaTracker.Delta delta = tracker.next(tcContext);
+        tracker.committed(delta);
+        return delta;
+    }
+
+    private TcContext createContext() {
+        TcContext tcContext = new TcContext();
+        tcContext.setID(BigInteger.ONE);
+        for (int i = 0; i < 10; i++) {
+            tcContext.put("key" + i, "value" + i);
+        }
+        return tcContext;
+    }
+}
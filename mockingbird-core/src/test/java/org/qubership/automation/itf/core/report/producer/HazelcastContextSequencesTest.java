@@ -0,0 +1,66 @@
+/*
+ * # Copyright 2024-2026 NetCracker Technology Corporation
+ * #
+ * # Licensed under the Apache License, Version 2.0 (the "License");
+ * # you may not use this file except in compliance with the License.
+ * # You may obtain a copy of the License at
+ * #
+ * #      http://www.apache.org/licenses/LICENSE-2.0
+ * #
+ * # Unless required by applicable law or agreed to in writing, software
+ * # distributed under the License is distributed on an "AS IS" BASIS,
+ * # WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * # See the License for the specific language governing permissions and
+ * # limitations under the License.
+ *
+ */
+
+package org.qubership.automation.itf.core.report.producer;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.math.BigInteger;
+import java.util.AbstractMap;
+import java.util.Map;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import com.hazelcast.core.HazelcastInstance;
+import com.hazelcast.map.IMap;
+import com.hazelcast.nio.serialization.HazelcastSerializationException;
+
+public class HazelcastContextSequencesTest {
+
+    @Test
+    public void testIncrementStartsFromOne() {
+        HazelcastContextSequences.Increment increment = new HazelcastContextSequences.Increment();
+        Map.Entry<BigInteger, Long> entry = new AbstractMap.SimpleEntry<>(BigInteger.ONE, null);
+        Assertions.assertEquals(1L, increment.process(entry));
+        Assertions.assertEquals(2L, increment.process(entry));
+        Assertions.assertEquals(2L, entry.getValue());
+    }
+
+    @Test
+    public void testCompareAndSetIsUsedIfProcessorIsNotSupported() {
+        IMap<BigInteger, Long> map = Mockito.mock(IMap.class);
+        when(map.executeOnKey(eq(BigInteger.ONE), any())).thenThrow(new HazelcastSerializationException("no class"));
+        when(map.get(BigInteger.ONE)).thenReturn(4L);
+        when(map.replace(BigInteger.ONE, 4L, 5L)).thenReturn(true);
+        HazelcastInstance hazelcastClient = Mockito.mock(HazelcastInstance.class);
+        when(hazelcastClient.getMap(HazelcastContextSequences.ATP_ITF_TC_CONTEXT_REPORT_SEQS))
+                .thenAnswer(invocation -> map);
+        HazelcastContextSequences sequences = new HazelcastContextSequences(hazelcastClient);
+
+        Assertions.assertEquals(5L, sequences.next(BigInteger.ONE));
+        Assertions.assertEquals(5L, sequences.next(BigInteger.ONE));
+        verify(map, times(1)).executeOnKey(eq(BigInteger.ONE), any());
+        verify(map, never()).putIfAbsent(any(), any());
+    }
+}
@@ -0,0 +1,65 @@
+/*
+ * # Copyright 2024-2026 NetCracker Technology Corporation
+ * #
+ * # Licensed under the Apache License, Version 2.0 (the "License");
+ * # you may not use this file except in compliance with the License.
+ * # You may obtain a copy of the License at
+ * #
+ * #      http://www.apache.org/licenses/LICENSE-2.0
+ * #
+ * # Unless required by applicable law or agreed to in writing, software
+ * # distributed under the License is distributed on an "AS IS" BASIS,
+ * # WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * # See the License for the specific language governing permissions and
+ * # limitations under the License.
+ *
+ */
+
+package org.qubership.automation.itf.core.report.producer;
+
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.qubership.automation.itf.core.model.common.Storable;
+import org.qubership.automation.itf.core.model.jpa.context.TcContext;
+
+public class ReportCoalescingBufferTest {
+
+    @Test
+    public void testNewestStateIsReportedOnceOnFlush() {
+        List<Storable> reported = new ArrayList<>();
+        ReportCoalescingBuffer buffer = new ReportCoalescingBuffer(60000,
+                (object, date, projectId, tenantId) -> reported.add(object));
+        TcContext tcContext = new TcContext();
+        tcContext.setID(BigInteger.ONE);
+        tcContext.put("key", "submitted");
+
+        buffer.put(tcContext, new Date(), BigInteger.ONE, null);
+        tcContext.put("key", "changed later");
+        buffer.put(tcContext, new Date(), BigInteger.ONE, null);
+        buffer.shutdown();
+
+        Assertions.assertEquals(List.of(tcContext), reported);
+        Assertions.assertEquals("changed later", ((TcContext) reported.getFirst()).get("key"));
+    }
+
+    @Test
+    public void testBufferedStateIsNotReportedAfterStateSentImmediately() {
+        List<Storable> reported = new ArrayList<>();
+        ReportCoalescingBuffer buffer = new ReportCoalescingBuffer(60000,
+                (object, date, projectId, tenantId) -> reported.add(object));
+        TcContext tcContext = new TcContext();
+        tcContext.setID(BigInteger.ONE);
+
+        buffer.put(tcContext, new Date(), BigInteger.ONE, null);
+        buffer.sendNow(tcContext, () -> reported.add(tcContext));
+        buffer.shutdown();
+
+        Assertions.assertEquals(List.of(tcContext), reported);
+        Assertions.assertEquals(0, buffer.size());
+    }
+}
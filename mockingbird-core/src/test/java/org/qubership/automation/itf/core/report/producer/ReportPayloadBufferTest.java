@@ -0,0 +1,79 @@
+/*
+ * # Copyright 2024-2026 NetCracker Technology Corporation
+ * #
+ * # Licensed under the Apache License, Version 2.0 (the "License");
+ * # you may not use this file except in compliance with the License.
+ * # You may obtain a copy of the License at
+ * #
+ * #      http://www.apache.org/licenses/LICENSE-2.0
+ * #
+ * # Unless required by applicable law or agreed to in writing, software
+ * # distributed under the License is distributed on an "AS IS" BASIS,
+ * # WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * # See the License for the specific language governing permissions and
+ * # limitations under the License.
+ *
+ */
+
+package org.qubership.automation.itf.core.report.producer;
+
+import java.nio.charset.StandardCharsets;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+public class ReportPayloadBufferTest {
+
+    private final ObjectMapper mapper = new ObjectMapper();
+
+    @Test
+    public void testCombinedPayloadIsWrittenThroughSingleGenerator() throws Exception {
+        ReportPayloadBuffer payload = ReportPayloadBuffer.acquire(0);
+        try {
+            try (JsonGenerator generator = mapper.getFactory().createGenerator(payload)) {
+                generator.writeStartObject();
+                generator.writeStringField("SituationInstance", "Привет");
+                generator.writeBooleanField("isInitiator", true);
+                generator.writeArrayFieldStart("StepInstances");
+                mapper.writeValue(generator, "step1");
+                mapper.writeValue(generator, "step2");
+                generator.writeEndArray();
+                generator.writeEndObject();
+            }
+            String expected = "{\"SituationInstance\":\"Привет\",\"isInitiator\":true,"
+                    + "\"StepInstances\":[\"step1\",\"step2\"]}";
+            Assertions.assertEquals(expected, payload.toUtf8String());
+            Assertions.assertEquals(expected.getBytes(StandardCharsets.UTF_8).length, payload.size());
+        } finally {
+            payload.release();
+        }
+    }
+
+    @Test
+    public void testWritingIsAbortedWhenLimitExceeded() {
+        ReportPayloadBuffer payload = ReportPayloadBuffer.acquire(100);
+        try {
+            Assertions.assertThrows(ReportPayloadBuffer.SizeLimitExceededException.class, () -> {
+                try (JsonGenerator generator = mapper.getFactory().createGenerator(payload)) {
+                    mapper.writeValue(generator, "x".repeat(1000));
+                }
+            });
+            Assertions.assertTrue(payload.size() <= 100);
+        } finally {
+            payload.release();
+        }
+    }
+
+    @Test
+    public void testReleasedBufferIsEmptyWhenAcquiredAgain() throws Exception {
+        ReportPayloadBuffer payload = ReportPayloadBuffer.acquire(0);
+        payload.write("abc".getBytes(StandardCharsets.UTF_8));
+        payload.release();
+        ReportPayloadBuffer next = ReportPayloadBuffer.acquire(0);
+        Assertions.assertEquals(0, next.size());
+        next.release();
+    }
+}
@@ -0,0 +1,223 @@
+/*
+ * # Copyright 2024-2026 NetCracker Technology Corporation
+ * #
+ * # Licensed under the Apache License, Version 2.0 (the "License");
+ * # you may not use this file except in compliance with the License.
+ * # You may obtain a copy of the License at
+ * #
+ * #      http://www.apache.org/licenses/LICENSE-2.0
+ * #
+ * # Unless required by applicable law or agreed to in writing, software
+ * # distributed under the License is distributed on an "AS IS" BASIS,
+ * # WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * # See the License for the specific language governing permissions and
+ * # limitations under the License.
+ *
+ */
+
+package org.qubership.automation.itf.core.report.producer;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mockingDetails;
+import static org.mockito.Mockito.when;
+
+import java.io.IOException;
+import java.math.BigInteger;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.BooleanSupplier;
+import java.util.function.Supplier;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mockito;
+import org.qubership.automation.itf.core.metric.MetricsAggregateService;
+import org.qubership.automation.itf.core.model.common.Storable;
+import org.qubership.automation.itf.core.model.jpa.context.TcContext;
+
+import jakarta.jms.JMSException;
+
+public class ReportingPipelineTest {
+
+    @TempDir
+    Path spillFolder;
+
+    private final List<String> sent = new CopyOnWriteArrayList<>();
+    private final List<String> serializingThreads = new CopyOnWriteArrayList<>();
+    private final AtomicBoolean brokerAvailable = new AtomicBoolean(true);
+    private ReportWorker reportWorker;
+    private MetricsAggregateService metricsAggregateService;
+
+    @BeforeEach
+    public void setUp() throws JMSException {
+        reportWorker = Mockito.mock(ReportWorker.class);
+        when(reportWorker.inTenant(any(), any()))
+                .thenAnswer(invocation -> ((Supplier<?>) invocation.getArgument(1)).get());
+        when(reportWorker.serialize(any(), any(), any(), any())).thenAnswer(invocation -> {
+            serializingThreads.add(Thread.currentThread().getName());
+            Storable object = invocation.getArgument(0);
+            return new ReportPayload("{}", 0L, object.getName(), "TcContext", null, 0);
+        });
+        doAnswer(invocation -> {
+            if (!brokerAvailable.get()) {
+                throw new JMSException("Broker is not available");
+            }
+            List<ReportPayload> payloads = invocation.getArgument(0);
+            payloads.forEach(payload -> sent.add(payload.getId()));
+            return null;
+        }).when(reportWorker).sendBatch(any());
+        metricsAggregateService = Mockito.mock(MetricsAggregateService.class);
+    }
+
+    @Test
+    public void testReportsOfContextAreSentInSubmissionOrder() {
+        ReportingPipeline pipeline = createPipeline(1000, ReportOverflowPolicy.BLOCK, 4);
+        pipeline.start();
+        for (int i = 0; i < 200; i++) {
+            submit(pipeline, 1, i);
+            submit(pipeline, 2, i);
+        }
+        awaitTrue(() -> sent.size() == 400);
+        pipeline.shutdown();
+
+        Assertions.assertEquals(reports(1, 0, 200), sent.stream().filter(id -> id.startsWith("1-")).toList());
+        Assertions.assertEquals(reports(2, 0, 200), sent.stream().filter(id -> id.startsWith("2-")).toList());
+    }
+
+    @Test
+    public void testSpilledReportsAreSentBeforeNewerOnes() {
+        ReportingPipeline pipeline = createPipeline(4, ReportOverflowPolicy.SPILL_TO_DISK, 1);
+        pipeline.start();
+        brokerAvailable.set(false);
+        for (int i = 0; i < 20; i++) {
+            submit(pipeline, 1, i);
+        }
+        awaitTrue(() -> spilledFiles() > 0);
+        brokerAvailable.set(true);
+        for (int i = 20; i < 30; i++) {
+            submit(pipeline, 1, i);
+        }
+        awaitTrue(() -> sent.size() == 30);
+        pipeline.shutdown();
+
+        Assertions.assertEquals(reports(1, 0, 30), sent);
+        Assertions.assertFalse(serializingThreads.contains(Thread.currentThread().getName()));
+    }
+
+    @Test
+    public void testReportsAreDroppedWhenQueueIsFull() throws JMSException {
+        CountDownLatch sending = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        doAnswer(invocation -> {
+            sending.countDown();
+            release.await(10, TimeUnit.SECONDS);
+            List<ReportPayload> payloads = invocation.getArgument(0);
+            payloads.forEach(payload -> sent.add(payload.getId()));
+            return null;
+        }).when(reportWorker).sendBatch(any());
+        ReportingPipeline pipeline = createPipeline(2, ReportOverflowPolicy.BLOCK, 1);
+        pipeline.start();
+        submit(pipeline, 1, 0);
+        awaitTrue(() -> sending.getCount() == 0);
+        for (int i = 1; i < 10; i++) {
+            submit(pipeline, 1, i);
+        }
+        release.countDown();
+        pipeline.shutdown();
+
+        Assertions.assertEquals(reports(1, 0, 3), sent);
+        Assertions.assertEquals(7, droppedCount());
+    }
+
+    @Test
+    public void testQueuedReportsAreSentOnShutdown() {
+        ReportingPipeline pipeline = createPipeline(1000, ReportOverflowPolicy.BLOCK, 2);
+        pipeline.start();
+        for (int i = 0; i < 50; i++) {
+            submit(pipeline, 1, i);
+        }
+        pipeline.shutdown();
+
+        Assertions.assertEquals(reports(1, 0, 50), sent);
+    }
+
+    @Test
+    public void testReportsSpilledOnShutdownAreSentAfterRestart() {
+        brokerAvailable.set(false);
+        ReportingPipeline pipeline = createPipeline(1000, ReportOverflowPolicy.SPILL_TO_DISK, 1);
+        pipeline.start();
+        for (int i = 0; i < 10; i++) {
+            submit(pipeline, 1, i);
+        }
+        pipeline.shutdown();
+        Assertions.assertEquals(10, spilledFiles());
+
+        brokerAvailable.set(true);
+        ReportingPipeline restarted = createPipeline(1000, ReportOverflowPolicy.SPILL_TO_DISK, 2);
+        restarted.start();
+        submit(restarted, 1, 10);
+        awaitTrue(() -> sent.size() == 11);
+        restarted.shutdown();
+
+        Assertions.assertEquals(reports(1, 0, 11), sent);
+        Assertions.assertEquals(0, droppedCount());
+    }
+
+    private ReportingPipeline createPipeline(int queueCapacity, ReportOverflowPolicy overflowPolicy,
+                                             int senderThreads) {
+        return new ReportingPipeline(reportWorker, metricsAggregateService, queueCapacity, 2, 1,
+                overflowPolicy, overflowPolicy == ReportOverflowPolicy.BLOCK ? 50 : 10000, spillFolder,
+                senderThreads);
+    }
+
+    private static void submit(ReportingPipeline pipeline, int contextId, int report) {
+        TcContext tcContext = new TcContext();
+        tcContext.setID(BigInteger.valueOf(contextId));
+        tcContext.setName(contextId + "-" + report);
+        pipeline.submit(tcContext, new Date(), BigInteger.ONE, null);
+    }
+
+    private static List<String> reports(int contextId, int from, int to) {
+        return IntStream.range(from, to).mapToObj(report -> contextId + "-" + report).toList();
+    }
+
+    private long spilledFiles() {
+        try (Stream<Path> files = Files.list(spillFolder)) {
+            return files.filter(file -> file.toString().endsWith(".report")).count();
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private long droppedCount() {
+        return mockingDetails(metricsAggregateService).getInvocations().stream()
+                .filter(invocation -> invocation.getMethod().getName().equals("incrementReportDroppedCount"))
+                .count();
+    }
+
+    private static void awaitTrue(BooleanSupplier condition) {
+        long deadline = System.currentTimeMillis() + 10000;
+        while (!condition.getAsBoolean()) {
+            if (System.currentTimeMillis() > deadline) {
+                Assertions.fail("Condition is not met in 10 seconds");
+            }
+            try {
+                Thread.sleep(10);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                Assertions.fail("Interrupted");
+            }
+        }
+    }
+}
@@ -0,0 +1,65 @@
+/*
+ * # Copyright 2024-2026 NetCracker Technology Corporation
+ * #
+ * # Licensed under the Apache License, Version 2.0 (the "License");
+ * # you may not use this file except in compliance with the License.
+ * # You may obtain a copy of the License at
+ * #
+ * #      http://www.apache.org/licenses/LICENSE-2.0
+ * #
+ * # Unless required by applicable law or agreed to in writing, software
+ * # distributed under the License is distributed on an "AS IS" BASIS,
+ * # WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * # See the License for the specific language governing permissions and
+ * # limitations under the License.
+ *
+ */
+
+package org.qubership.automation.itf.executor.cache.hazelcast.serialization;
+
+import java.math.BigInteger;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.qubership.automation.itf.core.model.jpa.context.TcContext;
+
+import com.hazelcast.config.SerializationConfig;
+import com.hazelcast.internal.serialization.Data;
+import com.hazelcast.internal.serialization.SerializationService;
+import com.hazelcast.internal.serialization.impl.DefaultSerializationServiceBuilder;
+
+public class TcContextSerializerTest {
+
+    @Test
+    public void testRoundTripWithAndWithoutCompression() {
+        TcContext tcContext = createContext();
+        SerializationService compressing = createSerializationService(1024);
+        SerializationService raw = createSerializationService(0);
+
+        Data compressed = compressing.toData(tcContext);
+        Data notCompressed = raw.toData(tcContext);
+        Assertions.assertTrue(compressed.isCompact());
+        Assertions.assertTrue(compressed.totalSize() < notCompressed.totalSize());
+
+        TcContext restored = compressing.toObject(compressed);
+        Assertions.assertEquals(tcContext.getID(), restored.getID());
+        Assertions.assertEquals(tcContext.get("key10"), restored.get("key10"));
+        TcContext restoredRaw = raw.toObject(notCompressed);
+        Assertions.assertEquals(tcContext.get("key10"), restoredRaw.get("key10"));
+    }
+
+    private SerializationService createSerializationService(int compressionThreshold) {
+        SerializationConfig serializationConfig = new SerializationConfig();
+        ItfSerializationConfigurer.configure(serializationConfig, compressionThreshold);
+        return new DefaultSerializationServiceBuilder().setConfig(serializationConfig).build();
+    }
+
+    private TcContext createContext() {
+        TcContext tcContext = new TcContext();
+        tcContext.setID(BigInteger.TEN);
+        for (int i = 0; i < 200; i++) {
+            tcContext.put("key" + i, "some repeated value of the context variable " + i);
+        }
+        return tcContext;
+    }
+}
@@ -0,0 +1,101 @@
+/*
+ * # Copyright 2024-2026 NetCracker Technology Corporation
+ * #
+ * # Licensed under the Apache License, Version 2.0 (the "License");
+ * # you may not use this file except in compliance with the License.
+ * # You may obtain a copy of the License at
+ * #
+ * #      http://www.apache.org/licenses/LICENSE-2.0
+ * #
+ * # Unless required by applicable law or agreed to in writing, software
+ * # distributed under the License is distributed on an "AS IS" BASIS,
+ * # WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * # See the License for the specific language governing permissions and
+ * # limitations under the License.
+ *
+ */
+
+package org.qubership.automation.itf.executor.cache.service.impl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.qubership.automation.itf.core.util.constants.CacheNames.ATP_ITF_ENVIRONMENT_INFO;
+
+import java.math.BigInteger;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+import org.qubership.automation.itf.executor.cache.service.impl.EnvironmentCacheService.InboundEnvironment;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.hazelcast.core.HazelcastInstance;
+import com.hazelcast.map.IMap;
+
+public class EnvironmentCacheServiceTest {
+
+    @Test
+    public void inboundEnvironmentIsLoadedOnceUntilInvalidated() throws Exception {
+        EnvironmentCacheService service = createService(60);
+        AtomicInteger loads = new AtomicInteger();
+
+        for (int i = 0; i < 3; i++) {
+            InboundEnvironment environment = service.getInboundEnvironment(BigInteger.ONE, BigInteger.TWO, () -> {
+                loads.incrementAndGet();
+                return new InboundEnvironment(BigInteger.TEN, "Env");
+            });
+            assertEquals("Env", environment.getName());
+        }
+        assertEquals(1, loads.get());
+        assertEquals(2, service.getInboundHits());
+        assertEquals(1, service.getInboundMisses());
+
+        service.invalidateInboundEnvironments();
+        service.getInboundEnvironment(BigInteger.ONE, BigInteger.TWO,
+                () -> new InboundEnvironment(BigInteger.TEN, "Renamed"));
+        assertEquals("Renamed", service.getInboundEnvironment(BigInteger.ONE, BigInteger.TWO,
+                () -> new InboundEnvironment(BigInteger.TEN, "Unexpected")).getName());
+    }
+
+    @Test
+    public void failedLookupIsNotCached() throws Exception {
+        EnvironmentCacheService service = createService(60);
+
+        assertThrows(IllegalStateException.class, () -> service.getInboundEnvironment(BigInteger.ONE,
+                BigInteger.TWO, () -> {
+                    throw new IllegalStateException("No environment");
+                }));
+        assertEquals("Env", service.getInboundEnvironment(BigInteger.ONE, BigInteger.TWO,
+                () -> new InboundEnvironment(BigInteger.TEN, "Env")).getName());
+    }
+
+    @Test
+    public void sharedInboundEnvironmentsAreKeptInDedicatedMap() throws Exception {
+        IMap<Object, Object> environments = mock(IMap.class);
+        when(environments.get("1/2")).thenReturn(new InboundEnvironment(BigInteger.TEN, "Env"));
+        HazelcastInstance hazelcastClient = mock(HazelcastInstance.class);
+        when(hazelcastClient.getMap(EnvironmentCacheService.ATP_ITF_INBOUND_ENVIRONMENTS))
+                .thenAnswer(invocation -> environments);
+        EnvironmentCacheService service = new EnvironmentCacheService();
+        service.setHazelcastClient(hazelcastClient);
+        ReflectionTestUtils.setField(service, "inboundTtlSeconds", 60);
+        ReflectionTestUtils.setField(service, "inboundHazelcastEnabled", true);
+        service.init();
+
+        assertEquals("Env", service.getInboundEnvironment(BigInteger.ONE, BigInteger.TWO,
+                () -> new InboundEnvironment(BigInteger.TEN, "Unexpected")).getName());
+        service.invalidateInboundEnvironments();
+        verify(environments).clear();
+        verify(hazelcastClient, never()).getMap(ATP_ITF_ENVIRONMENT_INFO);
+    }
+
+    private EnvironmentCacheService createService(int ttlSeconds) {
+        EnvironmentCacheService service = new EnvironmentCacheService();
+        ReflectionTestUtils.setField(service, "inboundTtlSeconds", ttlSeconds);
+        service.init();
+        return service;
+    }
+}
@@ -0,0 +1,205 @@
+/*
+ * # Copyright 2024-2026 NetCracker Technology Corporation
+ * #
+ * # Licensed under the Apache License, Version 2.0 (the "License");
+ * # you may not use this file except in compliance with the License.
+ * # You may obtain a copy of the License at
+ * #
+ * #      http://www.apache.org/licenses/LICENSE-2.0
+ * #
+ * # Unless required by applicable law or agreed to in writing, software
+ * # distributed under the License is distributed on an "AS IS" BASIS,
+ * # WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * # See the License for the specific language governing permissions and
+ * # limitations under the License.
+ *
+ */
+
+package org.qubership.automation.itf.executor.cache.service.impl;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.qubership.automation.itf.core.util.constants.CacheNames.ATP_ITF_TC_CONTEXTS;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+import org.apache.commons.lang3.SerializationUtils;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.qubership.automation.itf.core.model.jpa.context.TcContext;
+import org.qubership.automation.itf.core.model.jpa.instance.chain.CallChainInstance;
+import org.qubership.automation.itf.core.util.constants.Status;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.hazelcast.core.HazelcastInstance;
+import com.hazelcast.map.IMap;
+
+public class TCContextCacheServiceTest {
+
+    private static final Function<TcContext, byte[]> SERIALIZER = SerializationUtils::serialize;
+
+    @Test
+    public void testSnapshotMatchesNotChangedContext() {
+        TcContext tcContext = createContext();
+        TcContextSnapshot snapshot = TcContextSnapshot.of(tcContext, SERIALIZER.apply(tcContext));
+        Assertions.assertTrue(snapshot.matches(tcContext, SERIALIZER));
+    }
+
+    @Test
+    public void testSnapshotMatchesNotChangedContextWithInitiator() {
+        TcContext tcContext = createContext();
+        tcContext.setInitiator(createInitiator("Call chain"));
+        TcContextSnapshot snapshot = TcContextSnapshot.of(tcContext, SERIALIZER.apply(tcContext));
+        Assertions.assertTrue(snapshot.matches(tcContext, SERIALIZER));
+
+        tcContext.setInitiator(createInitiator("Call chain"));
+        Assertions.assertTrue(snapshot.matches(tcContext, SERIALIZER));
+
+        ((CallChainInstance) tcContext.getInitiator()).setName("Other call chain");
+        Assertions.assertFalse(snapshot.matches(tcContext, SERIALIZER));
+    }
+
+    @Test
+    public void testSnapshotDoesNotMatchOnVariableOrStatusChange() {
+        TcContext tcContext = createContext();
+        TcContextSnapshot snapshot = TcContextSnapshot.of(tcContext, SERIALIZER.apply(tcContext));
+        ((Map<String, Object>) tcContext.get("group")).put("inner", "changed");
+        Assertions.assertFalse(snapshot.matches(tcContext, SERIALIZER));
+
+        snapshot = TcContextSnapshot.of(tcContext, SERIALIZER.apply(tcContext));
+        tcContext.setStatus(Status.PAUSED);
+        Assertions.assertFalse(snapshot.matches(tcContext, SERIALIZER));
+    }
+
+    @Test
+    public void testSnapshotDoesNotMatchOnOtherFieldsChange() {
+        TcContext tcContext = createContext();
+        TcContextSnapshot snapshot = TcContextSnapshot.of(tcContext, SERIALIZER.apply(tcContext));
+        tcContext.setPartNum(7);
+        Assertions.assertFalse(snapshot.matches(tcContext, SERIALIZER));
+
+        snapshot = TcContextSnapshot.of(tcContext, SERIALIZER.apply(tcContext));
+        tcContext.setRunStepByStep(!tcContext.isRunStepByStep());
+        Assertions.assertFalse(snapshot.matches(tcContext, SERIALIZER));
+    }
+
+    @Test
+    public void testTouchPushesChangeOfFieldOutsideVariables() {
+        IMap<Object, Object> map = Mockito.mock(IMap.class);
+        when(map.setTtl(any(), anyLong(), any())).thenReturn(true);
+        HazelcastInstance hazelcastClient = Mockito.mock(HazelcastInstance.class);
+        when(hazelcastClient.getMap(ATP_ITF_TC_CONTEXTS)).thenAnswer(invocation -> map);
+        TCContextCacheService service = new TCContextCacheService();
+        service.setHazelcastClient(hazelcastClient);
+        ReflectionTestUtils.setField(service, "dirtyTrackingEnabled", true);
+        ReflectionTestUtils.setField(service, "maxSnapshotsMb", 64L);
+        service.init();
+        TcContext tcContext = createContext();
+
+        service.touch(tcContext);
+        service.touch(tcContext);
+        verify(map, times(1)).set(eq(tcContext.getID()), any(), anyLong(), eq(TimeUnit.MILLISECONDS));
+        verify(map, times(1)).setTtl(eq(tcContext.getID()), anyLong(), eq(TimeUnit.MILLISECONDS));
+
+        tcContext.setPartNum(7);
+        service.touch(tcContext);
+        verify(map, times(2)).set(eq(tcContext.getID()), any(), anyLong(), eq(TimeUnit.MILLISECONDS));
+    }
+
+    @Test
+    public void testTouchRefreshesTtlOfNotChangedContextWithInitiator() {
+        IMap<Object, Object> map = Mockito.mock(IMap.class);
+        when(map.setTtl(any(), anyLong(), any())).thenReturn(true);
+        HazelcastInstance hazelcastClient = Mockito.mock(HazelcastInstance.class);
+        when(hazelcastClient.getMap(ATP_ITF_TC_CONTEXTS)).thenAnswer(invocation -> map);
+        TCContextCacheService service = new TCContextCacheService();
+        service.setHazelcastClient(hazelcastClient);
+        ReflectionTestUtils.setField(service, "dirtyTrackingEnabled", true);
+        ReflectionTestUtils.setField(service, "maxSnapshotsMb", 64L);
+        ReflectionTestUtils.setField(service, "itfSerializersEnabled", true);
+        ReflectionTestUtils.setField(service, "compressionThreshold", 1024);
+        service.init();
+        TcContext tcContext = createContext();
+        tcContext.setInitiator(createInitiator("Call chain"));
+
+        service.touch(tcContext);
+        service.touch(tcContext);
+        service.touch(tcContext);
+        verify(map, times(1)).set(eq(tcContext.getID()), any(), anyLong(), eq(TimeUnit.MILLISECONDS));
+        verify(map, times(2)).setTtl(eq(tcContext.getID()), anyLong(), eq(TimeUnit.MILLISECONDS));
+    }
+
+    @Test
+    public void testQuotaIsCheckedAgainstStoredSize() {
+        IMap<Object, Object> map = Mockito.mock(IMap.class);
+        HazelcastInstance hazelcastClient = Mockito.mock(HazelcastInstance.class);
+        when(hazelcastClient.getMap(ATP_ITF_TC_CONTEXTS)).thenAnswer(invocation -> map);
+        TCContextCacheService service = new TCContextCacheService();
+        service.setHazelcastClient(hazelcastClient);
+        ReflectionTestUtils.setField(service, "itfSerializersEnabled", true);
+        ReflectionTestUtils.setField(service, "compressionThreshold", 1024);
+        service.init();
+        TcContext tcContext = createContext();
+        for (int i = 0; i < 200; i++) {
+            tcContext.put("key" + i, "some repeated value of the context variable " + i);
+        }
+        int javaSerializedSize = SERIALIZER.apply(tcContext).length;
+
+        ReflectionTestUtils.setField(service, "maxContextSize", javaSerializedSize / 2);
+        Assertions.assertTrue(service.set(tcContext, true));
+        ReflectionTestUtils.setField(service, "maxContextSize", 100);
+        Assertions.assertFalse(service.set(tcContext, true));
+        verify(map, times(1)).set(eq(tcContext.getID()), any(), anyLong(), eq(TimeUnit.MILLISECONDS));
+    }
+
+    @Test
+    public void testContextSummariesAreProjectedFromCompactFields() {
+        IMap<Object, Object> map = Mockito.mock(IMap.class);
+        when(map.project(any(), any())).thenReturn(List.of(
+                new Object[]{BigInteger.ONE, "IN_PROGRESS", new BigDecimal(42), "pod-1"}));
+        HazelcastInstance hazelcastClient = Mockito.mock(HazelcastInstance.class);
+        when(hazelcastClient.getMap(ATP_ITF_TC_CONTEXTS)).thenAnswer(invocation -> map);
+        TCContextCacheService service = new TCContextCacheService();
+        service.setHazelcastClient(hazelcastClient);
+        ReflectionTestUtils.setField(service, "itfSerializersEnabled", true);
+        service.init();
+
+        List<TcContextSummary> summaries = service.getContextSummaries("pod-1", BigInteger.valueOf(42),
+                Status.IN_PROGRESS);
+        Assertions.assertEquals(1, summaries.size());
+        Assertions.assertEquals(BigInteger.ONE, summaries.get(0).getId());
+        Assertions.assertEquals(Status.IN_PROGRESS, summaries.get(0).getStatus());
+        Assertions.assertEquals(BigInteger.valueOf(42), summaries.get(0).getProjectId());
+        Assertions.assertEquals("pod-1", summaries.get(0).getPodName());
+    }
+
+    private CallChainInstance createInitiator(String name) {
+        CallChainInstance initiator = new CallChainInstance();
+        initiator.setID(BigInteger.TWO);
+        initiator.setName(name);
+        return initiator;
+    }
+
+    private TcContext createContext() {
+        TcContext tcContext = new TcContext();
+        tcContext.setID(BigInteger.ONE);
+        tcContext.setStatus(Status.IN_PROGRESS);
+        Map<String, Object> group = new HashMap<>();
+        group.put("inner", "value");
+        tcContext.put("group", group);
+        tcContext.put("key", "value");
+        return tcContext;
+    }
+}
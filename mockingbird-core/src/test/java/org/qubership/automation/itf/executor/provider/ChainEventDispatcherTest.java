@@ -0,0 +1,114 @@
+/*
+ * # Copyright 2024-2026 NetCracker Technology Corporation
+ * #
+ * # Licensed under the Apache License, Version 2.0 (the "License");
+ * # you may not use this file except in compliance with the License.
+ * # You may obtain a copy of the License at
+ * #
+ * #      http://www.apache.org/licenses/LICENSE-2.0
+ * #
+ * # Unless required by applicable law or agreed to in writing, software
+ * # distributed under the License is distributed on an "AS IS" BASIS,
+ * # WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * # See the License for the specific language governing permissions and
+ * # limitations under the License.
+ *
+ */
+
+package org.qubership.automation.itf.executor.provider;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.qubership.automation.itf.core.instance.testcase.execution.subscriber.AbstractChainSubscriber;
+import org.qubership.automation.itf.core.model.event.AbstractEvent;
+import org.qubership.automation.itf.core.model.event.NextCallChainEvent;
+
+import jakarta.annotation.Nonnull;
+
+public class ChainEventDispatcherTest {
+
+    private final ChainEventDispatcher dispatcher = new ChainEventDispatcher("test");
+    private final List<String> received = new ArrayList<>();
+
+    @Test
+    public void eventIsDeliveredToAddressedSubscriberOnly() {
+        dispatcher.register(new RecordingSubscriber("1", null));
+        dispatcher.register(new RecordingSubscriber("2", null));
+
+        dispatcher.dispatch(event("2"));
+        dispatcher.dispatch(event("3"));
+
+        assertEquals(List.of("2"), received);
+    }
+
+    @Test
+    public void eventPostedFromSubscriberIsDeliveredAfterCurrentEvent() {
+        dispatcher.register(new RecordingSubscriber("1", () -> dispatcher.dispatch(event("2"))));
+        dispatcher.register(new RecordingSubscriber("2", null));
+
+        dispatcher.dispatch(event("1"));
+
+        assertEquals(List.of("1", "1 done", "2", "2 done"), received);
+    }
+
+    @Test
+    public void unregisteredSubscriberIsRemoved() {
+        RecordingSubscriber subscriber = new RecordingSubscriber("1", null);
+        dispatcher.register(subscriber);
+
+        assertTrue(dispatcher.unregister(subscriber));
+        assertFalse(dispatcher.unregister(subscriber));
+        dispatcher.dispatch(event("1"));
+
+        assertTrue(received.isEmpty());
+        assertEquals(0, dispatcher.size());
+    }
+
+    private static NextCallChainEvent event(String id) {
+        NextCallChainEvent event = new NextCallChainEvent(null, null);
+        event.setID(id);
+        return event;
+    }
+
+    private class RecordingSubscriber extends AbstractChainSubscriber<NextCallChainEvent> {
+
+        private final Runnable action;
+
+        RecordingSubscriber(String id, Runnable action) {
+            super(id, null);
+            this.action = action;
+        }
+
+        @Override
+        public void deliver(AbstractEvent event) {
+            if (event instanceof NextCallChainEvent chainEvent) {
+                handleEvent(chainEvent);
+            }
+        }
+
+        @Override
+        protected void unregisterIfExpired() {
+        }
+
+        @Override
+        protected void onEvent(NextCallChainEvent event) {
+            received.add(getId());
+            if (action != null) {
+                action.run();
+            }
+            received.add(getId() + " done");
+        }
+
+        @Nonnull
+        @Override
+        protected String getTenantId(NextCallChainEvent event) {
+            return "";
+        }
+    }
+}
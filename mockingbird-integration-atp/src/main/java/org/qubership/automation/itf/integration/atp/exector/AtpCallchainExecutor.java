@@ -24,15 +24,16 @@ import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.TimeUnit;
 
 import org.apache.commons.lang3.StringUtils;
 import org.qubership.atp.environments.openapi.dto.EnvironmentFullVer1ViewDto;
+import org.qubership.automation.itf.core.instance.testcase.execution.holders.ContextCompletions;
 import org.qubership.automation.itf.core.model.jpa.context.TcContext;
 import org.qubership.automation.itf.core.model.jpa.instance.chain.CallChainInstance;
 import org.qubership.automation.itf.core.util.constants.Status;
 import org.qubership.automation.itf.core.util.exception.ExtensionException;
 import org.qubership.automation.itf.core.util.manager.ExtensionManager;
-import org.qubership.automation.itf.core.util.manager.MonitorManager;
 import org.qubership.automation.itf.execution.data.CallchainExecutionData;
 import org.qubership.automation.itf.execution.manager.CallChainExecutorManager;
 import org.qubership.automation.itf.executor.cache.service.CacheServices;
@@ -109,71 +110,71 @@ public class AtpCallchainExecutor {
                     - There can be termination by timeout ==> notification will be sent too,
                     - There can be abnormal breaking of execution ==> we should not wait infinitely.
          */
+        long started = System.currentTimeMillis();
         long elapsed = 0L;
-        if (!tcContext.isFinished()) {
-            Object syncObject = MonitorManager.getInstance().get(tcContext.getID().toString());
-            synchronized (syncObject) {
-                long safetyDelta = 5000L;
-                while (!tcContext.isFinished()) {
-                    syncObject.wait(contextCheckIntervalMillis);
-                    log.debug("Execution from ATP2 loop: one more wait {} ms is completed", contextCheckIntervalMillis);
-                    elapsed += contextCheckIntervalMillis;
-                    /*
-                        Break execution in case 'tc.timeout.fail' project setting is exceeded,
-                        but normal termination by timeout was not processed properly due to some reason.
-                        So, we should stop waiting after this time. And terminate execution too, if needed.
-                     */
-                    if (tcContext.getLastUpdateTime() > 0 && System.currentTimeMillis()
-                            > (tcContext.getLastUpdateTime() + tcContext.getTimeToLive() + safetyDelta)) {
-                        log.error("Execution from ATP2 is broken due to context fail timeout is exceeded, {} elapsed",
-                                elapsed);
-                        ExecutionServices.getCallChainExecutorService().reportErrorThenStop(instance,
-                                tcContext,
-                                "Too long execution of CallChain",
-                                "Execution is terminated by timeout",
-                                "Last event in the context was at "
-                                        + SIMPLE_DATE_FORMAT.format(tcContext.getLastUpdateTime())
-                                        + " but 'Context Timeout Fail' setting is " + tcContext.getTimeToLive(),
-                                null);
-                        break;
-                    }
-                    /*
-                        It's sense-less to wait further, because execution is still not started (after max time)
-                        So, we should stop waiting after this time. And terminate execution too, if needed.
-                        ... The 1st limitation was, it seemed, too strict:
-                        (tcContext.getLastUpdateTime() == 0 || Status.NOT_STARTED.equals(tcContext.getStatus()))
-                        So, tcContext.getLastUpdateTime() == 0
-                            ==> updateLastAccess() method was not invoked even once,
-                            ==> no one situation was executed in the context.
-                        So, it was correct checking, but, might be, too strict as for now.
-                        So, I simplify it, and change it to:
-                            Status.NOT_STARTED.equals(tcContext.getStatus())
-                     */
-                    if (elapsed >= contextStartMaxTimeMillis && Status.NOT_STARTED.equals(tcContext.getStatus())) {
-                        log.error("Execution from ATP2 is broken due to still not started, {} elapsed", elapsed);
-                        ExecutionServices.getCallChainExecutorService().reportErrorThenStop(instance, tcContext,
-                                "Too long start of CallChain",
-                                "Execution is not started in time",
-                                "Context is not started yet, after " + elapsed + " ms",
-                                null);
-                        break;
-                    }
-                    /*
-                        It's senseless to wait longer than How much time executor waits for action completion.
-                        So, we should stop waiting after this time. And terminate execution too.
-                     */
-                    if (elapsed >= contextFromAtpFinishMaxTimeMillis) {
-                        log.error("Execution from ATP2 is broken after {} millis, {} elapsed",
-                                contextFromAtpFinishMaxTimeMillis, elapsed);
-                        ExecutionServices.getCallChainExecutorService().reportErrorThenStop(instance,
-                                tcContext,
-                                "Too long execution of CallChain",
-                                "Execution is still not completed",
-                                "Context is not completed yet, after " + elapsed + " ms",
-                                null);
-                        break;
-                    }
-                }
+        long safetyDelta = 5000L;
+        while (!tcContext.isFinished()) {
+            Status status = ContextCompletions.getInstance()
+                    .await(tcContext, contextCheckIntervalMillis, TimeUnit.MILLISECONDS);
+            elapsed = System.currentTimeMillis() - started;
+            if (status != null) {
+                break;
+            }
+            log.debug("Execution from ATP2 loop: one more wait {} ms is completed", contextCheckIntervalMillis);
+            /*
+                Break execution in case 'tc.timeout.fail' project setting is exceeded,
+                but normal termination by timeout was not processed properly due to some reason.
+                So, we should stop waiting after this time. And terminate execution too, if needed.
+             */
+            if (tcContext.getLastUpdateTime() > 0 && System.currentTimeMillis()
+                    > (tcContext.getLastUpdateTime() + tcContext.getTimeToLive() + safetyDelta)) {
+                log.error("Execution from ATP2 is broken due to context fail timeout is exceeded, {} elapsed",
+                        elapsed);
+                ExecutionServices.getCallChainExecutorService().reportErrorThenStop(instance,
+                        tcContext,
+                        "Too long execution of CallChain",
+                        "Execution is terminated by timeout",
+                        "Last event in the context was at "
+                                + SIMPLE_DATE_FORMAT.format(tcContext.getLastUpdateTime())
+                                + " but 'Context Timeout Fail' setting is " + tcContext.getTimeToLive(),
+                        null);
+                break;
+            }
+            /*
+                It's sense-less to wait further, because execution is still not started (after max time)
+                So, we should stop waiting after this time. And terminate execution too, if needed.
+                ... The 1st limitation was, it seemed, too strict:
+                (tcContext.getLastUpdateTime() == 0 || Status.NOT_STARTED.equals(tcContext.getStatus()))
+                So, tcContext.getLastUpdateTime() == 0
+                    ==> updateLastAccess() method was not invoked even once,
+                    ==> no one situation was executed in the context.
+                So, it was correct checking, but, might be, too strict as for now.
+                So, I simplify it, and change it to:
+                    Status.NOT_STARTED.equals(tcContext.getStatus())
+             */
+            if (elapsed >= contextStartMaxTimeMillis && Status.NOT_STARTED.equals(tcContext.getStatus())) {
+                log.error("Execution from ATP2 is broken due to still not started, {} elapsed", elapsed);
+                ExecutionServices.getCallChainExecutorService().reportErrorThenStop(instance, tcContext,
+                        "Too long start of CallChain",
+                        "Execution is not started in time",
+                        "Context is not started yet, after " + elapsed + " ms",
+                        null);
+                break;
+            }
+            /*
+                It's senseless to wait longer than How much time executor waits for action completion.
+                So, we should stop waiting after this time. And terminate execution too.
+             */
+            if (elapsed >= contextFromAtpFinishMaxTimeMillis) {
+                log.error("Execution from ATP2 is broken after {} millis, {} elapsed",
+                        contextFromAtpFinishMaxTimeMillis, elapsed);
+                ExecutionServices.getCallChainExecutorService().reportErrorThenStop(instance,
+                        tcContext,
+                        "Too long execution of CallChain",
+                        "Execution is still not completed",
+                        "Context is not completed yet, after " + elapsed + " ms",
+                        null);
+                break;
             }
         }
         log.debug("Execution from ATP2 is finished, status: {}, elapsed: {}", tcContext.getStatus(), elapsed);
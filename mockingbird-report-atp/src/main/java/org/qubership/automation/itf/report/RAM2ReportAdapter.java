@@ -17,8 +17,6 @@
 
 package org.qubership.automation.itf.report;
 
-import static org.qubership.automation.itf.core.instance.situation.TCContextDiffCache.TC_CONTEXT_DIFF_CACHE;
-
 import java.io.File;
 import java.io.IOException;
 import java.math.BigInteger;
@@ -55,6 +53,8 @@ import org.qubership.atp.ram.models.logrecords.parts.ContextVariable;
 import org.qubership.atp.ram.models.logrecords.parts.Request;
 import org.qubership.atp.ram.models.logrecords.parts.RequestHeader;
 import org.qubership.atp.ram.models.logrecords.parts.Response;
+import org.qubership.automation.itf.core.instance.situation.TCContextDiffCache;
+import org.qubership.automation.itf.core.instance.situation.TcContextDiff;
 import org.qubership.automation.itf.core.instance.step.impl.IntegrationStepHelper;
 import org.qubership.automation.itf.core.model.jpa.context.InstanceContext;
 import org.qubership.automation.itf.core.model.jpa.context.SpContext;
@@ -84,7 +84,6 @@ import org.slf4j.LoggerFactory;
 
 import com.google.common.base.Preconditions;
 import com.google.common.base.Strings;
-import com.google.common.collect.MapDifference;
 import com.google.gson.Gson;
 import com.google.gson.GsonBuilder;
 import jakarta.annotation.Nullable;
@@ -187,7 +186,7 @@ public class RAM2ReportAdapter implements ReportAdapter {
         String errorMessage = getErrorMessage(situationInstance.getErrorName(),
                 situationInstance.getErrorMessage(),
                 situationInstance.getError());
-        MapDifference<String, Object> diff = TC_CONTEXT_DIFF_CACHE.getIfPresent(situationInstance.getID().toString());
+        TcContextDiff diff = TCContextDiffCache.get(situationInstance.getID().toString());
         if (stepInstances.isEmpty()) {
             /*  The most possible variant of that
                 - some exception occurred in the Situation but before stepInstance even created.
@@ -254,7 +253,7 @@ public class RAM2ReportAdapter implements ReportAdapter {
                 adapter.updateContextVariables(lastStepMessage.getUuid(), fillContextVariables(diff));
             }
         }
-        TC_CONTEXT_DIFF_CACHE.invalidate(situationInstance.getID().toString());
+        TCContextDiffCache.invalidate(situationInstance.getID().toString());
     }
 
     private Object getBvResult(AbstractInstance situationInstance, String key) {
@@ -339,22 +338,10 @@ public class RAM2ReportAdapter implements ReportAdapter {
         return lst;
     }
 
-    private List<ContextVariable> fillContextVariables(MapDifference<String, Object> diff) {
+    private List<ContextVariable> fillContextVariables(TcContextDiff diff) {
         List<ContextVariable> lst = new ArrayList<>();
         if (diff != null) {
-            for (Map.Entry<String, Object> entry : diff.entriesOnlyOnLeft().entrySet()) {
-                lst.add(fillContextVariable(entry.getKey(), entry.getValue(), null));
-            }
-            for (Map.Entry<String, Object> entry : diff.entriesOnlyOnRight().entrySet()) {
-                lst.add(fillContextVariable(entry.getKey(), null, entry.getValue()));
-            }
-            for (Map.Entry<String, MapDifference.ValueDifference<Object>> entry : diff.entriesDiffering().entrySet()) {
-                lst.add(fillContextVariable(entry.getKey(), entry.getValue().leftValue(),
-                        entry.getValue().rightValue()));
-            }
-            for (Map.Entry<String, Object> entry : diff.entriesInCommon().entrySet()) {
-                lst.add(fillContextVariable(entry.getKey(), entry.getValue(), entry.getValue()));
-            }
+            diff.forEach((key, oldValue, newValue) -> lst.add(fillContextVariable(key, oldValue, newValue)));
         }
         return lst;
     }
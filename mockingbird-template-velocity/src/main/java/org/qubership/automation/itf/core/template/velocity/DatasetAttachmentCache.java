@@ -0,0 +1,271 @@
+/*
+ * # Copyright 2024-2026 NetCracker Technology Corporation
+ * #
+ * # Licensed under the Apache License, Version 2.0 (the "License");
+ * # you may not use this file except in compliance with the License.
+ * # You may obtain a copy of the License at
+ * #
+ * #      http://www.apache.org/licenses/LICENSE-2.0
+ * #
+ * # Unless required by applicable law or agreed to in writing, software
+ * # distributed under the License is distributed on an "AS IS" BASIS,
+ * # WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * # See the License for the specific language governing permissions and
+ * # limitations under the License.
+ *
+ */
+
+package org.qubership.automation.itf.core.template.velocity;
+
+import java.io.ByteArrayInputStream;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.Reader;
+import java.io.SequenceInputStream;
+import java.io.Writer;
+import java.nio.charset.Charset;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Lock;
+import java.util.stream.Stream;
+
+import org.qubership.automation.itf.core.util.config.Config;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.RemovalListener;
+import com.google.common.util.concurrent.Striped;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Dataset attachments rendered by #get_ds_file directive, cached by attachment parameter id.
+ * Without it, each rendering downloads the attachment from the datasets service, while load tests use
+ * the same attachment for every message.
+ * Attachments up to velocity.ds_file.cache.memory.maxFileBytes are kept in memory
+ * (velocity.ds_file.cache.memory.maxBytes in total), larger ones are kept in files of a temporary directory
+ * (velocity.ds_file.cache.disk.maxMb in total) and are streamed from there into the template writer;
+ * attachments larger than the whole disk limit aren't cached. Least recently used attachments are evicted first.
+ * Concurrent renderings of an attachment which isn't cached download it once. The temporary directory
+ * is deleted on shutdown.
+ * Datasets service gives no means of conditional requests, so attachments are downloaded again
+ * after velocity.ds_file.cache.ttl.seconds. 0 turns the cache off.
+ */
+@Slf4j
+public class DatasetAttachmentCache {
+
+    private static final DatasetAttachmentCache INSTANCE = new DatasetAttachmentCache(
+            Config.getConfig().getIntOrDefault("velocity.ds_file.cache.ttl.seconds", 300),
+            Config.getConfig().getIntOrDefault("velocity.ds_file.cache.memory.maxBytes", 16777216),
+            Config.getConfig().getIntOrDefault("velocity.ds_file.cache.memory.maxFileBytes", 65536),
+            Config.getConfig().getIntOrDefault("velocity.ds_file.cache.disk.maxMb", 512),
+            null);
+    private static final int KB = 1024;
+
+    private final int memoryMaxFileBytes;
+    private final Cache<UUID, byte[]> memory;
+    private final Cache<UUID, Path> disk;
+    private final long diskMaxKb;
+    private final Path directory;
+    /* Downloads of an attachment are made under its lock, so concurrent misses download it once */
+    private final Striped<Lock> downloads = Striped.lock(64);
+
+    DatasetAttachmentCache(int ttlSeconds, int memoryMaxBytes, int memoryMaxFileBytes, int diskMaxMb,
+                           Path directory) {
+        this.memoryMaxFileBytes = Math.max(0, memoryMaxFileBytes);
+        this.memory = ttlSeconds > 0 && memoryMaxBytes > 0 && memoryMaxFileBytes > 0
+                ? CacheBuilder.newBuilder()
+                .expireAfterWrite(ttlSeconds, TimeUnit.SECONDS)
+                .maximumWeight(memoryMaxBytes)
+                .weigher((UUID id, byte[] content) -> content.length)
+                .build()
+                : null;
+        this.diskMaxKb = (long) diskMaxMb * KB;
+        this.directory = ttlSeconds > 0 && diskMaxMb > 0 ? createDirectory(directory) : null;
+        // The only segment: the weight limit is divided among segments, so a file heavier than its part of the
+        // limit would be evicted (and deleted) right after put
+        this.disk = this.directory != null
+                ? CacheBuilder.newBuilder()
+                .concurrencyLevel(1)
+                .expireAfterWrite(ttlSeconds, TimeUnit.SECONDS)
+                .maximumWeight(diskMaxKb)
+                .weigher((UUID id, Path file) -> sizeKb(file))
+                .removalListener((RemovalListener<UUID, Path>) notification -> delete(notification.getValue()))
+                .build()
+                : null;
+        if (this.disk != null && directory == null) {
+            Runtime.getRuntime().addShutdownHook(new Thread(this::deleteDirectory, "ds-attachments-cleanup"));
+        }
+    }
+
+    public static DatasetAttachmentCache getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Write the attachment into the writer; it's downloaded if it isn't cached or is expired.
+     *
+     * @param parameterId attachment parameter id
+     * @param charset     encoding of the attachment
+     * @param writer      template writer
+     * @param loader      download of the attachment
+     * @throws IOException if download or reading of cached file fails
+     */
+    public void write(UUID parameterId, Charset charset, Writer writer, AttachmentLoader loader) throws IOException {
+        if (memory == null && disk == null) {
+            copy(loader.load(), charset, writer);
+            return;
+        }
+        InputStream inputStream = cached(parameterId);
+        if (inputStream == null) {
+            Lock lock = downloads.get(parameterId);
+            lock.lock();
+            try {
+                // Concurrent rendering may have downloaded the attachment while this one waited for the lock
+                inputStream = cached(parameterId);
+                if (inputStream == null) {
+                    inputStream = download(parameterId, loader);
+                }
+            } finally {
+                lock.unlock();
+            }
+        }
+        copy(inputStream, charset, writer);
+    }
+
+    private InputStream cached(UUID parameterId) throws IOException {
+        if (memory != null) {
+            byte[] content = memory.getIfPresent(parameterId);
+            if (content != null) {
+                return new ByteArrayInputStream(content);
+            }
+        }
+        if (disk != null) {
+            Path file = disk.getIfPresent(parameterId);
+            if (file != null) {
+                try {
+                    return Files.newInputStream(file);
+                } catch (NoSuchFileException e) {
+                    log.warn("Cached file {} of dataset attachment {} is deleted; downloading it again",
+                            file, parameterId);
+                    disk.asMap().remove(parameterId, file);
+                }
+            }
+        }
+        return null;
+    }
+
+    /*  Returned stream of a file is opened before the file is put into the cache,
+        so the file can be read even if it's evicted and deleted at once.
+     */
+    private InputStream download(UUID parameterId, AttachmentLoader loader) throws IOException {
+        InputStream inputStream = loader.load();
+        boolean streamed = false;
+        try {
+            byte[] head = inputStream.readNBytes(memoryMaxFileBytes + 1);
+            if (head.length <= memoryMaxFileBytes) {
+                if (memory != null) {
+                    memory.put(parameterId, head);
+                }
+                return new ByteArrayInputStream(head);
+            }
+            if (disk == null) {
+                streamed = true;
+                return new SequenceInputStream(new ByteArrayInputStream(head), inputStream);
+            }
+            Path file = Files.createTempFile(directory, parameterId.toString(), ".bin");
+            try (OutputStream outputStream = Files.newOutputStream(file)) {
+                outputStream.write(head);
+                inputStream.transferTo(outputStream);
+            } catch (IOException e) {
+                delete(file);
+                throw e;
+            }
+            InputStream fileStream = Files.newInputStream(file);
+            if (sizeKb(file) > diskMaxKb) {
+                log.debug("Dataset attachment {} is larger than {} KB and isn't cached", parameterId, diskMaxKb);
+                return new FilterInputStream(fileStream) {
+                    @Override
+                    public void close() throws IOException {
+                        super.close();
+                        delete(file);
+                    }
+                };
+            }
+            disk.put(parameterId, file);
+            return fileStream;
+        } finally {
+            if (!streamed) {
+                inputStream.close();
+            }
+        }
+    }
+
+    /**
+     * Drop all cached attachments.
+     */
+    public void invalidateAll() {
+        if (memory != null) {
+            memory.invalidateAll();
+        }
+        if (disk != null) {
+            disk.invalidateAll();
+        }
+    }
+
+    public long size() {
+        return (memory == null ? 0 : memory.size()) + (disk == null ? 0 : disk.size());
+    }
+
+    private static void copy(InputStream inputStream, Charset charset, Writer writer) throws IOException {
+        try (Reader reader = new InputStreamReader(inputStream, charset)) {
+            reader.transferTo(writer);
+        }
+    }
+
+    private void deleteDirectory() {
+        disk.invalidateAll();
+        try (Stream<Path> files = Files.list(directory)) {
+            files.forEach(DatasetAttachmentCache::delete);
+        } catch (IOException e) {
+            log.warn("Files of dataset attachments in {} aren't listed", directory, e);
+        }
+        delete(directory);
+    }
+
+    private static Path createDirectory(Path directory) {
+        try {
+            return directory != null ? directory : Files.createTempDirectory("itf-ds-attachments");
+        } catch (IOException e) {
+            log.warn("Directory for dataset attachments isn't created; large attachments won't be cached", e);
+            return null;
+        }
+    }
+
+    private static int sizeKb(Path file) {
+        try {
+            return (int) Math.min(Integer.MAX_VALUE, (Files.size(file) + KB - 1) / KB);
+        } catch (IOException e) {
+            return 0;
+        }
+    }
+
+    private static void delete(Path file) {
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            log.warn("Cached file {} of dataset attachment isn't deleted", file, e);
+        }
+    }
+
+    @FunctionalInterface
+    public interface AttachmentLoader {
+
+        InputStream load() throws IOException;
+    }
+}
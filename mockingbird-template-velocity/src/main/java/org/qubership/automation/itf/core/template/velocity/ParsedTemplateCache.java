@@ -0,0 +1,184 @@
+/*
+ * # Copyright 2024-2026 NetCracker Technology Corporation
+ * #
+ * # Licensed under the Apache License, Version 2.0 (the "License");
+ * # you may not use this file except in compliance with the License.
+ * # You may obtain a copy of the License at
+ * #
+ * #      http://www.apache.org/licenses/LICENSE-2.0
+ * #
+ * # Unless required by applicable law or agreed to in writing, software
+ * # distributed under the License is distributed on an "AS IS" BASIS,
+ * # WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * # See the License for the specific language governing permissions and
+ * # limitations under the License.
+ *
+ */
+
+package org.qubership.automation.itf.core.template.velocity;
+
+import java.io.StringReader;
+import java.lang.reflect.Field;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.velocity.Template;
+import org.apache.velocity.app.VelocityEngine;
+import org.apache.velocity.exception.ParseErrorException;
+import org.apache.velocity.exception.VelocityException;
+import org.apache.velocity.runtime.RuntimeServices;
+import org.apache.velocity.runtime.parser.ParseException;
+import org.apache.velocity.runtime.parser.node.SimpleNode;
+import org.qubership.automation.itf.core.metric.MetricsAggregateService;
+import org.qubership.automation.itf.core.util.config.Config;
+
+import com.google.common.base.Throwables;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.util.concurrent.UncheckedExecutionException;
+
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Cache of Velocity templates parsed from texts.
+ * VelocityEngine#evaluate parses the text into the syntax tree on each call, while the same few thousand texts
+ * (templates, situation names, key definitions) are rendered again and again. Templates are cached by the owner
+ * name and the text itself, so different texts can't collide, and parsed nodes report the real owner in log
+ * and error messages; the cache is bounded by the total length of cached texts and names
+ * (velocity.parsed.cache.maxChars), texts longer than velocity.parsed.cache.maxTextLength are parsed each time.
+ * Texts defining macros are parsed each time too: inline macros are registered globally while parsing
+ * (velocimacro.permissions.allow.inline.to.replace.global), so a cached text would render the macro
+ * of the text parsed last.
+ * Cached template is initialized once and then merged concurrently, the same way Velocity merges templates
+ * cached by its resource manager.
+ */
+@Slf4j
+public final class ParsedTemplateCache {
+
+    private final RuntimeServices runtimeServices;
+    private final Cache<Map.Entry<String, String>, Template> templates;
+    private final int maxTextLength;
+    private volatile boolean metersRegistered;
+
+    ParsedTemplateCache(RuntimeServices runtimeServices, long maxChars, int maxTextLength) {
+        this.runtimeServices = runtimeServices;
+        this.maxTextLength = maxTextLength;
+        this.templates = CacheBuilder.newBuilder()
+                .maximumWeight(maxChars)
+                .weigher((Map.Entry<String, String> key, Template template) ->
+                        key.getKey().length() + key.getValue().length())
+                .recordStats()
+                .build();
+    }
+
+    /**
+     * Create the cache for the engine.
+     *
+     * @param engine initialized Velocity engine
+     * @return the cache, or null if caching is switched off or the engine runtime isn't accessible
+     */
+    static ParsedTemplateCache create(VelocityEngine engine) {
+        long maxChars = Config.getConfig().getIntOrDefault("velocity.parsed.cache.maxChars", 2000000);
+        if (maxChars <= 0) {
+            log.info("Velocity parsed templates cache is switched off");
+            return null;
+        }
+        RuntimeServices runtimeServices = runtimeServicesOf(engine);
+        if (runtimeServices == null) {
+            return null;
+        }
+        return new ParsedTemplateCache(runtimeServices, maxChars,
+                Config.getConfig().getIntOrDefault("velocity.parsed.cache.maxTextLength", 100000));
+    }
+
+    /*  VelocityEngine 1.7 doesn't expose its runtime instance, but parsing needs it:
+        the tree must be built by the same runtime (directives, macros, settings) which renders it.
+     */
+    private static RuntimeServices runtimeServicesOf(VelocityEngine engine) {
+        try {
+            Field field = VelocityEngine.class.getDeclaredField("ri");
+            field.setAccessible(true);
+            return (RuntimeServices) field.get(engine);
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            log.warn("Velocity runtime isn't accessible, texts will be parsed on each processing", e);
+            return null;
+        }
+    }
+
+    /**
+     * Get the template parsed from the text; the text is parsed only if it isn't cached yet.
+     *
+     * @param text text to parse
+     * @param name template name used in log and error messages
+     * @return initialized template, ready to merge
+     * @throws ParseErrorException if the text isn't a valid template
+     */
+    public Template get(String text, String name) {
+        if (!metersRegistered) {
+            metersRegistered = MetricsAggregateService.registerVelocityParsedCacheMeters(
+                    () -> templates.stats().hitCount(), () -> templates.stats().missCount(), templates::size);
+        }
+        if (text.length() > maxTextLength || definesMacros(text)) {
+            return parse(runtimeServices, text, name);
+        }
+        try {
+            return templates.get(Map.entry(name, text), () -> parse(runtimeServices, text, name));
+        } catch (ExecutionException | UncheckedExecutionException e) {
+            Throwables.throwIfUnchecked(e.getCause());
+            throw new VelocityException(e.getCause().getMessage(), e.getCause());
+        }
+    }
+
+    /**
+     * Check if the text defines macros (#macro or #{macro} directive); such text must be parsed before each merge.
+     *
+     * @param text template text
+     * @return true if the text may define a macro
+     */
+    public static boolean definesMacros(String text) {
+        return text.contains("#macro") || text.contains("#{macro}");
+    }
+
+    public long size() {
+        return templates.size();
+    }
+
+    public long hitCount() {
+        return templates.stats().hitCount();
+    }
+
+    public long missCount() {
+        return templates.stats().missCount();
+    }
+
+    /**
+     * Parse the text into the template, initialized and ready to merge.
+     *
+     * @param runtimeServices runtime which renders the template
+     * @param text            text to parse
+     * @param name            template name used in log and error messages
+     * @return initialized template
+     * @throws ParseErrorException if the text isn't a valid template
+     */
+    public static Template parse(RuntimeServices runtimeServices, String text, String name) {
+        long startedAt = System.nanoTime();
+        SimpleNode node;
+        try {
+            node = runtimeServices.parse(new StringReader(text), name);
+        } catch (ParseException e) {
+            throw new ParseErrorException(e, name);
+        }
+        Template template = new Template();
+        template.setRuntimeServices(runtimeServices);
+        template.setName(name);
+        template.setData(node);
+        template.initDocument();
+        Timer timer = MetricsAggregateService.getVelocityParseTimer();
+        if (timer != null) {
+            timer.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+        }
+        return template;
+    }
+}
@@ -0,0 +1,218 @@
+/*
+ * # Copyright 2024-2026 NetCracker Technology Corporation
+ * #
+ * # Licensed under the Apache License, Version 2.0 (the "License");
+ * # you may not use this file except in compliance with the License.
+ * # You may obtain a copy of the License at
+ * #
+ * #      http://www.apache.org/licenses/LICENSE-2.0
+ * #
+ * # Unless required by applicable law or agreed to in writing, software
+ * # distributed under the License is distributed on an "AS IS" BASIS,
+ * # WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * # See the License for the specific language governing permissions and
+ * # limitations under the License.
+ *
+ */
+
+package org.qubership.automation.itf.core.template.velocity;
+
+import static org.qubership.automation.itf.Constants.ENV_INFO_KEY;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+
+import org.apache.velocity.context.Context;
+import org.apache.velocity.tools.ToolManager;
+import org.qubership.automation.itf.core.model.common.Storable;
+import org.qubership.automation.itf.core.model.jpa.context.JsonContext;
+import org.qubership.automation.itf.core.model.jpa.context.TcContext;
+import org.qubership.automation.itf.core.model.jpa.instance.AbstractContainerInstance;
+import org.qubership.automation.itf.core.model.jpa.instance.chain.CallChainInstance;
+import org.qubership.automation.itf.core.util.config.Config;
+import org.qubership.automation.itf.core.util.engine.TemplateEngine;
+
+/**
+ * Velocity context of a single rendering, which resolves variables by delegation instead of copying them.
+ * Lookup order is the same as the precedence of values put into the tool context before:
+ * values set while rendering, environment info of the call chain, entries of the ITF context (tc, sp, ...),
+ * host name, owner, operation/environment/initiator storables, and tools at last.
+ * Tool context is created only when a tool is looked up or all keys are requested; then the context is filled
+ * with the same values as before and all further calls are delegated to it, so tools which work with
+ * the context ($render, $context) see everything.
+ * Not thread-safe; a new instance is created for each rendering.
+ */
+final class RenderContext implements Context {
+
+    /* Marks keys removed (or set to null) while rendering, so values of the delegated layers become hidden too */
+    private static final Object REMOVED = new Object();
+    private static final String[] STORABLE_KEYS = {
+            TemplateEngine.OPERATION, TemplateEngine.ENVIRONMENT, TemplateEngine.INITIATOR
+    };
+
+    private final ToolManager toolManager;
+    private final Set<String> toolKeys;
+    private final Storable owner;
+    private final Map<String, Storable> storables;
+    private final JsonContext context;
+    private Map<String, Object> locals;
+    private Context tools;
+
+    RenderContext(ToolManager toolManager, Set<String> toolKeys, Storable owner, Map<String, Storable> storables,
+                  JsonContext context) {
+        this.toolManager = toolManager;
+        this.toolKeys = toolKeys;
+        this.owner = owner;
+        this.storables = storables;
+        this.context = context;
+    }
+
+    @Override
+    public Object put(String key, Object value) {
+        if (tools != null) {
+            return tools.put(key, value);
+        }
+        if (key == null) {
+            return null;
+        }
+        return setLocal(key, value == null ? REMOVED : value);
+    }
+
+    @Override
+    public Object get(String key) {
+        if (tools != null) {
+            return tools.get(key);
+        }
+        if (key == null) {
+            return null;
+        }
+        Object value = lookup(key);
+        if (value == null && toolKeys.contains(key)) {
+            return toolContext().get(key);
+        }
+        return value;
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        if (tools != null) {
+            return tools.containsKey(key);
+        }
+        return key != null && (lookup(String.valueOf(key)) != null || toolKeys.contains(String.valueOf(key)));
+    }
+
+    @Override
+    public Object[] getKeys() {
+        return toolContext().getKeys();
+    }
+
+    @Override
+    public Object remove(Object key) {
+        if (tools != null) {
+            return tools.remove(key);
+        }
+        if (key == null) {
+            return null;
+        }
+        return setLocal(String.valueOf(key), REMOVED);
+    }
+
+    private Object setLocal(String key, Object value) {
+        Object previous = lookup(key);
+        if (locals == null) {
+            locals = new HashMap<>();
+        }
+        locals.put(key, value);
+        return previous;
+    }
+
+    /* Value of the key, not looking into tools */
+    private Object lookup(String key) {
+        Object value = locals == null ? null : locals.get(key);
+        if (value == null) {
+            return resolve(key);
+        }
+        return value == REMOVED ? null : value;
+    }
+
+    private Object resolve(String key) {
+        if (ENV_INFO_KEY.equals(key)) {
+            Object envInfo = envInfo();
+            if (envInfo != null) {
+                return envInfo;
+            }
+        }
+        Object value = context.get(key);
+        if (value != null) {
+            return value;
+        }
+        if (TemplateEngine.HOST_NAME.equals(key)) {
+            return Config.getConfig().getString("runningHostname");
+        }
+        if (TemplateEngine.OWNER.equals(key)) {
+            return owner;
+        }
+        if (storables != null) {
+            for (String storableKey : STORABLE_KEYS) {
+                if (storableKey.equals(key)) {
+                    return storables.get(key);
+                }
+            }
+        }
+        return null;
+    }
+
+    private Object envInfo() {
+        Object envInfo = null;
+        for (Object o : context.entrySet()) {
+            Object value = ((Map.Entry) o).getValue();
+            if (value instanceof TcContext tcContext) {
+                AbstractContainerInstance initiator = tcContext.getInitiator();
+                if (initiator instanceof CallChainInstance && initiator.getContext() != null) {
+                    envInfo = initiator.getContext().get(ENV_INFO_KEY);
+                }
+            }
+        }
+        return envInfo;
+    }
+
+    /*  Creates the tool context on first need and moves everything into it,
+        in the same order as values were put into it before delegation was introduced.
+     */
+    private Context toolContext() {
+        if (tools != null) {
+            return tools;
+        }
+        Context toolContext = toolManager.createContext();
+        if (storables != null) {
+            for (String storableKey : STORABLE_KEYS) {
+                putIfNotNull(toolContext, storableKey, storables.get(storableKey));
+            }
+        }
+        putIfNotNull(toolContext, TemplateEngine.OWNER, owner);
+        putIfNotNull(toolContext, TemplateEngine.HOST_NAME, Config.getConfig().getString("runningHostname"));
+        for (Object o : context.entrySet()) {
+            Map.Entry entry = (Map.Entry) o;
+            putIfNotNull(toolContext, String.valueOf(entry.getKey()), entry.getValue());
+        }
+        putIfNotNull(toolContext, ENV_INFO_KEY, envInfo());
+        if (locals != null) {
+            for (Map.Entry<String, Object> local : locals.entrySet()) {
+                if (local.getValue() == REMOVED) {
+                    toolContext.remove(local.getKey());
+                } else {
+                    toolContext.put(local.getKey(), local.getValue());
+                }
+            }
+        }
+        tools = toolContext;
+        return tools;
+    }
+
+    private static void putIfNotNull(Context toolContext, String key, Object value) {
+        if (value != null) {
+            toolContext.put(key, value);
+        }
+    }
+}
@@ -0,0 +1,117 @@
+/*
+ * # Copyright 2024-2026 NetCracker Technology Corporation
+ * #
+ * # Licensed under the Apache License, Version 2.0 (the "License");
+ * # you may not use this file except in compliance with the License.
+ * # You may obtain a copy of the License at
+ * #
+ * #      http://www.apache.org/licenses/LICENSE-2.0
+ * #
+ * # Unless required by applicable law or agreed to in writing, software
+ * # distributed under the License is distributed on an "AS IS" BASIS,
+ * # WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * # See the License for the specific language governing permissions and
+ * # limitations under the License.
+ *
+ */
+
+package org.qubership.automation.itf.core.template.velocity;
+
+import java.math.BigInteger;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import org.apache.velocity.Template;
+import org.apache.velocity.exception.VelocityException;
+import org.apache.velocity.runtime.RuntimeServices;
+import org.qubership.automation.itf.core.util.config.Config;
+
+import com.google.common.base.Throwables;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.util.concurrent.UncheckedExecutionException;
+
+/**
+ * Template parts loaded by #load_part directive, cached per project by template name or id.
+ * Without it, each #load_part reads the template from the database (by name - with two queries) and parses its text.
+ * Parts are cached parsed; not found parts are cached too, so a misconfigured name doesn't query the database
+ * on each rendering. Parts defining macros are cached as texts and parsed on each rendering, see
+ * {@link ParsedTemplateCache#definesMacros(String)}. All parts are invalidated when templates are created,
+ * changed or deleted via this replica; changes made via other replicas are picked up after
+ * velocity.load_part.cache.ttl.seconds. 0 turns the cache off.
+ */
+public class TemplatePartCache {
+
+    private static final int TTL_SECONDS = Config.getConfig()
+            .getIntOrDefault("velocity.load_part.cache.ttl.seconds", 30);
+    private static final int MAX_SIZE = 1000;
+    private static final TemplatePartCache INSTANCE = new TemplatePartCache(TTL_SECONDS);
+    /* Cached value of not found part; Guava cache doesn't keep nulls */
+    private static final Object NOT_FOUND = new Object();
+
+    private final Cache<String, Object> parts;
+
+    TemplatePartCache(int ttlSeconds) {
+        this.parts = ttlSeconds > 0
+                ? CacheBuilder.newBuilder().expireAfterWrite(ttlSeconds, TimeUnit.SECONDS).maximumSize(MAX_SIZE).build()
+                : null;
+    }
+
+    public static TemplatePartCache getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Get parsed template part; it's loaded and parsed if absent or expired.
+     *
+     * @param projectId       project of the rendered template
+     * @param identifier      name or id of the part
+     * @param runtimeServices runtime which renders the part
+     * @param loader          loader of the part text, returning null if the part isn't found
+     * @return initialized template, or null if the part isn't found
+     */
+    public Template get(BigInteger projectId, String identifier, RuntimeServices runtimeServices,
+                        Supplier<String> loader) {
+        if (parts == null) {
+            return load(identifier, runtimeServices, loader);
+        }
+        Object part;
+        try {
+            part = parts.get(projectId + "/" + identifier, () -> {
+                String text = loader.get();
+                if (text == null) {
+                    return NOT_FOUND;
+                }
+                return ParsedTemplateCache.definesMacros(text)
+                        ? text
+                        : ParsedTemplateCache.parse(runtimeServices, text, identifier);
+            });
+        } catch (ExecutionException | UncheckedExecutionException e) {
+            Throwables.throwIfUnchecked(e.getCause());
+            throw new VelocityException(e.getCause().getMessage(), e.getCause());
+        }
+        if (part instanceof String text) {
+            return ParsedTemplateCache.parse(runtimeServices, text, identifier);
+        }
+        return part == NOT_FOUND ? null : (Template) part;
+    }
+
+    /**
+     * Drop all parts; they are loaded again on the next renderings.
+     */
+    public void invalidateAll() {
+        if (parts != null) {
+            parts.invalidateAll();
+        }
+    }
+
+    public long size() {
+        return parts == null ? 0 : parts.size();
+    }
+
+    private static Template load(String identifier, RuntimeServices runtimeServices, Supplier<String> loader) {
+        String text = loader.get();
+        return text == null ? null : ParsedTemplateCache.parse(runtimeServices, text, identifier);
+    }
+}
@@ -0,0 +1,264 @@
+/*
+ * # Copyright 2024-2026 NetCracker Technology Corporation
+ * #
+ * # Licensed under the Apache License, Version 2.0 (the "License");
+ * # you may not use this file except in compliance with the License.
+ * # You may obtain a copy of the License at
+ * #
+ * #      http://www.apache.org/licenses/LICENSE-2.0
+ * #
+ * # Unless required by applicable law or agreed to in writing, software
+ * # distributed under the License is distributed on an "AS IS" BASIS,
+ * # WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * # See the License for the specific language governing permissions and
+ * # limitations under the License.
+ *
+ */
+
+package org.qubership.automation.itf.core.template.velocity;
+
+import java.math.BigInteger;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.Lock;
+
+import org.qubership.atp.multitenancy.core.context.TenantContext;
+import org.qubership.automation.itf.core.hibernate.spring.managers.custom.UserDataManager;
+import org.qubership.automation.itf.core.metric.MetricsAggregateService;
+import org.qubership.automation.itf.core.model.jpa.project.StubProject;
+import org.qubership.automation.itf.core.util.config.Config;
+import org.qubership.automation.itf.core.util.manager.CoreObjectManager;
+
+import com.google.common.util.concurrent.Striped;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * User data store of #set_userdata directive with optional write-behind of mutations.
+ * If velocity.set_userdata.write_behind.delay.ms is positive, INSERT, UPDATE, UPSERT and DELETE actions
+ * are queued per project and key and written to the database by a background thread after this delay;
+ * consecutive UPDATEs (or UPSERTs) of a key are written once, with the last value. A queued mutation isn't
+ * executed yet, so the directive renders an empty string for it.
+ * A failed mutation stays queued (with the next mutations of its key, so the order is kept) and is retried
+ * on the next flush; after {@value #MAX_ATTEMPTS} attempts it's dropped, logged and counted in the failure metric.
+ * Reads are consistent within the replica: SELECT of a key writes its queued mutations first.
+ * Mutations are written synchronously if the queue is full (velocity.set_userdata.write_behind.max.pending)
+ * or the project is unknown. 0 turns write-behind off.
+ * Queued mutations are written on application shutdown by {@link #shutdown()}, which is called
+ * while the database is still available.
+ */
+@Slf4j
+public class UserDataWriteBehindStore {
+
+    private static final Set<String> MUTATIONS = Set.of("INSERT", "UPDATE", "UPSERT", "DELETE");
+    private static final Set<String> COALESCED = Set.of("UPDATE", "UPSERT");
+    private static final int MAX_ATTEMPTS = 3;
+    private static final int DELAY_MS = Config.getConfig()
+            .getIntOrDefault("velocity.set_userdata.write_behind.delay.ms", 0);
+    private static final int MAX_PENDING = Config.getConfig()
+            .getIntOrDefault("velocity.set_userdata.write_behind.max.pending", 10000);
+    private static final boolean MULTI_TENANCY_ENABLED = Boolean.parseBoolean(Config.getConfig()
+            .getStringOrDefault("atp.multi-tenancy.enabled", "false"));
+    private static final UserDataWriteBehindStore INSTANCE = new UserDataWriteBehindStore(DELAY_MS, MAX_PENDING,
+            (action, key, value, projectId) -> CoreObjectManager.getInstance()
+                    .getSpecialManager(StubProject.class, UserDataManager.class)
+                    .setUserData(action, key, value, projectId));
+
+    private final int maxPending;
+    private final UserDataWriter writer;
+    private final ConcurrentHashMap<List<Object>, Deque<Mutation>> pending = new ConcurrentHashMap<>();
+    private final AtomicInteger pendingCount = new AtomicInteger();
+    private final AtomicLong failedCount = new AtomicLong();
+    private volatile boolean metersRegistered;
+    /* Queued mutations of a key are written under its lock, so they are written in order */
+    private final Striped<Lock> keyLocks = Striped.lock(64);
+    private final ScheduledExecutorService flusher;
+
+    UserDataWriteBehindStore(int delayMs, int maxPending, UserDataWriter writer) {
+        this.maxPending = maxPending;
+        this.writer = writer;
+        if (delayMs > 0) {
+            flusher = Executors.newSingleThreadScheduledExecutor(new ThreadFactoryBuilder()
+                    .setNameFormat("userdata-write-behind-%d").setDaemon(true).build());
+            flusher.scheduleWithFixedDelay(this::flushAll, delayMs, delayMs, TimeUnit.MILLISECONDS);
+        } else {
+            flusher = null;
+        }
+    }
+
+    public static UserDataWriteBehindStore getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Execute #set_userdata action.
+     *
+     * @param action      action in upper case
+     * @param key         user data key
+     * @param value       user data value
+     * @param projectId   project id
+     * @param projectUuid project uuid (tenant of the mutation); null - the action is executed synchronously
+     * @return result of the action; empty string if the mutation is queued
+     */
+    public String execute(String action, String key, String value, BigInteger projectId, UUID projectUuid) {
+        if (flusher == null || projectUuid == null) {
+            return writer.setUserData(action, key, value, projectId);
+        }
+        if (!metersRegistered) {
+            metersRegistered = MetricsAggregateService.registerUserDataWriteBehindMeters(pendingCount::get,
+                    failedCount::get);
+        }
+        List<Object> userDataKey = List.of(projectId, key);
+        if (MUTATIONS.contains(action) && pendingCount.get() < maxPending) {
+            Mutation mutation = new Mutation(action, value, projectId, projectUuid);
+            pending.compute(userDataKey, (k, queue) -> {
+                Deque<Mutation> mutations = queue == null ? new ArrayDeque<>() : queue;
+                Mutation last = mutations.peekLast();
+                if (last != null && COALESCED.contains(action) && action.equals(last.action)) {
+                    mutations.pollLast();
+                } else {
+                    pendingCount.incrementAndGet();
+                }
+                mutations.add(mutation);
+                return mutations;
+            });
+            return "";
+        }
+        Lock lock = keyLocks.get(userDataKey);
+        lock.lock();
+        try {
+            flush(userDataKey, false);
+            return writer.setUserData(action, key, value, projectId);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Write all queued mutations; it's executed by the background thread (and on shutdown).
+     */
+    public void flushAll() {
+        for (List<Object> userDataKey : pending.keySet()) {
+            Lock lock = keyLocks.get(userDataKey);
+            lock.lock();
+            try {
+                flush(userDataKey, true);
+            } catch (RuntimeException e) {
+                log.error("Unexpected error while writing queued user data {}", userDataKey, e);
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+
+    /**
+     * Stop the background thread and write all queued mutations, retrying failed ones.
+     * It's called on application shutdown, before the database connections are closed.
+     */
+    public void shutdown() {
+        if (flusher == null) {
+            return;
+        }
+        flusher.shutdown();
+        try {
+            if (!flusher.awaitTermination(30, TimeUnit.SECONDS)) {
+                log.warn("Background writing of queued user data isn't completed in 30 seconds");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        for (int attempt = 0; attempt < MAX_ATTEMPTS && pendingCount.get() > 0; attempt++) {
+            flushAll();
+        }
+        if (pendingCount.get() > 0) {
+            log.error("{} queued user data mutations aren't written on shutdown", pendingCount.get());
+        }
+    }
+
+    public int pendingCount() {
+        return pendingCount.get();
+    }
+
+    public long failedCount() {
+        return failedCount.get();
+    }
+
+    /*  Rendering threads already have the tenant of the project set, so it's set for the background thread only.
+     */
+    private void flush(List<Object> userDataKey, boolean background) {
+        Deque<Mutation> mutations = pending.remove(userDataKey);
+        if (mutations == null) {
+            return;
+        }
+        pendingCount.addAndGet(-mutations.size());
+        String key = (String) userDataKey.get(1);
+        while (!mutations.isEmpty()) {
+            Mutation mutation = mutations.peekFirst();
+            if (background && MULTI_TENANCY_ENABLED) {
+                TenantContext.setTenantInfo(mutation.projectUuid.toString());
+            }
+            try {
+                String result = writer.setUserData(mutation.action, key, mutation.value, mutation.projectId);
+                log.debug("Queued user data {} {} (project {}) is written: {}", mutation.action, key,
+                        mutation.projectId, result);
+                mutations.pollFirst();
+            } catch (RuntimeException e) {
+                if (++mutation.attempts < MAX_ATTEMPTS) {
+                    log.warn("Queued user data {} {} (project {}) isn't written (attempt {}), it will be retried",
+                            mutation.action, key, mutation.projectId, mutation.attempts, e);
+                    requeue(userDataKey, mutations);
+                    return;
+                }
+                log.error("Queued user data {} {} (project {}) isn't written after {} attempts and is dropped",
+                        mutation.action, key, mutation.projectId, mutation.attempts, e);
+                failedCount.incrementAndGet();
+                mutations.pollFirst();
+            } finally {
+                if (background && MULTI_TENANCY_ENABLED) {
+                    TenantContext.setDefaultTenantInfo();
+                }
+            }
+        }
+    }
+
+    /*  Not written mutations are put before mutations queued while they were being written.
+     */
+    private void requeue(List<Object> userDataKey, Deque<Mutation> mutations) {
+        pendingCount.addAndGet(mutations.size());
+        pending.merge(userDataKey, mutations, (notWritten, queued) -> {
+            notWritten.addAll(queued);
+            return notWritten;
+        });
+    }
+
+    @FunctionalInterface
+    interface UserDataWriter {
+
+        String setUserData(String action, String key, String value, BigInteger projectId);
+    }
+
+    private static final class Mutation {
+
+        private final String action;
+        private final String value;
+        private final BigInteger projectId;
+        private final UUID projectUuid;
+        private int attempts;
+
+        Mutation(String action, String value, BigInteger projectId, UUID projectUuid) {
+            this.action = action;
+            this.value = value;
+            this.projectId = projectId;
+            this.projectUuid = projectUuid;
+        }
+    }
+}
@@ -17,15 +17,17 @@
 
 package org.qubership.automation.itf.core.template.velocity;
 
-import static org.qubership.automation.itf.Constants.ENV_INFO_KEY;
 import static org.qubership.automation.itf.core.util.constants.InstanceSettingsConstants.VELOCITY_CONFIG;
 
 import java.io.StringWriter;
 import java.math.BigInteger;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 import org.apache.commons.lang3.StringUtils;
 import org.apache.velocity.app.VelocityEngine;
@@ -42,8 +44,6 @@ import org.apache.velocity.tools.config.ToolboxConfiguration;
 import org.qubership.automation.itf.core.model.common.Storable;
 import org.qubership.automation.itf.core.model.jpa.context.JsonContext;
 import org.qubership.automation.itf.core.model.jpa.context.TcContext;
-import org.qubership.automation.itf.core.model.jpa.instance.AbstractContainerInstance;
-import org.qubership.automation.itf.core.model.jpa.instance.chain.CallChainInstance;
 import org.qubership.automation.itf.core.model.jpa.message.template.Template;
 import org.qubership.automation.itf.core.model.jpa.system.System;
 import org.qubership.automation.itf.core.model.jpa.system.operation.Operation;
@@ -61,6 +61,8 @@ public class VelocityTemplateEngine implements TemplateEngine {
     private static final Logger LOGGER = LoggerFactory.getLogger(VelocityTemplateEngine.class);
     private final VelocityEngine engine;
     private final ToolManager toolManager;
+    private final Set<String> toolKeys;
+    private final ParsedTemplateCache parsedTemplates;
 
     @Inject
     public VelocityTemplateEngine() {
@@ -82,6 +84,7 @@ public class VelocityTemplateEngine implements TemplateEngine {
         for (Class directiveClass : ClassResolver.getInstance().getSubtypesOf(Directive.class)) {
             engine.loadDirective(directiveClass.getName());
         }
+        parsedTemplates = ParsedTemplateCache.create(engine);
 
         /*
             Explicit init of Velocity Tools 2.0 is implemented,
@@ -95,6 +98,10 @@ public class VelocityTemplateEngine implements TemplateEngine {
         toolManager = new ToolManager();
         toolManager.getToolboxFactory().configure(factoryConfiguration);
         toolManager.setVelocityEngine(engine);
+        // Names of tools and toolbox data; the tool context is created while rendering only if one of them is used
+        toolKeys = Arrays.stream(toolManager.createContext().getKeys())
+                .map(String::valueOf)
+                .collect(Collectors.toUnmodifiableSet());
     }
 
     private static Data fillData(String type, String key, Object value) {
@@ -232,7 +239,10 @@ public class VelocityTemplateEngine implements TemplateEngine {
         if (StringUtils.isBlank(someString)) {
             return "";
         }
-        return processing(owner, someString, context, toolManager.createContext(), coords);
+        if (isPlainText(someString)) {
+            return someString;
+        }
+        return processing(owner, someString, context, null, coords);
     }
 
     @Override
@@ -240,42 +250,35 @@ public class VelocityTemplateEngine implements TemplateEngine {
         if (StringUtils.isBlank(someString)) {
             return "";
         }
-        Context velocityContext = toolManager.createContext();
-        putIfPresent(velocityContext, OPERATION, storables.get(OPERATION));
-        putIfPresent(velocityContext, ENVIRONMENT, storables.get(ENVIRONMENT));
-        putIfPresent(velocityContext, INITIATOR, storables.get(INITIATOR));
-        Storable owner = storables.get(OWNER);
-        return processing(owner, someString, context, velocityContext, coords);
+        if (isPlainText(someString)) {
+            return someString;
+        }
+        return processing(storables.get(OWNER), someString, context, storables, coords);
     }
 
-    private void putIfPresent(Context velocityContext, String key, Storable obj) {
-        if (obj != null) {
-            velocityContext.put(key, obj);
-        }
+    /*  Velocity processes references ($) and directives (#) only; escaping (\) is meaningful before them only.
+        So a text without them is rendered as is, and there is no need to parse it and build the context.
+     */
+    private static boolean isPlainText(String someString) {
+        return someString.indexOf('$') < 0 && someString.indexOf('#') < 0;
     }
 
-    private String processing(Storable owner, String someString, JsonContext context, Context velocityContext,
-                              String coords) {
+    private String processing(Storable owner, String someString, JsonContext context,
+                              Map<String, Storable> storables, String coords) {
         if (StringUtils.isBlank(someString)) {
             return "";
         }
         LOGGER.trace("Processing string with Velocity: {}\nContext: {}", someString, context);
-        putIfPresent(velocityContext, OWNER, owner);
-        velocityContext.put(HOST_NAME, Config.getConfig().getString("runningHostname"));
-        for (Object o : context.entrySet()) {
-            Map.Entry entry = (Map.Entry) o;
-            velocityContext.put(String.valueOf(entry.getKey()), entry.getValue());
-            if (entry.getValue() instanceof TcContext) {
-                AbstractContainerInstance initiator = ((TcContext) entry.getValue()).getInitiator();
-                if (initiator instanceof CallChainInstance && initiator.getContext() != null) {
-                    velocityContext.put(ENV_INFO_KEY, initiator.getContext().get(ENV_INFO_KEY));
-                }
-            }
-        }
+        Context velocityContext = new RenderContext(toolManager, toolKeys, owner, storables, context);
         boolean isOwnerNameNotNull = owner != null && owner.getName() != null;
         try {
             StringWriter stringWriter = new StringWriter(someString.length());
-            engine.evaluate(velocityContext, stringWriter, isOwnerNameNotNull ? owner.getName() : LOG_TAG, someString);
+            String name = isOwnerNameNotNull ? owner.getName() : LOG_TAG;
+            if (parsedTemplates != null) {
+                parsedTemplates.get(someString, name).merge(velocityContext, stringWriter);
+            } else {
+                engine.evaluate(velocityContext, stringWriter, name, someString);
+            }
             String string = stringWriter.toString();
             LOGGER.trace("String processed, result is: {}", string);
             return string;
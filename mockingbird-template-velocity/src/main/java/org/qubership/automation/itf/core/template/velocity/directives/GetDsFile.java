@@ -18,10 +18,11 @@
 package org.qubership.automation.itf.core.template.velocity.directives;
 
 import java.io.IOException;
+import java.io.InputStream;
 import java.io.Writer;
+import java.nio.charset.Charset;
 import java.util.UUID;
 
-import org.apache.commons.io.IOUtils;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.velocity.context.InternalContextAdapter;
 import org.apache.velocity.exception.MethodInvocationException;
@@ -29,6 +30,7 @@ import org.apache.velocity.exception.ParseErrorException;
 import org.apache.velocity.exception.ResourceNotFoundException;
 import org.apache.velocity.runtime.directive.Directive;
 import org.apache.velocity.runtime.parser.node.Node;
+import org.qubership.automation.itf.core.template.velocity.DatasetAttachmentCache;
 import org.qubership.automation.itf.core.util.feign.http.HttpClientFactory;
 import org.springframework.core.io.Resource;
 import org.springframework.http.ResponseEntity;
@@ -76,15 +78,19 @@ public class GetDsFile extends Directive {
         // this is the format of DSS file variable value returned from DSS where DS contents are got
         UUID dataSetUuid
                 = UUID.fromString(filePath.replace("/attachment/", ""));
+        DatasetAttachmentCache.getInstance().write(dataSetUuid, Charset.forName(encoding), writer,
+                () -> download(dataSetUuid, filePath));
+        return true;
+    }
+
+    private static InputStream download(UUID dataSetUuid, String filePath) throws IOException {
         ResponseEntity<Resource> responseEntity = HttpClientFactory.getDatasetsAttachmentFeignClient()
                 .getAttachmentByParameterId(dataSetUuid);
-
         if (!responseEntity.hasBody()) {
             throw new IOException("Response body is null for '%s', http status %s.".formatted(
                     filePath, responseEntity.getStatusCode()));
         }
-        writer.append(IOUtils.toString(responseEntity.getBody().getInputStream(), encoding));
-        return true;
+        return responseEntity.getBody().getInputStream();
     }
 
     private String getString(Node node, InternalContextAdapter internalContextAdapter) {
@@ -33,6 +33,7 @@ import org.apache.velocity.exception.VelocityException;
 import org.apache.velocity.runtime.directive.Directive;
 import org.apache.velocity.runtime.parser.node.Node;
 import org.qubership.automation.itf.core.model.jpa.message.template.Template;
+import org.qubership.automation.itf.core.template.velocity.TemplatePartCache;
 import org.qubership.automation.itf.core.util.TemplateHelper;
 import org.qubership.automation.itf.core.util.provider.TemplateProvider;
 
@@ -66,9 +67,10 @@ public class LoadPart extends Directive {
                     log.warn("#load_part directive: Template name[{}] parameter should be not empty!", i);
                     continue;
                 }
-                Template<? extends TemplateProvider> template = loadTemplate(identifier, projectId);
-                if (template != null) {
-                    rsvc.evaluate(internalContextAdapter, writer, identifier, template.getText());
+                org.apache.velocity.Template part = TemplatePartCache.getInstance().get(projectId, identifier, rsvc,
+                        () -> loadText(identifier, projectId));
+                if (part != null) {
+                    part.merge(internalContextAdapter, writer);
                 } else {
                     throw new VelocityException("Unable to load part of template by identifier '" + identifier + "', "
                             + "template isn't found.");
@@ -80,6 +82,11 @@ public class LoadPart extends Directive {
         return true;
     }
 
+    private String loadText(String templateIdentifier, BigInteger projectId) {
+        Template<? extends TemplateProvider> template = loadTemplate(templateIdentifier, projectId);
+        return template == null ? null : StringUtils.defaultString(template.getText());
+    }
+
     private Template<? extends TemplateProvider> loadTemplate(String templateIdentifier, BigInteger projectId) {
         if (StringUtils.isEmpty(templateIdentifier)) {
             return null;
@@ -23,6 +23,7 @@ import java.io.IOException;
 import java.io.Writer;
 import java.math.BigInteger;
 import java.util.Objects;
+import java.util.UUID;
 
 import org.apache.velocity.context.InternalContextAdapter;
 import org.apache.velocity.exception.MethodInvocationException;
@@ -30,9 +31,8 @@ import org.apache.velocity.exception.ParseErrorException;
 import org.apache.velocity.exception.ResourceNotFoundException;
 import org.apache.velocity.runtime.directive.Directive;
 import org.apache.velocity.runtime.parser.node.Node;
-import org.qubership.automation.itf.core.hibernate.spring.managers.custom.UserDataManager;
-import org.qubership.automation.itf.core.model.jpa.project.StubProject;
-import org.qubership.automation.itf.core.util.manager.CoreObjectManager;
+import org.qubership.automation.itf.core.model.jpa.context.TcContext;
+import org.qubership.automation.itf.core.template.velocity.UserDataWriteBehindStore;
 
 public class SetUserData extends Directive {
 
@@ -68,12 +68,15 @@ public class SetUserData extends Directive {
         }
         BigInteger projectId = extractProjectIdFromContextAdapter(internalContextAdapter);
         if (Objects.nonNull(projectId)) {
-            writer.append(CoreObjectManager.getInstance().getSpecialManager(StubProject.class, UserDataManager.class)
-                    .setUserData(action.toUpperCase(), key, value, projectId));
+            writer.append(UserDataWriteBehindStore.getInstance().execute(action.toUpperCase(), key, value, projectId,
+                    extractProjectUuid(internalContextAdapter)));
         } else {
             writer.append("Cannot execute #set_userdata directive, due to projectId identification failed.");
         }
         return true;
     }
 
+    private static UUID extractProjectUuid(InternalContextAdapter internalContextAdapter) {
+        return internalContextAdapter.get("tc") instanceof TcContext tcContext ? tcContext.getProjectUuid() : null;
+    }
 }
@@ -0,0 +1,100 @@
+/*
+ * # Copyright 2024-2026 NetCracker Technology Corporation
+ * #
+ * # Licensed under the Apache License, Version 2.0 (the "License");
+ * # you may not use this file except in compliance with the License.
+ * # You may obtain a copy of the License at
+ * #
+ * #      http://www.apache.org/licenses/LICENSE-2.0
+ * #
+ * # Unless required by applicable law or agreed to in writing, software
+ * # distributed under the License is distributed on an "AS IS" BASIS,
+ * # WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * # See the License for the specific language governing permissions and
+ * # limitations under the License.
+ *
+ */
+
+package org.qubership.automation.itf.core.template.velocity;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class DatasetAttachmentCacheTest {
+
+    private static final UUID PARAMETER_ID = UUID.fromString("a1919c04-8f39-49a1-aae1-ee52c815a221");
+
+    @TempDir
+    private Path directory;
+
+    private final AtomicInteger downloads = new AtomicInteger();
+
+    @Test
+    public void smallAttachmentIsDownloadedOnce() throws IOException {
+        DatasetAttachmentCache cache = new DatasetAttachmentCache(300, 1024, 16, 1, directory);
+
+        assertEquals("small", write(cache, "small"));
+        assertEquals("small", write(cache, "changed"));
+        assertEquals(1, downloads.get());
+        assertEquals(1, cache.size());
+    }
+
+    @Test
+    public void largeAttachmentIsCachedInFile() throws IOException {
+        DatasetAttachmentCache cache = new DatasetAttachmentCache(300, 1024, 16, 1, directory);
+        String content = "<large>" + "x".repeat(10000) + "</large>";
+
+        assertEquals(content, write(cache, content));
+        assertEquals(content, write(cache, "changed"));
+        assertEquals(1, downloads.get());
+
+        cache.invalidateAll();
+        assertEquals("changed", write(cache, "changed"));
+        assertEquals(2, downloads.get());
+    }
+
+    @Test
+    public void attachmentLargerThanDiskLimitIsNotCached() throws IOException {
+        DatasetAttachmentCache cache = new DatasetAttachmentCache(300, 1024, 16, 1, directory);
+        String content = "x".repeat(1100 * 1024);
+
+        assertEquals(content, write(cache, content));
+        assertEquals("changed-" + content, write(cache, "changed-" + content));
+        assertEquals(2, downloads.get());
+        assertEquals(0, cache.size());
+        try (Stream<Path> files = Files.list(directory)) {
+            assertEquals(0, files.count());
+        }
+    }
+
+    @Test
+    public void attachmentIsDownloadedEveryTimeIfCacheIsOff() throws IOException {
+        DatasetAttachmentCache cache = new DatasetAttachmentCache(0, 1024, 16, 1, directory);
+
+        assertEquals("first", write(cache, "first"));
+        assertEquals("second", write(cache, "second"));
+        assertEquals(2, downloads.get());
+        assertEquals(0, cache.size());
+    }
+
+    private String write(DatasetAttachmentCache cache, String content) throws IOException {
+        StringWriter writer = new StringWriter();
+        cache.write(PARAMETER_ID, StandardCharsets.UTF_8, writer, () -> {
+            downloads.incrementAndGet();
+            return new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8));
+        });
+        return writer.toString();
+    }
+}
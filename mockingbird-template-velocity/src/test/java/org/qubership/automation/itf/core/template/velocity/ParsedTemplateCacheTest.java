@@ -0,0 +1,105 @@
+/*
+ * # Copyright 2024-2026 NetCracker Technology Corporation
+ * #
+ * # Licensed under the Apache License, Version 2.0 (the "License");
+ * # you may not use this file except in compliance with the License.
+ * # You may obtain a copy of the License at
+ * #
+ * #      http://www.apache.org/licenses/LICENSE-2.0
+ * #
+ * # Unless required by applicable law or agreed to in writing, software
+ * # distributed under the License is distributed on an "AS IS" BASIS,
+ * # WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * # See the License for the specific language governing permissions and
+ * # limitations under the License.
+ *
+ */
+
+package org.qubership.automation.itf.core.template.velocity;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.StringWriter;
+
+import org.apache.velocity.Template;
+import org.apache.velocity.VelocityContext;
+import org.apache.velocity.exception.ParseErrorException;
+import org.apache.velocity.runtime.RuntimeConstants;
+import org.apache.velocity.runtime.RuntimeInstance;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class ParsedTemplateCacheTest {
+
+    private ParsedTemplateCache cache;
+
+    @BeforeEach
+    public void setUp() {
+        RuntimeInstance runtimeInstance = new RuntimeInstance();
+        runtimeInstance.setProperty(RuntimeConstants.VM_PERM_ALLOW_INLINE_REPLACE_GLOBAL, "true");
+        runtimeInstance.init();
+        cache = new ParsedTemplateCache(runtimeInstance, 1000, 100);
+    }
+
+    @Test
+    public void sameTextIsParsedOnce() {
+        Template first = cache.get("Hello, $name!", "owner");
+        Template second = cache.get("Hello, $name!", "owner");
+
+        assertSame(first, second);
+        assertEquals(1, cache.missCount());
+        assertEquals(1, cache.hitCount());
+        assertEquals("Hello, World!", merge(second, "World"));
+        assertEquals("Hello, Velocity!", merge(second, "Velocity"));
+    }
+
+    @Test
+    public void templateIsNamedByOwner() {
+        Template first = cache.get("Hello, $name!", "first");
+        Template second = cache.get("Hello, $name!", "second");
+
+        assertNotSame(first, second);
+        assertEquals("first", first.getName());
+        assertEquals("second", second.getName());
+    }
+
+    @Test
+    public void sameNamedMacrosOfDifferentTemplatesAreNotMixed() {
+        String first = "#macro(greet $who)Hello, $who!#end#greet($name)";
+        String second = "#macro(greet $who)Bye, $who!#end#greet($name)";
+
+        assertEquals("Hello, World!", merge(cache.get(first, "first"), "World"));
+        assertEquals("Bye, World!", merge(cache.get(second, "second"), "World"));
+        assertEquals("Hello, World!", merge(cache.get(first, "first"), "World"));
+        assertEquals("Bye, World!", merge(cache.get(second, "second"), "World"));
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    public void longTextIsNotCached() {
+        String text = "$name " + "x".repeat(100);
+
+        assertNotSame(cache.get(text, "long"), cache.get(text, "long"));
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    public void invalidTextIsNotCached() {
+        ParseErrorException exception = assertThrows(ParseErrorException.class,
+                () -> cache.get("#if($name", "invalid"));
+
+        assertEquals("invalid", exception.getTemplateName());
+        assertEquals(0, cache.size());
+    }
+
+    private static String merge(Template template, String name) {
+        VelocityContext context = new VelocityContext();
+        context.put("name", name);
+        StringWriter writer = new StringWriter();
+        template.merge(context, writer);
+        return writer.toString();
+    }
+}
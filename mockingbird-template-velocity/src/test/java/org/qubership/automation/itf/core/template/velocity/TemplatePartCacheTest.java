@@ -0,0 +1,117 @@
+/*
+ * # Copyright 2024-2026 NetCracker Technology Corporation
+ * #
+ * # Licensed under the Apache License, Version 2.0 (the "License");
+ * # you may not use this file except in compliance with the License.
+ * # You may obtain a copy of the License at
+ * #
+ * #      http://www.apache.org/licenses/LICENSE-2.0
+ * #
+ * # Unless required by applicable law or agreed to in writing, software
+ * # distributed under the License is distributed on an "AS IS" BASIS,
+ * # WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * # See the License for the specific language governing permissions and
+ * # limitations under the License.
+ *
+ */
+
+package org.qubership.automation.itf.core.template.velocity;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.io.StringWriter;
+import java.math.BigInteger;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.apache.velocity.Template;
+import org.apache.velocity.VelocityContext;
+import org.apache.velocity.runtime.RuntimeInstance;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class TemplatePartCacheTest {
+
+    private RuntimeInstance runtimeInstance;
+
+    @BeforeEach
+    public void setUp() {
+        runtimeInstance = new RuntimeInstance();
+        runtimeInstance.init();
+    }
+
+    @Test
+    public void partIsLoadedOncePerProjectAndIdentifier() {
+        AtomicInteger loads = new AtomicInteger();
+        TemplatePartCache cache = new TemplatePartCache(30);
+
+        Template part = cache.get(BigInteger.ONE, "header", runtimeInstance, () -> {
+            loads.incrementAndGet();
+            return "<header>$name</header>";
+        });
+        assertSame(part, cache.get(BigInteger.ONE, "header", runtimeInstance, () -> "changed"));
+        assertEquals(1, loads.get());
+        VelocityContext context = new VelocityContext();
+        context.put("name", "value");
+        StringWriter writer = new StringWriter();
+        part.merge(context, writer);
+        assertEquals("<header>value</header>", writer.toString());
+
+        cache.get(BigInteger.TWO, "header", runtimeInstance, () -> {
+            loads.incrementAndGet();
+            return "<header/>";
+        });
+        assertEquals(2, loads.get());
+
+        cache.invalidateAll();
+        cache.get(BigInteger.ONE, "header", runtimeInstance, () -> {
+            loads.incrementAndGet();
+            return "<header/>";
+        });
+        assertEquals(3, loads.get());
+    }
+
+    @Test
+    public void notFoundPartIsCached() {
+        AtomicInteger loads = new AtomicInteger();
+        TemplatePartCache cache = new TemplatePartCache(30);
+
+        for (int i = 0; i < 3; i++) {
+            assertNull(cache.get(BigInteger.ONE, "missing", runtimeInstance, () -> {
+                loads.incrementAndGet();
+                return null;
+            }));
+        }
+        assertEquals(1, loads.get());
+    }
+
+    @Test
+    public void partDefiningMacroIsLoadedOnceAndParsedEachTime() {
+        AtomicInteger loads = new AtomicInteger();
+        TemplatePartCache cache = new TemplatePartCache(30);
+
+        Template first = cache.get(BigInteger.ONE, "macros", runtimeInstance, () -> {
+            loads.incrementAndGet();
+            return "#macro(greet)Hello#end";
+        });
+        assertNotSame(first, cache.get(BigInteger.ONE, "macros", runtimeInstance, () -> "changed"));
+        assertEquals(1, loads.get());
+    }
+
+    @Test
+    public void partIsLoadedEveryTimeIfCacheIsOff() {
+        AtomicInteger loads = new AtomicInteger();
+        TemplatePartCache cache = new TemplatePartCache(0);
+
+        for (int i = 0; i < 2; i++) {
+            cache.get(BigInteger.ONE, "header", runtimeInstance, () -> {
+                loads.incrementAndGet();
+                return "<header/>";
+            });
+        }
+        assertEquals(2, loads.get());
+        assertEquals(0, cache.size());
+    }
+}
@@ -0,0 +1,108 @@
+/*
+ * # Copyright 2024-2026 NetCracker Technology Corporation
+ * #
+ * # Licensed under the Apache License, Version 2.0 (the "License");
+ * # you may not use this file except in compliance with the License.
+ * # You may obtain a copy of the License at
+ * #
+ * #      http://www.apache.org/licenses/LICENSE-2.0
+ * #
+ * # Unless required by applicable law or agreed to in writing, software
+ * # distributed under the License is distributed on an "AS IS" BASIS,
+ * # WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * # See the License for the specific language governing permissions and
+ * # limitations under the License.
+ *
+ */
+
+package org.qubership.automation.itf.core.template.velocity;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.math.BigInteger;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+public class UserDataWriteBehindStoreTest {
+
+    private static final UUID PROJECT_UUID = UUID.randomUUID();
+
+    private final List<String> written = new CopyOnWriteArrayList<>();
+
+    @Test
+    public void mutationsAreQueuedAndCoalesced() {
+        UserDataWriteBehindStore store = new UserDataWriteBehindStore(3600000, 100, this::write);
+
+        assertEquals("", store.execute("UPDATE", "key", "first", BigInteger.ONE, PROJECT_UUID));
+        assertEquals("", store.execute("UPDATE", "key", "second", BigInteger.ONE, PROJECT_UUID));
+        assertEquals("", store.execute("INSERT", "other", "value", BigInteger.ONE, PROJECT_UUID));
+        assertEquals(List.of(), written);
+        assertEquals(2, store.pendingCount());
+
+        store.flushAll();
+        assertEquals(List.of("UPDATE key second", "INSERT other value"), written);
+        assertEquals(0, store.pendingCount());
+    }
+
+    @Test
+    public void selectReadsQueuedMutationsOfTheKey() {
+        UserDataWriteBehindStore store = new UserDataWriteBehindStore(3600000, 100, this::write);
+
+        store.execute("INSERT", "key", "value", BigInteger.ONE, PROJECT_UUID);
+        store.execute("INSERT", "other", "value", BigInteger.ONE, PROJECT_UUID);
+        assertEquals("SELECT key ", store.execute("SELECT", "key", "", BigInteger.ONE, PROJECT_UUID));
+        assertEquals(List.of("INSERT key value", "SELECT key "), written);
+        assertEquals(1, store.pendingCount());
+    }
+
+    @Test
+    public void mutationsAreWrittenSynchronouslyIfQueueIsFullOrOff() {
+        UserDataWriteBehindStore store = new UserDataWriteBehindStore(3600000, 1, this::write);
+
+        store.execute("INSERT", "key", "first", BigInteger.ONE, PROJECT_UUID);
+        assertEquals("UPDATE key second", store.execute("UPDATE", "key", "second", BigInteger.ONE, PROJECT_UUID));
+        assertEquals(List.of("INSERT key first", "UPDATE key second"), written);
+
+        UserDataWriteBehindStore synchronousStore = new UserDataWriteBehindStore(0, 100, this::write);
+        assertEquals("DELETE key ", synchronousStore.execute("DELETE", "key", "", BigInteger.ONE, PROJECT_UUID));
+    }
+
+    @Test
+    public void failedMutationIsRetriedInOrderAndDroppedAfterAttempts() {
+        AtomicInteger failures = new AtomicInteger(1);
+        UserDataWriteBehindStore store = new UserDataWriteBehindStore(3600000, 100,
+                (action, key, value, projectId) -> {
+                    if (failures.getAndDecrement() > 0) {
+                        throw new IllegalStateException("Database is unavailable");
+                    }
+                    return write(action, key, value, projectId);
+                });
+
+        store.execute("INSERT", "key", "first", BigInteger.ONE, PROJECT_UUID);
+        store.execute("DELETE", "key", "", BigInteger.ONE, PROJECT_UUID);
+        store.flushAll();
+        assertEquals(List.of(), written);
+        assertEquals(2, store.pendingCount());
+
+        store.flushAll();
+        assertEquals(List.of("INSERT key first", "DELETE key "), written);
+        assertEquals(0, store.pendingCount());
+        assertEquals(0, store.failedCount());
+
+        failures.set(3);
+        store.execute("INSERT", "key", "second", BigInteger.ONE, PROJECT_UUID);
+        store.shutdown();
+        assertEquals(0, store.pendingCount());
+        assertEquals(1, store.failedCount());
+    }
+
+    private String write(String action, String key, String value, BigInteger projectId) {
+        String result = action + " " + key + " " + value;
+        written.add(result);
+        return result;
+    }
+}
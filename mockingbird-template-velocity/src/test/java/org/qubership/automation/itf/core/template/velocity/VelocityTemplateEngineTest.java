@@ -93,6 +93,44 @@ public class VelocityTemplateEngineTest {
         Assertions.assertEquals("test bbb eee jjj", process);
     }
 
+    @Test
+    public void plainTextIsReturnedAsIs() {
+        String sourceString = "Create customer order - positive flow";
+        String process = engine.process(mock(Server.class), sourceString, InstanceContext.from(new TcContext(), null));
+        Assertions.assertSame(sourceString, process);
+    }
+
+    @Test
+    public void sameTextIsRenderedWithDifferentContexts() {
+        String sourceString = "order $tc.orderId";
+        TcContext first = new TcContext();
+        first.put("orderId", "1");
+        TcContext second = new TcContext();
+        second.put("orderId", "2");
+        Assertions.assertEquals("order 1",
+                engine.process(mock(Server.class), sourceString, InstanceContext.from(first, null)));
+        Assertions.assertEquals("order 2",
+                engine.process(mock(Server.class), sourceString, InstanceContext.from(second, null)));
+    }
+
+    @Test
+    public void toolsSeeContextEntries() {
+        String sourceString = "$tc.aaa $math.add(1, 2) $render.eval('$tc.aaa')";
+        TcContext context = new TcContext();
+        context.put("aaa", "bbb");
+        String process = engine.process(mock(Server.class), sourceString, InstanceContext.from(context, null));
+        Assertions.assertEquals("bbb 3 bbb", process);
+    }
+
+    @Test
+    public void setVariableHidesContextEntry() {
+        String sourceString = "#set($tc = 'local')$tc #foreach($item in [1..2])$item#end";
+        TcContext context = new TcContext();
+        context.put("aaa", "bbb");
+        String process = engine.process(mock(Server.class), sourceString, InstanceContext.from(context, null));
+        Assertions.assertEquals("local 12", process);
+    }
+
     public void throwTest() {
         String sourceString = "aaa $tc.bbb.ccc $tc.aaa bbb";
         TcContext context = new TcContext();